@@ -0,0 +1,63 @@
+package seedu.address.commons.util;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.student.Student;
+import seedu.address.model.util.BenchmarkDataUtil;
+
+/**
+ * Measures {@link FeeUtil#getFeePerStudent(Student, LocalDateTime, LocalDateTime)} for every student of generated
+ * address books, over a month and over a year.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FeeUtilBenchmark {
+
+    private static final LocalDateTime START = LocalDateTime.of(2001, 3, 1, 0, 0);
+
+    @Param({"100", "1000", "10000"})
+    private int students;
+
+    private List<Student> studentList;
+
+    @Setup
+    public void setUp() {
+        studentList = BenchmarkDataUtil.getStudents(students, BenchmarkDataUtil.DEFAULT_SEED);
+    }
+
+    @Benchmark
+    public double getFeePerStudentForMonth() {
+        return getTotalFee(START.plusMonths(1));
+    }
+
+    @Benchmark
+    public double getFeePerStudentForYear() {
+        return getTotalFee(START.plusYears(1));
+    }
+
+    private double getTotalFee(LocalDateTime end) {
+        double fee = 0;
+        for (Student student : studentList) {
+            fee += FeeUtil.getFeePerStudent(student, START, end);
+        }
+        return fee;
+    }
+}
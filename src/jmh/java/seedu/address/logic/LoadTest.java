@@ -0,0 +1,236 @@
+package seedu.address.logic;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import seedu.address.logic.commands.AddRecurringSessionCommand;
+import seedu.address.logic.commands.AddSessionCommand;
+import seedu.address.logic.commands.AddStudentCommand;
+import seedu.address.logic.commands.DeleteSessionCommand;
+import seedu.address.logic.commands.DeleteStudentCommand;
+import seedu.address.logic.commands.FindStudentCommand;
+import seedu.address.logic.commands.GetMonthlyFeeCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ReportCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.session.Session;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Student;
+import seedu.address.model.util.SyntheticDataGenerator;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+/**
+ * Replays a mix of commands through {@link LogicManager#execute(String)} on an address book from a
+ * {@link SyntheticDataGenerator}, without JavaFX, and reports the latency and allocation of each type of command.
+ *
+ * Every command is parsed, executed and saved to a temporary JSON file on the calling thread, as the app does
+ * after each command. Each change is undone by a later command of the mix, so that the address book stays about
+ * the same size throughout. The first {@link #WARMUP_COMMANDS} commands are not measured.
+ *
+ * Usage: {@code gradlew loadTest -PloadTestArgs="STUDENTS SESSIONS_PER_STUDENT COMMANDS SEED"}, where every
+ * argument is optional.
+ */
+public class LoadTest {
+
+    public static final int DEFAULT_STUDENTS = 1000;
+    public static final int DEFAULT_SESSIONS_PER_STUDENT = 2;
+    public static final int DEFAULT_COMMANDS = 2000;
+    public static final long DEFAULT_SEED = 16;
+    public static final int WARMUP_COMMANDS = 500;
+
+    // Generated sessions end by 22:00, so sessions added at this time do not overlap them.
+    private static final LocalTime ADDED_SESSION_TIME = LocalTime.of(22, 15);
+    private static final String ADDED_STUDENT_NAME = "Load Test Student";
+
+    private final com.sun.management.ThreadMXBean threadBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final Map<String, List<long[]>> measurementsByCommand = new TreeMap<>();
+    private final Random random;
+    private final Model model;
+    private final Logic logic;
+
+    private boolean isMeasuring;
+
+    private LoadTest(Model model, Logic logic, long seed) {
+        this.model = model;
+        this.logic = logic;
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Runs the load test with the arguments described in {@link LoadTest}.
+     */
+    public static void main(String[] args) throws Exception {
+        // Logging every command would take longer than executing the cheaper commands.
+        Logger.getLogger("").setLevel(Level.WARNING);
+
+        int students = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_STUDENTS;
+        int sessionsPerStudent = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_SESSIONS_PER_STUDENT;
+        int commands = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_COMMANDS;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : DEFAULT_SEED;
+
+        Path folder = Files.createTempDirectory("loadtest");
+        try {
+            Model model = new ModelManager(new SyntheticDataGenerator(seed)
+                    .generateAddressBook(students, sessionsPerStudent), new UserPrefs());
+            StorageManager storage = new StorageManager(new JsonAddressBookStorage(folder.resolve("addressbook.json")),
+                    new JsonUserPrefsStorage(folder.resolve("preferences.json")));
+            LoadTest loadTest = new LoadTest(model, new LogicManager(model, storage), seed);
+
+            System.out.printf("Replaying %d commands on %d students with %d sessions each%n",
+                    commands, students, sessionsPerStudent);
+            loadTest.run(WARMUP_COMMANDS, commands);
+            loadTest.printReport();
+        } finally {
+            try (Stream<Path> files = Files.walk(folder)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).toArray(Path[]::new)) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    /**
+     * Replays {@code warmupCommands} commands without measuring them, followed by {@code commands} measured ones.
+     */
+    private void run(int warmupCommands, int commands) throws CommandException, ParseException {
+        int executed = 0;
+        while (executed < warmupCommands + commands) {
+            isMeasuring = executed >= warmupCommands;
+            executed += executeNextCommands(executed);
+        }
+    }
+
+    /**
+     * Executes the next commands of the mix, and returns the number of commands executed.
+     */
+    private int executeNextCommands(int index) throws CommandException, ParseException {
+        int choice = random.nextInt(100);
+        if (choice < 10) {
+            execute(ListCommand.COMMAND_WORD);
+            return 1;
+        } else if (choice < 35) {
+            execute(FindStudentCommand.COMMAND_WORD + " " + getRandomStudent().getName().fullName.split(" ")[0]);
+            return 1;
+        } else if (choice < 55) {
+            execute(GetMonthlyFeeCommand.COMMAND_WORD + " n/" + getRandomStudent().getName() + " m/"
+                    + (1 + random.nextInt(12)) + " y/" + (2021 + random.nextInt(3)));
+            return 1;
+        } else if (choice < 60) {
+            LocalDate start = LocalDate.of(2021, 1, 1).plusDays(random.nextInt(365));
+            execute(ReportCommand.COMMAND_WORD + " d/" + start + " e/" + start.plusMonths(6) + " by/month");
+            return 1;
+        } else if (choice < 75) {
+            Name name = getRandomStudent().getName();
+            execute(AddSessionCommand.COMMAND_WORD + " n/" + name + " d/" + getRandomDate() + " t/"
+                    + ADDED_SESSION_TIME + " k/60 s/Math f/40");
+            deleteLastSession(name);
+            return 2;
+        } else if (choice < 85) {
+            Name name = getRandomStudent().getName();
+            LocalDate start = getRandomDate();
+            execute(AddRecurringSessionCommand.COMMAND_WORD + " n/" + name + " d/" + start + " e/"
+                    + start.plusWeeks(10) + " b/7 t/" + ADDED_SESSION_TIME + " k/60 s/Math f/40");
+            deleteLastSession(name);
+            return 2;
+        } else {
+            Name name = new Name(ADDED_STUDENT_NAME + " " + index);
+            execute(AddStudentCommand.COMMAND_WORD + " n/" + name + " p/91234567 e/loadtest@example.com "
+                    + "a/Blk 1 Load Test Street l/Secondary 1 g/81234567 r/Mother");
+            return 1 + deleteStudent(name);
+        }
+    }
+
+    private Student getRandomStudent() {
+        List<Student> students = model.getAddressBook().getStudentList();
+        return students.get(random.nextInt(students.size()));
+    }
+
+    private LocalDate getRandomDate() {
+        return SyntheticDataGenerator.DEFAULT_START_DATE.plusDays(random.nextInt(365 * 2));
+    }
+
+    /**
+     * Deletes the session of {@code name} that was added last, which is the only one at
+     * {@link #ADDED_SESSION_TIME}.
+     */
+    private void deleteLastSession(Name name) throws CommandException, ParseException {
+        List<Session> sessions = model.getStudentWithName(name).getListOfSessions();
+        int index = 0;
+        while (!sessions.get(index).getSessionDate().getTime().equals(ADDED_SESSION_TIME)) {
+            index++;
+        }
+        execute(DeleteSessionCommand.COMMAND_WORD + " n/" + name + " i/" + (index + 1));
+    }
+
+    /**
+     * Deletes the student called {@code name}, listing every student first if needed, and returns the number of
+     * commands executed.
+     */
+    private int deleteStudent(Name name) throws CommandException, ParseException {
+        int executed = 1;
+        Student student = model.getStudentWithName(name);
+        if (!model.getFilteredStudentList().contains(student)) {
+            execute(ListCommand.COMMAND_WORD);
+            executed++;
+        }
+        execute(DeleteStudentCommand.COMMAND_WORD + " " + (model.getFilteredStudentList().indexOf(student) + 1));
+        return executed;
+    }
+
+    /**
+     * Executes {@code commandText}, measuring it if the warmup is over.
+     */
+    private void execute(String commandText) throws CommandException, ParseException {
+        long threadId = Thread.currentThread().getId();
+        long startBytes = threadBean.getThreadAllocatedBytes(threadId);
+        long startNanos = System.nanoTime();
+        logic.execute(commandText);
+        long nanos = System.nanoTime() - startNanos;
+        long bytes = threadBean.getThreadAllocatedBytes(threadId) - startBytes;
+
+        if (isMeasuring) {
+            measurementsByCommand.computeIfAbsent(commandText.split(" ")[0], unused -> new ArrayList<>())
+                    .add(new long[] {nanos, bytes});
+        }
+    }
+
+    private void printReport() {
+        System.out.printf("%-18s %7s %10s %10s %12s %12s%n", "command", "count", "p50 (ms)", "p99 (ms)",
+                "p50 (KB)", "p99 (KB)");
+        for (Map.Entry<String, List<long[]>> entry : measurementsByCommand.entrySet()) {
+            List<long[]> measurements = entry.getValue();
+            long[] nanos = measurements.stream().mapToLong(measurement -> measurement[0]).sorted().toArray();
+            long[] bytes = measurements.stream().mapToLong(measurement -> measurement[1]).sorted().toArray();
+            System.out.printf("%-18s %7d %10.3f %10.3f %12.1f %12.1f%n", entry.getKey(), measurements.size(),
+                    getPercentile(nanos, 50) / 1e6, getPercentile(nanos, 99) / 1e6,
+                    getPercentile(bytes, 50) / 1024.0, getPercentile(bytes, 99) / 1024.0);
+        }
+    }
+
+    /**
+     * Returns the {@code percentile}th percentile of {@code sortedValues}, by the nearest-rank method.
+     */
+    private static long getPercentile(long[] sortedValues, int percentile) {
+        int rank = (int) Math.ceil(percentile / 100.0 * sortedValues.length);
+        return sortedValues[Math.max(rank, 1) - 1];
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.address.model.session;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.student.Student;
+import seedu.address.model.util.BenchmarkDataUtil;
+
+/**
+ * Measures {@link RecurringSession#isOverlapping(RecurringSession)} and
+ * {@link RecurringSession#numOfSessionBetween(SessionDate, SessionDate)} over every recurring session of
+ * generated address books.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RecurringSessionBenchmark {
+
+    private static final SessionDate SPAN_START = new SessionDate("2001-01-01", "00:00");
+    private static final SessionDate SPAN_END = new SessionDate("2001-12-31", "23:59");
+
+    @Param({"100", "1000", "10000"})
+    private int students;
+
+    private List<RecurringSession> recurringSessions;
+    private RecurringSession candidate;
+
+    /**
+     * Collects the recurring sessions, and builds a fortnightly session over all of them at the time of the first
+     * slot of the week.
+     */
+    @Setup
+    public void setUp() {
+        recurringSessions = new ArrayList<>();
+        for (Student student : BenchmarkDataUtil.getStudents(students, BenchmarkDataUtil.DEFAULT_SEED)) {
+            for (Session session : student.getListOfSessions()) {
+                if (session instanceof RecurringSession) {
+                    recurringSessions.add((RecurringSession) session);
+                }
+            }
+        }
+        SessionDate start = SessionDate.of(LocalDate.of(2000, 1, 4).toEpochDay(), 8 * 60);
+        candidate = new RecurringSession(start, new Duration("60"), new Subject("Math"), new Fee("40"),
+                new Interval("14"), start.addDays(14 * 26 * 20));
+    }
+
+    @Benchmark
+    public int isOverlapping() {
+        int overlapping = 0;
+        for (RecurringSession recurringSession : recurringSessions) {
+            if (candidate.isOverlapping(recurringSession)) {
+                overlapping++;
+            }
+        }
+        return overlapping;
+    }
+
+    @Benchmark
+    public long numOfSessionBetween() {
+        long numOfSessions = 0;
+        for (RecurringSession recurringSession : recurringSessions) {
+            numOfSessions += recurringSession.numOfSessionBetween(SPAN_START, SPAN_END);
+        }
+        return numOfSessions;
+    }
+}
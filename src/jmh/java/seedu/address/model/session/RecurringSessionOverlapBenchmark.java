@@ -0,0 +1,96 @@
+package seedu.address.model.session;
+
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link RecurringSession#isOverlapping(RecurringSession)} against the day stepping loop it replaced,
+ * on pairs of long recurring sessions that never share a date.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RecurringSessionOverlapBenchmark {
+
+    private static final SessionDate START = new SessionDate("2021-01-01", "10:00");
+    private static final Duration DURATION = new Duration("60");
+    private static final Subject SUBJECT = new Subject("Math");
+    private static final Fee FEE = new Fee("40");
+
+    @Param({"1", "5", "20"})
+    private int years;
+
+    private RecurringSession everySixDays;
+    private RecurringSession everyTenDays;
+
+    /**
+     * Builds two recurring sessions spanning {@code years} years, with intervals 6 and 10 and starts one day apart.
+     * Their sessions always fall on days of different parity, so the loop has to walk the whole range.
+     */
+    @Setup
+    public void setUp() {
+        int days = years * 365;
+        everySixDays = new RecurringSession(START, DURATION, SUBJECT, FEE, new Interval("6"),
+                START.addDays(days - days % 6));
+        SessionDate otherStart = START.addDays(1);
+        everyTenDays = new RecurringSession(otherStart, DURATION, SUBJECT, FEE, new Interval("10"),
+                otherStart.addDays(days - days % 10));
+    }
+
+    @Benchmark
+    public boolean closedForm() {
+        return everySixDays.isOverlapping(everyTenDays);
+    }
+
+    @Benchmark
+    public boolean dayStepping() {
+        return hasCommonDateByStepping(everySixDays, everyTenDays);
+    }
+
+    /**
+     * The previous implementation of the date check in {@link RecurringSession#isOverlapping(RecurringSession)},
+     * which requires {@code first} to start no later than {@code second}.
+     */
+    private static boolean hasCommonDateByStepping(RecurringSession first, RecurringSession second) {
+        int daysBetween = first.getSessionDate().numOfDayTo(second.getSessionDate());
+        int firstSessionRecurrenceLength =
+                (int) ChronoUnit.DAYS.between(first.getSessionDate().getDate(), first.getLastSessionDate().getDate());
+        int secondSessionRecurrenceLength =
+                (int) ChronoUnit.DAYS.between(second.getSessionDate().getDate(),
+                        second.getLastSessionDate().getDate()) + daysBetween;
+        int daysFromFirstSessionStart = 0;
+        int daysFromSecondSessionStart = daysBetween;
+        while (daysFromFirstSessionStart < firstSessionRecurrenceLength
+                || daysFromSecondSessionStart < secondSessionRecurrenceLength) {
+            if (daysFromFirstSessionStart == daysFromSecondSessionStart) {
+                break;
+            } else if (daysFromFirstSessionStart > daysFromSecondSessionStart) {
+                if (daysFromSecondSessionStart >= secondSessionRecurrenceLength) {
+                    break;
+                }
+                daysFromSecondSessionStart += second.getInterval().getValue();
+            } else {
+                if (daysFromFirstSessionStart >= firstSessionRecurrenceLength) {
+                    break;
+                }
+                daysFromFirstSessionStart += first.getInterval().getValue();
+            }
+        }
+        return daysFromFirstSessionStart == daysFromSecondSessionStart;
+    }
+}
@@ -0,0 +1,217 @@
+package seedu.address.model.session;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.util.FeeUtil;
+
+/**
+ * Compares the overlap and fee paths of sessions backed by an epoch minute against the {@code LocalDateTime}
+ * based implementations they replaced, on {@code sessions} random sessions, half of them recurring.
+ *
+ * Run with {@code -prof gc} to compare the memory allocated by each path as well.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SessionDateBenchmark {
+
+    private static final LocalDateTime YEAR_START = LocalDateTime.of(2021, 1, 1, 0, 0);
+
+    @Param({"100", "1000"})
+    private int sessions;
+
+    private List<Session> singleSessions;
+    private List<RecurringSession> recurringSessions;
+    private Session candidate;
+
+    /**
+     * Builds the sessions from a fixed seed, so that every run measures the same data.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(14);
+        singleSessions = new ArrayList<>();
+        recurringSessions = new ArrayList<>();
+        for (int i = 0; i < sessions / 2; i++) {
+            SessionDate start = SessionDate.of(LocalDate.of(2021, 1, 1).toEpochDay() + random.nextInt(365),
+                    (8 + random.nextInt(12)) * 60);
+            Duration duration = new Duration(String.valueOf(30 + random.nextInt(120)));
+            singleSessions.add(new Session(start, duration, new Subject("Math"), new Fee("40")));
+
+            int interval = 1 + random.nextInt(14);
+            recurringSessions.add(new RecurringSession(start, duration, new Subject("Math"), new Fee("40"),
+                    new Interval(String.valueOf(interval)), start.addDays(interval * random.nextInt(100))));
+        }
+        candidate = new Session(new SessionDate("2021-06-15", "12:00"), new Duration("90"), new Subject("Math"),
+                new Fee("40"));
+    }
+
+    @Benchmark
+    public int overlapPacked() {
+        int overlapping = 0;
+        for (Session session : singleSessions) {
+            if (candidate.isOverlapping(session)) {
+                overlapping++;
+            }
+        }
+        for (RecurringSession session : recurringSessions) {
+            if (candidate.isOverlapping(session)) {
+                overlapping++;
+            }
+        }
+        return overlapping;
+    }
+
+    @Benchmark
+    public int overlapLocalDateTime() {
+        int overlapping = 0;
+        LocalDateTime candidateStart = candidate.getSessionDate().getDateTime();
+        for (Session session : singleSessions) {
+            if (isOverlappingByLocalDateTime(candidateStart, candidate.getDuration().getValue(),
+                    session.getSessionDate().getDateTime(), session.getDuration().getValue())) {
+                overlapping++;
+            }
+        }
+        for (RecurringSession session : recurringSessions) {
+            if (hasSessionOnDateByLocalDateTime(session, candidateStart)
+                    && isTimeOverlappingByLocalDateTime(candidateStart, candidate.getDuration().getValue(),
+                    session.getSessionDate().getDateTime(), session.getDuration().getValue())) {
+                overlapping++;
+            }
+        }
+        return overlapping;
+    }
+
+    @Benchmark
+    public long monthlyFeesPacked() {
+        long feeInCents = 0;
+        for (int month = 0; month < 12; month++) {
+            LocalDateTime monthStart = YEAR_START.plusMonths(month);
+            for (Session session : singleSessions) {
+                feeInCents += FeeUtil.getSessionFeeInCents(session, monthStart, monthStart.plusMonths(1));
+            }
+            for (RecurringSession session : recurringSessions) {
+                feeInCents += FeeUtil.getSessionFeeInCents(session, monthStart, monthStart.plusMonths(1));
+            }
+        }
+        return feeInCents;
+    }
+
+    @Benchmark
+    public long monthlyFeesLocalDateTime() {
+        long feeInCents = 0;
+        for (int month = 0; month < 12; month++) {
+            LocalDateTime monthStart = YEAR_START.plusMonths(month);
+            LocalDateTime monthEnd = monthStart.plusMonths(1);
+            for (Session session : singleSessions) {
+                LocalDateTime dateTime = session.getSessionDate().getDateTime();
+                if (dateTime.compareTo(monthStart) >= 0 && dateTime.compareTo(monthEnd) < 0) {
+                    feeInCents += Math.round(session.getFee().getFee() * 100);
+                }
+            }
+            for (RecurringSession session : recurringSessions) {
+                feeInCents += Math.round(session.getFee().getFee() * 100)
+                        * numOfSessionBetweenByLocalDateTime(session, monthStart, monthEnd.minusDays(1));
+            }
+        }
+        return feeInCents;
+    }
+
+    /**
+     * The previous implementation of {@link Session#isOverlapping(Session)}, with the sessions given as the
+     * {@code LocalDateTime} that {@code SessionDate} used to hold.
+     */
+    private static boolean isOverlappingByLocalDateTime(LocalDateTime start, int duration, LocalDateTime otherStart,
+            int otherDuration) {
+        LocalDateTime end = start.plusMinutes(duration);
+        LocalDateTime otherEnd = otherStart.plusMinutes(otherDuration);
+        boolean otherSessionOverlapsAfterSessionStarts = (otherStart.isEqual(start) || otherStart.isAfter(start))
+                && otherStart.isBefore(end);
+        boolean sessionOverlapsAfterOtherSessionStarts = (start.isEqual(otherStart) || start.isAfter(otherStart))
+                && start.isBefore(otherEnd);
+        return otherSessionOverlapsAfterSessionStarts || sessionOverlapsAfterOtherSessionStarts;
+    }
+
+    /**
+     * The previous implementation of the time check in {@link Session#isOverlapping(RecurringSession)}.
+     */
+    private static boolean isTimeOverlappingByLocalDateTime(LocalDateTime start, int duration,
+            LocalDateTime otherStart, int otherDuration) {
+        LocalDateTime end = start.plusMinutes(duration);
+        LocalDateTime otherEnd = otherStart.plusMinutes(otherDuration);
+        boolean otherSessionOverlapsAfterSessionStarts = (otherStart.toLocalTime().equals(start.toLocalTime())
+                || otherStart.toLocalTime().isAfter(start.toLocalTime()))
+                && otherStart.toLocalTime().isBefore(end.toLocalTime());
+        boolean sessionOverlapsAfterOtherSessionStarts = (start.toLocalTime().equals(otherStart.toLocalTime())
+                || start.toLocalTime().isAfter(otherStart.toLocalTime()))
+                && start.toLocalTime().isBefore(otherEnd.toLocalTime());
+        return otherSessionOverlapsAfterSessionStarts || sessionOverlapsAfterOtherSessionStarts;
+    }
+
+    /**
+     * The previous implementation of {@link RecurringSession#hasSessionOnDate(SessionDate)}.
+     */
+    private static boolean hasSessionOnDateByLocalDateTime(RecurringSession session, LocalDateTime dateTime) {
+        LocalDate first = session.getSessionDate().getDateTime().toLocalDate();
+        LocalDate last = session.getLastSessionDate().getDateTime().toLocalDate();
+        LocalDate date = dateTime.toLocalDate();
+        long daysBetween = ChronoUnit.DAYS.between(first, date);
+        return !first.isAfter(date) && !last.isBefore(date) && daysBetween % session.getInterval().getValue() == 0;
+    }
+
+    /**
+     * The previous implementation of {@link RecurringSession#numOfSessionBetween(SessionDate, SessionDate)}, which
+     * went through {@code LocalDateTime} strings to build the first and last session in the span.
+     */
+    private static int numOfSessionBetweenByLocalDateTime(RecurringSession session, LocalDateTime inclusiveStart,
+            LocalDateTime inclusiveEnd) {
+        LocalDateTime first = session.getSessionDate().getDateTime();
+        LocalDateTime last = session.getLastSessionDate().getDateTime();
+        int interval = session.getInterval().getValue();
+        if (last.toLocalDate().isBefore(inclusiveStart.toLocalDate())
+                || first.toLocalDate().isAfter(inclusiveEnd.toLocalDate())) {
+            return 0;
+        }
+
+        LocalDateTime lastInSpan;
+        if (last.toLocalDate().isBefore(inclusiveEnd.toLocalDate())) {
+            lastInSpan = last;
+        } else {
+            int daysBetween = (int) ChronoUnit.DAYS.between(first.toLocalDate(), inclusiveEnd.toLocalDate());
+            LocalDate lastLocalDate = inclusiveEnd.minusDays(daysBetween % interval).toLocalDate();
+            lastInSpan = LocalDateTime.parse(LocalDateTime.of(lastLocalDate, first.toLocalTime()).toString());
+        }
+
+        LocalDateTime firstInSpan;
+        if (first.toLocalDate().isAfter(inclusiveStart.toLocalDate())) {
+            firstInSpan = first;
+        } else {
+            int daysDiff = (int) ChronoUnit.DAYS.between(first.toLocalDate(), inclusiveStart.toLocalDate()) % interval;
+            int plusDays = daysDiff == 0 ? 0 : interval - daysDiff;
+            firstInSpan = LocalDateTime.parse(inclusiveStart.plusDays(plusDays).toString());
+        }
+
+        return (int) (ChronoUnit.DAYS.between(firstInSpan.toLocalDate(), lastInSpan.toLocalDate()) / interval) + 1;
+    }
+}
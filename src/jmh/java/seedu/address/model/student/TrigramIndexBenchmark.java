@@ -0,0 +1,66 @@
+package seedu.address.model.student;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.util.BenchmarkDataUtil;
+
+/**
+ * Measures {@link TrigramIndex#getSimilarities(java.util.Collection)} on generated address books, with keywords
+ * that are misspelt versions of a generated name, email and street.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TrigramIndexBenchmark {
+
+    private static final List<String> NAME_KEYWORDS = Arrays.asList("Benjamn", "Tna");
+    private static final List<String> EMAIL_KEYWORDS = Arrays.asList("aliciaong@exmaple.com");
+    private static final List<String> ADDRESS_KEYWORDS = Arrays.asList("Clemneti", "Avenu");
+
+    @Param({"100", "1000", "10000"})
+    private int students;
+
+    private TrigramIndex trigramIndex;
+
+    /**
+     * Indexes the generated students.
+     */
+    @Setup
+    public void setUp() {
+        trigramIndex = new TrigramIndex();
+        BenchmarkDataUtil.getStudents(students, BenchmarkDataUtil.DEFAULT_SEED).forEach(trigramIndex::add);
+    }
+
+    @Benchmark
+    public Map<Name, Double> getSimilaritiesOfName() {
+        return trigramIndex.getSimilarities(NAME_KEYWORDS);
+    }
+
+    @Benchmark
+    public Map<Name, Double> getSimilaritiesOfEmail() {
+        return trigramIndex.getSimilarities(EMAIL_KEYWORDS);
+    }
+
+    @Benchmark
+    public Map<Name, Double> getSimilaritiesOfAddress() {
+        return trigramIndex.getSimilarities(ADDRESS_KEYWORDS);
+    }
+}
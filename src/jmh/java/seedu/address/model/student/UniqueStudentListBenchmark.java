@@ -0,0 +1,73 @@
+package seedu.address.model.student;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.session.Duration;
+import seedu.address.model.session.Fee;
+import seedu.address.model.session.Interval;
+import seedu.address.model.session.RecurringSession;
+import seedu.address.model.session.Session;
+import seedu.address.model.session.SessionDate;
+import seedu.address.model.session.Subject;
+import seedu.address.model.util.BenchmarkDataUtil;
+
+/**
+ * Measures {@link UniqueStudentList#hasOverlappingSession(Session)} and
+ * {@link UniqueStudentList#hasOverlappingSession(RecurringSession)} on generated address books, with sessions that
+ * overlap none of the existing ones so that the whole schedule that could overlap them is checked.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UniqueStudentListBenchmark {
+
+    private static final Duration DURATION = new Duration("60");
+    private static final Subject SUBJECT = new Subject("Math");
+    private static final Fee FEE = new Fee("40");
+
+    @Param({"100", "1000", "10000"})
+    private int students;
+
+    private UniqueStudentList studentList;
+    private Session singleSession;
+    private RecurringSession recurringSession;
+
+    /**
+     * Builds the student list, a single session in the middle of the generated sessions and a weekly session over
+     * all of them, both late in the evening when no generated session takes place.
+     */
+    @Setup
+    public void setUp() {
+        studentList = new UniqueStudentList();
+        studentList.addAll(BenchmarkDataUtil.getStudents(students, BenchmarkDataUtil.DEFAULT_SEED));
+        singleSession = new Session(new SessionDate("2001-06-06", "22:30"), DURATION, SUBJECT, FEE);
+        SessionDate start = new SessionDate("2000-01-03", "22:30");
+        recurringSession = new RecurringSession(start, DURATION, SUBJECT, FEE, new Interval("7"),
+                start.addDays(7 * 52 * 20));
+    }
+
+    @Benchmark
+    public boolean hasOverlappingSingleSession() {
+        return studentList.hasOverlappingSession(singleSession);
+    }
+
+    @Benchmark
+    public boolean hasOverlappingRecurringSession() {
+        return studentList.hasOverlappingSession(recurringSession);
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.model.util;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.student.Student;
+
+/**
+ * Generates address books of any number of students for benchmarks, from a seed so that every run measures the
+ * same data.
+ *
+ * The sample students come first, followed by students from a {@link SyntheticDataGenerator} with
+ * {@link #SESSIONS_PER_STUDENT} sessions each. Their sessions start from 2000 and so do not overlap the sample
+ * sessions.
+ */
+public class BenchmarkDataUtil extends SampleDataUtil {
+
+    public static final long DEFAULT_SEED = 15;
+    public static final int SESSIONS_PER_STUDENT = 2;
+
+    private static final LocalDate FIRST_SESSION_WEEK = LocalDate.of(2000, 1, 3);
+
+    /**
+     * Returns an address book of {@code numOfStudents} students generated from {@link #DEFAULT_SEED}.
+     */
+    public static AddressBook getAddressBook(int numOfStudents) {
+        return getAddressBook(numOfStudents, DEFAULT_SEED);
+    }
+
+    /**
+     * Returns an address book of {@code numOfStudents} students generated from {@code seed}.
+     */
+    public static AddressBook getAddressBook(int numOfStudents, long seed) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addStudents(getStudents(numOfStudents, seed));
+        return addressBook;
+    }
+
+    /**
+     * Returns {@code numOfStudents} students generated from {@code seed}, starting with the sample students.
+     */
+    public static List<Student> getStudents(int numOfStudents, long seed) {
+        List<Student> students = new ArrayList<>(numOfStudents);
+        for (Student sampleStudent : getSampleStudents()) {
+            if (students.size() < numOfStudents) {
+                students.add(sampleStudent);
+            }
+        }
+        students.addAll(new SyntheticDataGenerator(seed, FIRST_SESSION_WEEK)
+                .generateStudents(numOfStudents - students.size(), SESSIONS_PER_STUDENT));
+        return students;
+    }
+}
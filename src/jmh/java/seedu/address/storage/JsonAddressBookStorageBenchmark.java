@@ -0,0 +1,79 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.util.BenchmarkDataUtil;
+
+/**
+ * Measures saving and reading generated address books with {@link JsonAddressBookStorage}, in a temporary folder.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonAddressBookStorageBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int students;
+
+    private Path folder;
+    private AddressBook addressBook;
+    private JsonAddressBookStorage savedStorage;
+    private JsonAddressBookStorage scratchStorage;
+
+    /**
+     * Generates the address book and saves it once, to be read by {@link #read()}.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("tutorbuddy-benchmark");
+        addressBook = BenchmarkDataUtil.getAddressBook(students);
+        savedStorage = new JsonAddressBookStorage(folder.resolve("saved.json"));
+        savedStorage.saveAddressBook(addressBook);
+        scratchStorage = new JsonAddressBookStorage(folder.resolve("scratch.json"));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(savedStorage.getAddressBookFilePath());
+        Files.deleteIfExists(scratchStorage.getAddressBookFilePath());
+        Files.deleteIfExists(folder);
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        scratchStorage.saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook read() throws DataConversionException {
+        return savedStorage.readAddressBook().get();
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook saveAndRead() throws IOException, DataConversionException {
+        scratchStorage.saveAddressBook(addressBook);
+        return scratchStorage.readAddressBook().get();
+    }
+}
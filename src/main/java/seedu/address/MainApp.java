@@ -3,9 +3,13 @@ package seedu.address;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
@@ -23,6 +27,8 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournalAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
@@ -46,8 +52,12 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    private ExecutorService saveExecutor;
+    private long initStartNanos;
+
     @Override
     public void init() throws Exception {
+        initStartNanos = System.nanoTime();
         logger.info("=============================[ Initializing AddressBook ]===========================");
         super.init();
 
@@ -56,41 +66,94 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
+        // The address book is loaded after the UI has started; see loadAddressBook().
+        model = new ModelManager(new AddressBook(), userPrefs);
 
-        logic = new LogicManager(model, storage);
+        saveExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+        logic = new LogicManager(model, storage, saveExecutor);
+        logic.setAddressBookLoading(true);
 
         ui = new UiManager(logic);
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * Returns the {@code AddressBookStorage} for the data file format in {@code userPrefs}.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        switch (userPrefs.getAddressBookStorageFormat()) {
+        case JOURNAL:
+            return new JournalAddressBookStorage(addressBookFilePath);
+        case BINARY:
+            return new BinaryAddressBookStorage(addressBookFilePath);
+        case COMPACT_JSON:
+            return new JsonAddressBookStorage(addressBookFilePath, true);
+        case JSON:
+        default:
+            return new JsonAddressBookStorage(addressBookFilePath);
+        }
+    }
+
+    /**
+     * Loads the data from {@code storage}'s address book into {@code model} on a background thread, adding the
+     * students to {@code model} on the JavaFX application thread a chunk at a time as they are read, so that the
+     * UI can be used while the rest are being read. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        Optional<ReadOnlyAddressBook> addressBookOptional;
-        ReadOnlyAddressBook initialData;
-        try {
-            addressBookOptional = storage.readAddressBook();
-            if (!addressBookOptional.isPresent()) {
-                logger.info("Data file not found. Will be starting with a sample AddressBook");
+    private void loadAddressBook() {
+        Thread loader = new Thread(() -> {
+            ReadOnlyAddressBook replacementData = null;
+            try {
+                boolean isFound = storage.readAddressBookInChunks(students ->
+                        Platform.runLater(() -> model.addStudents(students)));
+                if (!isFound) {
+                    logger.info("Data file not found. Will be starting with a sample AddressBook");
+                    replacementData = SampleDataUtil.getSampleAddressBook();
+                }
+            } catch (DataConversionException e) {
+                logger.warning("Data file not in the correct format. Will be starting with an empty AddressBook");
+                replacementData = new AddressBook();
+            } catch (IOException e) {
+                logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
+                replacementData = new AddressBook();
+            } catch (RuntimeException e) {
+                // Commands are rejected until loading finishes, so loading must finish even on unexpected errors.
+                logger.severe("Unexpected error while loading the data file. Will be starting with an empty "
+                        + "AddressBook: " + StringUtil.getDetails(e));
+                replacementData = new AddressBook();
+            } finally {
+                ReadOnlyAddressBook finalReplacementData = replacementData;
+                Platform.runLater(() -> finishLoadingAddressBook(finalReplacementData));
             }
-            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
-        } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty AddressBook");
-            initialData = new AddressBook();
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
-            initialData = new AddressBook();
+        }, "address-book-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * Replaces the students loaded into {@code model} with {@code replacementData} if it is not null, and lets
+     * commands be executed.
+     */
+    private void finishLoadingAddressBook(ReadOnlyAddressBook replacementData) {
+        if (replacementData != null) {
+            model.setAddressBook(replacementData);
         }
+        logic.setAddressBookLoading(false);
 
-        return new ModelManager(initialData, userPrefs);
+        long startupMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - initStartNanos);
+        logger.info("Loaded " + model.getAddressBook().getStudentList().size() + " students, "
+                + startupMillis + " ms after starting");
+        ui.showAddressBookLoaded(startupMillis);
     }
 
     private void initLogging(Config config) {
@@ -169,11 +232,20 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        loadAddressBook();
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        try {
+            logic.flushAddressBook();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
+        saveExecutor.shutdown();
+        logger.info(logic.getCommandStatistics().getSummary());
+
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,21 @@
+package seedu.address.commons.core;
+
+/**
+ * Formats that the address book data file can be stored in.
+ */
+public enum StorageFormat {
+    /** The whole address book is rewritten as a JSON file on every save. */
+    JSON,
+    /** Same as {@code JSON}, but the file is written on a single line without indentation. */
+    COMPACT_JSON,
+    /**
+     * Changes are appended to a journal file next to a JSON snapshot of the address book,
+     * which is rewritten only once the journal grows long.
+     */
+    JOURNAL,
+    /**
+     * The whole address book is rewritten in a compact binary format on every save, which is faster to read than
+     * JSON. Use the {@code export_json} and {@code import_json} commands to convert to and from JSON.
+     */
+    BINARY
+}
@@ -0,0 +1,127 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Helper functions for reading and writing comma-separated values, as described in RFC 4180.
+ */
+public class CsvUtil {
+
+    public static final String LINE_SEPARATOR = "\r\n";
+    public static final String MESSAGE_UNCLOSED_QUOTE = "The last value has a quote that is not closed";
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    /**
+     * Appends {@code values} to {@code out} as one line of comma-separated values, ending with
+     * {@link #LINE_SEPARATOR}. Values holding a comma, quote or line break are quoted.
+     */
+    public static void appendLine(Appendable out, String... values) throws IOException {
+        requireNonNull(out);
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.append(SEPARATOR);
+            }
+            appendValue(out, values[i]);
+        }
+        out.append(LINE_SEPARATOR);
+    }
+
+    /**
+     * Returns {@code value} as a single comma-separated value, quoted if needed.
+     */
+    public static String escape(String value) {
+        requireNonNull(value);
+        StringBuilder builder = new StringBuilder(value.length() + 2);
+        try {
+            appendValue(builder, value);
+        } catch (IOException e) {
+            throw new AssertionError("StringBuilder does not throw IOException", e);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Reads the next line of comma-separated values from {@code reader}, or returns null if there are no more.
+     * A line may span several lines of text if a quoted value holds a line break. Carriage returns outside of
+     * quoted values are ignored, so that lines may end with either {@code \r\n} or {@code \n}.
+     *
+     * @throws IOException if {@code reader} fails, or the last value has a quote that is not closed.
+     */
+    public static List<String> readLine(Reader reader) throws IOException {
+        requireNonNull(reader);
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean isQuoted = false;
+        while (c != -1) {
+            if (isQuoted) {
+                if (c != QUOTE) {
+                    value.append((char) c);
+                } else {
+                    c = reader.read();
+                    if (c != QUOTE) {
+                        // The quote closes the value, and c is the character after it.
+                        isQuoted = false;
+                        continue;
+                    }
+                    value.append(QUOTE);
+                }
+            } else if (c == QUOTE) {
+                isQuoted = true;
+            } else if (c == SEPARATOR) {
+                values.add(value.toString());
+                value.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                value.append((char) c);
+            }
+            c = reader.read();
+        }
+
+        if (isQuoted) {
+            throw new IOException(MESSAGE_UNCLOSED_QUOTE);
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    private static void appendValue(Appendable out, String value) throws IOException {
+        requireNonNull(value);
+        if (!needsQuotes(value)) {
+            out.append(value);
+            return;
+        }
+
+        out.append(QUOTE);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == QUOTE) {
+                out.append(QUOTE);
+            }
+            out.append(c);
+        }
+        out.append(QUOTE);
+    }
+
+    private static boolean needsQuotes(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == SEPARATOR || c == QUOTE || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
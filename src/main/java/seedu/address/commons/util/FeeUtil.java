@@ -26,41 +26,88 @@ public class FeeUtil {
         double fee = 0;
 
         for (Session session : student.getListOfSessions()) {
-            if (session instanceof RecurringSession) {
-                fee += getRecurringSessionFee((RecurringSession) session, startPeriod, endPeriod);
-            } else {
-                fee += getSingleSessionFee(session, startPeriod, endPeriod);
-            }
+            fee += getSessionFee(session, startPeriod, endPeriod);
         }
         return fee;
     }
 
-    private static double getRecurringSessionFee(RecurringSession recurringSession, LocalDateTime startPeriod,
+    /**
+     * Gets the total fee of {@code session}, or of all of its sessions if it is a {@code RecurringSession},
+     * from {@code startPeriod} to {@code endPeriod}.
+     * @param startPeriod Start of time period.
+     * @param endPeriod End of time period.
+     * @return Total fee between the 2 time period.
+     */
+    public static double getSessionFee(Session session, LocalDateTime startPeriod, LocalDateTime endPeriod) {
+        int numOfSession = getNumOfSession(session, startPeriod, endPeriod);
+        if (numOfSession > 0) {
+            return session.getFee().getFee() * numOfSession;
+        }
+        return 0;
+    }
+
+    /**
+     * Gets the total fee of {@code session} in cents, in the same way as
+     * {@link #getSessionFee(Session, LocalDateTime, LocalDateTime)}.
+     * Fees in cents can be added up exactly in any order.
+     */
+    public static long getSessionFeeInCents(Session session, LocalDateTime startPeriod, LocalDateTime endPeriod) {
+        return getFeeInCents(session) * getNumOfSession(session, startPeriod, endPeriod);
+    }
+
+    /**
+     * Gets the fee of a single session of {@code session} in cents.
+     */
+    public static long getFeeInCents(Session session) {
+        return Math.round(session.getFee().getFee() * 100);
+    }
+
+    /**
+     * Returns {@code cents} as dollars with 2 decimal places.
+     */
+    public static String formatCents(long cents) {
+        return String.format("%d.%02d", cents / 100, cents % 100);
+    }
+
+    /**
+     * Returns the number of sessions of {@code session}, or of all of its sessions if it is a
+     * {@code RecurringSession}, from {@code startPeriod} to {@code endPeriod}.
+     */
+    public static int getNumOfSession(Session session, LocalDateTime startPeriod, LocalDateTime endPeriod) {
+        if (session instanceof RecurringSession) {
+            return getNumOfRecurringSession((RecurringSession) session, startPeriod, endPeriod);
+        }
+        return isSingleSessionWithin(session, startPeriod, endPeriod) ? 1 : 0;
+    }
+
+    private static int getNumOfRecurringSession(RecurringSession recurringSession, LocalDateTime startPeriod,
         LocalDateTime endPeriod) {
 
         assert endPeriod.isEqual(startPeriod) || endPeriod.isAfter(startPeriod)
             : "End period should be equal or after start period";
 
-        SessionDate startDate = new SessionDate(startPeriod);
-        // // Minus one day, because the end date for numOfSessionBetween method is inclusive
-        SessionDate endDate = new SessionDate(endPeriod.minusDays(1));
-        int numOfSession = recurringSession.numOfSessionBetween(startDate, endDate);
+        long startEpochDay = startPeriod.toLocalDate().toEpochDay();
+        // Minus one day, because the end date for numOfSessionBetween method is inclusive
+        long endEpochDay = endPeriod.toLocalDate().toEpochDay() - 1;
+        int numOfSession = recurringSession.numOfSessionBetween(startEpochDay, endEpochDay);
 
         assert numOfSession >= 0 : "Number of session cannot be less than 0";
+        return numOfSession;
+    }
 
-        // Ensures that there is more than 0 session, so we can get the fees accordingly
-        if (numOfSession > 0) {
-            return recurringSession.getFee().getFee() * numOfSession;
-        }
-        return 0;
+    private static boolean isSingleSessionWithin(Session session, LocalDateTime startPeriod,
+        LocalDateTime endPeriod) {
+        long epochMinute = session.getSessionDate().getEpochMinute();
+        // This session date is within the period
+        return epochMinute >= toEpochMinuteRoundedUp(startPeriod) && epochMinute < toEpochMinuteRoundedUp(endPeriod);
     }
 
-    private static double getSingleSessionFee(Session session, LocalDateTime startPeriod, LocalDateTime endPeriod) {
-        LocalDateTime dateTime = session.getSessionDate().getDateTime();
-        if (dateTime.compareTo(startPeriod) >= 0 && dateTime.compareTo(endPeriod) < 0) {
-            // This session date is within the period
-            return session.getFee().getFee();
-        }
-        return 0;
+    /**
+     * Returns the number of minutes from 1970-01-01T00:00 to {@code dateTime}, rounded up to the next minute if
+     * {@code dateTime} is not at the start of a minute.
+     */
+    private static long toEpochMinuteRoundedUp(LocalDateTime dateTime) {
+        long epochMinute = SessionDate.toEpochMinute(dateTime);
+        return dateTime.getSecond() == 0 && dateTime.getNano() == 0 ? epochMinute : epochMinute + 1;
     }
 }
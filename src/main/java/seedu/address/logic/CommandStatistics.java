@@ -0,0 +1,214 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records how long commands take to be parsed, executed and saved, and how many bytes they allocate, for each
+ * command word.
+ *
+ * Latencies are counted in histograms of power-of-two buckets of microseconds, so that percentiles can be
+ * estimated without keeping every latency. Allocated bytes come from the allocation counter of the thread that
+ * runs the command, and are not counted if the JVM does not support it.
+ */
+public class CommandStatistics {
+
+    public static final long SUMMARY_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(10);
+    public static final String MESSAGE_NO_COMMANDS = "No commands have been executed yet.";
+    public static final String REPORT_HEADER = String.format(Timings.REPORT_ROW_FORMAT, "command", "count",
+            "parse (ms)", "execute (ms)", "save (ms)", "p50 (ms)", "p99 (ms)", "alloc (KB)");
+    public static final String WRITES_LABEL = "(file writes)";
+
+    private static final int NUM_OF_BUCKETS = 32;
+    private static final com.sun.management.ThreadMXBean ALLOCATION_BEAN = getAllocationBean();
+
+    private final Map<String, Timings> timingsByCommandWord = new TreeMap<>();
+    private final Timings writeTimings = new Timings();
+    private long lastSummaryNanos;
+
+    /**
+     * Creates an empty {@code CommandStatistics}, whose first summary is due after {@link #SUMMARY_INTERVAL_NANOS}.
+     */
+    public CommandStatistics() {
+        lastSummaryNanos = System.nanoTime();
+    }
+
+    /**
+     * Returns the number of bytes allocated by the current thread so far, or 0 if this is not supported.
+     */
+    public static long getAllocatedBytes() {
+        return ALLOCATION_BEAN == null ? 0 : ALLOCATION_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Records a command with the given {@code commandWord}, and how long it took in each stage.
+     */
+    public synchronized void record(String commandWord, long parseNanos, long executeNanos, long saveNanos,
+            long allocatedBytes) {
+        requireNonNull(commandWord);
+        timingsByCommandWord.computeIfAbsent(commandWord, unused -> new Timings())
+                .add(parseNanos, executeNanos, saveNanos, allocatedBytes);
+    }
+
+    /**
+     * Runs {@code write}, which writes the address book to its file, and records how long it took.
+     */
+    public void recordWrite(Runnable write) {
+        long startBytes = getAllocatedBytes();
+        long startNanos = System.nanoTime();
+        try {
+            write.run();
+        } finally {
+            long nanos = System.nanoTime() - startNanos;
+            long allocatedBytes = getAllocatedBytes() - startBytes;
+            synchronized (this) {
+                writeTimings.add(0, 0, nanos, allocatedBytes);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of commands with {@code commandWord} recorded.
+     */
+    public synchronized long getCount(String commandWord) {
+        Timings timings = timingsByCommandWord.get(commandWord);
+        return timings == null ? 0 : timings.count;
+    }
+
+    /**
+     * Returns the number of file writes recorded.
+     */
+    public synchronized long getWriteCount() {
+        return writeTimings.count;
+    }
+
+    /**
+     * Returns a table of the mean time taken by each stage of each command word, in milliseconds, their estimated
+     * 50th and 99th percentile latencies, and the mean bytes allocated.
+     */
+    public synchronized String getReport() {
+        if (timingsByCommandWord.isEmpty()) {
+            return MESSAGE_NO_COMMANDS;
+        }
+
+        StringBuilder builder = new StringBuilder(REPORT_HEADER);
+        timingsByCommandWord.forEach((commandWord, timings) ->
+                builder.append('\n').append(timings.toReportRow(commandWord)));
+        if (writeTimings.count > 0) {
+            builder.append('\n').append(writeTimings.toReportRow(WRITES_LABEL));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns a one line summary of each command word, and resets the time until the next summary is due.
+     */
+    public synchronized String getSummary() {
+        lastSummaryNanos = System.nanoTime();
+        StringBuilder builder = new StringBuilder("Command statistics:");
+        timingsByCommandWord.forEach((commandWord, timings) ->
+                builder.append(' ').append(timings.toSummary(commandWord)).append(';'));
+        builder.append(' ').append(writeTimings.toSummary(WRITES_LABEL));
+        return builder.toString();
+    }
+
+    /**
+     * Returns true if the last summary was taken at least {@link #SUMMARY_INTERVAL_NANOS} ago.
+     */
+    public synchronized boolean isSummaryDue() {
+        return System.nanoTime() - lastSummaryNanos >= SUMMARY_INTERVAL_NANOS;
+    }
+
+    private static com.sun.management.ThreadMXBean getAllocationBean() {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (!(threadBean instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+        return allocationBean.isThreadAllocatedMemorySupported() && allocationBean.isThreadAllocatedMemoryEnabled()
+                ? allocationBean
+                : null;
+    }
+
+    /**
+     * Returns the index of the bucket that counts a latency of {@code nanos}, where bucket {@code i} counts
+     * latencies of less than {@code 2^i} microseconds that are not counted by an earlier bucket.
+     */
+    static int getBucket(long nanos) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+        return Math.min(Long.SIZE - Long.numberOfLeadingZeros(micros), NUM_OF_BUCKETS - 1);
+    }
+
+    /**
+     * Returns the upper bound of the latencies counted by {@code bucket}, in nanoseconds.
+     */
+    static long getBucketBound(int bucket) {
+        return TimeUnit.MICROSECONDS.toNanos(1L << bucket);
+    }
+
+    /**
+     * The times taken by the commands with the same command word.
+     */
+    private static class Timings {
+        static final String REPORT_ROW_FORMAT = "%-16s %6s %12s %12s %12s %12s %12s %12s";
+
+        private final long[] histogram = new long[NUM_OF_BUCKETS];
+        private long count;
+        private long parseNanos;
+        private long executeNanos;
+        private long saveNanos;
+        private long allocatedBytes;
+
+        void add(long parseNanos, long executeNanos, long saveNanos, long allocatedBytes) {
+            count++;
+            this.parseNanos += parseNanos;
+            this.executeNanos += executeNanos;
+            this.saveNanos += saveNanos;
+            this.allocatedBytes += allocatedBytes;
+            histogram[getBucket(parseNanos + executeNanos + saveNanos)]++;
+        }
+
+        /**
+         * Returns the upper bound of the bucket that holds the {@code percentile}th percentile latency.
+         */
+        long getPercentileNanos(int percentile) {
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+            long seen = 0;
+            for (int bucket = 0; bucket < NUM_OF_BUCKETS; bucket++) {
+                seen += histogram[bucket];
+                if (seen >= rank) {
+                    return getBucketBound(bucket);
+                }
+            }
+            return getBucketBound(NUM_OF_BUCKETS - 1);
+        }
+
+        String toReportRow(String label) {
+            return String.format(REPORT_ROW_FORMAT, label, count, toMillis(parseNanos / count),
+                    toMillis(executeNanos / count), toMillis(saveNanos / count), toMillis(getPercentileNanos(50)),
+                    toMillis(getPercentileNanos(99)), toKilobytes(allocatedBytes / count));
+        }
+
+        String toSummary(String label) {
+            if (count == 0) {
+                return label + " n=0";
+            }
+            return String.format("%s n=%d p50<%sms p99<%sms alloc=%sKB", label, count,
+                    toMillis(getPercentileNanos(50)), toMillis(getPercentileNanos(99)),
+                    toKilobytes(allocatedBytes / count));
+        }
+
+        private static String toMillis(long nanos) {
+            return String.format("%.3f", nanos / 1e6);
+        }
+
+        private static String toKilobytes(long bytes) {
+            return String.format("%.1f", bytes / 1024.0);
+        }
+    }
+}
@@ -1,14 +1,20 @@
 package seedu.address.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelChangeListener;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.student.Student;
+import seedu.address.model.tuition.Tuition;
 
 /**
  * API of the Logic component
@@ -23,6 +29,25 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Waits until the address book has been saved after every command executed so far.
+     * @throws IOException If the address book could not be saved.
+     */
+    void flushAddressBook() throws IOException;
+
+    /**
+     * Sets whether the address book is still being loaded into the model from storage.
+     * While it is loading, commands are rejected. Once it is loaded, the changes made to the model while loading
+     * are taken to be already saved.
+     */
+    void setAddressBookLoading(boolean isLoading);
+
+    /** Returns true if the address book is still being loaded into the model from storage. */
+    boolean isAddressBookLoading();
+
+    /** Returns the time taken and bytes allocated by the commands executed so far. */
+    CommandStatistics getCommandStatistics();
+
     /**
      * Returns the AddressBook.
      *
@@ -36,6 +61,35 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of students */
     ObservableList<Student> getFilteredStudentList();
 
+    /**
+     * Returns the tuitions of all students taking place on {@code date}, ordered by their start time.
+     *
+     * @see seedu.address.model.Model#getTuitionsOnDate(LocalDate)
+     */
+    List<Tuition> getTuitionsOnDate(LocalDate date);
+
+    /**
+     * Prepares the tuitions from {@code startDate} to {@code endDate}, both inclusive, to be looked up by
+     * {@link #getTuitionsOnDate(LocalDate)}.
+     *
+     * @see seedu.address.model.Model#setTuitionWindow(LocalDate, LocalDate)
+     */
+    void setTuitionWindow(LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Returns the total fee of all students in {@code month}.
+     *
+     * @see seedu.address.model.Model#getMonthlyFee(YearMonth)
+     */
+    double getMonthlyFee(YearMonth month);
+
+    /**
+     * Registers {@code listener} to be notified of every change made to the students or their sessions.
+     *
+     * @see seedu.address.model.Model#addModelChangeListener(ModelChangeListener)
+     */
+    void addModelChangeListener(ModelChangeListener listener);
+
     /**
      * Returns the user prefs' address book file path.
      */
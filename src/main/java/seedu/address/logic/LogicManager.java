@@ -2,6 +2,10 @@ package seedu.address.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -13,44 +17,127 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
+import seedu.address.model.ModelChangeListener;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.student.Student;
+import seedu.address.model.tuition.Tuition;
 import seedu.address.storage.Storage;
+import seedu.address.storage.WriteBehindAddressBookSaver;
 
 /**
  * The main LogicManager of the app.
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String MESSAGE_LOADING = "Students are still being loaded from the data file. "
+            + "Please try again in a moment.";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final WriteBehindAddressBookSaver saver;
+    private final CommandStatistics commandStatistics = new CommandStatistics();
+
+    private boolean hasUnsavedChanges;
+    private boolean isAddressBookLoading;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage},
+     * which saves the address book before each command returns.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, Runnable::run);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage},
+     * which saves the address book on {@code saveExecutor} after commands that change it.
+     */
+    public LogicManager(Model model, Storage storage, Executor saveExecutor) {
         this.model = model;
-        this.storage = storage;
-        addressBookParser = new AddressBookParser();
+        addressBookParser = new AddressBookParser(commandStatistics);
+        saver = new WriteBehindAddressBookSaver(storage, write ->
+                saveExecutor.execute(() -> commandStatistics.recordWrite(write)));
+        model.addModelChangeListener(change -> hasUnsavedChanges = true);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
+        if (isAddressBookLoading) {
+            throw new CommandException(MESSAGE_LOADING);
+        }
 
+        long startBytes = CommandStatistics.getAllocatedBytes();
+        long startNanos = System.nanoTime();
         Command command = addressBookParser.parseCommand(commandText);
-        CommandResult commandResult = command.execute(model);
+        long parsedNanos = System.nanoTime();
+        long executedNanos = parsedNanos;
+        boolean isExecuted = false;
 
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            CommandResult commandResult = command.execute(model);
+            executedNanos = System.nanoTime();
+            isExecuted = true;
+
+            if (hasUnsavedChanges) {
+                hasUnsavedChanges = false;
+                saver.requestSave(model.getAddressBook());
+            }
+
+            // Reports the failure of this save, or of an earlier save that was written after its command returned.
+            IOException ioe = saver.takeFailure();
+            if (ioe != null) {
+                hasUnsavedChanges = true;
+                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            }
+
+            return commandResult;
+        } finally {
+            // Every change made by the command is undone together, even if the command failed after making it.
+            model.commitAddressBook();
+            long endNanos = System.nanoTime();
+            if (!isExecuted) {
+                executedNanos = endNanos;
+            }
+            commandStatistics.record(getCommandWord(commandText), parsedNanos - startNanos,
+                    executedNanos - parsedNanos, endNanos - executedNanos,
+                    CommandStatistics.getAllocatedBytes() - startBytes);
+            if (commandStatistics.isSummaryDue()) {
+                logger.info(commandStatistics.getSummary());
+            }
         }
+    }
 
-        return commandResult;
+    /**
+     * Returns the command word of {@code commandText}, which has been parsed into a command.
+     */
+    private static String getCommandWord(String commandText) {
+        return commandText.trim().split("\\s+", 2)[0];
+    }
+
+    @Override
+    public void flushAddressBook() throws IOException {
+        saver.flush();
+    }
+
+    @Override
+    public void setAddressBookLoading(boolean isLoading) {
+        isAddressBookLoading = isLoading;
+        if (!isLoading) {
+            hasUnsavedChanges = false;
+            model.clearAddressBookHistory();
+        }
+    }
+
+    @Override
+    public boolean isAddressBookLoading() {
+        return isAddressBookLoading;
+    }
+
+    @Override
+    public CommandStatistics getCommandStatistics() {
+        return commandStatistics;
     }
 
     @Override
@@ -68,6 +155,26 @@ public class LogicManager implements Logic {
         return model.getFilteredStudentList();
     }
 
+    @Override
+    public List<Tuition> getTuitionsOnDate(LocalDate date) {
+        return model.getTuitionsOnDate(date);
+    }
+
+    @Override
+    public void setTuitionWindow(LocalDate startDate, LocalDate endDate) {
+        model.setTuitionWindow(startDate, endDate);
+    }
+
+    @Override
+    public double getMonthlyFee(YearMonth month) {
+        return model.getMonthlyFee(month);
+    }
+
+    @Override
+    public void addModelChangeListener(ModelChangeListener listener) {
+        model.addModelChangeListener(listener);
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
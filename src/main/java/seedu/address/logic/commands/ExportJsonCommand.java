@@ -0,0 +1,54 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Exports the address book to a JSON file, regardless of the format that the data file is stored in.
+ */
+public class ExportJsonCommand extends Command {
+
+    public static final String COMMAND_WORD = "export_json";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports all students and sessions to a JSON file."
+            + "\nParameters: FILE_PATH"
+            + "\nExample: " + COMMAND_WORD + " data/export.json";
+
+    public static final String MESSAGE_SUCCESS = "Exported %1$d students to %2$s";
+    public static final String MESSAGE_EXPORT_FAILED = "Could not export to %1$s: %2$s";
+
+    private final Path filePath;
+
+    /**
+     * Creates an ExportJsonCommand to export the address book to {@code filePath}.
+     */
+    public ExportJsonCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        try {
+            new JsonAddressBookStorage(filePath).saveAddressBook(model.getAddressBook());
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_EXPORT_FAILED, filePath, ioe.getMessage()), ioe);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, model.getAddressBook().getStudentList().size(),
+                filePath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExportJsonCommand // instanceof handles nulls
+                && filePath.equals(((ExportJsonCommand) other).filePath));
+    }
+}
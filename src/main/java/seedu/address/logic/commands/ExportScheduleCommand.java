@@ -0,0 +1,96 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_OUTPUT;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.session.ScheduleExport;
+
+/**
+ * Exports the sessions of all students within a range of dates to a CSV or iCalendar file, chosen by the extension
+ * of the file. The sessions are written as they are found, through a buffered writer.
+ */
+public class ExportScheduleCommand extends Command {
+
+    public static final String COMMAND_WORD = "export_schedule";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports all sessions from a start date to an end "
+            + "date, with their fees, to a CSV file or an iCalendar (.ics) file."
+            + "\nParameters: "
+            + PREFIX_DATE + "START_DATE "
+            + PREFIX_END_DATE + "END_DATE "
+            + PREFIX_OUTPUT + "FILE_PATH"
+            + "\nExample: " + COMMAND_WORD + " "
+            + PREFIX_DATE + "2021-01-01 "
+            + PREFIX_END_DATE + "2021-12-31 "
+            + PREFIX_OUTPUT + "data/schedule.ics";
+
+    public static final String MESSAGE_SUCCESS = "Exported %1$d sessions from %2$s to %3$s to %4$s";
+    public static final String MESSAGE_EXPORT_FAILED = "Could not export schedule to %1$s: %2$s";
+
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final Path filePath;
+
+    /**
+     * Creates an ExportScheduleCommand to export the sessions from {@code startDate} to {@code endDate}, both
+     * inclusive, to {@code filePath}.
+     */
+    public ExportScheduleCommand(LocalDate startDate, LocalDate endDate, Path filePath) {
+        requireAllNonNull(startDate, endDate, filePath);
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Optional<ScheduleExport.Format> format = ScheduleExport.Format.ofFilePath(filePath);
+        if (format.isEmpty()) {
+            throw new CommandException(ScheduleExport.Format.MESSAGE_CONSTRAINTS);
+        }
+
+        ScheduleExport export = new ScheduleExport(model.getAddressBook().getStudentList(), startDate, endDate);
+        LocalDateTime timestamp = LocalDateTime.now(ZoneOffset.UTC);
+        long[] numOfSessions = new long[1];
+        try {
+            FileUtil.createParentDirsOfFile(filePath);
+            FileUtil.writeToFile(filePath, out -> {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+                numOfSessions[0] = format.get() == ScheduleExport.Format.ICS
+                        ? export.writeIcs(writer, timestamp)
+                        : export.writeCsv(writer);
+                writer.flush();
+            });
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_EXPORT_FAILED, filePath, ioe.getMessage()), ioe);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, numOfSessions[0], startDate, endDate, filePath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExportScheduleCommand // instanceof handles nulls
+                && startDate.equals(((ExportScheduleCommand) other).startDate)
+                && endDate.equals(((ExportScheduleCommand) other).endDate)
+                && filePath.equals(((ExportScheduleCommand) other).filePath));
+    }
+}
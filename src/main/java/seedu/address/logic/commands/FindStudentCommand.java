@@ -1,34 +1,76 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FUZZY;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToDoubleFunction;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.student.Name;
 import seedu.address.model.student.NameContainsKeywordsPredicate;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.TrigramIndex;
 
 /**
  * Finds and lists all students in address book whose name contains any of the argument keywords.
  * Keyword matching is case insensitive.
+ *
+ * In fuzzy mode, finds the students whose name, email, phone or address has a word similar to any of the keywords
+ * instead, and lists the most similar students first.
  */
 public class FindStudentCommand extends Command {
 
     public static final String COMMAND_WORD = "find_student";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all students whose names contain any of "
-            + "the specified keywords (case-insensitive) and displays them as a list with index numbers."
-            + "\nParameters: KEYWORD [MORE_KEYWORDS]..."
-            + "\nExample: " + COMMAND_WORD + " alice bob charlie";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all students whose names contain a word "
+            + "starting with any of the specified keywords (case-insensitive) and displays them as a list with index "
+            + "numbers.\n"
+            + "With " + PREFIX_FUZZY + ", finds the students whose name, email, phone or address contains a word "
+            + "similar to any of the keywords, allowing for typos, and lists the closest matches first."
+            + "\nParameters: KEYWORD [MORE_KEYWORDS]... or " + PREFIX_FUZZY + "KEYWORD [MORE_KEYWORDS]..."
+            + "\nExample: " + COMMAND_WORD + " alice bob charlie"
+            + "\nExample: " + COMMAND_WORD + " " + PREFIX_FUZZY + "alcie";
 
     private final NameContainsKeywordsPredicate predicate;
+    private final boolean isFuzzy;
 
     public FindStudentCommand(NameContainsKeywordsPredicate predicate) {
+        this(predicate, false);
+    }
+
+    /**
+     * Creates a FindStudentCommand to find the students matching the keywords of {@code predicate},
+     * allowing for typos if {@code isFuzzy}.
+     */
+    public FindStudentCommand(NameContainsKeywordsPredicate predicate, boolean isFuzzy) {
         this.predicate = predicate;
+        this.isFuzzy = isFuzzy;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredStudentList(predicate);
+        // Students changed after the search of the model's indexes are not in its result, so they are checked
+        // again. Only changed students are tested again by the filtered list once it is set.
+        long version = model.getAddressBookVersion();
+        if (isFuzzy) {
+            Map<Name, Double> similarities = model.getSimilarities(predicate.getKeywords());
+            ToDoubleFunction<Student> similarity = student -> model.getAddressBookVersion() == version
+                    ? similarities.getOrDefault(student.getName(), 0.0)
+                    : TrigramIndex.getSimilarity(student, predicate.getKeywords());
+            model.updateFilteredStudentList(student -> similarity.applyAsDouble(student) > 0,
+                    Comparator.comparingDouble(similarity).reversed());
+        } else {
+            // Finds the matching names in the model's index of names, instead of testing every student's name.
+            Set<Name> names = model.getNamesWithPrefixes(predicate.getKeywords());
+            model.updateFilteredStudentList(student -> model.getAddressBookVersion() == version
+                    ? names.contains(student.getName())
+                    : predicate.test(student));
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW, model.getFilteredStudentList().size()));
     }
@@ -37,6 +79,7 @@ public class FindStudentCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindStudentCommand // instanceof handles nulls
-                && predicate.equals(((FindStudentCommand) other).predicate)); // state check
+                && predicate.equals(((FindStudentCommand) other).predicate) // state check
+                && isFuzzy == ((FindStudentCommand) other).isFuzzy);
     }
 }
@@ -6,17 +6,14 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_MONTH;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_YEAR;
 
-import java.time.LocalDateTime;
+import java.time.YearMonth;
 
 import seedu.address.commons.core.Messages;
-import seedu.address.commons.util.DateUtil;
-import seedu.address.commons.util.FeeUtil;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.fee.Month;
 import seedu.address.model.fee.Year;
 import seedu.address.model.student.Name;
-import seedu.address.model.student.Student;
 
 /**
  * Gets the monthly fee of a particular student on a specific month and year.
@@ -56,15 +53,8 @@ public class GetMonthlyFeeCommand extends Command {
             throw new CommandException(Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_NAME);
         }
 
-        Student student = model.getStudentWithName(studentName);
-        LocalDateTime currMonthYear;
-        LocalDateTime nextMonthYear;
-
-        currMonthYear = DateUtil.getFirstDayOfMonth(month, year);
-        nextMonthYear = currMonthYear.plusMonths(1);
-
         // Get month fee for this month for that particular student
-        double monthlyFee = FeeUtil.getFeePerStudent(student, currMonthYear, nextMonthYear);
+        double monthlyFee = model.getMonthlyFee(studentName, YearMonth.of(year.getYear(), month.getMonth()));
 
         return new CommandResult(String.format("Monthly fee for %s on %s, %s is $%.2f",
             studentName.toString(), month.getMonthName(), year.toString(), monthlyFee));
@@ -0,0 +1,257 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.StudentCsvRowParser;
+import seedu.address.logic.parser.StudentCsvRowParser.StudentRow;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.session.RecurringSession;
+import seedu.address.model.session.Session;
+import seedu.address.model.session.SessionSchedule;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Student;
+
+/**
+ * Adds the students and sessions in a CSV file to the address book, with a row for each session, or for each
+ * student without a session.
+ *
+ * Rows are read one at a time, and parsed on the common {@code ForkJoinPool} in chunks of {@link #CHUNK_SIZE} rows
+ * while later rows are still being read. Duplicate students are found by a map of the imported students by name,
+ * and clashing sessions by a {@code SessionSchedule} of the existing and imported sessions, instead of checking
+ * the address book once for each row. The students are then added with a single call to
+ * {@link Model#setStudents(List)}. If any row fails, nothing is imported.
+ */
+public class ImportCsvCommand extends Command {
+
+    public static final String COMMAND_WORD = "import_csv";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds the students and sessions in a CSV file, "
+            + "with a row for each session, or for each student without a session. The first row is the header: "
+            + String.join(",", StudentCsvRowParser.HEADER)
+            + "\nParameters: FILE_PATH"
+            + "\nExample: " + COMMAND_WORD + " data/students.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d students and %2$d sessions from %3$s";
+    public static final String MESSAGE_FILE_NOT_FOUND = "File %1$s does not exist";
+    public static final String MESSAGE_READ_FAILED = "Could not read %1$s: %2$s";
+    public static final String MESSAGE_INVALID_HEADER = "The first row of %1$s should be the header: %2$s";
+    public static final String MESSAGE_ROWS_FAILED = "Nothing was imported as %1$d of the rows in %2$s failed:";
+    public static final String MESSAGE_ROW_FAILED = "Row %1$d: %2$s";
+    public static final String MESSAGE_MORE_ROWS_FAILED = "...and %1$d more";
+    public static final String MESSAGE_STUDENT_EXISTS = "This student already exists in the address book";
+    public static final String MESSAGE_DIFFERENT_DETAILS = "The details of this student differ from row %1$d";
+    public static final String MESSAGE_SESSION_CLASH = "This session clashes with another session";
+
+    public static final int CHUNK_SIZE = 1000;
+    /** Only the failures of this many rows are shown, as a file that fails often fails on most of its rows. */
+    public static final int MAX_ROW_FAILURES_SHOWN = 10;
+
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+    private static final int FIRST_ROW_NUMBER = 2;
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCsvCommand to import the students and sessions in {@code filePath}.
+     */
+    public ImportCsvCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<ParsedRow> rows = readRows();
+
+        List<String> rowFailures = new ArrayList<>();
+        Map<Name, Student> importedStudents = new LinkedHashMap<>();
+        Map<Name, Integer> firstRowNumbers = new HashMap<>();
+        Map<Name, List<Session>> importedSessions = new HashMap<>();
+        SessionSchedule schedule = new SessionSchedule();
+        model.getAddressBook().getStudentList().forEach(student -> schedule.addAll(student.getListOfSessions()));
+        int numOfSessions = 0;
+
+        for (ParsedRow row : rows) {
+            try {
+                Student student = getStudent(row, model, importedStudents, firstRowNumbers);
+                if (row.studentRow.getSession().isPresent()) {
+                    Session session = row.studentRow.getSession().get();
+                    if (isClashing(schedule, session)) {
+                        throw new CommandException(MESSAGE_SESSION_CLASH);
+                    }
+                    schedule.add(session);
+                    importedSessions.computeIfAbsent(student.getName(), unused -> new ArrayList<>()).add(session);
+                    numOfSessions++;
+                }
+            } catch (ParseException | CommandException e) {
+                rowFailures.add(String.format(MESSAGE_ROW_FAILED, row.rowNumber, e.getMessage()));
+            }
+        }
+
+        if (!rowFailures.isEmpty()) {
+            throw new CommandException(getFailureMessage(rowFailures));
+        }
+
+        List<Student> students = new ArrayList<>(model.getAddressBook().getStudentList());
+        for (Student student : importedStudents.values()) {
+            List<Session> sessions = importedSessions.getOrDefault(student.getName(), List.of());
+            students.add(student.withSessions(sessions.toArray(new Session[0])));
+        }
+        model.setStudents(students);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, importedStudents.size(), numOfSessions, filePath));
+    }
+
+    /**
+     * Returns the student that {@code row} adds or adds a session to, which is imported by the first row with its
+     * name.
+     *
+     * @throws ParseException if the row failed to be parsed.
+     * @throws CommandException if the student already exists, or differs from the one in its first row.
+     */
+    private static Student getStudent(ParsedRow row, Model model, Map<Name, Student> importedStudents,
+            Map<Name, Integer> firstRowNumbers) throws ParseException, CommandException {
+        if (row.failure != null) {
+            throw row.failure;
+        }
+
+        Name name = row.studentRow.getName();
+        Student student = importedStudents.get(name);
+        if (student == null) {
+            if (model.hasName(name)) {
+                throw new CommandException(MESSAGE_STUDENT_EXISTS);
+            }
+            student = row.studentRow.getStudent();
+            importedStudents.put(name, student);
+            firstRowNumbers.put(name, row.rowNumber);
+        } else if (!student.equals(row.studentRow.getStudent())) {
+            throw new CommandException(String.format(MESSAGE_DIFFERENT_DETAILS, firstRowNumbers.get(name)));
+        }
+        return student;
+    }
+
+    private static boolean isClashing(SessionSchedule schedule, Session session) {
+        if (schedule.hasSession(session)) {
+            return true;
+        }
+        return session instanceof RecurringSession
+                ? schedule.hasOverlappingSession((RecurringSession) session)
+                : schedule.hasOverlappingSession(session);
+    }
+
+    /**
+     * Reads the rows of the file after its header, and parses them a chunk at a time while the next chunk is read.
+     */
+    private List<ParsedRow> readRows() throws CommandException {
+        if (!Files.exists(filePath)) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath));
+        }
+
+        List<ForkJoinTask<List<ParsedRow>>> parsedChunks = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            checkHeader(CsvUtil.readLine(reader));
+            List<List<String>> chunk = new ArrayList<>(CHUNK_SIZE);
+            int firstRowNumber = FIRST_ROW_NUMBER;
+            for (List<String> values = CsvUtil.readLine(reader); values != null; values = CsvUtil.readLine(reader)) {
+                chunk.add(values);
+                if (chunk.size() == CHUNK_SIZE) {
+                    parsedChunks.add(submit(chunk, firstRowNumber));
+                    firstRowNumber += CHUNK_SIZE;
+                    chunk = new ArrayList<>(CHUNK_SIZE);
+                }
+            }
+            parsedChunks.add(submit(chunk, firstRowNumber));
+        } catch (IOException ioe) {
+            parsedChunks.forEach(parsedChunk -> parsedChunk.cancel(false));
+            throw new CommandException(String.format(MESSAGE_READ_FAILED, filePath, ioe.getMessage()), ioe);
+        }
+
+        List<ParsedRow> rows = new ArrayList<>();
+        parsedChunks.forEach(parsedChunk -> rows.addAll(parsedChunk.join()));
+        return rows;
+    }
+
+    private void checkHeader(List<String> header) throws CommandException {
+        if (header != null && !header.isEmpty() && header.get(0).startsWith(BYTE_ORDER_MARK)) {
+            header.set(0, header.get(0).substring(BYTE_ORDER_MARK.length()));
+        }
+        if (header == null || !StudentCsvRowParser.HEADER.equals(header.stream()
+                .map(value -> value.trim().toLowerCase(Locale.ROOT)).collect(Collectors.toList()))) {
+            throw new CommandException(String.format(MESSAGE_INVALID_HEADER, filePath,
+                    String.join(",", StudentCsvRowParser.HEADER)));
+        }
+    }
+
+    private static ForkJoinTask<List<ParsedRow>> submit(List<List<String>> chunk, int firstRowNumber) {
+        return ForkJoinPool.commonPool().submit(() -> parse(chunk, firstRowNumber));
+    }
+
+    /**
+     * Parses the rows of {@code chunk}, skipping blank rows.
+     */
+    private static List<ParsedRow> parse(List<List<String>> chunk, int firstRowNumber) {
+        List<ParsedRow> rows = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            List<String> values = chunk.get(i);
+            if (values.size() == 1 && values.get(0).trim().isEmpty()) {
+                continue;
+            }
+            try {
+                rows.add(new ParsedRow(firstRowNumber + i, StudentCsvRowParser.parse(values), null));
+            } catch (ParseException pe) {
+                rows.add(new ParsedRow(firstRowNumber + i, null, pe));
+            }
+        }
+        return rows;
+    }
+
+    private String getFailureMessage(List<String> rowFailures) {
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_ROWS_FAILED, rowFailures.size(), filePath));
+        rowFailures.stream().limit(MAX_ROW_FAILURES_SHOWN).forEach(failure -> builder.append('\n').append(failure));
+        if (rowFailures.size() > MAX_ROW_FAILURES_SHOWN) {
+            builder.append('\n')
+                    .append(String.format(MESSAGE_MORE_ROWS_FAILED, rowFailures.size() - MAX_ROW_FAILURES_SHOWN));
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportCsvCommand // instanceof handles nulls
+                && filePath.equals(((ImportCsvCommand) other).filePath));
+    }
+
+    /**
+     * A row of the file, which was either parsed or failed to be parsed.
+     */
+    private static class ParsedRow {
+        private final int rowNumber;
+        private final StudentRow studentRow;
+        private final ParseException failure;
+
+        ParsedRow(int rowNumber, StudentRow studentRow, ParseException failure) {
+            this.rowNumber = rowNumber;
+            this.studentRow = studentRow;
+            this.failure = failure;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Replaces the address book with the students and sessions in a JSON file, such as one written by
+ * {@link ExportJsonCommand}. The address book is then saved in the format that the data file is stored in.
+ */
+public class ImportJsonCommand extends Command {
+
+    public static final String COMMAND_WORD = "import_json";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Replaces all students and sessions with those "
+            + "in a JSON file."
+            + "\nParameters: FILE_PATH"
+            + "\nExample: " + COMMAND_WORD + " data/export.json";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d students from %2$s";
+    public static final String MESSAGE_FILE_NOT_FOUND = "File %1$s does not exist";
+    public static final String MESSAGE_IMPORT_FAILED = "Could not import from %1$s as it is not a valid "
+            + "address book JSON file";
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportJsonCommand to import the address book from {@code filePath}.
+     */
+    public ImportJsonCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Optional<ReadOnlyAddressBook> addressBook;
+        try {
+            addressBook = new JsonAddressBookStorage(filePath).readAddressBook();
+        } catch (DataConversionException dce) {
+            throw new CommandException(String.format(MESSAGE_IMPORT_FAILED, filePath), dce);
+        }
+        if (!addressBook.isPresent()) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath));
+        }
+
+        model.setAddressBook(addressBook.get());
+        return new CommandResult(String.format(MESSAGE_SUCCESS, addressBook.get().getStudentList().size(),
+                filePath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportJsonCommand // instanceof handles nulls
+                && filePath.equals(((ImportJsonCommand) other).filePath));
+    }
+}
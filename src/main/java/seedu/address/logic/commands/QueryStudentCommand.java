@@ -0,0 +1,74 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FEE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RELATIONSHIP;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STUDY_LEVEL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECT;
+
+import java.util.Set;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.StudentQuery;
+
+/**
+ * Finds and lists all students in address book that match every given field of a {@code StudentQuery}.
+ */
+public class QueryStudentCommand extends Command {
+
+    public static final String COMMAND_WORD = "query_student";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all students that match every given field "
+            + "and displays them as a list with index numbers. Study levels, relationships and subjects are matched "
+            + "case-insensitively. A student matches a subject, fee range or date range if any of its sessions does.\n"
+            + "Parameters: "
+            + "[" + PREFIX_STUDY_LEVEL + "STUDY_LEVEL] "
+            + "[" + PREFIX_RELATIONSHIP + "RELATIONSHIP_WITH_GUARDIAN] "
+            + "[" + PREFIX_SUBJECT + "SUBJECT] "
+            + "[" + PREFIX_FEE + "MIN_FEE-MAX_FEE] "
+            + "[" + PREFIX_DATE + "START_DATE " + PREFIX_END_DATE + "END_DATE]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_STUDY_LEVEL + "Sec 2 "
+            + PREFIX_SUBJECT + "Math "
+            + PREFIX_FEE + "30-50 "
+            + PREFIX_DATE + "2021-03-01 "
+            + PREFIX_END_DATE + "2021-03-31";
+
+    public static final String MESSAGE_NO_FIELDS = "At least one field to query must be provided.";
+
+    private final StudentQuery query;
+
+    /**
+     * Creates a QueryStudentCommand to find the students matching {@code query}, which must have at least one field
+     * set.
+     */
+    public QueryStudentCommand(StudentQuery query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        // Finds the matching names in the model's indexes of each field, instead of testing every student.
+        // Students changed after the search are not in its result, so they are tested again.
+        long version = model.getAddressBookVersion();
+        Set<Name> names = model.getNamesMatching(query);
+        model.updateFilteredStudentList(student -> model.getAddressBookVersion() == version
+                ? names.contains(student.getName())
+                : query.test(student));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW, model.getFilteredStudentList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof QueryStudentCommand // instanceof handles nulls
+                && query.equals(((QueryStudentCommand) other).query)); // state check
+    }
+}
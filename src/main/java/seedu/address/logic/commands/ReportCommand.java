@@ -0,0 +1,112 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_OUTPUT;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import seedu.address.commons.util.FeeUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.fee.ReportGrouping;
+import seedu.address.model.fee.RevenueReport;
+
+/**
+ * Shows the fees of all sessions within a range of dates, grouped by month, week, subject or student,
+ * and optionally writes them to a CSV file.
+ */
+public class ReportCommand extends Command {
+
+    public static final String COMMAND_WORD = "report";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the fees of all sessions from a start date "
+            + "to an end date, grouped by month, week, subject or student, and optionally saves them to a CSV file."
+            + "\nParameters: "
+            + PREFIX_DATE + "START_DATE "
+            + PREFIX_END_DATE + "END_DATE "
+            + "[" + PREFIX_GROUP + "month|week|subject|student] "
+            + "[" + PREFIX_OUTPUT + "FILE_PATH]"
+            + "\nExample: " + COMMAND_WORD + " "
+            + PREFIX_DATE + "2021-01-01 "
+            + PREFIX_END_DATE + "2021-12-31 "
+            + PREFIX_GROUP + "subject "
+            + PREFIX_OUTPUT + "data/report.csv";
+
+    public static final String MESSAGE_SUCCESS = "Fees from %1$s to %2$s by %3$s: $%4$s for %5$d sessions";
+    public static final String MESSAGE_EXPORTED = "Saved %1$d rows to %2$s";
+    public static final String MESSAGE_EXPORT_FAILED = "Could not save report to %1$s: %2$s";
+
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final ReportGrouping grouping;
+    private final Optional<Path> outputFilePath;
+
+    /**
+     * Creates a ReportCommand to report the fees from {@code startDate} to {@code endDate}, both inclusive, grouped
+     * by {@code grouping}, and to save them to {@code outputFilePath} if it is present.
+     */
+    public ReportCommand(LocalDate startDate, LocalDate endDate, ReportGrouping grouping,
+            Optional<Path> outputFilePath) {
+        requireAllNonNull(startDate, endDate, grouping, outputFilePath);
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.grouping = grouping;
+        this.outputFilePath = outputFilePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        RevenueReport report = RevenueReport.of(model.getAddressBook().getStudentList(), startDate, endDate,
+                grouping);
+
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_SUCCESS, startDate, endDate,
+                grouping.getName(), FeeUtil.formatCents(report.getTotalFeeInCents()),
+                report.getTotalNumOfSessions()));
+        if (outputFilePath.isPresent()) {
+            writeCsv(report, outputFilePath.get());
+            feedback.append('\n').append(String.format(MESSAGE_EXPORTED, report.getRows().size(),
+                    outputFilePath.get()));
+        } else {
+            for (RevenueReport.Row row : report.getRows()) {
+                feedback.append('\n').append(row);
+            }
+        }
+        return new CommandResult(feedback.toString());
+    }
+
+    private static void writeCsv(RevenueReport report, Path filePath) throws CommandException {
+        try {
+            FileUtil.createParentDirsOfFile(filePath);
+            FileUtil.writeToFile(filePath, out -> {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+                report.writeCsv(writer);
+                writer.flush();
+            });
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_EXPORT_FAILED, filePath, ioe.getMessage()), ioe);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ReportCommand // instanceof handles nulls
+                && startDate.equals(((ReportCommand) other).startDate)
+                && endDate.equals(((ReportCommand) other).endDate)
+                && grouping.equals(((ReportCommand) other).grouping)
+                && outputFilePath.equals(((ReportCommand) other).outputFilePath));
+    }
+}
@@ -0,0 +1,152 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Runs the commands in a file, one per line, as a single change to the address book.
+ *
+ * The commands are run on a copy of the address book, so that the address book is only replaced once every command
+ * has succeeded. The address book is then saved once and its listeners are notified once, instead of after every
+ * command. If any command fails, the address book is left unchanged and the failure of every line is reported.
+ */
+public class RunScriptCommand extends Command {
+
+    public static final String COMMAND_WORD = "run_script";
+    public static final String COMMENT_PREFIX = "#";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a file, one per line. "
+            + "Only commands that add, edit or delete students and sessions can be run. Blank lines and lines "
+            + "starting with " + COMMENT_PREFIX + " are skipped. If any command fails, none of "
+            + "the commands are applied."
+            + "\nParameters: FILE_PATH"
+            + "\nExample: " + COMMAND_WORD + " data/new_term.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands from %2$s";
+    public static final String MESSAGE_FILE_NOT_FOUND = "File %1$s does not exist";
+    public static final String MESSAGE_READ_FAILED = "Could not read %1$s";
+    public static final String MESSAGE_NO_COMMANDS = "File %1$s has no commands to run";
+    public static final String MESSAGE_LINES_FAILED = "No changes were made as %1$d of the commands in %2$s failed:";
+    public static final String MESSAGE_LINE_FAILED = "Line %1$d: %2$s";
+    public static final String MESSAGE_MORE_LINES_FAILED = "...and %1$d more";
+    public static final String MESSAGE_COMMAND_NOT_ALLOWED = "%1$s cannot be run in a script";
+
+    /** Only the failures of this many lines are shown, as a script that fails often fails on most of its lines. */
+    public static final int MAX_LINE_FAILURES_SHOWN = 10;
+
+    private static final Set<String> SCRIPT_COMMAND_WORDS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            AddStudentCommand.COMMAND_WORD, EditStudentCommand.COMMAND_WORD, DeleteStudentCommand.COMMAND_WORD,
+            AddSessionCommand.COMMAND_WORD, AddRecurringSessionCommand.COMMAND_WORD,
+            DeleteSessionCommand.COMMAND_WORD, DeleteRecurringSessionCommand.COMMAND_WORD)));
+
+    private final Path filePath;
+    private final AddressBookParser addressBookParser;
+
+    /**
+     * Creates a RunScriptCommand to run the commands in {@code filePath}, parsing them with
+     * {@code addressBookParser}.
+     */
+    public RunScriptCommand(Path filePath, AddressBookParser addressBookParser) {
+        requireNonNull(filePath);
+        requireNonNull(addressBookParser);
+        this.filePath = filePath;
+        this.addressBookParser = addressBookParser;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<String> lines = readLines();
+
+        // Indexes in the script refer to the full student list, as the filter of the model is not copied.
+        Model scratchModel = new ModelManager(copyOf(model.getAddressBook()), new UserPrefs());
+        List<String> lineFailures = new ArrayList<>();
+        int numOfCommands = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+            numOfCommands++;
+            try {
+                runLine(line, scratchModel);
+            } catch (ParseException | CommandException e) {
+                lineFailures.add(String.format(MESSAGE_LINE_FAILED, i + 1, e.getMessage()));
+            }
+        }
+
+        if (numOfCommands == 0) {
+            throw new CommandException(String.format(MESSAGE_NO_COMMANDS, filePath));
+        }
+        if (!lineFailures.isEmpty()) {
+            throw new CommandException(getFailureMessage(lineFailures));
+        }
+
+        model.setAddressBook(scratchModel.getAddressBook());
+        return new CommandResult(String.format(MESSAGE_SUCCESS, numOfCommands, filePath));
+    }
+
+    private List<String> readLines() throws CommandException {
+        if (!Files.exists(filePath)) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath));
+        }
+        try {
+            return Files.readAllLines(filePath);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILED, filePath), ioe);
+        }
+    }
+
+    private void runLine(String line, Model scratchModel) throws ParseException, CommandException {
+        String commandWord = line.split("\\s+", 2)[0];
+        if (!SCRIPT_COMMAND_WORDS.contains(commandWord)) {
+            throw new CommandException(String.format(MESSAGE_COMMAND_NOT_ALLOWED, commandWord));
+        }
+        addressBookParser.parseCommand(line).execute(scratchModel);
+    }
+
+    private String getFailureMessage(List<String> lineFailures) {
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_LINES_FAILED, lineFailures.size(), filePath));
+        lineFailures.stream().limit(MAX_LINE_FAILURES_SHOWN).forEach(failure -> builder.append('\n').append(failure));
+        if (lineFailures.size() > MAX_LINE_FAILURES_SHOWN) {
+            builder.append('\n')
+                    .append(String.format(MESSAGE_MORE_LINES_FAILED, lineFailures.size() - MAX_LINE_FAILURES_SHOWN));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns a copy of {@code addressBook}. Students are immutable, so the copy shares them with
+     * {@code addressBook}, and a change to the copy replaces its students instead of changing them.
+     */
+    private static AddressBook copyOf(ReadOnlyAddressBook addressBook) {
+        AddressBook copy = new AddressBook();
+        copy.setStudents(addressBook.getStudentList());
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RunScriptCommand // instanceof handles nulls
+                && filePath.equals(((RunScriptCommand) other).filePath));
+    }
+}
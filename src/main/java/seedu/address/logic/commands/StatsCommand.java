@@ -0,0 +1,42 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.CommandStatistics;
+import seedu.address.model.Model;
+
+/**
+ * Shows how long the commands executed so far took, and how much memory they allocated.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the mean time taken to parse, execute and "
+            + "save each type of command executed so far, upper bounds of its 50th and 99th percentile times, "
+            + "and the mean memory it allocated."
+            + "\nExample: " + COMMAND_WORD;
+
+    private final CommandStatistics commandStatistics;
+
+    /**
+     * Creates a StatsCommand to show {@code commandStatistics}.
+     */
+    public StatsCommand(CommandStatistics commandStatistics) {
+        requireNonNull(commandStatistics);
+        this.commandStatistics = commandStatistics;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(commandStatistics.getReport());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StatsCommand // instanceof handles nulls
+                && commandStatistics == ((StatsCommand) other).commandStatistics);
+    }
+}
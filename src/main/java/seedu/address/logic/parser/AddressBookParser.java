@@ -1,11 +1,13 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import seedu.address.logic.CommandStatistics;
 import seedu.address.logic.commands.AddRecurringSessionCommand;
 import seedu.address.logic.commands.AddSessionCommand;
 import seedu.address.logic.commands.AddStudentCommand;
@@ -17,10 +19,20 @@ import seedu.address.logic.commands.DeleteStudentCommand;
 import seedu.address.logic.commands.EditStudentCommand;
 import seedu.address.logic.commands.EmailCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportJsonCommand;
+import seedu.address.logic.commands.ExportScheduleCommand;
 import seedu.address.logic.commands.FindStudentCommand;
 import seedu.address.logic.commands.GetMonthlyFeeCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCsvCommand;
+import seedu.address.logic.commands.ImportJsonCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.QueryStudentCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.ReportCommand;
+import seedu.address.logic.commands.RunScriptCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -33,6 +45,23 @@ public class AddressBookParser {
      */
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
 
+    private final CommandStatistics commandStatistics;
+
+    /**
+     * Creates an {@code AddressBookParser} whose {@code stats} commands show empty statistics.
+     */
+    public AddressBookParser() {
+        this(new CommandStatistics());
+    }
+
+    /**
+     * Creates an {@code AddressBookParser} whose {@code stats} commands show {@code commandStatistics}.
+     */
+    public AddressBookParser(CommandStatistics commandStatistics) {
+        requireNonNull(commandStatistics);
+        this.commandStatistics = commandStatistics;
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -62,9 +91,18 @@ public class AddressBookParser {
         case ClearCommand.COMMAND_WORD:
             return new ClearCommand();
 
+        case UndoCommand.COMMAND_WORD:
+            return new UndoCommand();
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
         case FindStudentCommand.COMMAND_WORD:
             return new FindStudentCommandParser().parse(arguments);
 
+        case QueryStudentCommand.COMMAND_WORD:
+            return new QueryStudentCommandParser().parse(arguments);
+
         case ListCommand.COMMAND_WORD:
             return new ListCommand();
 
@@ -92,6 +130,27 @@ public class AddressBookParser {
         case GetMonthlyFeeCommand.COMMAND_WORD:
             return new GetMonthlyFeeCommandParser().parse(arguments);
 
+        case ReportCommand.COMMAND_WORD:
+            return new ReportCommandParser().parse(arguments);
+
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommand(commandStatistics);
+
+        case ImportJsonCommand.COMMAND_WORD:
+            return new ImportJsonCommandParser().parse(arguments);
+
+        case ImportCsvCommand.COMMAND_WORD:
+            return new ImportCsvCommandParser().parse(arguments);
+
+        case ExportJsonCommand.COMMAND_WORD:
+            return new ExportJsonCommandParser().parse(arguments);
+
+        case ExportScheduleCommand.COMMAND_WORD:
+            return new ExportScheduleCommandParser().parse(arguments);
+
+        case RunScriptCommand.COMMAND_WORD:
+            return new RunScriptCommandParser(this).parse(arguments);
+
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
@@ -30,4 +30,11 @@ public class CliSyntax {
     /* Prefix definitions for monthly fees */
     public static final Prefix PREFIX_MONTH = new Prefix("m/");
     public static final Prefix PREFIX_YEAR = new Prefix("y/");
+
+    /* Prefix definitions for revenue reports */
+    public static final Prefix PREFIX_GROUP = new Prefix("by/");
+    public static final Prefix PREFIX_OUTPUT = new Prefix("o/");
+
+    /* Prefix definitions for finding students */
+    public static final Prefix PREFIX_FUZZY = new Prefix("fuzzy/");
 }
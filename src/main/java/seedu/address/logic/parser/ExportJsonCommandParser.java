@@ -0,0 +1,27 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.ExportJsonCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ExportJsonCommand object
+ */
+public class ExportJsonCommandParser implements Parser<ExportJsonCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportJsonCommand
+     * and returns a ExportJsonCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportJsonCommand parse(String args) throws ParseException {
+        try {
+            return new ExportJsonCommand(ParserUtil.parseFilePath(args));
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportJsonCommand.MESSAGE_USAGE), pe);
+        }
+    }
+
+}
@@ -0,0 +1,58 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_OUTPUT;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+import seedu.address.logic.commands.ExportScheduleCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.session.ScheduleExport;
+
+/**
+ * Parses input arguments and creates a new ExportScheduleCommand object
+ */
+public class ExportScheduleCommandParser implements Parser<ExportScheduleCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportScheduleCommand
+     * and returns an ExportScheduleCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportScheduleCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_DATE, PREFIX_END_DATE, PREFIX_OUTPUT);
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_DATE, PREFIX_END_DATE, PREFIX_OUTPUT)
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    ExportScheduleCommand.MESSAGE_USAGE));
+        }
+
+        LocalDate startDate = ParserUtil.parseDate(argMultimap.getValue(PREFIX_DATE).get());
+        LocalDate endDate = ParserUtil.parseDate(argMultimap.getValue(PREFIX_END_DATE).get());
+        if (endDate.isBefore(startDate)) {
+            throw new ParseException(ScheduleExport.MESSAGE_CONSTRAINTS);
+        }
+
+        Path filePath = ParserUtil.parseFilePath(argMultimap.getValue(PREFIX_OUTPUT).get());
+        if (ScheduleExport.Format.ofFilePath(filePath).isEmpty()) {
+            throw new ParseException(ScheduleExport.Format.MESSAGE_CONSTRAINTS);
+        }
+
+        return new ExportScheduleCommand(startDate, endDate, filePath);
+    }
+
+    /**
+     * Returns true if none of the prefixes contains empty {@code Optional} values in the given
+     * {@code ArgumentMultimap}.
+     */
+    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+
+}
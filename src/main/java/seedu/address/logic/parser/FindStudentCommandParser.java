@@ -1,8 +1,10 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FUZZY;
 
 import java.util.Arrays;
+import java.util.Optional;
 
 import seedu.address.logic.commands.FindStudentCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -19,7 +21,14 @@ public class FindStudentCommandParser implements Parser<FindStudentCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindStudentCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FUZZY);
+        Optional<String> fuzzyKeywords = argMultimap.getValue(PREFIX_FUZZY);
+        if (fuzzyKeywords.isPresent() && !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindStudentCommand.MESSAGE_USAGE));
+        }
+
+        String trimmedArgs = fuzzyKeywords.orElse(args).trim();
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindStudentCommand.MESSAGE_USAGE));
@@ -27,7 +36,8 @@ public class FindStudentCommandParser implements Parser<FindStudentCommand> {
 
         String[] nameKeywords = trimmedArgs.split("\\s+");
 
-        return new FindStudentCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        return new FindStudentCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)),
+                fuzzyKeywords.isPresent());
     }
 
 }
@@ -0,0 +1,27 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.ImportCsvCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ImportCsvCommand object
+ */
+public class ImportCsvCommandParser implements Parser<ImportCsvCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportCsvCommand
+     * and returns a ImportCsvCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ImportCsvCommand parse(String args) throws ParseException {
+        try {
+            return new ImportCsvCommand(ParserUtil.parseFilePath(args));
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCsvCommand.MESSAGE_USAGE), pe);
+        }
+    }
+
+}
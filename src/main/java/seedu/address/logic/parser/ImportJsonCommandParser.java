@@ -0,0 +1,27 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.ImportJsonCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ImportJsonCommand object
+ */
+public class ImportJsonCommandParser implements Parser<ImportJsonCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportJsonCommand
+     * and returns a ImportJsonCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ImportJsonCommand parse(String args) throws ParseException {
+        try {
+            return new ImportJsonCommand(ParserUtil.parseFilePath(args));
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportJsonCommand.MESSAGE_USAGE), pe);
+        }
+    }
+
+}
@@ -3,10 +3,17 @@ package seedu.address.logic.parser;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.fee.Month;
+import seedu.address.model.fee.ReportGrouping;
 import seedu.address.model.fee.Year;
 import seedu.address.model.session.Duration;
 import seedu.address.model.session.Fee;
@@ -24,6 +31,7 @@ import seedu.address.model.student.Phone;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_FILE_PATH = "File path should not be empty and must be valid.";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -143,6 +151,21 @@ public class ParserUtil {
         return trimmedRelationship;
     }
 
+    /**
+     * Parses {@code String filePath} into a {@code Path}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code filePath} is invalid.
+     */
+    public static Path parseFilePath(String filePath) throws ParseException {
+        requireNonNull(filePath);
+        String trimmedFilePath = filePath.trim();
+        if (trimmedFilePath.isEmpty() || !FileUtil.isValidPath(trimmedFilePath)) {
+            throw new ParseException(MESSAGE_INVALID_FILE_PATH);
+        }
+        return Paths.get(trimmedFilePath);
+    }
+
     /**
      * Parses {@code String date, String time} into a {@code SessionDate}.
      * Leading and trailing whitespaces will be trimmed.
@@ -160,6 +183,37 @@ public class ParserUtil {
         return new SessionDate(trimmedDate, trimmedTime);
     }
 
+    /**
+     * Parses {@code String date} into a {@code LocalDate}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code date} is invalid.
+     */
+    public static LocalDate parseDate(String date) throws ParseException {
+        requireNonNull(date);
+        String trimmedDate = date.trim();
+        if (!SessionDate.isValidSessionDate(trimmedDate, LocalTime.MIDNIGHT.toString())) {
+            throw new ParseException(SessionDate.MESSAGE_CONSTRAINTS);
+        }
+
+        return LocalDate.parse(trimmedDate);
+    }
+
+    /**
+     * Parses {@code String grouping} into a {@code ReportGrouping}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code grouping} is invalid.
+     */
+    public static ReportGrouping parseReportGrouping(String grouping) throws ParseException {
+        requireNonNull(grouping);
+        String trimmedGrouping = grouping.trim();
+        if (!ReportGrouping.isValidGrouping(trimmedGrouping)) {
+            throw new ParseException(ReportGrouping.MESSAGE_CONSTRAINTS);
+        }
+        return ReportGrouping.fromName(trimmedGrouping);
+    }
+
     /**
      * Parses {@code String month} into a {@code Month month}.
      * Leading and trailing whitespaces will be trimmed.
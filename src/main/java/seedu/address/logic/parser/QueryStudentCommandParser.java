@@ -0,0 +1,88 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FEE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RELATIONSHIP;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STUDY_LEVEL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECT;
+
+import java.time.LocalDate;
+
+import seedu.address.logic.commands.QueryStudentCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.session.Fee;
+import seedu.address.model.student.StudentQuery;
+
+/**
+ * Parses input arguments and creates a new QueryStudentCommand object
+ */
+public class QueryStudentCommandParser implements Parser<QueryStudentCommand> {
+
+    public static final String MESSAGE_INVALID_FEE_RANGE = "Fee range should be in the format MIN_FEE-MAX_FEE, "
+            + "e.g. 30-50.5";
+
+    private static final String FEE_RANGE_SEPARATOR = "-";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the QueryStudentCommand
+     * and returns a QueryStudentCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public QueryStudentCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_STUDY_LEVEL, PREFIX_RELATIONSHIP,
+                PREFIX_SUBJECT, PREFIX_FEE, PREFIX_DATE, PREFIX_END_DATE);
+
+        if (!argMultimap.getPreamble().isEmpty()
+                || argMultimap.getValue(PREFIX_DATE).isPresent() != argMultimap.getValue(PREFIX_END_DATE).isPresent()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryStudentCommand.MESSAGE_USAGE));
+        }
+
+        StudentQuery query = new StudentQuery();
+        if (argMultimap.getValue(PREFIX_STUDY_LEVEL).isPresent()) {
+            query.setStudyLevel(ParserUtil.parseStudyLevel(argMultimap.getValue(PREFIX_STUDY_LEVEL).get()));
+        }
+        if (argMultimap.getValue(PREFIX_RELATIONSHIP).isPresent()) {
+            query.setRelationship(ParserUtil.parseRelationship(argMultimap.getValue(PREFIX_RELATIONSHIP).get()));
+        }
+        if (argMultimap.getValue(PREFIX_SUBJECT).isPresent()) {
+            query.setSubject(ParserUtil.parseSubject(argMultimap.getValue(PREFIX_SUBJECT).get()));
+        }
+        if (argMultimap.getValue(PREFIX_FEE).isPresent()) {
+            setFeeRange(query, argMultimap.getValue(PREFIX_FEE).get());
+        }
+        if (argMultimap.getValue(PREFIX_DATE).isPresent()) {
+            LocalDate startDate = ParserUtil.parseDate(argMultimap.getValue(PREFIX_DATE).get());
+            LocalDate endDate = ParserUtil.parseDate(argMultimap.getValue(PREFIX_END_DATE).get());
+            if (endDate.isBefore(startDate)) {
+                throw new ParseException(StudentQuery.MESSAGE_END_DATE_BEFORE_START_DATE);
+            }
+            query.setDateRange(startDate, endDate);
+        }
+
+        if (!query.isAnyFieldSet()) {
+            throw new ParseException(QueryStudentCommand.MESSAGE_NO_FIELDS);
+        }
+
+        return new QueryStudentCommand(query);
+    }
+
+    /**
+     * Parses {@code feeRange} of the format MIN_FEE-MAX_FEE into the fee range of {@code query}.
+     */
+    private static void setFeeRange(StudentQuery query, String feeRange) throws ParseException {
+        String[] fees = feeRange.split(FEE_RANGE_SEPARATOR, -1);
+        if (fees.length != 2) {
+            throw new ParseException(MESSAGE_INVALID_FEE_RANGE);
+        }
+
+        Fee minFee = ParserUtil.parseFee(fees[0]);
+        Fee maxFee = ParserUtil.parseFee(fees[1]);
+        if (minFee.getFee() > maxFee.getFee()) {
+            throw new ParseException(StudentQuery.MESSAGE_MIN_FEE_ABOVE_MAX_FEE);
+        }
+        query.setFeeRange(minFee, maxFee);
+    }
+}
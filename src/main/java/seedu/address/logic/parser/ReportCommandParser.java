@@ -0,0 +1,65 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_OUTPUT;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import seedu.address.logic.commands.ReportCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.fee.ReportGrouping;
+import seedu.address.model.fee.RevenueReport;
+
+/**
+ * Parses input arguments and creates a new ReportCommand object
+ */
+public class ReportCommandParser implements Parser<ReportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ReportCommand
+     * and returns a ReportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ReportCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_DATE, PREFIX_END_DATE, PREFIX_GROUP, PREFIX_OUTPUT);
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_DATE, PREFIX_END_DATE)
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ReportCommand.MESSAGE_USAGE));
+        }
+
+        LocalDate startDate = ParserUtil.parseDate(argMultimap.getValue(PREFIX_DATE).get());
+        LocalDate endDate = ParserUtil.parseDate(argMultimap.getValue(PREFIX_END_DATE).get());
+        if (endDate.isBefore(startDate)) {
+            throw new ParseException(RevenueReport.MESSAGE_CONSTRAINTS);
+        }
+
+        ReportGrouping grouping = ReportGrouping.MONTH;
+        if (argMultimap.getValue(PREFIX_GROUP).isPresent()) {
+            grouping = ParserUtil.parseReportGrouping(argMultimap.getValue(PREFIX_GROUP).get());
+        }
+
+        Optional<Path> outputFilePath = Optional.empty();
+        if (argMultimap.getValue(PREFIX_OUTPUT).isPresent()) {
+            outputFilePath = Optional.of(ParserUtil.parseFilePath(argMultimap.getValue(PREFIX_OUTPUT).get()));
+        }
+
+        return new ReportCommand(startDate, endDate, grouping, outputFilePath);
+    }
+
+    /**
+     * Returns true if none of the prefixes contains empty {@code Optional} values in the given
+     * {@code ArgumentMultimap}.
+     */
+    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+
+}
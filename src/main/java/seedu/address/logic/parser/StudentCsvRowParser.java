@@ -0,0 +1,138 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.session.RecurringSession.isValidEnd;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.session.Duration;
+import seedu.address.model.session.Fee;
+import seedu.address.model.session.Interval;
+import seedu.address.model.session.RecurringSession;
+import seedu.address.model.session.Session;
+import seedu.address.model.session.SessionDate;
+import seedu.address.model.session.Subject;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Student;
+
+/**
+ * Parses a row of comma-separated values into a student and, optionally, one of its sessions.
+ *
+ * Every row has the values in {@link #HEADER}. The session values are either all empty, for a student without a
+ * session, or all given. The last date and interval are given only for a recurring session. Values are validated
+ * the same way as in commands, so a row fails with the same message as the command that adds it would.
+ */
+public class StudentCsvRowParser {
+
+    public static final List<String> HEADER = Collections.unmodifiableList(Arrays.asList("name", "phone", "email",
+            "address", "study_level", "guardian_phone", "relationship", "date", "time", "duration", "subject", "fee",
+            "last_date", "interval"));
+
+    public static final String MESSAGE_WRONG_NUMBER_OF_VALUES = "Row should have %1$d values but has %2$d.";
+    public static final String MESSAGE_INCOMPLETE_SESSION = "Session values date, time, duration, subject and fee "
+            + "should either all be given or all be empty.";
+    public static final String MESSAGE_INCOMPLETE_RECURRENCE = "Recurring session values last_date and interval "
+            + "should either both be given or both be empty.";
+
+    private static final int NUM_OF_STUDENT_VALUES = 7;
+    private static final int NUM_OF_SESSION_VALUES = 5;
+
+    /**
+     * Parses {@code values}, which are in the order of {@link #HEADER}.
+     *
+     * @throws ParseException if the values do not form a valid student and session.
+     */
+    public static StudentRow parse(List<String> values) throws ParseException {
+        requireNonNull(values);
+        if (values.size() != HEADER.size()) {
+            throw new ParseException(String.format(MESSAGE_WRONG_NUMBER_OF_VALUES, HEADER.size(), values.size()));
+        }
+
+        Student student = new Student(ParserUtil.parseName(values.get(0)), ParserUtil.parsePhone(values.get(1)),
+                ParserUtil.parseEmail(values.get(2)), ParserUtil.parseAddress(values.get(3)),
+                ParserUtil.parseStudyLevel(values.get(4)), ParserUtil.parseGuardianPhone(values.get(5)),
+                ParserUtil.parseRelationship(values.get(6)));
+
+        List<String> sessionValues = values.subList(NUM_OF_STUDENT_VALUES, NUM_OF_STUDENT_VALUES
+                + NUM_OF_SESSION_VALUES);
+        List<String> recurrenceValues = values.subList(NUM_OF_STUDENT_VALUES + NUM_OF_SESSION_VALUES, values.size());
+        if (areAllBlank(sessionValues) && areAllBlank(recurrenceValues)) {
+            return new StudentRow(student, null);
+        }
+        if (isAnyBlank(sessionValues)) {
+            throw new ParseException(MESSAGE_INCOMPLETE_SESSION);
+        }
+        if (!areAllBlank(recurrenceValues) && isAnyBlank(recurrenceValues)) {
+            throw new ParseException(MESSAGE_INCOMPLETE_RECURRENCE);
+        }
+
+        return new StudentRow(student, parseSession(sessionValues, recurrenceValues));
+    }
+
+    private static Session parseSession(List<String> sessionValues, List<String> recurrenceValues)
+            throws ParseException {
+        SessionDate sessionDate = ParserUtil.parseDateTime(sessionValues.get(0), sessionValues.get(1));
+        Duration duration = ParserUtil.parseDuration(sessionValues.get(2));
+        Subject subject = ParserUtil.parseSubject(sessionValues.get(3));
+        Fee fee = ParserUtil.parseFee(sessionValues.get(4));
+        if (!Session.isPossibleEndTime(sessionDate, duration)) {
+            throw new ParseException(Session.MESSAGE_CONSTRAINTS);
+        }
+        if (areAllBlank(recurrenceValues)) {
+            return new Session(sessionDate, duration, subject, fee);
+        }
+
+        SessionDate lastDateTime = ParserUtil.parseDateTime(recurrenceValues.get(0), sessionValues.get(1));
+        Interval interval = ParserUtil.parseInterval(recurrenceValues.get(1));
+        if (lastDateTime.getDate().isBefore(sessionDate.getDate())) {
+            throw new ParseException(AddRecurringSessionCommandParser.MESSAGE_LAST_BEFORE_START);
+        }
+        if (!isValidEnd(sessionDate, lastDateTime, interval)) {
+            throw new ParseException(RecurringSession.MESSAGE_CONSTRAINTS);
+        }
+        if (sessionDate.equals(lastDateTime)) {
+            throw new ParseException(AddRecurringSessionCommandParser.MESSAGE_UNUSED_RECURRENCE);
+        }
+        return new RecurringSession(sessionDate, duration, subject, fee, interval, lastDateTime);
+    }
+
+    private static boolean areAllBlank(List<String> values) {
+        return values.stream().allMatch(value -> value.trim().isEmpty());
+    }
+
+    private static boolean isAnyBlank(List<String> values) {
+        return values.stream().anyMatch(value -> value.trim().isEmpty());
+    }
+
+    /**
+     * A student and, optionally, one of its sessions, parsed from a row.
+     */
+    public static class StudentRow {
+        private final Student student;
+        private final Session session;
+
+        private StudentRow(Student student, Session session) {
+            this.student = student;
+            this.session = session;
+        }
+
+        /**
+         * Returns the student, without any sessions.
+         */
+        public Student getStudent() {
+            return student;
+        }
+
+        public Name getName() {
+            return student.getName();
+        }
+
+        public Optional<Session> getSession() {
+            return Optional.ofNullable(session);
+        }
+    }
+}
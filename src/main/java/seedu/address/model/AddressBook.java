@@ -3,7 +3,12 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.index.Index;
@@ -12,7 +17,9 @@ import seedu.address.model.session.Session;
 import seedu.address.model.session.SessionDate;
 import seedu.address.model.student.Name;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentQuery;
 import seedu.address.model.student.UniqueStudentList;
+import seedu.address.model.tuition.Tuition;
 
 
 /**
@@ -80,6 +87,22 @@ public class AddressBook implements ReadOnlyAddressBook {
         students.add(p);
     }
 
+    /**
+     * Adds a student to the address book at {@code position} in its list of students.
+     * The student must not already exist in the address book.
+     */
+    public void addStudent(int position, Student student) {
+        students.add(position, student);
+    }
+
+    /**
+     * Adds {@code students} to the address book, in order.
+     * The students must not already exist in the address book, and must not contain duplicate students.
+     */
+    public void addStudents(List<Student> students) {
+        this.students.addAll(students);
+    }
+
     /**
      * Replaces the given student {@code target} in the list with {@code editedStudent}.
      * {@code target} must exist in the address book.
@@ -132,6 +155,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         students.deleteSessionInRecurringSession(student, sessionIndex, sessionDate);
     }
 
+    /**
+     * Returns the position of {@code student} in the list of students, or -1 if it is not in the address book.
+     */
+    public int indexOf(Student student) {
+        requireNonNull(student);
+        return students.indexOf(student);
+    }
+
     /**
      * Returns student with {@code name}.
      * The student with the exact name must already exist in the address book.
@@ -148,6 +179,41 @@ public class AddressBook implements ReadOnlyAddressBook {
         return students.hasName(name);
     }
 
+    /**
+     * Returns the number of changes made to the students so far.
+     *
+     * @see UniqueStudentList#getVersion()
+     */
+    public long getVersion() {
+        return students.getVersion();
+    }
+
+    /**
+     * Returns the names of the students with a word in their name that starts with any of {@code prefixes},
+     * ignoring case.
+     */
+    public Set<Name> getNamesWithPrefixes(Collection<String> prefixes) {
+        requireNonNull(prefixes);
+        return students.getNamesWithPrefixes(prefixes);
+    }
+
+    /**
+     * Returns the names of the students with a name, email, phone or address similar to any of {@code keywords},
+     * each with its similarity to the keywords from 0 to 1.
+     */
+    public Map<Name, Double> getSimilarities(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return students.getSimilarities(keywords);
+    }
+
+    /**
+     * Returns the names of the students that match {@code query}, which must have at least one field set.
+     */
+    public Set<Name> getNamesMatching(StudentQuery query) {
+        requireNonNull(query);
+        return students.getNamesMatching(query);
+    }
+
     /**
      * Returns true if session {@code Session} exists in any of the students in the unique student list
      */
@@ -171,6 +237,49 @@ public class AddressBook implements ReadOnlyAddressBook {
         return students.hasOverlappingSession(recurringSession);
     }
 
+    /**
+     * Returns the tuitions of all students taking place on {@code date}, ordered by their start time.
+     */
+    public List<Tuition> getTuitionsOnDate(LocalDate date) {
+        return students.getTuitionsOnDate(date);
+    }
+
+    /**
+     * Prepares the tuitions of all students from {@code startDate} to {@code endDate}, both inclusive, to be looked
+     * up by {@link #getTuitionsOnDate(LocalDate)}.
+     */
+    public void setTuitionWindow(LocalDate startDate, LocalDate endDate) {
+        students.setTuitionWindow(startDate, endDate);
+    }
+
+    /**
+     * Returns the total fee of all students in {@code month}.
+     */
+    public double getMonthlyFee(YearMonth month) {
+        return students.getMonthlyFee(month);
+    }
+
+    /**
+     * Returns the fee of the student with {@code name} in {@code month}.
+     */
+    public double getMonthlyFee(Name name, YearMonth month) {
+        return students.getMonthlyFee(name, month);
+    }
+
+    /**
+     * Returns the total fee of all students from {@code inclusiveStart} to {@code exclusiveEnd}.
+     */
+    public double getFee(YearMonth inclusiveStart, YearMonth exclusiveEnd) {
+        return students.getFee(inclusiveStart, exclusiveEnd);
+    }
+
+    /**
+     * Registers {@code listener} to be notified of every change made to the students or their sessions.
+     */
+    public void addChangeListener(ModelChangeListener listener) {
+        students.addChangeListener(listener);
+    }
+
     // util methods
 
     @Override
@@ -0,0 +1,184 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import seedu.address.model.student.Student;
+
+/**
+ * The changes made to an {@code AddressBook}, which can be undone and redone.
+ *
+ * Instead of a copy of the whole address book for each version, each change is kept as the students it replaced and
+ * the students it replaced them with, so recording a change takes time and memory in proportion to the students it
+ * touched rather than to the number of students in the address book. Changes are recorded as they are made, and
+ * grouped into a single version by {@link #commit()}.
+ *
+ * Students and their sessions are never changed in place, so the students themselves are recorded, and put back in
+ * the address book as they are when a change is undone or redone.
+ */
+public class AddressBookHistory {
+
+    /** Only this many versions can be undone, so that a long session does not hold on to every change. */
+    public static final int MAX_NUM_OF_VERSIONS = 100;
+
+    private final List<Change> uncommittedChanges = new ArrayList<>();
+    private final Deque<List<Change>> undoableVersions = new ArrayDeque<>();
+    private final Deque<List<Change>> redoableVersions = new ArrayDeque<>();
+
+    /**
+     * Records that {@code before}, at {@code position} in the list of students, was replaced by {@code after}.
+     * {@code before} is null if {@code after} was added, and {@code after} is null if {@code before} was removed.
+     */
+    public void recordStudentChange(Student before, Student after, int position) {
+        assert before != null || after != null : "A change should have a student before or after it";
+        uncommittedChanges.add(new StudentChange(before, after, position));
+    }
+
+    /**
+     * Records that the students {@code before} were all replaced by the students {@code after}.
+     * Neither list should be changed afterwards.
+     */
+    public void recordReset(List<Student> before, List<Student> after) {
+        requireNonNull(before);
+        requireNonNull(after);
+        uncommittedChanges.add(new ResetChange(before, after));
+    }
+
+    /**
+     * Groups the changes recorded since the last commit into a version that can be undone, and discards the
+     * versions that could be redone. Does nothing if no change has been recorded since the last commit.
+     *
+     * @return true if a version was committed.
+     */
+    public boolean commit() {
+        if (uncommittedChanges.isEmpty()) {
+            return false;
+        }
+        undoableVersions.push(new ArrayList<>(uncommittedChanges));
+        uncommittedChanges.clear();
+        redoableVersions.clear();
+        if (undoableVersions.size() > MAX_NUM_OF_VERSIONS) {
+            undoableVersions.removeLast();
+        }
+        return true;
+    }
+
+    public boolean canUndo() {
+        return !undoableVersions.isEmpty();
+    }
+
+    public boolean canRedo() {
+        return !redoableVersions.isEmpty();
+    }
+
+    /**
+     * Reverts the changes of the last committed version in {@code addressBook}, which must not have changed since
+     * the version was committed.
+     */
+    public void undo(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (!canUndo()) {
+            throw new IllegalStateException("There is no version to undo");
+        }
+        List<Change> version = undoableVersions.pop();
+        for (int i = version.size() - 1; i >= 0; i--) {
+            version.get(i).revert(addressBook);
+        }
+        redoableVersions.push(version);
+    }
+
+    /**
+     * Applies the changes of the last undone version to {@code addressBook} again.
+     */
+    public void redo(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (!canRedo()) {
+            throw new IllegalStateException("There is no version to redo");
+        }
+        List<Change> version = redoableVersions.pop();
+        for (Change change : version) {
+            change.apply(addressBook);
+        }
+        undoableVersions.push(version);
+    }
+
+    /**
+     * Forgets every change, so that none of them can be undone.
+     */
+    public void clear() {
+        uncommittedChanges.clear();
+        undoableVersions.clear();
+        redoableVersions.clear();
+    }
+
+    /**
+     * A change to an address book that can be applied again after it is reverted.
+     */
+    private interface Change {
+        void apply(AddressBook addressBook);
+
+        void revert(AddressBook addressBook);
+    }
+
+    /**
+     * A student that was added, removed or replaced.
+     */
+    private static class StudentChange implements Change {
+        private final Student before;
+        private final Student after;
+        private final int position;
+
+        StudentChange(Student before, Student after, int position) {
+            this.before = before;
+            this.after = after;
+            this.position = position;
+        }
+
+        @Override
+        public void apply(AddressBook addressBook) {
+            replace(addressBook, before, after, position);
+        }
+
+        @Override
+        public void revert(AddressBook addressBook) {
+            replace(addressBook, after, before, position);
+        }
+
+        private static void replace(AddressBook addressBook, Student from, Student to, int position) {
+            if (from == null) {
+                addressBook.addStudent(position, to);
+            } else if (to == null) {
+                addressBook.removeStudent(addressBook.getStudentWithName(from.getName()));
+            } else {
+                addressBook.setStudent(addressBook.getStudentWithName(from.getName()), to);
+            }
+        }
+    }
+
+    /**
+     * All students that were replaced at once.
+     */
+    private static class ResetChange implements Change {
+        private final List<Student> before;
+        private final List<Student> after;
+
+        ResetChange(List<Student> before, List<Student> after) {
+            this.before = before;
+            this.after = after;
+        }
+
+        @Override
+        public void apply(AddressBook addressBook) {
+            addressBook.setStudents(after);
+        }
+
+        @Override
+        public void revert(AddressBook addressBook) {
+            addressBook.setStudents(before);
+        }
+    }
+}
@@ -1,17 +1,27 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.index.Index;
+import seedu.address.model.fee.FeePeriod;
 import seedu.address.model.session.RecurringSession;
 import seedu.address.model.session.Session;
 import seedu.address.model.session.SessionDate;
 import seedu.address.model.student.Name;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentQuery;
+import seedu.address.model.tuition.Tuition;
 
 /**
  * The API of the Model component.
@@ -75,6 +85,17 @@ public interface Model {
      */
     void addStudent(Student student);
 
+    /**
+     * Adds the given students, in order.
+     * The students must not already exist in the address book, and must not contain duplicate students.
+     */
+    void addStudents(List<Student> students);
+
+    /**
+     * Replaces all students with {@code students}, which must not contain duplicate students.
+     */
+    void setStudents(List<Student> students);
+
     /**
      * Replaces the given student {@code target} with {@code editedStudent}.
      * {@code target} must exist in the address book.
@@ -105,11 +126,67 @@ public interface Model {
      */
     void deleteSessionInRecurringSession(Name name, Index sessionIndex, SessionDate sessionDate);
 
+    /**
+     * Saves the changes to the address book since the last commit as a version that can be undone.
+     * Does nothing if the address book has not changed since the last commit.
+     */
+    void commitAddressBook();
+
+    /**
+     * Returns true if there is a committed version of the address book to undo.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if there is an undone version of the address book to redo.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Restores the address book to before the last committed version.
+     * There must be a version to undo.
+     */
+    void undoAddressBook();
+
+    /**
+     * Restores the address book to the last undone version.
+     * There must be a version to redo.
+     */
+    void redoAddressBook();
+
+    /**
+     * Forgets the versions of the address book, so that the current address book cannot be undone.
+     */
+    void clearAddressBookHistory();
+
     /**
      * Returns true if a student with this name exists in the unique student list
      */
     boolean hasName(Name name);
 
+    /**
+     * Returns the number of changes made to the students of the address book so far.
+     * The results of the lookups below still hold for every student while it is unchanged.
+     */
+    long getAddressBookVersion();
+
+    /**
+     * Returns the names of the students with a word in their name that starts with any of {@code prefixes},
+     * ignoring case.
+     */
+    Set<Name> getNamesWithPrefixes(Collection<String> prefixes);
+
+    /**
+     * Returns the names of the students with a name, email, phone or address similar to any of {@code keywords},
+     * each with its similarity to the keywords from 0 to 1.
+     */
+    Map<Name, Double> getSimilarities(Collection<String> keywords);
+
+    /**
+     * Returns the names of the students that match {@code query}, which must have at least one field set.
+     */
+    Set<Name> getNamesMatching(StudentQuery query);
+
     /**
      * Returns true if {@code session} exists in any of the students in the unique student list
      */
@@ -126,6 +203,25 @@ public interface Model {
      */
     boolean hasOverlappingSession(RecurringSession recurringSession);
 
+    /**
+     * Returns the tuitions of all students in the address book taking place on {@code date},
+     * ordered by their start time.
+     */
+    List<Tuition> getTuitionsOnDate(LocalDate date);
+
+    /**
+     * Prepares the tuitions from {@code startDate} to {@code endDate}, both inclusive, to be looked up by
+     * {@link #getTuitionsOnDate(LocalDate)}. Dates outside of the latest ranges prepared can still be looked up,
+     * but more slowly.
+     */
+    void setTuitionWindow(LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Registers {@code listener} to be notified of every change made to the students in the address book
+     * or to their sessions.
+     */
+    void addModelChangeListener(ModelChangeListener listener);
+
     /** Returns an unmodifiable view of the filtered student list */
     ObservableList<Student> getFilteredStudentList();
 
@@ -135,6 +231,13 @@ public interface Model {
      */
     void updateFilteredStudentList(Predicate<Student> predicate);
 
+    /**
+     * Updates the filter of the filtered student list to filter by the given {@code predicate}, and orders the
+     * students by {@code comparator} instead of their order in the address book.
+     * @throws NullPointerException if {@code predicate} or {@code comparator} is null.
+     */
+    void updateFilteredStudentList(Predicate<Student> predicate, Comparator<Student> comparator);
+
     /**
      * Get the predicate of the current filtered student list.
      * @return The predicate of the current filtered student list.
@@ -148,4 +251,19 @@ public interface Model {
      * @return Total fee between the 2 time period
      */
     double getFee(LocalDateTime startPeriod, LocalDateTime endPeriod);
+
+    /**
+     * Gets the total fee of all students in each of {@code periods}, in the same order as {@code periods}.
+     */
+    double[] getFees(List<FeePeriod> periods);
+
+    /**
+     * Returns the total fee of all students in the address book in {@code month}.
+     */
+    double getMonthlyFee(YearMonth month);
+
+    /**
+     * Returns the fee of the student with {@code name} in {@code month}.
+     */
+    double getMonthlyFee(Name name, YearMonth month);
 }
@@ -0,0 +1,110 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import seedu.address.model.session.Session;
+import seedu.address.model.student.Student;
+
+/**
+ * Describes a single change made to the students in the address book or to their sessions.
+ * Adding or removing a student is reported as a student change followed by a session change for each of its sessions,
+ * so that listeners interested only in sessions can ignore student changes.
+ */
+public class ModelChange {
+
+    /**
+     * Kinds of changes that can be made.
+     */
+    public enum Type {
+        STUDENT_ADDED,
+        STUDENT_REMOVED,
+        SESSION_ADDED,
+        SESSION_REMOVED,
+        /** All students were replaced, listeners should rebuild their state. */
+        RESET
+    }
+
+    private static final ModelChange RESET_CHANGE = new ModelChange(Type.RESET, null, null);
+
+    private final Type type;
+    private final Student student;
+    private final Session session;
+
+    private ModelChange(Type type, Student student, Session session) {
+        this.type = type;
+        this.student = student;
+        this.session = session;
+    }
+
+    public static ModelChange studentAdded(Student student) {
+        requireNonNull(student);
+        return new ModelChange(Type.STUDENT_ADDED, student, null);
+    }
+
+    public static ModelChange studentRemoved(Student student) {
+        requireNonNull(student);
+        return new ModelChange(Type.STUDENT_REMOVED, student, null);
+    }
+
+    /**
+     * Returns a change describing {@code session} being added to {@code student}.
+     */
+    public static ModelChange sessionAdded(Student student, Session session) {
+        requireAllNonNull(student, session);
+        return new ModelChange(Type.SESSION_ADDED, student, session);
+    }
+
+    /**
+     * Returns a change describing {@code session} being removed from {@code student}.
+     */
+    public static ModelChange sessionRemoved(Student student, Session session) {
+        requireAllNonNull(student, session);
+        return new ModelChange(Type.SESSION_REMOVED, student, session);
+    }
+
+    public static ModelChange reset() {
+        return RESET_CHANGE;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the affected student, which is empty only for {@code RESET}.
+     */
+    public Optional<Student> getStudent() {
+        return Optional.ofNullable(student);
+    }
+
+    /**
+     * Returns the affected session, which is present only for session changes.
+     */
+    public Optional<Session> getSession() {
+        return Optional.ofNullable(session);
+    }
+
+    /**
+     * Returns true if this change removes a student or session, which shifts the indexes of those after it.
+     */
+    public boolean isRemoval() {
+        return type == Type.STUDENT_REMOVED || type == Type.SESSION_REMOVED;
+    }
+
+    /**
+     * Returns true if this change adds or removes a session taking place on a date from {@code inclusiveStart}
+     * to {@code inclusiveEnd}.
+     */
+    public boolean hasSessionBetween(LocalDate inclusiveStart, LocalDate inclusiveEnd) {
+        return session != null && session.hasSessionBetween(inclusiveStart, inclusiveEnd);
+    }
+
+    @Override
+    public String toString() {
+        return type + (student == null ? "" : " " + student.getName()) + (session == null ? "" : " " + session);
+    }
+}
@@ -0,0 +1,13 @@
+package seedu.address.model;
+
+/**
+ * Listens for changes made to the students in the address book and to their sessions.
+ */
+@FunctionalInterface
+public interface ModelChangeListener {
+
+    /**
+     * Called after {@code change} has been made.
+     */
+    void onModelChange(ModelChange change);
+}
@@ -4,21 +4,32 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
-import seedu.address.commons.util.FeeUtil;
+import seedu.address.model.fee.FeeAggregator;
+import seedu.address.model.fee.FeePeriod;
 import seedu.address.model.session.RecurringSession;
 import seedu.address.model.session.Session;
 import seedu.address.model.session.SessionDate;
 import seedu.address.model.student.Name;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentQuery;
+import seedu.address.model.tuition.Tuition;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -29,6 +40,9 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Student> filteredStudents;
+    private final SortedList<Student> sortedStudents;
+    private final FeeAggregator feeAggregator = new FeeAggregator();
+    private final AddressBookHistory history = new AddressBookHistory();
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -42,6 +56,7 @@ public class ModelManager implements Model {
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredStudents = new FilteredList<>(this.addressBook.getStudentList());
+        sortedStudents = new SortedList<>(filteredStudents);
     }
 
     public ModelManager() {
@@ -87,7 +102,9 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        List<Student> before = List.copyOf(this.addressBook.getStudentList());
         this.addressBook.resetData(addressBook);
+        history.recordReset(before, List.copyOf(this.addressBook.getStudentList()));
     }
 
     @Override
@@ -108,37 +125,105 @@ public class ModelManager implements Model {
 
     @Override
     public void deleteStudent(Student target) {
+        int position = addressBook.indexOf(target);
+        Student before = addressBook.getStudentWithName(target.getName());
         addressBook.removeStudent(target);
+        history.recordStudentChange(before, null, position);
     }
 
     @Override
     public void addStudent(Student student) {
         addressBook.addStudent(student);
+        history.recordStudentChange(null, student, addressBook.indexOf(student));
+        updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+    }
+
+    @Override
+    public void addStudents(List<Student> students) {
+        int position = addressBook.getStudentList().size();
+        addressBook.addStudents(students);
+        for (Student student : students) {
+            history.recordStudentChange(null, student, position++);
+        }
+        updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+    }
+
+    @Override
+    public void setStudents(List<Student> students) {
+        List<Student> before = List.copyOf(addressBook.getStudentList());
+        addressBook.setStudents(students);
+        history.recordReset(before, List.copyOf(students));
         updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
     }
 
     @Override
     public void setStudent(Student target, Student editedStudent) {
         requireAllNonNull(target, editedStudent);
+        Student before = addressBook.getStudentWithName(target.getName());
         addressBook.setStudent(target, editedStudent);
+        history.recordStudentChange(before, editedStudent, addressBook.indexOf(editedStudent));
     }
 
     @Override
     public void addSession(Name name, Session session) {
         requireAllNonNull(session, name);
+        Student before = addressBook.getStudentWithName(name);
         addressBook.addSession(name, session);
+        recordSessionChange(before);
     }
 
     @Override
     public void deleteSession(Name name, Index sessionIndex) {
         requireAllNonNull(name, sessionIndex);
+        Student before = addressBook.getStudentWithName(name);
         addressBook.removeSession(name, sessionIndex);
+        recordSessionChange(before);
     }
 
     @Override
     public void deleteSessionInRecurringSession(Name name, Index sessionIndex, SessionDate sessionDate) {
         requireAllNonNull(name, sessionIndex, sessionDate);
+        Student before = addressBook.getStudentWithName(name);
         addressBook.removeSessionInRecurringSession(name, sessionIndex, sessionDate);
+        recordSessionChange(before);
+    }
+
+    /**
+     * Records that the sessions of the student {@code before} were changed.
+     */
+    private void recordSessionChange(Student before) {
+        Student after = addressBook.getStudentWithName(before.getName());
+        history.recordStudentChange(before, after, addressBook.indexOf(after));
+    }
+
+    @Override
+    public void commitAddressBook() {
+        history.commit();
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return history.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return history.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        history.undo(addressBook);
+    }
+
+    @Override
+    public void redoAddressBook() {
+        history.redo(addressBook);
+    }
+
+    @Override
+    public void clearAddressBookHistory() {
+        history.clear();
     }
 
     @Override
@@ -147,6 +232,29 @@ public class ModelManager implements Model {
         return addressBook.hasName(name);
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
+    @Override
+    public Set<Name> getNamesWithPrefixes(Collection<String> prefixes) {
+        requireNonNull(prefixes);
+        return addressBook.getNamesWithPrefixes(prefixes);
+    }
+
+    @Override
+    public Map<Name, Double> getSimilarities(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.getSimilarities(keywords);
+    }
+
+    @Override
+    public Set<Name> getNamesMatching(StudentQuery query) {
+        requireNonNull(query);
+        return addressBook.getNamesMatching(query);
+    }
+
     @Override
     public boolean hasSession(Session session) {
         requireNonNull(session);
@@ -165,6 +273,24 @@ public class ModelManager implements Model {
         return addressBook.hasOverlappingSession(recurringSession);
     }
 
+    @Override
+    public List<Tuition> getTuitionsOnDate(LocalDate date) {
+        requireNonNull(date);
+        return addressBook.getTuitionsOnDate(date);
+    }
+
+    @Override
+    public void setTuitionWindow(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        addressBook.setTuitionWindow(startDate, endDate);
+    }
+
+    @Override
+    public void addModelChangeListener(ModelChangeListener listener) {
+        requireNonNull(listener);
+        addressBook.addChangeListener(listener);
+    }
+
     //=========== Filtered Student List Accessors =============================================================
 
     /**
@@ -173,13 +299,21 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Student> getFilteredStudentList() {
-        return filteredStudents;
+        return sortedStudents;
     }
 
     @Override
     public void updateFilteredStudentList(Predicate<Student> predicate) {
         requireNonNull(predicate);
         filteredStudents.setPredicate(predicate);
+        sortedStudents.setComparator(null);
+    }
+
+    @Override
+    public void updateFilteredStudentList(Predicate<Student> predicate, Comparator<Student> comparator) {
+        requireAllNonNull(predicate, comparator);
+        filteredStudents.setPredicate(predicate);
+        sortedStudents.setComparator(comparator);
     }
 
     @SuppressWarnings("unchecked")
@@ -204,18 +338,41 @@ public class ModelManager implements Model {
         ModelManager other = (ModelManager) obj;
         return addressBook.equals(other.addressBook)
                 && userPrefs.equals(other.userPrefs)
-                && filteredStudents.equals(other.filteredStudents);
+                && sortedStudents.equals(other.sortedStudents);
     }
 
     //=========== Fees =============================================================
 
     @Override
     public double getFee(LocalDateTime startPeriod, LocalDateTime endPeriod) {
-        double fee = 0;
-        for (Student student : addressBook.getStudentList()) {
-            fee += FeeUtil.getFeePerStudent(student, startPeriod, endPeriod);
+        requireAllNonNull(startPeriod, endPeriod);
+        if (isStartOfMonth(startPeriod) && isStartOfMonth(endPeriod)) {
+            return addressBook.getFee(YearMonth.from(startPeriod), YearMonth.from(endPeriod));
         }
-        return fee;
+
+        return getFees(List.of(new FeePeriod(startPeriod, endPeriod)))[0];
+    }
+
+    @Override
+    public double[] getFees(List<FeePeriod> periods) {
+        requireNonNull(periods);
+        return feeAggregator.getFees(addressBook.getStudentList(), periods);
+    }
+
+    @Override
+    public double getMonthlyFee(YearMonth month) {
+        requireNonNull(month);
+        return addressBook.getMonthlyFee(month);
+    }
+
+    @Override
+    public double getMonthlyFee(Name name, YearMonth month) {
+        requireAllNonNull(name, month);
+        return addressBook.getMonthlyFee(name, month);
+    }
+
+    private static boolean isStartOfMonth(LocalDateTime dateTime) {
+        return dateTime.equals(dateTime.toLocalDate().withDayOfMonth(1).atStartOfDay());
     }
 
 }
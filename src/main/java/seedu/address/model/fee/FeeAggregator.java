@@ -0,0 +1,128 @@
+package seedu.address.model.fee;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import seedu.address.commons.util.FeeUtil;
+import seedu.address.model.session.Session;
+import seedu.address.model.student.Student;
+
+/**
+ * Totals the sessions and fees of a list of students over any number of periods at once, on a {@code ForkJoinPool}.
+ *
+ * The list is split into ranges of students that are totalled in parallel, going through each session once for
+ * all the periods. Fees are totalled in cents, so that the totals are exact, and the same however the list is
+ * split as when the students are totalled one by one.
+ *
+ * The list must not be changed while it is being totalled.
+ */
+public class FeeAggregator {
+
+    public static final int DEFAULT_SEQUENTIAL_THRESHOLD = 256;
+
+    private final ForkJoinPool pool;
+    private final int sequentialThreshold;
+
+    /**
+     * Creates a {@code FeeAggregator} that totals fees on the common {@code ForkJoinPool}.
+     */
+    public FeeAggregator() {
+        this(ForkJoinPool.commonPool(), DEFAULT_SEQUENTIAL_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code FeeAggregator} that totals fees on {@code pool}, without splitting ranges of
+     * {@code sequentialThreshold} students or fewer.
+     */
+    public FeeAggregator(ForkJoinPool pool, int sequentialThreshold) {
+        requireAllNonNull(pool);
+        assert sequentialThreshold > 0;
+        this.pool = pool;
+        this.sequentialThreshold = sequentialThreshold;
+    }
+
+    /**
+     * Returns the number of sessions and total fee of {@code students} in each of {@code periods}, by the index of
+     * the period in {@code periods}.
+     */
+    public FeeTotals getTotals(List<Student> students, List<FeePeriod> periods) {
+        requireAllNonNull(students, periods);
+        FeePeriod[] periodArray = periods.toArray(new FeePeriod[0]);
+        if (students.size() <= sequentialThreshold) {
+            return new FeeTask(students, periodArray, 0, students.size()).compute();
+        }
+        return pool.invoke(new FeeTask(students, periodArray, 0, students.size()));
+    }
+
+    /**
+     * Returns the total fee of {@code students} in each of {@code periods}, in cents, in the same order as
+     * {@code periods}.
+     */
+    public long[] getFeesInCents(List<Student> students, List<FeePeriod> periods) {
+        return getTotals(students, periods).getFeesInCents();
+    }
+
+    /**
+     * Returns the total fee of {@code students} in each of {@code periods}, in the same order as {@code periods}.
+     */
+    public double[] getFees(List<Student> students, List<FeePeriod> periods) {
+        long[] feesInCents = getFeesInCents(students, periods);
+        double[] fees = new double[feesInCents.length];
+        for (int i = 0; i < feesInCents.length; i++) {
+            fees[i] = feesInCents[i] / 100.0;
+        }
+        return fees;
+    }
+
+    /**
+     * Totals the sessions and fees of the students from {@code start} inclusive to {@code end} exclusive.
+     */
+    private class FeeTask extends RecursiveTask<FeeTotals> {
+        private final List<Student> students;
+        private final FeePeriod[] periods;
+        private final int start;
+        private final int end;
+
+        private FeeTask(List<Student> students, FeePeriod[] periods, int start, int end) {
+            this.students = students;
+            this.periods = periods;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected FeeTotals compute() {
+            if (end - start <= sequentialThreshold) {
+                return computeSequentially();
+            }
+
+            int middle = (start + end) >>> 1;
+            FeeTask left = new FeeTask(students, periods, start, middle);
+            FeeTask right = new FeeTask(students, periods, middle, end);
+            left.fork();
+            FeeTotals totals = right.compute();
+            totals.addAll(left.join());
+            return totals;
+        }
+
+        private FeeTotals computeSequentially() {
+            FeeTotals totals = new FeeTotals(periods.length);
+            for (int i = start; i < end; i++) {
+                for (Session session : students.get(i).getListOfSessions()) {
+                    long feeInCents = FeeUtil.getFeeInCents(session);
+                    for (int j = 0; j < periods.length; j++) {
+                        int numOfSessions = FeeUtil.getNumOfSession(session, periods[j].getStart(),
+                                periods[j].getEnd());
+                        if (numOfSessions > 0) {
+                            totals.add(j, numOfSessions, numOfSessions * feeInCents);
+                        }
+                    }
+                }
+            }
+            return totals;
+        }
+    }
+}
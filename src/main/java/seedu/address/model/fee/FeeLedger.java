@@ -0,0 +1,132 @@
+package seedu.address.model.fee;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import seedu.address.commons.util.FeeUtil;
+import seedu.address.model.session.RecurringSession;
+import seedu.address.model.session.Session;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Student;
+
+/**
+ * Keeps the fees of every student for every month that any of their sessions take place in, so that monthly fees
+ * can be looked up without going through every session.
+ *
+ * Fees are kept in cents, so that adding and removing the fees of sessions in any order gives back exact totals.
+ * Adding or removing a session only updates the months from its first to its last session.
+ */
+public class FeeLedger {
+
+    private final Map<Name, Map<YearMonth, Long>> feesInCentsByStudent = new HashMap<>();
+    private final TreeMap<YearMonth, Long> totalFeesInCents = new TreeMap<>();
+
+    /**
+     * Adds the fee of {@code session} of {@code student} to the months it takes place in.
+     */
+    public void add(Student student, Session session) {
+        requireAllNonNull(student, session);
+        record(student.getName(), session, 1);
+    }
+
+    /**
+     * Adds the fees of every session of {@code student}.
+     */
+    public void addAll(Student student) {
+        requireNonNull(student);
+        student.getListOfSessions().forEach(session -> add(student, session));
+    }
+
+    /**
+     * Removes the fee of {@code session} of {@code student} from the months it takes place in.
+     */
+    public void remove(Student student, Session session) {
+        requireAllNonNull(student, session);
+        record(student.getName(), session, -1);
+    }
+
+    /**
+     * Removes the fees of every session of {@code student}.
+     */
+    public void removeAll(Student student) {
+        requireNonNull(student);
+        student.getListOfSessions().forEach(session -> remove(student, session));
+    }
+
+    /**
+     * Removes all fees from the ledger.
+     */
+    public void clear() {
+        feesInCentsByStudent.clear();
+        totalFeesInCents.clear();
+    }
+
+    /**
+     * Returns the total fee of all students in {@code month}.
+     */
+    public double getMonthlyFee(YearMonth month) {
+        requireNonNull(month);
+        return toDollars(totalFeesInCents.getOrDefault(month, 0L));
+    }
+
+    /**
+     * Returns the fee of the student with {@code name} in {@code month}.
+     */
+    public double getMonthlyFee(Name name, YearMonth month) {
+        requireAllNonNull(name, month);
+        return toDollars(feesInCentsByStudent.getOrDefault(name, Map.of()).getOrDefault(month, 0L));
+    }
+
+    /**
+     * Returns the total fee of all students from {@code inclusiveStart} to {@code exclusiveEnd}.
+     */
+    public double getFee(YearMonth inclusiveStart, YearMonth exclusiveEnd) {
+        requireAllNonNull(inclusiveStart, exclusiveEnd);
+        if (!inclusiveStart.isBefore(exclusiveEnd)) {
+            return 0;
+        }
+
+        long feeInCents = 0;
+        for (long monthlyFeeInCents : totalFeesInCents.subMap(inclusiveStart, exclusiveEnd).values()) {
+            feeInCents += monthlyFeeInCents;
+        }
+        return toDollars(feeInCents);
+    }
+
+    /**
+     * Adds {@code sign} times the fee of {@code session} in each month it takes place in to the fees of that month.
+     */
+    private void record(Name name, Session session, int sign) {
+        YearMonth firstMonth = YearMonth.from(session.getSessionDate().getDate());
+        YearMonth lastMonth = session instanceof RecurringSession
+                ? YearMonth.from(((RecurringSession) session).getLastSessionDate().getDate())
+                : firstMonth;
+
+        Map<YearMonth, Long> studentFeesInCents = feesInCentsByStudent.computeIfAbsent(name, unused -> new HashMap<>());
+        for (YearMonth month = firstMonth; !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+            LocalDateTime monthStart = month.atDay(1).atStartOfDay();
+            long feeInCents = FeeUtil.getSessionFeeInCents(session, monthStart, monthStart.plusMonths(1));
+            if (feeInCents != 0) {
+                addInCents(studentFeesInCents, month, sign * feeInCents);
+                addInCents(totalFeesInCents, month, sign * feeInCents);
+            }
+        }
+        if (studentFeesInCents.isEmpty()) {
+            feesInCentsByStudent.remove(name);
+        }
+    }
+
+    private static void addInCents(Map<YearMonth, Long> feesInCents, YearMonth month, long feeInCents) {
+        feesInCents.merge(month, feeInCents, (oldFee, addedFee) -> oldFee + addedFee == 0 ? null : oldFee + addedFee);
+    }
+
+    private static double toDollars(long feeInCents) {
+        return feeInCents / 100.0;
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.model.fee;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Objects;
+
+/**
+ * Represents a period of time that fees are totalled over, from its start inclusive to its end exclusive.
+ * Guarantees: immutable; the end is not before the start.
+ */
+public class FeePeriod {
+
+    public static final String MESSAGE_CONSTRAINTS = "End of fee period should be equal to or after its start";
+
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+
+    /**
+     * Constructs a {@code FeePeriod} from {@code start} inclusive to {@code end} exclusive.
+     */
+    public FeePeriod(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        checkArgument(!end.isBefore(start), MESSAGE_CONSTRAINTS);
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Returns the period of the whole of {@code month}.
+     */
+    public static FeePeriod of(YearMonth month) {
+        LocalDateTime monthStart = month.atDay(1).atStartOfDay();
+        return new FeePeriod(monthStart, monthStart.plusMonths(1));
+    }
+
+    public LocalDateTime getStart() {
+        return start;
+    }
+
+    public LocalDateTime getEnd() {
+        return end;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FeePeriod // instanceof handles nulls
+                && start.equals(((FeePeriod) other).start)
+                && end.equals(((FeePeriod) other).end));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return start + " to " + end;
+    }
+}
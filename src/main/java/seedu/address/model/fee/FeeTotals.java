@@ -0,0 +1,77 @@
+package seedu.address.model.fee;
+
+import java.util.Arrays;
+
+/**
+ * Represents the number of sessions and total fee in cents in each of a list of periods, by the index of the period.
+ * The totals are added up by {@code FeeAggregator}, and do not change once they are returned.
+ */
+public class FeeTotals {
+
+    private final long[] numOfSessions;
+    private final long[] feesInCents;
+
+    /**
+     * Constructs {@code FeeTotals} of {@code numOfPeriods} periods, without any session.
+     */
+    FeeTotals(int numOfPeriods) {
+        numOfSessions = new long[numOfPeriods];
+        feesInCents = new long[numOfPeriods];
+    }
+
+    /**
+     * Adds {@code numOfSessions} sessions with a total fee of {@code feeInCents} to the period at {@code index}.
+     */
+    void add(int index, long numOfSessions, long feeInCents) {
+        this.numOfSessions[index] += numOfSessions;
+        this.feesInCents[index] += feeInCents;
+    }
+
+    /**
+     * Adds the totals of each period of {@code other} to the same period of these totals.
+     */
+    void addAll(FeeTotals other) {
+        assert other.getNumOfPeriods() == getNumOfPeriods();
+        for (int i = 0; i < numOfSessions.length; i++) {
+            add(i, other.numOfSessions[i], other.feesInCents[i]);
+        }
+    }
+
+    public int getNumOfPeriods() {
+        return numOfSessions.length;
+    }
+
+    /**
+     * Returns the number of sessions in the period at {@code index}.
+     */
+    public long getNumOfSessions(int index) {
+        return numOfSessions[index];
+    }
+
+    /**
+     * Returns the total fee of the period at {@code index} in cents.
+     */
+    public long getFeeInCents(int index) {
+        return feesInCents[index];
+    }
+
+    /**
+     * Returns the total fee of each period in cents, in the order of the periods.
+     */
+    public long[] getFeesInCents() {
+        return feesInCents.clone();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FeeTotals // instanceof handles nulls
+                && Arrays.equals(numOfSessions, ((FeeTotals) other).numOfSessions)
+                && Arrays.equals(feesInCents, ((FeeTotals) other).feesInCents));
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(numOfSessions) + Arrays.hashCode(feesInCents);
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.model.fee;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Locale;
+
+/**
+ * Ways that the fees of a {@code RevenueReport} can be grouped.
+ */
+public enum ReportGrouping {
+    /** One group for each calendar month in the report's range. */
+    MONTH,
+    /** One group for each week in the report's range, starting on Monday. */
+    WEEK,
+    /** One group for each subject taught in the report's range. */
+    SUBJECT,
+    /** One group for each student with sessions in the report's range. */
+    STUDENT;
+
+    public static final String MESSAGE_CONSTRAINTS = "Report can only be grouped by month, week, subject or student.";
+
+    /**
+     * Returns true if the fees are grouped by periods of time, rather than by what the sessions are.
+     */
+    public boolean isByPeriod() {
+        return this == MONTH || this == WEEK;
+    }
+
+    /**
+     * Returns the name of the grouping as it is typed by the user.
+     */
+    public String getName() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns true if {@code name} is the name of a grouping, ignoring case.
+     */
+    public static boolean isValidGrouping(String name) {
+        requireNonNull(name);
+        for (ReportGrouping grouping : values()) {
+            if (grouping.getName().equalsIgnoreCase(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the grouping named {@code name}, ignoring case.
+     */
+    public static ReportGrouping fromName(String name) {
+        requireNonNull(name);
+        return valueOf(name.toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,262 @@
+package seedu.address.model.fee;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.FeeUtil;
+import seedu.address.model.session.Session;
+import seedu.address.model.student.Student;
+
+/**
+ * Represents the fees of the sessions that take place from a start date to an end date, both inclusive, in groups.
+ * Guarantees: immutable; the end date is not before the start date.
+ *
+ * Sessions are counted and fees are added up in cents with {@link FeeUtil}, so that the totals are exact and the
+ * same as the fees shown elsewhere. Groups by period are totalled by {@link FeeAggregator}, with a period for each
+ * group.
+ */
+public class RevenueReport {
+
+    public static final String MESSAGE_CONSTRAINTS = "End date of report should be equal to or after its start date";
+
+    private static final String CSV_SESSIONS_HEADER = "sessions";
+    private static final String CSV_FEE_HEADER = "fee";
+
+    private static final FeeAggregator FEE_AGGREGATOR = new FeeAggregator();
+
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final ReportGrouping grouping;
+    private final List<Row> rows;
+
+    private RevenueReport(LocalDate startDate, LocalDate endDate, ReportGrouping grouping, List<Row> rows) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.grouping = grouping;
+        this.rows = Collections.unmodifiableList(rows);
+    }
+
+    /**
+     * Returns the report of the sessions of {@code students} from {@code startDate} to {@code endDate}, both
+     * inclusive, grouped by {@code grouping}.
+     * Groups by period include the periods without any session, and other groups only include those with sessions.
+     */
+    public static RevenueReport of(List<Student> students, LocalDate startDate, LocalDate endDate,
+            ReportGrouping grouping) {
+        requireAllNonNull(students, startDate, endDate, grouping);
+        checkArgument(!endDate.isBefore(startDate), MESSAGE_CONSTRAINTS);
+        List<Row> rows = grouping.isByPeriod()
+                ? computeByPeriod(students, startDate, endDate, grouping)
+                : computeByGroup(students, startDate, endDate, grouping);
+        return new RevenueReport(startDate, endDate, grouping, rows);
+    }
+
+    private static List<Row> computeByPeriod(List<Student> students, LocalDate startDate, LocalDate endDate,
+            ReportGrouping grouping) {
+        List<LocalDate> periodStarts = new ArrayList<>();
+        for (LocalDate periodStart = getPeriodStart(startDate, grouping); !periodStart.isAfter(endDate);
+                periodStart = getNextPeriodStart(periodStart, grouping)) {
+            periodStarts.add(periodStart);
+        }
+
+        // The first and last periods are cut off at the start and end dates of the report.
+        List<FeePeriod> periods = new ArrayList<>(periodStarts.size());
+        for (LocalDate periodStart : periodStarts) {
+            LocalDate first = max(periodStart, startDate);
+            LocalDate last = min(getNextPeriodStart(periodStart, grouping).minusDays(1), endDate);
+            periods.add(new FeePeriod(first.atStartOfDay(), last.plusDays(1).atStartOfDay()));
+        }
+        FeeTotals totals = FEE_AGGREGATOR.getTotals(students, periods);
+
+        List<Row> rows = new ArrayList<>(periodStarts.size());
+        for (int index = 0; index < periodStarts.size(); index++) {
+            String group = grouping == ReportGrouping.MONTH
+                    ? YearMonth.from(periodStarts.get(index)).toString()
+                    : periodStarts.get(index).toString();
+            rows.add(new Row(group, totals.getNumOfSessions(index), totals.getFeeInCents(index)));
+        }
+        return rows;
+    }
+
+    private static List<Row> computeByGroup(List<Student> students, LocalDate startDate, LocalDate endDate,
+            ReportGrouping grouping) {
+        LocalDateTime startPeriod = startDate.atStartOfDay();
+        LocalDateTime endPeriod = endDate.plusDays(1).atStartOfDay();
+        // Subjects are sorted by name, and students are kept in the order of the list.
+        Map<String, long[]> totals = grouping == ReportGrouping.SUBJECT ? new TreeMap<>() : new LinkedHashMap<>();
+        for (Student student : students) {
+            for (Session session : student.getListOfSessions()) {
+                int count = FeeUtil.getNumOfSession(session, startPeriod, endPeriod);
+                if (count == 0) {
+                    continue;
+                }
+                String group = grouping == ReportGrouping.SUBJECT
+                        ? session.getSubject().getValue()
+                        : student.getName().fullName;
+                long[] total = totals.computeIfAbsent(group, unused -> new long[2]);
+                total[0] += count;
+                total[1] += count * FeeUtil.getFeeInCents(session);
+            }
+        }
+
+        List<Row> rows = new ArrayList<>(totals.size());
+        for (Map.Entry<String, long[]> entry : totals.entrySet()) {
+            rows.add(new Row(entry.getKey(), entry.getValue()[0], entry.getValue()[1]));
+        }
+        return rows;
+    }
+
+    /**
+     * Returns the first date of the period of {@code grouping} that {@code date} is in.
+     */
+    private static LocalDate getPeriodStart(LocalDate date, ReportGrouping grouping) {
+        return grouping == ReportGrouping.MONTH
+                ? date.withDayOfMonth(1)
+                : date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    /**
+     * Returns the first date of the period of {@code grouping} after the one starting on {@code periodStart}.
+     */
+    private static LocalDate getNextPeriodStart(LocalDate periodStart, ReportGrouping grouping) {
+        return grouping == ReportGrouping.MONTH ? periodStart.plusMonths(1) : periodStart.plusWeeks(1);
+    }
+
+    private static LocalDate max(LocalDate first, LocalDate second) {
+        return first.isAfter(second) ? first : second;
+    }
+
+    private static LocalDate min(LocalDate first, LocalDate second) {
+        return first.isBefore(second) ? first : second;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public ReportGrouping getGrouping() {
+        return grouping;
+    }
+
+    public List<Row> getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns the number of sessions in the report.
+     */
+    public long getTotalNumOfSessions() {
+        long total = 0;
+        for (Row row : rows) {
+            total += row.getNumOfSessions();
+        }
+        return total;
+    }
+
+    /**
+     * Returns the total fee of the report in cents.
+     */
+    public long getTotalFeeInCents() {
+        long total = 0;
+        for (Row row : rows) {
+            total += row.getFeeInCents();
+        }
+        return total;
+    }
+
+    /**
+     * Writes the report to {@code out} as comma-separated values, one row at a time, with a header line.
+     */
+    public void writeCsv(Appendable out) throws IOException {
+        CsvUtil.appendLine(out, grouping.getName(), CSV_SESSIONS_HEADER, CSV_FEE_HEADER);
+        for (Row row : rows) {
+            CsvUtil.appendLine(out, row.getGroup(), String.valueOf(row.getNumOfSessions()),
+                    FeeUtil.formatCents(row.getFeeInCents()));
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RevenueReport // instanceof handles nulls
+                && startDate.equals(((RevenueReport) other).startDate)
+                && endDate.equals(((RevenueReport) other).endDate)
+                && grouping.equals(((RevenueReport) other).grouping)
+                && rows.equals(((RevenueReport) other).rows));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(startDate, endDate, grouping, rows);
+    }
+
+    /**
+     * Represents the number of sessions and total fee of a group in a {@code RevenueReport}.
+     */
+    public static class Row {
+        private final String group;
+        private final long numOfSessions;
+        private final long feeInCents;
+
+        /**
+         * Constructs a {@code Row} of {@code numOfSessions} sessions of {@code group}, with a total fee of
+         * {@code feeInCents}.
+         */
+        public Row(String group, long numOfSessions, long feeInCents) {
+            requireAllNonNull(group);
+            this.group = group;
+            this.numOfSessions = numOfSessions;
+            this.feeInCents = feeInCents;
+        }
+
+        public String getGroup() {
+            return group;
+        }
+
+        public long getNumOfSessions() {
+            return numOfSessions;
+        }
+
+        public long getFeeInCents() {
+            return feeInCents;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Row // instanceof handles nulls
+                    && group.equals(((Row) other).group)
+                    && numOfSessions == ((Row) other).numOfSessions
+                    && feeInCents == ((Row) other).feeInCents);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(group, numOfSessions, feeInCents);
+        }
+
+        @Override
+        public String toString() {
+            return group + ": $" + FeeUtil.formatCents(feeInCents) + " (" + numOfSessions + " sessions)";
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package seedu.address.model.session;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Random;
+import java.util.function.Predicate;
+
+/**
+ * An interval tree over closed ranges of epoch days.
+ * Implemented as a treap ordered by the start of each range, where every node also records the largest range end
+ * found in its subtree so that subtrees which cannot overlap a queried range are skipped.
+ *
+ * @param <T> type of the value stored with each range.
+ */
+class DayIntervalTree<T> {
+
+    private static final Random PRIORITY_GENERATOR = new Random(0);
+
+    private Node<T> root;
+    private int size;
+
+    /**
+     * Adds {@code value} spanning the days from {@code startDay} to {@code endDay}, both inclusive.
+     */
+    public void add(long startDay, long endDay, T value) {
+        requireNonNull(value);
+        assert startDay <= endDay : "Start of range should not be after its end";
+        Node<T> node = new Node<>(startDay, endDay, value, PRIORITY_GENERATOR.nextInt());
+        Node<T>[] halves = split(root, startDay);
+        root = merge(merge(halves[0], node), halves[1]);
+        size++;
+    }
+
+    /**
+     * Removes one value equal to {@code value} that was added with a range starting on {@code startDay}.
+     *
+     * @return true if such a value was found and removed.
+     */
+    public boolean remove(long startDay, T value) {
+        requireNonNull(value);
+        int sizeBefore = size;
+        root = remove(root, startDay, value);
+        return size < sizeBefore;
+    }
+
+    /**
+     * Returns true if any value whose range overlaps the days from {@code startDay} to {@code endDay}
+     * (both inclusive) satisfies {@code predicate}.
+     */
+    public boolean anyOverlapping(long startDay, long endDay, Predicate<? super T> predicate) {
+        requireNonNull(predicate);
+        return anyOverlapping(root, startDay, endDay, predicate);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private Node<T> remove(Node<T> node, long startDay, T value) {
+        if (node == null) {
+            return null;
+        }
+        if (startDay < node.startDay) {
+            node.left = remove(node.left, startDay, value);
+        } else if (startDay > node.startDay) {
+            node.right = remove(node.right, startDay, value);
+        } else if (node.value.equals(value)) {
+            size--;
+            return merge(node.left, node.right);
+        } else {
+            // Ranges sharing the same start may sit on either side after rotations.
+            int sizeBefore = size;
+            node.left = remove(node.left, startDay, value);
+            if (size == sizeBefore) {
+                node.right = remove(node.right, startDay, value);
+            }
+        }
+        node.update();
+        return node;
+    }
+
+    private boolean anyOverlapping(Node<T> node, long startDay, long endDay, Predicate<? super T> predicate) {
+        if (node == null || node.maxEndDay < startDay) {
+            return false;
+        }
+        if (anyOverlapping(node.left, startDay, endDay, predicate)) {
+            return true;
+        }
+        if (node.startDay > endDay) {
+            // Every range in the right subtree starts even later.
+            return false;
+        }
+        if (node.endDay >= startDay && predicate.test(node.value)) {
+            return true;
+        }
+        return anyOverlapping(node.right, startDay, endDay, predicate);
+    }
+
+    /**
+     * Splits {@code node} into a tree of ranges starting before {@code startDay} and a tree of the rest.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Node<T>[] split(Node<T> node, long startDay) {
+        if (node == null) {
+            return new Node[] {null, null};
+        }
+        if (node.startDay < startDay) {
+            Node<T>[] halves = split(node.right, startDay);
+            node.right = halves[0];
+            node.update();
+            return new Node[] {node, halves[1]};
+        } else {
+            Node<T>[] halves = split(node.left, startDay);
+            node.left = halves[1];
+            node.update();
+            return new Node[] {halves[0], node};
+        }
+    }
+
+    /**
+     * Merges two trees where no range in {@code left} starts after any range in {@code right}.
+     */
+    private static <T> Node<T> merge(Node<T> left, Node<T> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        } else {
+            right.left = merge(left, right.left);
+            right.update();
+            return right;
+        }
+    }
+
+    private static class Node<T> {
+        private final long startDay;
+        private final long endDay;
+        private final T value;
+        private final int priority;
+
+        private long maxEndDay;
+        private Node<T> left;
+        private Node<T> right;
+
+        Node(long startDay, long endDay, T value, int priority) {
+            this.startDay = startDay;
+            this.endDay = endDay;
+            this.value = value;
+            this.priority = priority;
+            this.maxEndDay = endDay;
+        }
+
+        void update() {
+            maxEndDay = endDay;
+            if (left != null) {
+                maxEndDay = Math.max(maxEndDay, left.maxEndDay);
+            }
+            if (right != null) {
+                maxEndDay = Math.max(maxEndDay, right.maxEndDay);
+            }
+        }
+    }
+}
@@ -26,6 +26,14 @@ public class Duration {
         this.value = Integer.parseInt(value);
     }
 
+    /**
+     * Constructs a {@code Duration} of {@code value} minutes.
+     */
+    public Duration(int value) {
+        checkArgument(value >= 1, MESSAGE_CONSTRAINTS);
+        this.value = value;
+    }
+
     public int getValue() {
         return this.value;
     }
@@ -12,6 +12,7 @@ public class Fee {
     public static final String MESSAGE_CONSTRAINTS = "Format of fee input is incorrect (Non-negative and maximum of "
         + "2 decimal places) or the given fee is unacceptable (Only accepts value between 0 to 999999.99).";
     private static final String VALIDATION_REGEX = "([1-9]\\d+|\\d)(\\.\\d{0,2}|)";
+    private static final long MAXIMUM_CENTS = 99999999;
 
     private double fee;
 
@@ -27,6 +28,18 @@ public class Fee {
         this.fee = fullFee;
     }
 
+    /**
+     * Constructs a {@code Fee} of {@code cents} hundredths of a dollar per hour.
+     */
+    public static Fee ofCents(long cents) {
+        checkArgument(cents >= 0 && cents <= MAXIMUM_CENTS, MESSAGE_CONSTRAINTS);
+        return new Fee(cents / 100.0);
+    }
+
+    private Fee(double fee) {
+        this.fee = fee;
+    }
+
     public double getFee() {
         return this.fee;
     }
@@ -24,6 +24,14 @@ public class Interval {
         value = Integer.valueOf(interval);
     }
 
+    /**
+     * Constructs a {@code Interval} of {@code interval} days.
+     */
+    public Interval(int interval) {
+        checkArgument(interval >= 1, MESSAGE_CONSTRAINTS);
+        value = interval;
+    }
+
     public int getValue() {
         return value;
     }
@@ -6,7 +6,6 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 import seedu.address.commons.core.index.Index;
@@ -97,7 +96,7 @@ public class RecurringSession extends Session {
      */
     public boolean endBefore(SessionDate sessionDate) {
         requireAllNonNull(sessionDate);
-        return lastSessionDate.getDate().isBefore(sessionDate.getDate());
+        return lastSessionDate.getEpochDay() < sessionDate.getEpochDay();
     }
 
     /**
@@ -105,7 +104,7 @@ public class RecurringSession extends Session {
      */
     protected boolean startAfter(SessionDate sessionDate) {
         requireAllNonNull(sessionDate);
-        return getSessionDate().getDate().isAfter(sessionDate.getDate());
+        return getSessionDate().getEpochDay() > sessionDate.getEpochDay();
     }
 
     // THIS METHOD IS FOR SCHEDULE REMINDER TO CHECK IF THERE'S SESSION ON THE DAY.
@@ -121,6 +120,20 @@ public class RecurringSession extends Session {
                 && isConsistentDatesAndInterval(getSessionDate(), sessionDate, getInterval());
     }
 
+    /**
+     * Returns true if any session of this recurring session takes place on a date from {@code inclusiveStart}
+     * to {@code inclusiveEnd}.
+     */
+    @Override
+    public boolean hasSessionBetween(LocalDate inclusiveStart, LocalDate inclusiveEnd) {
+        requireAllNonNull(inclusiveStart, inclusiveEnd);
+        long start = Math.max(getSessionDate().getEpochDay(), inclusiveStart.toEpochDay());
+        long end = Math.min(lastSessionDate.getEpochDay(), inclusiveEnd.toEpochDay());
+        long daysToNextSession = Math.floorMod(getSessionDate().getEpochDay() - start,
+                (long) interval.getValue());
+        return start + daysToNextSession <= end;
+    }
+
     // THIS METHOD IS FOR SCHEDULE REMINDER TO RETRIEVE INFO ABOUT SESSION HAPPENING ON GIVEN DATE.
     /**
      * Returns a single non-recurring session on the sessionDate.
@@ -166,31 +179,31 @@ public class RecurringSession extends Session {
      */
     public int numOfSessionBetween(SessionDate inclusiveStart, SessionDate inclusiveEnd) {
         requireAllNonNull(inclusiveStart, inclusiveEnd);
+        return numOfSessionBetween(inclusiveStart.getEpochDay(), inclusiveEnd.getEpochDay());
+    }
 
-        if (endBefore(inclusiveStart) || startAfter(inclusiveEnd)) {
-            return 0;
-        }
-
-        SessionDate lastInSpan;
-        if (endBefore(inclusiveEnd)) {
-            lastInSpan = lastSessionDate;
-        } else {
-            lastInSpan = lastSessionOnOrBefore(inclusiveEnd).getSessionDate();
-        }
+    /**
+     * Returns the number of sessions that take place on a date from {@code inclusiveStart} to {@code inclusiveEnd}.
+     * The sessions are counted from their epoch days, without going through each of them.
+     */
+    public int numOfSessionBetween(LocalDate inclusiveStart, LocalDate inclusiveEnd) {
+        requireAllNonNull(inclusiveStart, inclusiveEnd);
+        return numOfSessionBetween(inclusiveStart.toEpochDay(), inclusiveEnd.toEpochDay());
+    }
 
-        SessionDate firstInSpan;
-        if (startAfter(inclusiveStart)) {
-            firstInSpan = getSessionDate();
-        } else {
-            int daysDiff = getSessionDate().numOfDayTo(inclusiveStart) % interval.getValue();
-            int plusDays = daysDiff == 0
-                    ? 0
-                    : interval.getValue() - daysDiff;
-            LocalDateTime firstInSpanLdt = inclusiveStart.getDateTime().plusDays(plusDays);
-            firstInSpan = new SessionDate(firstInSpanLdt.toString());
+    /**
+     * Returns the number of sessions that take place from the epoch day {@code inclusiveStartEpochDay} to
+     * {@code inclusiveEndEpochDay}.
+     */
+    public int numOfSessionBetween(long inclusiveStartEpochDay, long inclusiveEndEpochDay) {
+        long firstDay = getSessionDate().getEpochDay();
+        long start = Math.max(firstDay, inclusiveStartEpochDay);
+        long end = Math.min(lastSessionDate.getEpochDay(), inclusiveEndEpochDay);
+        long firstInSpan = start + Math.floorMod(firstDay - start, (long) interval.getValue());
+        if (firstInSpan > end) {
+            return 0;
         }
-
-        return (firstInSpan.numOfDayTo(lastInSpan) / interval.getValue()) + 1;
+        return (int) ((end - firstInSpan) / interval.getValue()) + 1;
     }
 
     /**
@@ -206,44 +219,73 @@ public class RecurringSession extends Session {
      * @param otherSession the other recurring session that is compared to.
      */
     public boolean isOverlapping(RecurringSession otherSession) {
-        if (startAfter(otherSession.getSessionDate())) {
-            return otherSession.isOverlapping(this);
+        if (!hasCommonDate(otherSession)) {
+            return false;
         }
+        return super.isTimeOverlapping(getSessionDate(), getEndSessionDate(), otherSession.getSessionDate(),
+                otherSession.getEndSessionDate());
+    }
 
-        int daysBetween = getSessionDate().numOfDayTo(otherSession.getSessionDate());
-        // Recurrence length in terms of when the first session begins
-        int firstSessionRecurrenceLength =
-                (int) ChronoUnit.DAYS.between(getSessionDate().getDate(), getLastSessionDate().getDate());
-        int secondSessionRecurrenceLength =
-                (int) ChronoUnit.DAYS.between(otherSession.getSessionDate().getDate(),
-                        otherSession.getLastSessionDate().getDate()) + daysBetween;
-        // Days from when the earlier session starts
-        int daysFromThisSessionStart = 0;
-        int daysFromOtherSessionStart = daysBetween;
-        while (daysFromThisSessionStart < firstSessionRecurrenceLength
-                || daysFromOtherSessionStart < secondSessionRecurrenceLength) {
-            if (daysFromThisSessionStart == daysFromOtherSessionStart) {
-                break;
-            } else if (daysFromThisSessionStart > daysFromOtherSessionStart) {
-                if (daysFromOtherSessionStart >= secondSessionRecurrenceLength) {
-                    break;
-                }
-                daysFromOtherSessionStart += otherSession.getInterval().getValue();
-            } else {
-                if (daysFromThisSessionStart >= firstSessionRecurrenceLength) {
-                    break;
-                }
-                daysFromThisSessionStart += getInterval().getValue();
-            }
+    /**
+     * Returns true if this and {@code otherSession} both have a session on some date.
+     * A common date is a day number that is congruent to the start of each recurring session modulo its interval,
+     * which is found with the Chinese remainder theorem and then moved to the first such day within both ranges.
+     */
+    private boolean hasCommonDate(RecurringSession otherSession) {
+        long start = getSessionDate().getEpochDay();
+        long otherStart = otherSession.getSessionDate().getEpochDay();
+        long latestStart = Math.max(start, otherStart);
+        long earliestEnd = Math.min(getLastSessionDate().getEpochDay(),
+                otherSession.getLastSessionDate().getEpochDay());
+        if (latestStart > earliestEnd) {
+            return false;
         }
-        if (daysFromThisSessionStart != daysFromOtherSessionStart) {
+
+        long interval = getInterval().getValue();
+        long otherInterval = otherSession.getInterval().getValue();
+        long gcd = gcd(interval, otherInterval);
+        long startDifference = otherStart - start;
+        if (startDifference % gcd != 0) {
             return false;
         }
-        SessionDate otherSessionStartDate = otherSession.getSessionDate();
-        SessionDate otherSessionEndDate = otherSessionStartDate.getEndSessionDate(otherSession.getDuration());
-        SessionDate sessionStartDate = getSessionDate();
-        SessionDate sessionEndDate = sessionStartDate.getEndSessionDate(getDuration());
-        return super.isTimeOverlapping(sessionStartDate, sessionEndDate, otherSessionStartDate, otherSessionEndDate);
+
+        // Solve start + interval * k = otherStart (mod otherInterval) for the smallest k >= 0.
+        long modulus = otherInterval / gcd;
+        long k = Math.floorMod(Math.floorMod(startDifference / gcd, modulus)
+                * modularInverse((interval / gcd) % modulus, modulus), modulus);
+        long commonDay = start + interval * k;
+        long commonInterval = interval * modulus;
+        if (commonDay < latestStart) {
+            commonDay += (latestStart - commonDay + commonInterval - 1) / commonInterval * commonInterval;
+        }
+        return commonDay <= earliestEnd;
+    }
+
+    /**
+     * Returns the greatest common divisor of {@code a} and {@code b}.
+     */
+    static long gcd(long a, long b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    /**
+     * Returns the inverse of {@code value} modulo {@code modulus}, where both are coprime.
+     */
+    private static long modularInverse(long value, long modulus) {
+        long oldRemainder = value;
+        long remainder = modulus;
+        long oldCoefficient = 1;
+        long coefficient = 0;
+        while (remainder != 0) {
+            long quotient = oldRemainder / remainder;
+            long nextRemainder = oldRemainder - quotient * remainder;
+            oldRemainder = remainder;
+            remainder = nextRemainder;
+            long nextCoefficient = oldCoefficient - quotient * coefficient;
+            oldCoefficient = coefficient;
+            coefficient = nextCoefficient;
+        }
+        return Math.floorMod(oldCoefficient, modulus);
     }
 
     /**
@@ -0,0 +1,282 @@
+package seedu.address.model.session;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.PriorityQueue;
+
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.FeeUtil;
+import seedu.address.model.student.Student;
+
+/**
+ * Writes the sessions of students that take place from a start date to an end date, both inclusive, as a CSV file
+ * with a row for each session, or as an iCalendar (RFC 5545) file with an event for each session.
+ *
+ * The sessions of a recurring session are never collected. CSV rows are written in order of time by merging one
+ * cursor for each session, so only one cursor per session is held, however many sessions it has in the range.
+ * In iCalendar, a recurring session with more than one session in the range is written as a single event with a
+ * recurrence rule from its first to its last session in the range, and otherwise as a single event.
+ */
+public class ScheduleExport {
+
+    public static final String MESSAGE_CONSTRAINTS = "End date of export should be equal to or after its start date";
+
+    public static final List<String> CSV_HEADER = Collections.unmodifiableList(Arrays.asList("date", "time",
+            "duration", "name", "subject", "fee"));
+
+    private static final String ICS_LINE_SEPARATOR = "\r\n";
+    /** Lines longer than this many octets are folded, as required by RFC 5545. */
+    private static final int ICS_MAX_LINE_LENGTH = 75;
+    private static final int DAYS_PER_WEEK = 7;
+    private static final DateTimeFormatter ICS_DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    private final List<Student> students;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+
+    /**
+     * Creates an export of the sessions of {@code students} from {@code startDate} to {@code endDate}, both
+     * inclusive.
+     */
+    public ScheduleExport(List<Student> students, LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(students, startDate, endDate);
+        checkArgument(!endDate.isBefore(startDate), MESSAGE_CONSTRAINTS);
+        this.students = students;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    /**
+     * Writes the sessions to {@code out} as comma-separated values in order of time, with a header line.
+     *
+     * @return the number of sessions written.
+     */
+    public long writeCsv(Appendable out) throws IOException {
+        CsvUtil.appendLine(out, CSV_HEADER.toArray(new String[0]));
+        PriorityQueue<SessionCursor> cursors = new PriorityQueue<>(Comparator
+                .comparingLong(SessionCursor::getEpochMinute).thenComparingLong(cursor -> cursor.order));
+        long order = 0;
+        for (Student student : students) {
+            for (Session session : student.getListOfSessions()) {
+                SessionCursor cursor = SessionCursor.of(student, session, startDate, endDate, order++);
+                if (cursor != null) {
+                    cursors.add(cursor);
+                }
+            }
+        }
+
+        long numOfSessions = 0;
+        while (!cursors.isEmpty()) {
+            SessionCursor cursor = cursors.poll();
+            Session session = cursor.session;
+            SessionDate sessionDate = SessionDate.of(cursor.epochDay, session.getSessionDate().getMinuteOfDay());
+            CsvUtil.appendLine(out, sessionDate.getDate().toString(), sessionDate.getTime().toString(),
+                    session.getDuration().toString(), cursor.student.getName().fullName,
+                    session.getSubject().getValue(), FeeUtil.formatCents(FeeUtil.getFeeInCents(session)));
+            numOfSessions++;
+            if (cursor.next()) {
+                cursors.add(cursor);
+            }
+        }
+        return numOfSessions;
+    }
+
+    /**
+     * Writes the sessions to {@code out} as an iCalendar, with an event for each session or recurring session.
+     * The times of the events are local times, without a time zone.
+     *
+     * @param timestamp the time in UTC that the export is made at.
+     * @return the number of sessions written, counting each session of a recurring session.
+     */
+    public long writeIcs(Appendable out, LocalDateTime timestamp) throws IOException {
+        String stamp = timestamp.format(ICS_DATE_TIME_FORMATTER) + "Z";
+        appendIcsLine(out, "BEGIN:VCALENDAR");
+        appendIcsLine(out, "VERSION:2.0");
+        appendIcsLine(out, "PRODID:-//TutorBuddy//Schedule Export//EN");
+        appendIcsLine(out, "CALSCALE:GREGORIAN");
+
+        long numOfSessions = 0;
+        for (Student student : students) {
+            for (Session session : student.getListOfSessions()) {
+                SessionCursor cursor = SessionCursor.of(student, session, startDate, endDate, 0);
+                if (cursor != null) {
+                    appendEvent(out, cursor, stamp);
+                    numOfSessions += cursor.getNumOfSessions();
+                }
+            }
+        }
+
+        appendIcsLine(out, "END:VCALENDAR");
+        return numOfSessions;
+    }
+
+    private void appendEvent(Appendable out, SessionCursor cursor, String stamp) throws IOException {
+        Session session = cursor.session;
+        SessionDate start = SessionDate.of(cursor.epochDay, session.getSessionDate().getMinuteOfDay());
+        SessionDate end = start.getEndSessionDate(session.getDuration());
+        long numOfSessions = cursor.getNumOfSessions();
+        long feeInCents = FeeUtil.getSessionFeeInCents(session, startDate.atStartOfDay(),
+                endDate.plusDays(1).atStartOfDay());
+
+        appendIcsLine(out, "BEGIN:VEVENT");
+        // Sessions never overlap, so the start of a session is unique among the sessions of all students.
+        appendIcsLine(out, "UID:" + formatIcsDateTime(session.getSessionDate()) + "@tutorbuddy");
+        appendIcsLine(out, "DTSTAMP:" + stamp);
+        appendIcsLine(out, "DTSTART:" + formatIcsDateTime(start));
+        appendIcsLine(out, "DTEND:" + formatIcsDateTime(end));
+        if (numOfSessions > 1) {
+            appendIcsLine(out, "RRULE:" + getRecurrenceRule(cursor.interval, numOfSessions));
+        }
+        appendIcsLine(out, "SUMMARY:" + escapeIcsText(session.getSubject().getValue() + " - "
+                + cursor.student.getName().fullName));
+        appendIcsLine(out, "DESCRIPTION:" + escapeIcsText(String.format("Fee: $%1$s per session, $%2$s in total",
+                FeeUtil.formatCents(FeeUtil.getFeeInCents(session)), FeeUtil.formatCents(feeInCents))));
+        appendIcsLine(out, "END:VEVENT");
+    }
+
+    private static String getRecurrenceRule(int interval, long count) {
+        if (interval % DAYS_PER_WEEK == 0) {
+            return "FREQ=WEEKLY;INTERVAL=" + interval / DAYS_PER_WEEK + ";COUNT=" + count;
+        }
+        return "FREQ=DAILY;INTERVAL=" + interval + ";COUNT=" + count;
+    }
+
+    private static String formatIcsDateTime(SessionDate sessionDate) {
+        return sessionDate.getDateTime().format(ICS_DATE_TIME_FORMATTER);
+    }
+
+    /**
+     * Returns {@code text} as an iCalendar text value, with backslashes, semicolons, commas and line breaks escaped.
+     */
+    static String escapeIcsText(String text) {
+        return text.replace("\\", "\\\\").replace(";", "\\;").replace(",", "\\,")
+                .replace("\r\n", "\\n").replace("\n", "\\n").replace("\r", "\\n");
+    }
+
+    /**
+     * Appends {@code line} to {@code out}, folded into lines of at most {@link #ICS_MAX_LINE_LENGTH} octets in UTF-8,
+     * each continued line starting with a space.
+     */
+    static void appendIcsLine(Appendable out, String line) throws IOException {
+        int lineLength = 0;
+        int i = 0;
+        while (i < line.length()) {
+            int codePoint = line.codePointAt(i);
+            int charCount = Character.charCount(codePoint);
+            int octets = line.substring(i, i + charCount).getBytes(StandardCharsets.UTF_8).length;
+            if (lineLength + octets > ICS_MAX_LINE_LENGTH) {
+                out.append(ICS_LINE_SEPARATOR).append(' ');
+                lineLength = 1;
+            }
+            out.append(line, i, i + charCount);
+            lineLength += octets;
+            i += charCount;
+        }
+        out.append(ICS_LINE_SEPARATOR);
+    }
+
+    /**
+     * Ways that a schedule can be exported, chosen by the extension of the file it is exported to.
+     */
+    public enum Format {
+        CSV, ICS;
+
+        public static final String MESSAGE_CONSTRAINTS = "Schedule can only be exported to a .csv or .ics file.";
+
+        /**
+         * Returns the format of a file with the extension of {@code filePath}, ignoring case, if there is one.
+         */
+        public static Optional<Format> ofFilePath(Path filePath) {
+            Path fileName = filePath.getFileName();
+            if (fileName == null) {
+                return Optional.empty();
+            }
+            String name = fileName.toString().toLowerCase(Locale.ROOT);
+            for (Format format : values()) {
+                if (name.endsWith("." + format.name().toLowerCase(Locale.ROOT))) {
+                    return Optional.of(format);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * The sessions of a session, or of a recurring session, that take place in a range of dates, walked through by
+     * epoch day.
+     */
+    private static class SessionCursor {
+        private final Student student;
+        private final Session session;
+        private final int interval;
+        private final long lastEpochDay;
+        private final long order;
+        private long epochDay;
+
+        private SessionCursor(Student student, Session session, int interval, long firstEpochDay, long lastEpochDay,
+                long order) {
+            this.student = student;
+            this.session = session;
+            this.interval = interval;
+            this.epochDay = firstEpochDay;
+            this.lastEpochDay = lastEpochDay;
+            this.order = order;
+        }
+
+        /**
+         * Returns a cursor at the first session of {@code session} from {@code startDate} to {@code endDate}, or
+         * null if it has no session in the range.
+         */
+        static SessionCursor of(Student student, Session session, LocalDate startDate, LocalDate endDate,
+                long order) {
+            long startEpochDay = startDate.toEpochDay();
+            long endEpochDay = endDate.toEpochDay();
+            long firstEpochDay = session.getSessionDate().getEpochDay();
+            if (!(session instanceof RecurringSession)) {
+                return firstEpochDay >= startEpochDay && firstEpochDay <= endEpochDay
+                        ? new SessionCursor(student, session, 1, firstEpochDay, firstEpochDay, order)
+                        : null;
+            }
+
+            RecurringSession recurringSession = (RecurringSession) session;
+            int interval = recurringSession.getInterval().getValue();
+            long start = Math.max(firstEpochDay, startEpochDay);
+            long end = Math.min(recurringSession.getLastSessionDate().getEpochDay(), endEpochDay);
+            long firstInRange = start + Math.floorMod(firstEpochDay - start, (long) interval);
+            if (firstInRange > end) {
+                return null;
+            }
+            long lastInRange = firstInRange + (end - firstInRange) / interval * interval;
+            return new SessionCursor(student, session, interval, firstInRange, lastInRange, order);
+        }
+
+        long getEpochMinute() {
+            return epochDay * SessionDate.MINUTES_PER_DAY + session.getSessionDate().getMinuteOfDay();
+        }
+
+        long getNumOfSessions() {
+            return (lastEpochDay - epochDay) / interval + 1;
+        }
+
+        /**
+         * Moves to the next session, returning false if there is none in the range.
+         */
+        boolean next() {
+            epochDay += interval;
+            return epochDay <= lastEpochDay;
+        }
+    }
+}
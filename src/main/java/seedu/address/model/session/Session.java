@@ -3,7 +3,7 @@ package seedu.address.model.session;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.time.LocalDateTime;
+import java.time.LocalDate;
 import java.util.Objects;
 
 /**
@@ -18,6 +18,7 @@ public class Session {
     private Duration duration;
     private Subject subject;
     private Fee fee;
+    private final SessionDate endSessionDate;
 
     /**
      * Constructs a {@code Session}.
@@ -30,6 +31,7 @@ public class Session {
         this.duration = duration;
         this.subject = subject;
         this.fee = fee;
+        this.endSessionDate = sessionDate.getEndSessionDate(duration);
     }
 
     public SessionDate getSessionDate() {
@@ -48,6 +50,14 @@ public class Session {
         return fee;
     }
 
+    /**
+     * Returns the date and time that this session ends, or that the first session ends if it is a
+     * {@code RecurringSession}.
+     */
+    public SessionDate getEndSessionDate() {
+        return endSessionDate;
+    }
+
     public static void checkPossibleEndTime(SessionDate sessionDate, Duration duration) {
         checkArgument(isPossibleEndTime(sessionDate, duration), MESSAGE_CONSTRAINTS);
     }
@@ -57,10 +67,16 @@ public class Session {
      * @return true if the duration + start time does not exceeds the start day itself.
      */
     public static boolean isPossibleEndTime(SessionDate sessionDate, Duration duration) {
-        LocalDateTime startDateTime = sessionDate.getDateTime();
-        LocalDateTime endDateTime = startDateTime.plusMinutes(duration.getValue());
-        return endDateTime.getYear() == startDateTime.getYear() && endDateTime.getMonth() == startDateTime.getMonth()
-            && endDateTime.getDayOfYear() == startDateTime.getDayOfYear();
+        return sessionDate.getMinuteOfDay() + (long) duration.getValue() < SessionDate.MINUTES_PER_DAY;
+    }
+
+    /**
+     * Returns true if this session takes place on a date from {@code inclusiveStart} to {@code inclusiveEnd}.
+     */
+    public boolean hasSessionBetween(LocalDate inclusiveStart, LocalDate inclusiveEnd) {
+        requireAllNonNull(inclusiveStart, inclusiveEnd);
+        long epochDay = sessionDate.getEpochDay();
+        return epochDay >= inclusiveStart.toEpochDay() && epochDay <= inclusiveEnd.toEpochDay();
     }
 
     /**
@@ -68,11 +84,8 @@ public class Session {
      * @param otherSession the other session that is compared to.
      */
     public boolean isOverlapping(Session otherSession) {
-        SessionDate otherSessionStartDate = otherSession.getSessionDate();
-        SessionDate otherSessionEndDate = otherSessionStartDate.getEndSessionDate(otherSession.getDuration());
-        SessionDate sessionStartDate = sessionDate;
-        SessionDate sessionEndDate = sessionStartDate.getEndSessionDate(duration);
-        return isDateTimeOverlapping(sessionStartDate, sessionEndDate, otherSessionStartDate, otherSessionEndDate);
+        return isDateTimeOverlapping(sessionDate, endSessionDate, otherSession.getSessionDate(),
+                otherSession.getEndSessionDate());
     }
 
     /**
@@ -83,43 +96,35 @@ public class Session {
         if (!otherSession.hasSessionOnDate(getSessionDate())) {
             return false;
         }
-        SessionDate sessionStartDate = sessionDate;
-        SessionDate sessionEndDate = sessionStartDate.getEndSessionDate(duration);
-        SessionDate otherSessionStartDate = otherSession.getSessionDate();
-        SessionDate otherSessionEndDate = otherSessionStartDate.getEndSessionDate(otherSession.getDuration());
-        return isTimeOverlapping(sessionStartDate, sessionEndDate, otherSessionStartDate, otherSessionEndDate);
+        return isTimeOverlapping(sessionDate, endSessionDate, otherSession.getSessionDate(),
+                otherSession.getEndSessionDate());
     }
 
     /**
-     * Checks if the two session overlaps each other through {@code LocalDateTime} comparison.
+     * Checks if the two session overlaps each other through comparison of their dates and times.
      */
     public boolean isDateTimeOverlapping(SessionDate sessionStartDate, SessionDate sessionEndDate,
                                          SessionDate otherSessionStartDate, SessionDate otherSessionEndDate) {
-        boolean otherSessionOverlapsAfterSessionStarts = (
-                otherSessionStartDate.getDateTime().isEqual(sessionStartDate.getDateTime())
-                        || otherSessionStartDate.getDateTime().isAfter(sessionStartDate.getDateTime()))
-                && otherSessionStartDate.getDateTime().isBefore(sessionEndDate.getDateTime());
-        boolean sessionOverlapsAfterOtherSessionStarts = (
-                sessionStartDate.getDateTime().isEqual(otherSessionStartDate.getDateTime())
-                        || sessionStartDate.getDateTime().isAfter(otherSessionStartDate.getDateTime()))
-                && sessionStartDate.getDateTime().isBefore(otherSessionEndDate.getDateTime());
-        return otherSessionOverlapsAfterSessionStarts || sessionOverlapsAfterOtherSessionStarts;
+        return isOverlapping(sessionStartDate.getEpochMinute(), sessionEndDate.getEpochMinute(),
+                otherSessionStartDate.getEpochMinute(), otherSessionEndDate.getEpochMinute());
     }
 
     /**
-     * Checks if the two sessions overlaps each other through {@code LocalTime} comparison.
+     * Checks if the two sessions overlaps each other through comparison of their times of day only.
      * A softer check compared to {@link #isDateTimeOverlapping(SessionDate, SessionDate, SessionDate, SessionDate)}.
      */
     public boolean isTimeOverlapping(SessionDate sessionStartDate, SessionDate sessionEndDate,
                                      SessionDate otherSessionStartDate, SessionDate otherSessionEndDate) {
-        boolean otherSessionOverlapsAfterSessionStarts = (
-                otherSessionStartDate.getTime().equals(sessionStartDate.getTime())
-                        || otherSessionStartDate.getTime().isAfter(sessionStartDate.getTime()))
-                && otherSessionStartDate.getTime().isBefore(sessionEndDate.getTime());
-        boolean sessionOverlapsAfterOtherSessionStarts = (
-                sessionStartDate.getTime().equals(otherSessionStartDate.getTime())
-                        || sessionStartDate.getTime().isAfter(otherSessionStartDate.getTime()))
-                && sessionStartDate.getTime().isBefore(otherSessionEndDate.getTime());
+        return isOverlapping(sessionStartDate.getMinuteOfDay(), sessionEndDate.getMinuteOfDay(),
+                otherSessionStartDate.getMinuteOfDay(), otherSessionEndDate.getMinuteOfDay());
+    }
+
+    /**
+     * Returns true if either of the two sessions starts while the other one is taking place.
+     */
+    private static boolean isOverlapping(long start, long end, long otherStart, long otherEnd) {
+        boolean otherSessionOverlapsAfterSessionStarts = otherStart >= start && otherStart < end;
+        boolean sessionOverlapsAfterOtherSessionStarts = start >= otherStart && start < otherEnd;
         return otherSessionOverlapsAfterSessionStarts || sessionOverlapsAfterOtherSessionStarts;
     }
 
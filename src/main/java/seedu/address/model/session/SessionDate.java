@@ -7,13 +7,15 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeParseException;
-import java.time.temporal.ChronoUnit;
 
 import seedu.address.commons.util.DateUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
- * Represents the date and time of the session
+ * Represents the date and time of the session, to the minute.
+ *
+ * The date and time are held as the number of minutes since 1970-01-01T00:00, so that comparing, moving and
+ * counting days between session dates does not create any {@code LocalDateTime}.
  */
 public class SessionDate {
 
@@ -23,7 +25,9 @@ public class SessionDate {
             + "\n"
             + "Also ensure the year is between 1970 and 2037.";
 
-    private LocalDateTime dateTime;
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final long epochMinute;
 
     /**
      * Constructs a {@code SessionDate}.
@@ -33,14 +37,16 @@ public class SessionDate {
      * @param timeValue string of time in HH:MM format
      */
     public SessionDate(String dateValue, String timeValue) {
+        long parsedEpochMinute = 0;
         try {
             LocalDate localDate = LocalDate.parse(dateValue);
             LocalTime localTime = LocalTime.parse(timeValue);
 
-            this.dateTime = localDate.atTime(localTime);
+            parsedEpochMinute = toEpochMinute(localDate.atTime(localTime));
         } catch (DateTimeParseException e) {
             checkArgument(false, MESSAGE_CONSTRAINTS + e.getMessage());
         }
+        this.epochMinute = parsedEpochMinute;
     }
 
     /**
@@ -48,11 +54,13 @@ public class SessionDate {
      * @param dateTime string of date and time in ISO_LOCAL_DATE_TIME
      */
     public SessionDate(String dateTime) {
+        long parsedEpochMinute = 0;
         try {
-            this.dateTime = LocalDateTime.parse(dateTime);
+            parsedEpochMinute = toEpochMinute(LocalDateTime.parse(dateTime));
         } catch (DateTimeParseException e) {
             checkArgument(false, MESSAGE_CONSTRAINTS + e.getMessage());
         }
+        this.epochMinute = parsedEpochMinute;
     }
 
     /**
@@ -60,7 +68,37 @@ public class SessionDate {
      */
     public SessionDate(LocalDateTime localDateTime) {
         requireAllNonNull(localDateTime);
-        this.dateTime = localDateTime;
+        this.epochMinute = toEpochMinute(localDateTime);
+    }
+
+    private SessionDate(long epochMinute) {
+        this.epochMinute = epochMinute;
+    }
+
+    /**
+     * Returns the {@code SessionDate} at {@code minuteOfDay} minutes after the start of the day {@code epochDay}
+     * days after 1970-01-01.
+     */
+    public static SessionDate of(long epochDay, int minuteOfDay) {
+        checkArgument(minuteOfDay >= 0 && minuteOfDay < MINUTES_PER_DAY, MESSAGE_CONSTRAINTS);
+        return new SessionDate(epochDay * MINUTES_PER_DAY + minuteOfDay);
+    }
+
+    /**
+     * Returns true if the day {@code epochDay} days after 1970-01-01 is in a year allowed by
+     * {@link #isValidSessionDate(String, String)}.
+     */
+    public static boolean isValidEpochDay(long epochDay) {
+        return epochDay >= LocalDate.MIN.toEpochDay() && epochDay <= LocalDate.MAX.toEpochDay()
+                && DateUtil.isValidYear(LocalDate.ofEpochDay(epochDay).getYear());
+    }
+
+    /**
+     * Returns the number of minutes from 1970-01-01T00:00 to {@code dateTime}, ignoring its seconds.
+     */
+    public static long toEpochMinute(LocalDateTime dateTime) {
+        return dateTime.toLocalDate().toEpochDay() * MINUTES_PER_DAY
+                + dateTime.getHour() * 60 + dateTime.getMinute();
     }
 
     /**
@@ -69,23 +107,50 @@ public class SessionDate {
      * @return a new end {@code SessionDate}
      */
     public SessionDate getEndSessionDate(Duration duration) {
-        return new SessionDate(this.dateTime.plusMinutes((long) duration.getValue()));
+        return new SessionDate(epochMinute + duration.getValue());
     }
 
     public LocalDateTime getDateTime() {
-        return dateTime;
+        return LocalDateTime.of(getDate(), getTime());
     }
 
     public LocalDate getDate() {
-        return dateTime.toLocalDate();
+        return LocalDate.ofEpochDay(getEpochDay());
     }
 
     public LocalTime getTime() {
-        return dateTime.toLocalTime();
+        int minuteOfDay = getMinuteOfDay();
+        return LocalTime.of(minuteOfDay / 60, minuteOfDay % 60);
+    }
+
+    public long getEpochMinute() {
+        return epochMinute;
+    }
+
+    public long getEpochDay() {
+        return Math.floorDiv(epochMinute, MINUTES_PER_DAY);
+    }
+
+    public int getMinuteOfDay() {
+        return (int) Math.floorMod(epochMinute, MINUTES_PER_DAY);
     }
 
     public boolean isSameTime(SessionDate sessionDate) {
-        return getTime().equals(sessionDate.getTime());
+        return getMinuteOfDay() == sessionDate.getMinuteOfDay();
+    }
+
+    /**
+     * Returns true if this is strictly before {@code sessionDate}.
+     */
+    public boolean isBefore(SessionDate sessionDate) {
+        return epochMinute < sessionDate.epochMinute;
+    }
+
+    /**
+     * Returns true if this is strictly after {@code sessionDate}.
+     */
+    public boolean isAfter(SessionDate sessionDate) {
+        return epochMinute > sessionDate.epochMinute;
     }
 
     /**
@@ -94,7 +159,7 @@ public class SessionDate {
      * @return number of calendar days
      */
     public int numOfDayTo(SessionDate sessionDate) {
-        return (int) ChronoUnit.DAYS.between(getDate(), sessionDate.getDate());
+        return (int) (sessionDate.getEpochDay() - getEpochDay());
     }
 
     /**
@@ -102,7 +167,7 @@ public class SessionDate {
      * @param days number of days to add.
      */
     public SessionDate addDays(int days) {
-        return new SessionDate(dateTime.plusDays((long) days));
+        return new SessionDate(epochMinute + (long) days * MINUTES_PER_DAY);
     }
 
     /**
@@ -110,7 +175,7 @@ public class SessionDate {
      * @param days number of days to deduct.
      */
     public SessionDate minusDays(int days) {
-        return new SessionDate(dateTime.minusDays((long) days));
+        return new SessionDate(epochMinute - (long) days * MINUTES_PER_DAY);
     }
 
     /**
@@ -125,10 +190,12 @@ public class SessionDate {
             return false;
         }
 
-        SessionDate sessionDate = (SessionDate) other;
+        return epochMinute == ((SessionDate) other).epochMinute;
+    }
 
-        return this.dateTime.toLocalDate().equals(sessionDate.dateTime.toLocalDate())
-                && this.dateTime.toLocalTime().equals(sessionDate.dateTime.toLocalTime());
+    @Override
+    public int hashCode() {
+        return Long.hashCode(epochMinute);
     }
 
     /**
@@ -155,6 +222,6 @@ public class SessionDate {
 
     @Override
     public String toString() {
-        return dateTime.toString();
+        return getDateTime().toString();
     }
 }
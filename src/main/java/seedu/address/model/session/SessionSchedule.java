@@ -0,0 +1,259 @@
+package seedu.address.model.session;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Indexes sessions by the days they take place on, so that checking whether a session clashes with
+ * existing sessions does not require comparing it against every session.
+ *
+ * Single sessions are kept in a sorted map keyed by their epoch day, since a session cannot run past
+ * the day it starts on. Recurring sessions are grouped by their interval and the remainder of their start day
+ * modulo that interval, and each group is kept in a {@code DayIntervalTree} over the days the recurrence spans.
+ * Two recurring sessions can only fall on a common day if their remainders agree modulo the gcd of their intervals,
+ * so only those groups are searched.
+ */
+public class SessionSchedule {
+
+    private final TreeMap<Long, List<Session>> singleSessionsByDay = new TreeMap<>();
+    private final Map<Integer, Map<Integer, DayIntervalTree<RecurringSession>>> recurringSessionsByInterval =
+            new HashMap<>();
+    private final Map<SessionDate, Integer> startDateCounts = new HashMap<>();
+
+    /**
+     * Adds {@code session} to the schedule.
+     */
+    public void add(Session session) {
+        requireNonNull(session);
+        startDateCounts.merge(session.getSessionDate(), 1, Integer::sum);
+
+        if (session instanceof RecurringSession) {
+            RecurringSession recurringSession = (RecurringSession) session;
+            long startDay = getStartDay(recurringSession);
+            int interval = recurringSession.getInterval().getValue();
+            recurringSessionsByInterval.computeIfAbsent(interval, unused -> new HashMap<>())
+                    .computeIfAbsent(Math.floorMod(startDay, interval), unused -> new DayIntervalTree<>())
+                    .add(startDay, getLastDay(recurringSession), recurringSession);
+        } else {
+            singleSessionsByDay.computeIfAbsent(getStartDay(session), unused -> new ArrayList<>()).add(session);
+        }
+    }
+
+    /**
+     * Adds every session in {@code sessions} to the schedule.
+     */
+    public void addAll(List<Session> sessions) {
+        requireNonNull(sessions);
+        sessions.forEach(this::add);
+    }
+
+    /**
+     * Removes a session equal to {@code session} from the schedule, if present.
+     */
+    public void remove(Session session) {
+        requireNonNull(session);
+        boolean isRemoved;
+
+        if (session instanceof RecurringSession) {
+            RecurringSession recurringSession = (RecurringSession) session;
+            isRemoved = removeRecurringSession(recurringSession);
+        } else {
+            isRemoved = removeSingleSession(session);
+        }
+
+        if (isRemoved) {
+            startDateCounts.computeIfPresent(session.getSessionDate(),
+                (unused, count) -> count == 1 ? null : count - 1);
+        }
+    }
+
+    /**
+     * Removes every session in {@code sessions} from the schedule.
+     */
+    public void removeAll(List<Session> sessions) {
+        requireNonNull(sessions);
+        sessions.forEach(this::remove);
+    }
+
+    /**
+     * Removes all sessions from the schedule.
+     */
+    public void clear() {
+        singleSessionsByDay.clear();
+        recurringSessionsByInterval.clear();
+        startDateCounts.clear();
+    }
+
+    /**
+     * Returns true if a session in the schedule starts at the same date and time as {@code target}.
+     */
+    public boolean hasSession(Session target) {
+        requireNonNull(target);
+        return startDateCounts.containsKey(target.getSessionDate());
+    }
+
+    /**
+     * Returns true if {@code target}, treated as a single session, overlaps with any session in the schedule.
+     *
+     * @see Session#isOverlapping(Session)
+     */
+    public boolean hasOverlappingSession(Session target) {
+        requireNonNull(target);
+        long day = getStartDay(target);
+
+        List<Session> sessionsOnDay = singleSessionsByDay.getOrDefault(day, List.of());
+        for (Session session : sessionsOnDay) {
+            if (session.isOverlapping(target)) {
+                return true;
+            }
+        }
+
+        if (target instanceof RecurringSession) {
+            // Existing recurring sessions are compared against every session of the target.
+            return hasOverlappingRecurringSession((RecurringSession) target);
+        }
+
+        for (Map.Entry<Integer, Map<Integer, DayIntervalTree<RecurringSession>>> entry
+                : recurringSessionsByInterval.entrySet()) {
+            DayIntervalTree<RecurringSession> sessions = entry.getValue().get(Math.floorMod(day, entry.getKey()));
+            if (sessions != null && sessions.anyOverlapping(day, day, session -> session.isOverlapping(target))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if any session of {@code target} overlaps with any session in the schedule.
+     *
+     * @see RecurringSession#isOverlapping(RecurringSession)
+     */
+    public boolean hasOverlappingSession(RecurringSession target) {
+        requireNonNull(target);
+        return hasOverlappingSingleSession(target) || hasOverlappingRecurringSession(target);
+    }
+
+    /**
+     * Returns true if a single session falls on one of the days of {@code target} and overlaps with it.
+     * Jumps alternately to the next day holding single sessions and the next day of {@code target},
+     * so the work done is bounded by whichever of the two is sparser.
+     */
+    private boolean hasOverlappingSingleSession(RecurringSession target) {
+        int interval = target.getInterval().getValue();
+        long startDay = getStartDay(target);
+        long lastDay = getLastDay(target);
+
+        long day = startDay;
+        while (day <= lastDay) {
+            Map.Entry<Long, List<Session>> entry = singleSessionsByDay.ceilingEntry(day);
+            if (entry == null || entry.getKey() > lastDay) {
+                return false;
+            }
+
+            long sessionDay = entry.getKey();
+            if (Math.floorMod(sessionDay - startDay, interval) == 0) {
+                for (Session session : entry.getValue()) {
+                    if (session.isOverlapping(target)) {
+                        return true;
+                    }
+                }
+                day = sessionDay + interval;
+            } else {
+                day = sessionDay + interval - Math.floorMod(sessionDay - startDay, interval);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if a recurring session that can share a day with {@code target} overlaps with it.
+     */
+    private boolean hasOverlappingRecurringSession(RecurringSession target) {
+        int interval = target.getInterval().getValue();
+        long startDay = getStartDay(target);
+        long lastDay = getLastDay(target);
+
+        for (Map.Entry<Integer, Map<Integer, DayIntervalTree<RecurringSession>>> entry
+                : recurringSessionsByInterval.entrySet()) {
+            int otherInterval = entry.getKey();
+            Map<Integer, DayIntervalTree<RecurringSession>> sessionsByRemainder = entry.getValue();
+            int gcd = (int) RecurringSession.gcd(interval, otherInterval);
+            int remainder = Math.floorMod(startDay, gcd);
+
+            // Steps through the possible remainders or the stored ones, whichever are fewer, since an interval
+            // can be far larger than the number of recurring sessions with it.
+            if (otherInterval / gcd <= sessionsByRemainder.size()) {
+                for (int otherRemainder = remainder; otherRemainder < otherInterval; otherRemainder += gcd) {
+                    if (isOverlapping(sessionsByRemainder.get(otherRemainder), startDay, lastDay, target)) {
+                        return true;
+                    }
+                }
+            } else {
+                for (Map.Entry<Integer, DayIntervalTree<RecurringSession>> sessions : sessionsByRemainder.entrySet()) {
+                    if (sessions.getKey() % gcd == remainder
+                            && isOverlapping(sessions.getValue(), startDay, lastDay, target)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if a recurring session in {@code sessions} spanning a day from {@code startDay} to
+     * {@code lastDay} overlaps with {@code target}.
+     */
+    private static boolean isOverlapping(DayIntervalTree<RecurringSession> sessions, long startDay, long lastDay,
+            RecurringSession target) {
+        return sessions != null
+                && sessions.anyOverlapping(startDay, lastDay, session -> session.isOverlapping(target));
+    }
+
+    private boolean removeSingleSession(Session session) {
+        long day = getStartDay(session);
+        List<Session> sessionsOnDay = singleSessionsByDay.get(day);
+        if (sessionsOnDay == null || !sessionsOnDay.remove(session)) {
+            return false;
+        }
+        if (sessionsOnDay.isEmpty()) {
+            singleSessionsByDay.remove(day);
+        }
+        return true;
+    }
+
+    private boolean removeRecurringSession(RecurringSession session) {
+        int interval = session.getInterval().getValue();
+        long startDay = getStartDay(session);
+        int remainder = Math.floorMod(startDay, interval);
+
+        Map<Integer, DayIntervalTree<RecurringSession>> sessionsByRemainder = recurringSessionsByInterval.get(interval);
+        if (sessionsByRemainder == null) {
+            return false;
+        }
+        DayIntervalTree<RecurringSession> sessions = sessionsByRemainder.get(remainder);
+        if (sessions == null || !sessions.remove(startDay, session)) {
+            return false;
+        }
+        if (sessions.isEmpty()) {
+            sessionsByRemainder.remove(remainder);
+        }
+        if (sessionsByRemainder.isEmpty()) {
+            recurringSessionsByInterval.remove(interval);
+        }
+        return true;
+    }
+
+    private static long getStartDay(Session session) {
+        return session.getSessionDate().getEpochDay();
+    }
+
+    private static long getLastDay(RecurringSession session) {
+        return session.getLastSessionDate().getEpochDay();
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.address.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An index of the names of students by each of their words, ignoring case, so that the names with a word that
+ * starts with a given prefix can be found without checking every name.
+ *
+ * Words are kept in sorted order, so that the words with a given prefix are next to each other.
+ */
+public class NameIndex {
+
+    private final TreeMap<String, Set<Name>> namesByWord = new TreeMap<>();
+
+    /**
+     * Adds {@code name} to the index.
+     */
+    public void add(Name name) {
+        requireNonNull(name);
+        for (String word : getWords(name.fullName)) {
+            namesByWord.computeIfAbsent(word, unused -> new HashSet<>()).add(name);
+        }
+    }
+
+    /**
+     * Removes {@code name} from the index.
+     */
+    public void remove(Name name) {
+        requireNonNull(name);
+        for (String word : getWords(name.fullName)) {
+            Set<Name> names = namesByWord.get(word);
+            if (names != null && names.remove(name) && names.isEmpty()) {
+                namesByWord.remove(word);
+            }
+        }
+    }
+
+    /**
+     * Removes every name from the index.
+     */
+    public void clear() {
+        namesByWord.clear();
+    }
+
+    /**
+     * Returns the names that have a word which starts with any of {@code prefixes}, ignoring case.
+     * Blank prefixes match no names.
+     */
+    public Set<Name> getNamesWithPrefixes(Collection<String> prefixes) {
+        requireNonNull(prefixes);
+        Set<Name> names = new HashSet<>();
+        for (String prefix : prefixes) {
+            String lowerCasePrefix = prefix.trim().toLowerCase(Locale.ROOT);
+            if (lowerCasePrefix.isEmpty()) {
+                continue;
+            }
+            for (Map.Entry<String, Set<Name>> entry : namesByWord.tailMap(lowerCasePrefix).entrySet()) {
+                if (!entry.getKey().startsWith(lowerCasePrefix)) {
+                    break;
+                }
+                names.addAll(entry.getValue());
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Returns true if {@code fullName} has a word that starts with {@code prefix}, ignoring case, as
+     * {@link #getNamesWithPrefixes(Collection)} does for a name in the index.
+     */
+    public static boolean hasWordWithPrefix(String fullName, String prefix) {
+        requireNonNull(fullName);
+        String lowerCasePrefix = prefix.trim().toLowerCase(Locale.ROOT);
+        if (lowerCasePrefix.isEmpty()) {
+            return false;
+        }
+        for (String word : getWords(fullName)) {
+            if (word.startsWith(lowerCasePrefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the lower case words of {@code fullName}, which are separated by spaces.
+     */
+    static List<String> getWords(String fullName) {
+        List<String> words = new ArrayList<>();
+        String lowerCaseName = fullName.toLowerCase(Locale.ROOT);
+        int start = 0;
+        while (start < lowerCaseName.length()) {
+            int end = lowerCaseName.indexOf(' ', start);
+            if (end == -1) {
+                end = lowerCaseName.length();
+            }
+            if (end > start) {
+                words.add(lowerCaseName.substring(start, end));
+            }
+            start = end + 1;
+        }
+        return words;
+    }
+}
@@ -30,8 +30,8 @@ public class Student {
     private final Phone guardianPhone;
     private final String relationship;
 
-    // Session field
-    private List<Session> sessions;
+    // Session field, which is never changed in place so that it can be shared between versions of a student
+    private final List<Session> sessions;
 
     /**
      * Every field must be present and not null.
@@ -46,16 +46,16 @@ public class Student {
         this.studyLevel = studyLevel;
         this.guardianPhone = guardianPhone;
         this.relationship = relationship;
-        this.sessions = new ArrayList<>();
+        this.sessions = List.of();
     }
 
     /**
-     * Construct Student with existing sessions
+     * Construct Student with existing sessions, which are copied unless {@code sessions} is already immutable.
      * Every field must be present and not null.
      */
     public Student(Name name, Phone phone, Email email, Address address, String studyLevel, Phone guardianPhone,
                    String relationship, List<Session> sessions) {
-        requireAllNonNull(name, phone, email, address, studyLevel, guardianPhone, relationship);
+        requireAllNonNull(name, phone, email, address, studyLevel, guardianPhone, relationship, sessions);
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -63,7 +63,7 @@ public class Student {
         this.studyLevel = studyLevel;
         this.guardianPhone = guardianPhone;
         this.relationship = relationship;
-        this.sessions = sessions;
+        this.sessions = List.copyOf(sessions);
     }
 
     public Name getName() {
@@ -94,46 +94,61 @@ public class Student {
         return relationship;
     }
 
+    /**
+     * Returns the sessions of the student, in the order they were added, as an immutable list.
+     */
     public List<Session> getListOfSessions() {
-        return this.sessions;
+        return sessions;
     }
 
     /**
-     * Adds a tuition session to the student.
-     * @param session to be added.
+     * Returns a copy of this student with {@code session} added after its other sessions.
+     * This student is not changed.
      */
-    public void addSession(Session session) {
-        requireAllNonNull(session);
-        this.sessions.add(session);
+    public Student withSession(Session session) {
+        requireNonNull(session);
+        Session[] updatedSessions = sessions.toArray(new Session[sessions.size() + 1]);
+        updatedSessions[sessions.size()] = session;
+        return withSessions(List.of(updatedSessions));
     }
 
     /**
-     * Adds a number of sessions to the student.
-     * @param sessions to be added.
+     * Returns a copy of this student with {@code sessions} added after its other sessions, in order.
+     * This student is not changed.
      */
-    public void addSessions(Session...sessions) {
+    public Student withSessions(Session... sessions) {
         requireNonNull(sessions);
-        this.sessions.addAll(Arrays.asList(sessions));
+        List<Session> updatedSessions = new ArrayList<>(this.sessions);
+        updatedSessions.addAll(Arrays.asList(sessions));
+        return withSessions(updatedSessions);
     }
 
     /**
-     * Deletes a tuition session to the student.
-     * @param sessionIndex (one-based) to be removed.
+     * Returns a copy of this student without the session at {@code sessionIndex}.
+     * This student is not changed.
      */
-    public void removeSession(Index sessionIndex) {
-        requireAllNonNull(sessionIndex);
-        this.sessions.remove(sessionIndex.getZeroBased());
+    public Student withoutSession(Index sessionIndex) {
+        requireNonNull(sessionIndex);
+        List<Session> updatedSessions = new ArrayList<>(sessions);
+        updatedSessions.remove(sessionIndex.getZeroBased());
+        return withSessions(updatedSessions);
     }
 
     /**
-     * Removes a single {@code Session} with {@code sessionDate}.
-     * Splits the remaining {@code RecurringSession} into two {@code RecurringSession}.
-     * @param sessionIndex (one-based) to be removed.
+     * Returns a copy of this student without the single {@code Session} on {@code sessionDate} of the
+     * {@code RecurringSession} at {@code sessionIndex}, which is split into two {@code RecurringSession}s if needed.
+     * This student is not changed.
      */
-    public void removeSessionInRecurringSession(Index sessionIndex, SessionDate sessionDate) {
+    public Student withoutSessionInRecurringSession(Index sessionIndex, SessionDate sessionDate) {
         requireAllNonNull(sessionIndex, sessionDate);
-        RecurringSession recurringSession = (RecurringSession) getListOfSessions().get(sessionIndex.getZeroBased());
-        recurringSession.removeSessionInRecurringSession(sessionIndex, sessionDate, getListOfSessions());
+        RecurringSession recurringSession = (RecurringSession) sessions.get(sessionIndex.getZeroBased());
+        List<Session> updatedSessions = new ArrayList<>(sessions);
+        recurringSession.removeSessionInRecurringSession(sessionIndex, sessionDate, updatedSessions);
+        return withSessions(updatedSessions);
+    }
+
+    private Student withSessions(List<Session> sessions) {
+        return new Student(name, phone, email, address, studyLevel, guardianPhone, relationship, sessions);
     }
 
     /**
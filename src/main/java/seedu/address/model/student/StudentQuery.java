@@ -0,0 +1,166 @@
+package seedu.address.model.student;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.CollectionUtil;
+import seedu.address.model.session.Fee;
+import seedu.address.model.session.Session;
+import seedu.address.model.session.Subject;
+
+/**
+ * Describes the students to be found by their study level, relationship with their guardian, the subject of any of
+ * their sessions, the fee of any of their sessions, or whether any of their sessions takes place between two dates.
+ * A student matches the query if it matches every field that is set. Text fields are matched ignoring case and
+ * repeated spaces.
+ */
+public class StudentQuery implements Predicate<Student> {
+
+    public static final String MESSAGE_MIN_FEE_ABOVE_MAX_FEE = "Minimum fee should not be more than maximum fee.";
+    public static final String MESSAGE_END_DATE_BEFORE_START_DATE = "End date should not be before start date.";
+
+    private String studyLevel;
+    private String relationship;
+    private Subject subject;
+    private Fee minFee;
+    private Fee maxFee;
+    private LocalDate startDate;
+    private LocalDate endDate;
+
+    /**
+     * Returns true if at least one field is set.
+     */
+    public boolean isAnyFieldSet() {
+        return CollectionUtil.isAnyNonNull(studyLevel, relationship, subject, minFee, startDate);
+    }
+
+    public void setStudyLevel(String studyLevel) {
+        this.studyLevel = studyLevel;
+    }
+
+    public Optional<String> getStudyLevel() {
+        return Optional.ofNullable(studyLevel);
+    }
+
+    public void setRelationship(String relationship) {
+        this.relationship = relationship;
+    }
+
+    public Optional<String> getRelationship() {
+        return Optional.ofNullable(relationship);
+    }
+
+    public void setSubject(Subject subject) {
+        this.subject = subject;
+    }
+
+    public Optional<Subject> getSubject() {
+        return Optional.ofNullable(subject);
+    }
+
+    /**
+     * Sets the fees from {@code minFee} to {@code maxFee}, both inclusive, that any session of a student must have.
+     */
+    public void setFeeRange(Fee minFee, Fee maxFee) {
+        requireAllNonNull(minFee, maxFee);
+        checkArgument(minFee.getFee() <= maxFee.getFee(), MESSAGE_MIN_FEE_ABOVE_MAX_FEE);
+        this.minFee = minFee;
+        this.maxFee = maxFee;
+    }
+
+    public Optional<Fee> getMinFee() {
+        return Optional.ofNullable(minFee);
+    }
+
+    public Optional<Fee> getMaxFee() {
+        return Optional.ofNullable(maxFee);
+    }
+
+    /**
+     * Sets the dates from {@code startDate} to {@code endDate}, both inclusive, that any session of a student must
+     * take place on.
+     */
+    public void setDateRange(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        checkArgument(!endDate.isBefore(startDate), MESSAGE_END_DATE_BEFORE_START_DATE);
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    public Optional<LocalDate> getStartDate() {
+        return Optional.ofNullable(startDate);
+    }
+
+    public Optional<LocalDate> getEndDate() {
+        return Optional.ofNullable(endDate);
+    }
+
+    /**
+     * Returns true if {@code student} matches every field that is set, by checking the student directly instead of
+     * an index.
+     */
+    @Override
+    public boolean test(Student student) {
+        requireNonNull(student);
+        return (studyLevel == null || toKey(studyLevel).equals(toKey(student.getStudyLevel())))
+                && (relationship == null || toKey(relationship).equals(toKey(student.getRelationship())))
+                && (subject == null || student.getListOfSessions().stream().anyMatch(this::hasSubject))
+                && (minFee == null || student.getListOfSessions().stream().anyMatch(this::hasFeeInRange))
+                && (startDate == null || student.getListOfSessions().stream()
+                        .anyMatch(session -> session.hasSessionBetween(startDate, endDate)));
+    }
+
+    private boolean hasSubject(Session session) {
+        return toKey(subject.getValue()).equals(toKey(session.getSubject().getValue()));
+    }
+
+    private boolean hasFeeInRange(Session session) {
+        long feeInCents = toCents(session.getFee());
+        return toCents(minFee) <= feeInCents && feeInCents <= toCents(maxFee);
+    }
+
+    /**
+     * Returns {@code value} in lower case with its spaces trimmed and collapsed, so that values which only differ
+     * in case and spacing are equal.
+     */
+    static String toKey(String value) {
+        return value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    static long toCents(Fee fee) {
+        return Math.round(fee.getFee() * 100);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof StudentQuery)) {
+            return false;
+        }
+
+        StudentQuery otherQuery = (StudentQuery) other;
+        return Objects.equals(studyLevel, otherQuery.studyLevel)
+                && Objects.equals(relationship, otherQuery.relationship)
+                && Objects.equals(subject, otherQuery.subject)
+                && Objects.equals(minFee, otherQuery.minFee)
+                && Objects.equals(maxFee, otherQuery.maxFee)
+                && Objects.equals(startDate, otherQuery.startDate)
+                && Objects.equals(endDate, otherQuery.endDate);
+    }
+
+    @Override
+    public int hashCode() {
+        // Subject and Fee do not override hashCode, so they are left out.
+        return Objects.hash(studyLevel, relationship, startDate, endDate);
+    }
+}
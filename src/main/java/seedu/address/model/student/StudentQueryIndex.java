@@ -0,0 +1,209 @@
+package seedu.address.model.student;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.model.session.RecurringSession;
+import seedu.address.model.session.Session;
+
+/**
+ * Indexes the names of students by each field a {@code StudentQuery} can match, so that a query is answered by
+ * intersecting the names found for each of its fields instead of testing every student.
+ *
+ * Study levels, relationships and subjects are kept in hash maps by their lower case values. Fees of sessions are
+ * kept in a sorted map by their number of cents, and single sessions in a sorted map by the day they take place on,
+ * so that a range of fees or days is a range of the map. Recurring sessions are kept in a sorted map by the day of
+ * their last session, so that only the recurring sessions that have not ended before a range of days are checked.
+ * Names found by the fields with a single value are intersected first, as they are the cheapest to find.
+ */
+public class StudentQueryIndex {
+
+    private final Map<String, Set<Name>> namesByStudyLevel = new HashMap<>();
+    private final Map<String, Set<Name>> namesByRelationship = new HashMap<>();
+    private final Map<String, Map<Name, Integer>> namesBySubject = new HashMap<>();
+    private final TreeMap<Long, Map<Name, Integer>> namesByFeeInCents = new TreeMap<>();
+    private final TreeMap<Long, Map<Name, Integer>> namesBySingleSessionDay = new TreeMap<>();
+    private final TreeMap<Long, Map<Name, List<RecurringSession>>> recurringSessionsByLastDay = new TreeMap<>();
+
+    /**
+     * Adds {@code student} and all its sessions to the index.
+     */
+    public void add(Student student) {
+        requireNonNull(student);
+        Name name = student.getName();
+        namesByStudyLevel.computeIfAbsent(StudentQuery.toKey(student.getStudyLevel()), unused -> new HashSet<>())
+                .add(name);
+        namesByRelationship.computeIfAbsent(StudentQuery.toKey(student.getRelationship()), unused -> new HashSet<>())
+                .add(name);
+        for (Session session : student.getListOfSessions()) {
+            add(student, session);
+        }
+    }
+
+    /**
+     * Removes {@code student} and all its sessions from the index.
+     */
+    public void remove(Student student) {
+        requireNonNull(student);
+        Name name = student.getName();
+        removeName(namesByStudyLevel, StudentQuery.toKey(student.getStudyLevel()), name);
+        removeName(namesByRelationship, StudentQuery.toKey(student.getRelationship()), name);
+        for (Session session : student.getListOfSessions()) {
+            remove(student, session);
+        }
+    }
+
+    /**
+     * Adds {@code session} of {@code student} to the index.
+     */
+    public void add(Student student, Session session) {
+        requireAllNonNull(student, session);
+        Name name = student.getName();
+        addCount(namesBySubject, StudentQuery.toKey(session.getSubject().getValue()), name);
+        addCount(namesByFeeInCents, StudentQuery.toCents(session.getFee()), name);
+        if (session instanceof RecurringSession) {
+            RecurringSession recurringSession = (RecurringSession) session;
+            recurringSessionsByLastDay.computeIfAbsent(recurringSession.getLastSessionDate().getEpochDay(),
+                    unused -> new HashMap<>()).computeIfAbsent(name, unused -> new ArrayList<>()).add(recurringSession);
+        } else {
+            addCount(namesBySingleSessionDay, session.getSessionDate().getEpochDay(), name);
+        }
+    }
+
+    /**
+     * Removes {@code session} of {@code student} from the index.
+     */
+    public void remove(Student student, Session session) {
+        requireAllNonNull(student, session);
+        Name name = student.getName();
+        removeCount(namesBySubject, StudentQuery.toKey(session.getSubject().getValue()), name);
+        removeCount(namesByFeeInCents, StudentQuery.toCents(session.getFee()), name);
+        if (session instanceof RecurringSession) {
+            long lastDay = ((RecurringSession) session).getLastSessionDate().getEpochDay();
+            Map<Name, List<RecurringSession>> sessionsByName = recurringSessionsByLastDay.get(lastDay);
+            List<RecurringSession> sessions = sessionsByName == null ? null : sessionsByName.get(name);
+            if (sessions != null && sessions.remove(session) && sessions.isEmpty()) {
+                sessionsByName.remove(name);
+                if (sessionsByName.isEmpty()) {
+                    recurringSessionsByLastDay.remove(lastDay);
+                }
+            }
+        } else {
+            removeCount(namesBySingleSessionDay, session.getSessionDate().getEpochDay(), name);
+        }
+    }
+
+    /**
+     * Removes every student from the index.
+     */
+    public void clear() {
+        namesByStudyLevel.clear();
+        namesByRelationship.clear();
+        namesBySubject.clear();
+        namesByFeeInCents.clear();
+        namesBySingleSessionDay.clear();
+        recurringSessionsByLastDay.clear();
+    }
+
+    /**
+     * Returns the names of the students that match {@code query}, which must have at least one field set.
+     */
+    public Set<Name> getNames(StudentQuery query) {
+        requireNonNull(query);
+        assert query.isAnyFieldSet() : "Query should have at least one field set";
+
+        Set<Name> names = null;
+        if (query.getStudyLevel().isPresent()) {
+            names = intersect(names, namesByStudyLevel.getOrDefault(
+                    StudentQuery.toKey(query.getStudyLevel().get()), Collections.emptySet()));
+        }
+        if (query.getRelationship().isPresent()) {
+            names = intersect(names, namesByRelationship.getOrDefault(
+                    StudentQuery.toKey(query.getRelationship().get()), Collections.emptySet()));
+        }
+        if (query.getSubject().isPresent()) {
+            names = intersect(names, namesBySubject.getOrDefault(
+                    StudentQuery.toKey(query.getSubject().get().getValue()), Collections.emptyMap()).keySet());
+        }
+        if (query.getMinFee().isPresent() && !isEmpty(names)) {
+            names = intersect(names, getNamesWithFeeBetween(StudentQuery.toCents(query.getMinFee().get()),
+                    StudentQuery.toCents(query.getMaxFee().get())));
+        }
+        if (query.getStartDate().isPresent() && !isEmpty(names)) {
+            names = intersect(names, getNamesWithSessionBetween(query.getStartDate().get(),
+                    query.getEndDate().get()));
+        }
+        return names == null ? new HashSet<>() : names;
+    }
+
+    private Set<Name> getNamesWithFeeBetween(long inclusiveMinCents, long inclusiveMaxCents) {
+        Set<Name> names = new HashSet<>();
+        namesByFeeInCents.subMap(inclusiveMinCents, true, inclusiveMaxCents, true).values()
+                .forEach(counts -> names.addAll(counts.keySet()));
+        return names;
+    }
+
+    private Set<Name> getNamesWithSessionBetween(LocalDate inclusiveStart, LocalDate inclusiveEnd) {
+        Set<Name> names = new HashSet<>();
+        namesBySingleSessionDay.subMap(inclusiveStart.toEpochDay(), true, inclusiveEnd.toEpochDay(), true).values()
+                .forEach(counts -> names.addAll(counts.keySet()));
+        for (Map<Name, List<RecurringSession>> sessionsByName
+                : recurringSessionsByLastDay.tailMap(inclusiveStart.toEpochDay(), true).values()) {
+            sessionsByName.forEach((name, sessions) -> {
+                if (!names.contains(name) && sessions.stream()
+                        .anyMatch(session -> session.hasSessionBetween(inclusiveStart, inclusiveEnd))) {
+                    names.add(name);
+                }
+            });
+        }
+        return names;
+    }
+
+    /**
+     * Returns the names in both {@code names} and {@code otherNames}, or a copy of {@code otherNames} if
+     * {@code names} is null as no field has been matched yet.
+     */
+    private static Set<Name> intersect(Set<Name> names, Set<Name> otherNames) {
+        if (names == null) {
+            return new HashSet<>(otherNames);
+        }
+        names.retainAll(otherNames);
+        return names;
+    }
+
+    private static boolean isEmpty(Set<Name> names) {
+        return names != null && names.isEmpty();
+    }
+
+    private static <K> void addCount(Map<K, Map<Name, Integer>> countsByKey, K key, Name name) {
+        countsByKey.computeIfAbsent(key, unused -> new HashMap<>()).merge(name, 1, Integer::sum);
+    }
+
+    private static <K> void removeCount(Map<K, Map<Name, Integer>> countsByKey, K key, Name name) {
+        Map<Name, Integer> counts = countsByKey.get(key);
+        if (counts == null) {
+            return;
+        }
+        counts.computeIfPresent(name, (unused, count) -> count == 1 ? null : count - 1);
+        if (counts.isEmpty()) {
+            countsByKey.remove(key);
+        }
+    }
+
+    private static void removeName(Map<String, Set<Name>> namesByKey, String key, Name name) {
+        Set<Name> names = namesByKey.get(key);
+        if (names != null && names.remove(name) && names.isEmpty()) {
+            namesByKey.remove(key);
+        }
+    }
+}
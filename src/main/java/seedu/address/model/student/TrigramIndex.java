@@ -0,0 +1,272 @@
+package seedu.address.model.student;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An index of the words in the name, email, phone and address of students by their trigrams, so that the students
+ * with words similar to a misspelt keyword can be found without comparing the keyword to every student.
+ *
+ * The words of a field are its runs of letters and digits, ignoring case. Only the part of an email before the
+ * {@code @} is indexed. The trigrams of a word are its substrings of 3 characters after it is padded with two
+ * spaces in front and one behind, so that every word has at least one. Only the words that share enough trigrams
+ * with a keyword are compared to it by their edit distance, counting a swap of two adjacent characters as a single
+ * edit. A word with at most {@link #getMaxEdits(int)} edits from the keyword matches it.
+ */
+public class TrigramIndex {
+
+    private static final int TRIGRAM_LENGTH = 3;
+    // A single edit changes at most this many of the trigrams of a word, when it swaps two characters.
+    private static final int MAX_TRIGRAMS_PER_EDIT = 4;
+
+    private final Map<String, Set<String>> wordsByTrigram = new HashMap<>();
+    private final Map<String, Map<Name, Integer>> namesByWord = new HashMap<>();
+
+    /**
+     * Adds the words of {@code student} to the index.
+     */
+    public void add(Student student) {
+        requireNonNull(student);
+        Name name = student.getName();
+        for (String word : getWords(student)) {
+            Map<Name, Integer> names = namesByWord.get(word);
+            if (names == null) {
+                names = new HashMap<>();
+                namesByWord.put(word, names);
+                for (String trigram : getTrigrams(word)) {
+                    wordsByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(word);
+                }
+            }
+            names.merge(name, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Removes the words of {@code student} from the index.
+     */
+    public void remove(Student student) {
+        requireNonNull(student);
+        Name name = student.getName();
+        for (String word : getWords(student)) {
+            Map<Name, Integer> names = namesByWord.get(word);
+            if (names == null) {
+                continue;
+            }
+            names.computeIfPresent(name, (unused, count) -> count == 1 ? null : count - 1);
+            if (!names.isEmpty()) {
+                continue;
+            }
+
+            namesByWord.remove(word);
+            for (String trigram : getTrigrams(word)) {
+                Set<String> words = wordsByTrigram.get(trigram);
+                words.remove(word);
+                if (words.isEmpty()) {
+                    wordsByTrigram.remove(trigram);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes every student from the index.
+     */
+    public void clear() {
+        wordsByTrigram.clear();
+        namesByWord.clear();
+    }
+
+    /**
+     * Returns the names of the students with a word that matches any of the words of {@code keywords}, each with
+     * its similarity to the keywords.
+     *
+     * The similarity of a word to a keyword is 1 less the fraction of the longer of the two that has to be edited.
+     * The similarity of a student is the mean over all the keywords of the similarity of its most similar word,
+     * or 0 for a keyword that none of its words matches, so that it is 1 for a student with every keyword.
+     */
+    public Map<Name, Double> getSimilarities(Collection<String> keywords) {
+        requireNonNull(keywords);
+        List<String> queryWords = new ArrayList<>();
+        for (String keyword : keywords) {
+            queryWords.addAll(getWords(keyword));
+        }
+
+        Map<Name, double[]> bestSimilaritiesByName = new HashMap<>();
+        for (int i = 0; i < queryWords.size(); i++) {
+            for (Map.Entry<String, Double> match : getMatchingWords(queryWords.get(i)).entrySet()) {
+                for (Name name : namesByWord.get(match.getKey()).keySet()) {
+                    double[] bestSimilarities = bestSimilaritiesByName.computeIfAbsent(name,
+                            unused -> new double[queryWords.size()]);
+                    bestSimilarities[i] = Math.max(bestSimilarities[i], match.getValue());
+                }
+            }
+        }
+
+        Map<Name, Double> similarities = new HashMap<>();
+        bestSimilaritiesByName.forEach((name, bestSimilarities) -> {
+            double total = 0;
+            for (double similarity : bestSimilarities) {
+                total += similarity;
+            }
+            similarities.put(name, total / queryWords.size());
+        });
+        return similarities;
+    }
+
+    /**
+     * Returns the similarity of {@code student} to {@code keywords}, as {@link #getSimilarities(Collection)} does
+     * for a student in the index, or 0 if none of its words matches any keyword.
+     * Every word of the student is compared to the keywords, so this is only meant for a few students.
+     */
+    public static double getSimilarity(Student student, Collection<String> keywords) {
+        requireAllNonNull(student, keywords);
+        List<String> queryWords = new ArrayList<>();
+        for (String keyword : keywords) {
+            queryWords.addAll(getWords(keyword));
+        }
+        if (queryWords.isEmpty()) {
+            return 0;
+        }
+
+        List<String> words = getWords(student);
+        double total = 0;
+        for (String queryWord : queryWords) {
+            double bestSimilarity = 0;
+            for (String word : words) {
+                bestSimilarity = Math.max(bestSimilarity, getSimilarity(queryWord, word));
+            }
+            total += bestSimilarity;
+        }
+        return total / queryWords.size();
+    }
+
+    /**
+     * Returns the words in the index that match {@code queryWord}, each with its similarity to {@code queryWord}.
+     */
+    private Map<String, Double> getMatchingWords(String queryWord) {
+        Set<String> queryTrigrams = getTrigrams(queryWord);
+        Map<String, Integer> sharedTrigramCounts = new HashMap<>();
+        for (String trigram : queryTrigrams) {
+            for (String word : wordsByTrigram.getOrDefault(trigram, Collections.emptySet())) {
+                sharedTrigramCounts.merge(word, 1, Integer::sum);
+            }
+        }
+
+        // A word within the maximum number of edits keeps all but a few of the trigrams of the query word.
+        int maxEdits = getMaxEdits(queryWord.length());
+        int minSharedTrigrams = Math.max(1, queryTrigrams.size() - MAX_TRIGRAMS_PER_EDIT * maxEdits);
+        Map<String, Double> matchingWords = new HashMap<>();
+        sharedTrigramCounts.forEach((word, count) -> {
+            if (count < minSharedTrigrams) {
+                return;
+            }
+            double similarity = getSimilarity(queryWord, word);
+            if (similarity > 0) {
+                matchingWords.put(word, similarity);
+            }
+        });
+        return matchingWords;
+    }
+
+    /**
+     * Returns the similarity of {@code word} to {@code queryWord}, or 0 if it does not match.
+     */
+    private static double getSimilarity(String queryWord, String word) {
+        int maxEdits = getMaxEdits(queryWord.length());
+        if (Math.abs(word.length() - queryWord.length()) > maxEdits) {
+            return 0;
+        }
+        int edits = getEditDistance(queryWord, word);
+        return edits <= maxEdits ? 1 - (double) edits / Math.max(queryWord.length(), word.length()) : 0;
+    }
+
+    /**
+     * Returns the number of edits a word of {@code length} characters can have from a keyword of the same length
+     * and still match it.
+     */
+    static int getMaxEdits(int length) {
+        if (length <= 2) {
+            return 0;
+        }
+        return length <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Returns the number of insertions, deletions, substitutions and swaps of two adjacent characters needed to
+     * turn {@code first} into {@code second}, where no substring is edited more than once.
+     */
+    static int getEditDistance(String first, String second) {
+        int[][] distances = new int[first.length() + 1][second.length() + 1];
+        for (int i = 0; i <= first.length(); i++) {
+            distances[i][0] = i;
+        }
+        for (int j = 0; j <= second.length(); j++) {
+            distances[0][j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                distances[i][j] = Math.min(Math.min(distances[i - 1][j] + 1, distances[i][j - 1] + 1),
+                        distances[i - 1][j - 1] + substitution);
+                if (i > 1 && j > 1 && first.charAt(i - 1) == second.charAt(j - 2)
+                        && first.charAt(i - 2) == second.charAt(j - 1)) {
+                    distances[i][j] = Math.min(distances[i][j], distances[i - 2][j - 2] + 1);
+                }
+            }
+        }
+        return distances[first.length()][second.length()];
+    }
+
+    /**
+     * Returns the trigrams of {@code word}.
+     */
+    static Set<String> getTrigrams(String word) {
+        String paddedWord = "  " + word + " ";
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (int i = 0; i + TRIGRAM_LENGTH <= paddedWord.length(); i++) {
+            trigrams.add(paddedWord.substring(i, i + TRIGRAM_LENGTH));
+        }
+        return trigrams;
+    }
+
+    private static List<String> getWords(Student student) {
+        List<String> words = getWords(student.getName().fullName);
+        String email = student.getEmail().value;
+        // Domains are shared by too many students to tell them apart.
+        words.addAll(getWords(email.substring(0, email.lastIndexOf('@'))));
+        words.addAll(getWords(student.getPhone().value));
+        words.addAll(getWords(student.getAddress().value));
+        return words;
+    }
+
+    /**
+     * Returns the lower case runs of letters and digits in {@code text}.
+     */
+    static List<String> getWords(String text) {
+        List<String> words = new ArrayList<>();
+        String lowerCaseText = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lowerCaseText.length(); i++) {
+            boolean isWordCharacter = i < lowerCaseText.length()
+                    && Character.isLetterOrDigit(lowerCaseText.charAt(i));
+            if (isWordCharacter && start == -1) {
+                start = i;
+            } else if (!isWordCharacter && start != -1) {
+                words.add(lowerCaseText.substring(start, i));
+                start = -1;
+            }
+        }
+        return words;
+    }
+}
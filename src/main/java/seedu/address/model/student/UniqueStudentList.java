@@ -3,17 +3,31 @@ package seedu.address.model.student;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.index.Index;
+import seedu.address.model.ModelChange;
+import seedu.address.model.ModelChangeListener;
+import seedu.address.model.fee.FeeLedger;
 import seedu.address.model.session.RecurringSession;
 import seedu.address.model.session.Session;
 import seedu.address.model.session.SessionDate;
+import seedu.address.model.session.SessionSchedule;
 import seedu.address.model.student.exceptions.DuplicateStudentException;
 import seedu.address.model.student.exceptions.StudentNotFoundException;
+import seedu.address.model.tuition.Tuition;
+import seedu.address.model.tuition.TuitionCalendar;
 
 /**
  * A list of students that enforces uniqueness between its elements and does not allow nulls.
@@ -23,6 +37,13 @@ import seedu.address.model.student.exceptions.StudentNotFoundException;
  *  Student#equals(Object) so as to ensure that the student with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * Students are additionally indexed by name together with their position in the list, by the words of their
+ * names in a {@code NameIndex}, by the trigrams of the words of their details in a {@code TrigramIndex}, and by
+ * the fields of a {@code StudentQuery} in a {@code StudentQueryIndex}. Sessions of all students are indexed in a
+ * {@code SessionSchedule}, a {@code TuitionCalendar} and a {@code FeeLedger}. These are kept in sync by every
+ * operation that changes the students or their sessions, before the change is made visible through the
+ * {@code ObservableList}.
+ * Each such operation is then reported to the registered {@code ModelChangeListener}s.
  *
  * @see Student#isSameStudent(Student)
  */
@@ -31,13 +52,22 @@ public class UniqueStudentList implements Iterable<Student> {
     private final ObservableList<Student> internalList = FXCollections.observableArrayList();
     private final ObservableList<Student> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Integer> positionsByName = new HashMap<>();
+    private final NameIndex nameIndex = new NameIndex();
+    private final TrigramIndex trigramIndex = new TrigramIndex();
+    private final StudentQueryIndex queryIndex = new StudentQueryIndex();
+    private final SessionSchedule schedule = new SessionSchedule();
+    private final TuitionCalendar calendar = new TuitionCalendar(student -> positionsByName.get(student.getName()));
+    private final FeeLedger feeLedger = new FeeLedger();
+    private final List<ModelChangeListener> changeListeners = new ArrayList<>();
+    private long version;
 
     /**
      * Returns true if the list contains an equivalent student as the given argument.
      */
     public boolean contains(Student toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameStudent);
+        return positionsByName.containsKey(toCheck.getName());
     }
 
     /**
@@ -49,7 +79,64 @@ public class UniqueStudentList implements Iterable<Student> {
         if (contains(toAdd)) {
             throw new DuplicateStudentException();
         }
+        positionsByName.put(toAdd.getName(), internalList.size());
+        nameIndex.add(toAdd.getName());
+        trigramIndex.add(toAdd);
+        queryIndex.add(toAdd);
+        indexSessions(toAdd);
+        version++;
         internalList.add(toAdd);
+        fireStudentAdded(toAdd);
+    }
+
+    /**
+     * Adds a student to the list at {@code position}, moving the students from that position onwards back by one.
+     * The student must not already exist in the list.
+     */
+    public void add(int position, Student toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateStudentException();
+        }
+        if (position < 0 || position > internalList.size()) {
+            throw new IndexOutOfBoundsException(position);
+        }
+        for (int i = position; i < internalList.size(); i++) {
+            positionsByName.put(internalList.get(i).getName(), i + 1);
+        }
+        positionsByName.put(toAdd.getName(), position);
+        nameIndex.add(toAdd.getName());
+        trigramIndex.add(toAdd);
+        queryIndex.add(toAdd);
+        indexSessions(toAdd);
+        version++;
+        internalList.add(position, toAdd);
+        fireStudentAdded(toAdd);
+    }
+
+    /**
+     * Adds {@code students} to the end of the list, in order.
+     * None of the students may already exist in the list, and {@code students} must not contain duplicate students.
+     */
+    public void addAll(List<Student> students) {
+        requireAllNonNull(students);
+        Set<Name> names = new HashSet<>();
+        for (Student student : students) {
+            if (contains(student) || !names.add(student.getName())) {
+                throw new DuplicateStudentException();
+            }
+        }
+
+        for (Student student : students) {
+            positionsByName.put(student.getName(), positionsByName.size());
+            nameIndex.add(student.getName());
+            trigramIndex.add(student);
+            queryIndex.add(student);
+            indexSessions(student);
+        }
+        version++;
+        internalList.addAll(students);
+        students.forEach(this::fireStudentAdded);
     }
 
     /**
@@ -60,7 +147,7 @@ public class UniqueStudentList implements Iterable<Student> {
     public void setStudent(Student target, Student editedStudent) {
         requireAllNonNull(target, editedStudent);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new StudentNotFoundException();
         }
@@ -69,7 +156,22 @@ public class UniqueStudentList implements Iterable<Student> {
             throw new DuplicateStudentException();
         }
 
+        // target may be an earlier version of the student in the list, without its latest sessions
+        Student replacedStudent = internalList.get(index);
+        positionsByName.remove(replacedStudent.getName());
+        positionsByName.put(editedStudent.getName(), index);
+        nameIndex.remove(replacedStudent.getName());
+        nameIndex.add(editedStudent.getName());
+        trigramIndex.remove(replacedStudent);
+        trigramIndex.add(editedStudent);
+        queryIndex.remove(replacedStudent);
+        queryIndex.add(editedStudent);
+        unindexSessions(replacedStudent);
+        indexSessions(editedStudent);
+        version++;
         internalList.set(index, editedStudent);
+        fireStudentRemoved(replacedStudent);
+        fireStudentAdded(editedStudent);
     }
 
     /**
@@ -78,14 +180,32 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public void remove(Student toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new StudentNotFoundException();
         }
+
+        // toRemove may be an earlier version of the student in the list, without its latest sessions
+        Student removedStudent = internalList.get(index);
+        unindexSessions(removedStudent);
+        positionsByName.remove(removedStudent.getName());
+        nameIndex.remove(removedStudent.getName());
+        trigramIndex.remove(removedStudent);
+        queryIndex.remove(removedStudent);
+        for (int i = index + 1; i < internalList.size(); i++) {
+            positionsByName.put(internalList.get(i).getName(), i - 1);
+        }
+        version++;
+        internalList.remove(index);
+        fireStudentRemoved(removedStudent);
     }
 
     public void setStudents(UniqueStudentList replacement) {
         requireNonNull(replacement);
+        rebuildIndexes(replacement.internalList);
+        version++;
         internalList.setAll(replacement.internalList);
+        fire(ModelChange.reset());
     }
 
     /**
@@ -98,7 +218,10 @@ public class UniqueStudentList implements Iterable<Student> {
             throw new DuplicateStudentException();
         }
 
+        rebuildIndexes(students);
+        version++;
         internalList.setAll(students);
+        fire(ModelChange.reset());
     }
 
     /**
@@ -107,23 +230,53 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public Student getStudentWithName(Name name) {
         requireNonNull(name);
-        for (int i = 0; i < internalList.size(); i++) {
-            if (internalList.get(i).getName().equals(name)) {
-                return internalList.get(i);
-            }
-        }
-        return null;
+        Integer index = positionsByName.get(name);
+        return index == null ? null : internalList.get(index);
     }
 
     /**
      * Returns true if {@code name} exists in the unique student list
      */
     public boolean hasName(Name name) {
-        Student student = getStudentWithName(name);
-        if (student == null) {
-            return false;
-        }
-        return true;
+        requireNonNull(name);
+        return positionsByName.containsKey(name);
+    }
+
+    /**
+     * Returns the number of changes made to the list so far. The version is changed before each change is made
+     * visible through the {@code ObservableList}, so a result found in the indexes of the list still holds for
+     * every student while the version is unchanged.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the names of the students with a word in their name that starts with any of {@code prefixes},
+     * ignoring case.
+     */
+    public Set<Name> getNamesWithPrefixes(Collection<String> prefixes) {
+        requireNonNull(prefixes);
+        return nameIndex.getNamesWithPrefixes(prefixes);
+    }
+
+    /**
+     * Returns the names of the students with a name, email, phone or address similar to any of {@code keywords},
+     * each with its similarity to the keywords from 0 to 1.
+     *
+     * @see TrigramIndex#getSimilarities(Collection)
+     */
+    public Map<Name, Double> getSimilarities(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return trigramIndex.getSimilarities(keywords);
+    }
+
+    /**
+     * Returns the names of the students that match {@code query}, which must have at least one field set.
+     */
+    public Set<Name> getNamesMatching(StudentQuery query) {
+        requireNonNull(query);
+        return queryIndex.getNames(query);
     }
 
     /**
@@ -132,18 +285,7 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public boolean hasSession(Session target) {
         requireNonNull(target);
-        SessionDate targetSessionDate = target.getSessionDate();
-
-        for (Student student : internalList) {
-            List<Session> sessionList = student.getListOfSessions();
-            for (Session session : sessionList) {
-                SessionDate sessionDate = session.getSessionDate();
-                if (sessionDate.equals(targetSessionDate)) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return schedule.hasSession(target);
     }
 
     /**
@@ -154,16 +296,7 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public boolean hasOverlappingSession(Session target) {
         requireNonNull(target);
-
-        for (Student student : internalList) {
-            List<Session> sessionList = student.getListOfSessions();
-            for (Session session : sessionList) {
-                if (session.isOverlapping(target)) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return schedule.hasOverlappingSession(target);
     }
 
     /**
@@ -174,53 +307,151 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public boolean hasOverlappingSession(RecurringSession target) {
         requireNonNull(target);
-
-        for (Student student : internalList) {
-            List<Session> sessionList = student.getListOfSessions();
-            for (Session session : sessionList) {
-                if (session.isOverlapping(target)) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return schedule.hasOverlappingSession(target);
     }
 
     /**
      * Adds a {@code Session} to the target {@code Student} in the student list.
+     * The student is replaced by a copy of it with the session.
      *
      * @param target Target student.
      * @param session Session to be added.
      */
     public void addSession(Student target, Session session) {
-        target.addSession(session);
-        int index = internalList.indexOf(target);
-        internalList.set(index, target);
+        requireAllNonNull(target, session);
+        Student current = getCurrentStudent(target);
+        setSessions(current, current.withSession(session), List.of(), List.of(session));
     }
 
     /**
      * Deletes a {@code Session} in the target {@code Student} of the student list.
+     * The student is replaced by a copy of it without the session.
      *
      * @param target Target student.
      * @param sessionIndex Index of session to be deleted.
      */
     public void deleteSession(Student target, Index sessionIndex) {
-        target.removeSession(sessionIndex);
-        int index = internalList.indexOf(target);
-        internalList.set(index, target);
+        requireAllNonNull(target, sessionIndex);
+        Student current = getCurrentStudent(target);
+        Session removedSession = current.getListOfSessions().get(sessionIndex.getZeroBased());
+        setSessions(current, current.withoutSession(sessionIndex), List.of(removedSession), List.of());
     }
 
     /**
      * Deletes a {@code Session} from a {@code RecurringSession} in the target {@code Student} in the student list.
+     * The student is replaced by a copy of it with the recurring session split around the deleted session.
      *
      * @param target Target student.
      * @param sessionIndex Index of session to be deleted.
      * @param sessionDate Date to be removed from the recurring session.
      */
     public void deleteSessionInRecurringSession(Student target, Index sessionIndex, SessionDate sessionDate) {
-        target.removeSessionInRecurringSession(sessionIndex, sessionDate);
-        int index = internalList.indexOf(target);
-        internalList.set(index, target);
+        requireAllNonNull(target, sessionIndex, sessionDate);
+        Student current = getCurrentStudent(target);
+        Student editedStudent = current.withoutSessionInRecurringSession(sessionIndex, sessionDate);
+        List<Session> sessionsBefore = current.getListOfSessions();
+        List<Session> sessionsAfter = editedStudent.getListOfSessions();
+
+        List<Session> removedSessions = new ArrayList<>(sessionsBefore);
+        removedSessions.removeAll(sessionsAfter);
+        List<Session> addedSessions = new ArrayList<>(sessionsAfter);
+        addedSessions.removeAll(sessionsBefore);
+        setSessions(current, editedStudent, removedSessions, addedSessions);
+    }
+
+    /**
+     * Returns the student in the list that is equivalent to {@code target}.
+     * {@code target} may be an earlier version of the student in the list, without its latest sessions, so the
+     * sessions of the returned student should be used instead.
+     *
+     * @throws StudentNotFoundException if there is no such student.
+     */
+    private Student getCurrentStudent(Student target) {
+        int index = indexOf(target);
+        if (index == -1) {
+            throw new StudentNotFoundException();
+        }
+        return internalList.get(index);
+    }
+
+    /**
+     * Replaces {@code current}, the student in the list, with {@code editedStudent}, which differs from it only by
+     * {@code removedSessions} and {@code addedSessions}, and re-indexes only those sessions.
+     * The tuition calendar keeps the student of each session, so the other sessions of the student are moved to
+     * {@code editedStudent} there too.
+     */
+    private void setSessions(Student current, Student editedStudent, List<Session> removedSessions,
+            List<Session> addedSessions) {
+        int index = indexOf(current);
+        assert internalList.get(index) == current;
+
+        for (Session session : removedSessions) {
+            schedule.remove(session);
+            feeLedger.remove(current, session);
+            queryIndex.remove(current, session);
+        }
+        for (Session session : addedSessions) {
+            schedule.add(session);
+            feeLedger.add(editedStudent, session);
+            queryIndex.add(editedStudent, session);
+        }
+        calendar.update(editedStudent, removedSessions, addedSessions);
+
+        version++;
+        internalList.set(index, editedStudent);
+        removedSessions.forEach(session -> fire(ModelChange.sessionRemoved(editedStudent, session)));
+        addedSessions.forEach(session -> fire(ModelChange.sessionAdded(editedStudent, session)));
+    }
+
+    /**
+     * Returns the tuitions of all students taking place on {@code date}, ordered by their start time.
+     */
+    public List<Tuition> getTuitionsOnDate(LocalDate date) {
+        requireNonNull(date);
+        return calendar.getTuitionsOnDate(date);
+    }
+
+    /**
+     * Prepares the tuitions of all students from {@code startDate} to {@code endDate}, both inclusive, to be looked
+     * up by {@link #getTuitionsOnDate(LocalDate)}.
+     *
+     * @see TuitionCalendar#setWindow(LocalDate, LocalDate)
+     */
+    public void setTuitionWindow(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        calendar.setWindow(startDate, endDate);
+    }
+
+    /**
+     * Returns the total fee of all students in {@code month}.
+     */
+    public double getMonthlyFee(YearMonth month) {
+        requireNonNull(month);
+        return feeLedger.getMonthlyFee(month);
+    }
+
+    /**
+     * Returns the fee of the student with {@code name} in {@code month}.
+     */
+    public double getMonthlyFee(Name name, YearMonth month) {
+        requireAllNonNull(name, month);
+        return feeLedger.getMonthlyFee(name, month);
+    }
+
+    /**
+     * Returns the total fee of all students from {@code inclusiveStart} to {@code exclusiveEnd}.
+     */
+    public double getFee(YearMonth inclusiveStart, YearMonth exclusiveEnd) {
+        requireAllNonNull(inclusiveStart, exclusiveEnd);
+        return feeLedger.getFee(inclusiveStart, exclusiveEnd);
+    }
+
+    /**
+     * Registers {@code listener} to be notified of every change made to the students or their sessions.
+     */
+    public void addChangeListener(ModelChangeListener listener) {
+        requireNonNull(listener);
+        changeListeners.add(listener);
     }
 
     /**
@@ -269,15 +500,75 @@ public class UniqueStudentList implements Iterable<Student> {
         return internalList.hashCode();
     }
 
+    /**
+     * Returns the position of {@code student} in the list, or -1 if no equal student is in the list.
+     */
+    public int indexOf(Student student) {
+        Integer index = positionsByName.get(student.getName());
+        if (index == null || !internalList.get(index).equals(student)) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Re-indexes the names, positions and sessions of every student in {@code students},
+     * which are about to replace the contents of the list.
+     */
+    private void rebuildIndexes(List<Student> students) {
+        positionsByName.clear();
+        nameIndex.clear();
+        trigramIndex.clear();
+        queryIndex.clear();
+        schedule.clear();
+        calendar.clear();
+        feeLedger.clear();
+        for (int i = 0; i < students.size(); i++) {
+            Student student = students.get(i);
+            positionsByName.put(student.getName(), i);
+            nameIndex.add(student.getName());
+            trigramIndex.add(student);
+            queryIndex.add(student);
+            indexSessions(student);
+        }
+    }
+
+    private void indexSessions(Student student) {
+        schedule.addAll(student.getListOfSessions());
+        calendar.addAll(student);
+        feeLedger.addAll(student);
+    }
+
+    private void unindexSessions(Student student) {
+        schedule.removeAll(student.getListOfSessions());
+        calendar.removeAll(student);
+        feeLedger.removeAll(student);
+    }
+
+    private void fireStudentAdded(Student student) {
+        fire(ModelChange.studentAdded(student));
+        student.getListOfSessions().forEach(session -> fire(ModelChange.sessionAdded(student, session)));
+    }
+
+    private void fireStudentRemoved(Student student) {
+        fire(ModelChange.studentRemoved(student));
+        student.getListOfSessions().forEach(session -> fire(ModelChange.sessionRemoved(student, session)));
+    }
+
+    private void fire(ModelChange change) {
+        for (ModelChangeListener listener : changeListeners) {
+            listener.onModelChange(change);
+        }
+    }
+
     /**
      * Returns true if {@code students} contains only unique students.
      */
     private boolean studentsAreUnique(List<Student> students) {
-        for (int i = 0; i < students.size() - 1; i++) {
-            for (int j = i + 1; j < students.size(); j++) {
-                if (students.get(i).isSameStudent(students.get(j))) {
-                    return false;
-                }
+        Set<Name> names = new HashSet<>();
+        for (Student student : students) {
+            if (!names.add(student.getName())) {
+                return false;
             }
         }
         return true;
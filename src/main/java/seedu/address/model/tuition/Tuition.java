@@ -2,9 +2,11 @@ package seedu.address.model.tuition;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
 import java.util.Objects;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.model.session.RecurringSession;
 import seedu.address.model.session.Session;
 import seedu.address.model.student.Student;
 
@@ -49,6 +51,19 @@ public class Tuition {
         return this.studentIndex.getOneBased();
     }
 
+    /**
+     * Returns a {@code Tuition} for the single session on {@code date} if the session of this tuition is a
+     * {@code RecurringSession}, or this tuition otherwise.
+     */
+    public Tuition onDate(LocalDate date) {
+        requireAllNonNull(date);
+        if (!(session instanceof RecurringSession)) {
+            return this;
+        }
+        Session sessionOnDate = ((RecurringSession) session).buildSessionOnDate(date);
+        return new Tuition(student, sessionOnDate, studentIndex.getZeroBased(), sessionIndex.getZeroBased());
+    }
+
     /**
      * Returns true if both students have the same identity and data fields.
      * This defines a stronger notion of equality between two students.
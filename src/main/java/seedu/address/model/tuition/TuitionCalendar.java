@@ -0,0 +1,304 @@
+package seedu.address.model.tuition;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+import seedu.address.model.session.RecurringSession;
+import seedu.address.model.session.Session;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Student;
+
+/**
+ * Groups the sessions of students by the dates they take place on, so that the {@code Tuition}s on a date can be
+ * looked up without going through every session.
+ *
+ * Single sessions are kept by their date. Recurring sessions are expanded into per-date buckets only within a window
+ * of dates, which is set by {@link #setWindow(LocalDate, LocalDate)} before the dates shown are looked up. Looking up
+ * a date outside of the window goes through the recurring sessions instead, and never moves the window.
+ *
+ * The sessions of each student are kept by the name of the student, so that a change to some sessions of a student
+ * only moves those sessions, and the other sessions are moved to the new version of the student all at once.
+ */
+public class TuitionCalendar {
+
+    public static final String MESSAGE_CONSTRAINTS = "End of window should be equal to or after its start";
+
+    /** Number of days the window extends on either side of the dates it is set to. */
+    static final int WINDOW_PADDING_DAYS = 28;
+
+    /** Maximum number of days the window can be widened to. */
+    static final int MAX_WINDOW_DAYS = 366;
+
+    private static final Comparator<Tuition> TIME_COMPARATOR =
+            Comparator.comparing(tuition -> tuition.getSession().getSessionDate().getTime());
+
+    private final ToIntFunction<Student> studentIndexer;
+
+    private final Map<Name, StudentEntries> entriesByName = new HashMap<>();
+    private final TreeMap<LocalDate, Set<Entry>> singleEntriesByDate = new TreeMap<>();
+    private final Set<Entry> recurringEntries = new LinkedHashSet<>();
+    private final Map<LocalDate, Set<Entry>> recurringEntriesInWindowByDate = new HashMap<>();
+
+    private LocalDate windowStart;
+    private LocalDate windowEnd;
+
+    /**
+     * Creates an empty {@code TuitionCalendar}.
+     *
+     * @param studentIndexer Gives the zero-based position of a student, used as the student index of each tuition.
+     */
+    public TuitionCalendar(ToIntFunction<Student> studentIndexer) {
+        requireNonNull(studentIndexer);
+        this.studentIndexer = studentIndexer;
+    }
+
+    /**
+     * Adds {@code session} of {@code student} to the calendar.
+     */
+    public void add(Student student, Session session) {
+        requireAllNonNull(student, session);
+        update(student, List.of(), List.of(session));
+    }
+
+    /**
+     * Adds every session of {@code student} to the calendar.
+     */
+    public void addAll(Student student) {
+        requireNonNull(student);
+        update(student, List.of(), student.getListOfSessions());
+    }
+
+    /**
+     * Removes {@code session} of {@code student} from the calendar, if present.
+     */
+    public void remove(Student student, Session session) {
+        requireAllNonNull(student, session);
+        update(student, List.of(session), List.of());
+    }
+
+    /**
+     * Removes every session of the student with the same name as {@code student} from the calendar.
+     */
+    public void removeAll(Student student) {
+        requireNonNull(student);
+        StudentEntries studentEntries = entriesByName.remove(student.getName());
+        if (studentEntries != null) {
+            studentEntries.entriesBySession.values().forEach(this::removeEntry);
+        }
+    }
+
+    /**
+     * Removes {@code removedSessions} and adds {@code addedSessions} of the student with the same name as
+     * {@code editedStudent}, and moves the other sessions of that student to {@code editedStudent}.
+     * Only the removed and added sessions are moved between dates.
+     */
+    public void update(Student editedStudent, Collection<Session> removedSessions,
+            Collection<Session> addedSessions) {
+        requireAllNonNull(editedStudent, removedSessions, addedSessions);
+        StudentEntries studentEntries = entriesByName.computeIfAbsent(editedStudent.getName(),
+                unused -> new StudentEntries());
+        studentEntries.student = editedStudent;
+
+        for (Session session : removedSessions) {
+            Entry entry = studentEntries.entriesBySession.remove(session);
+            if (entry != null) {
+                removeEntry(entry);
+            }
+        }
+        for (Session session : addedSessions) {
+            if (!studentEntries.entriesBySession.containsKey(session)) {
+                Entry entry = new Entry(studentEntries, session);
+                studentEntries.entriesBySession.put(session, entry);
+                addEntry(entry);
+            }
+        }
+
+        if (studentEntries.entriesBySession.isEmpty()) {
+            entriesByName.remove(editedStudent.getName());
+        } else {
+            studentEntries.updateSessionIndexes();
+        }
+    }
+
+    /**
+     * Removes all sessions from the calendar. The window is kept.
+     */
+    public void clear() {
+        entriesByName.clear();
+        singleEntriesByDate.clear();
+        recurringEntries.clear();
+        recurringEntriesInWindowByDate.clear();
+    }
+
+    /**
+     * Makes sure that the window includes the dates from {@code startDate} to {@code endDate}, both inclusive.
+     * The window is widened to include them if it would not become too long, or moved to surround them otherwise.
+     * Does nothing if the window already includes them.
+     */
+    public void setWindow(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        checkArgument(!endDate.isBefore(startDate), MESSAGE_CONSTRAINTS);
+        if (isInWindow(startDate) && isInWindow(endDate)) {
+            return;
+        }
+
+        LocalDate newStart = startDate.minusDays(WINDOW_PADDING_DAYS);
+        LocalDate newEnd = endDate.plusDays(WINDOW_PADDING_DAYS);
+        if (windowStart != null) {
+            LocalDate widenedStart = newStart.isBefore(windowStart) ? newStart : windowStart;
+            LocalDate widenedEnd = newEnd.isAfter(windowEnd) ? newEnd : windowEnd;
+            if (widenedEnd.toEpochDay() - widenedStart.toEpochDay() < MAX_WINDOW_DAYS) {
+                newStart = widenedStart;
+                newEnd = widenedEnd;
+            }
+        }
+
+        windowStart = newStart;
+        windowEnd = newEnd;
+        recurringEntriesInWindowByDate.clear();
+        recurringEntries.forEach(this::addToWindow);
+    }
+
+    /**
+     * Returns the tuitions taking place on {@code date}, ordered by their start time.
+     */
+    public List<Tuition> getTuitionsOnDate(LocalDate date) {
+        requireNonNull(date);
+        List<Tuition> tuitions = new ArrayList<>();
+        addTuitions(singleEntriesByDate.getOrDefault(date, Set.of()), tuitions);
+        if (isInWindow(date)) {
+            addTuitions(recurringEntriesInWindowByDate.getOrDefault(date, Set.of()), tuitions);
+        } else {
+            long day = date.toEpochDay();
+            for (Entry entry : recurringEntries) {
+                if (((RecurringSession) entry.session).numOfSessionBetween(day, day) > 0) {
+                    tuitions.add(entry.toTuition());
+                }
+            }
+        }
+        tuitions.sort(TIME_COMPARATOR);
+        return tuitions;
+    }
+
+    private void addTuitions(Set<Entry> entries, List<Tuition> tuitions) {
+        for (Entry entry : entries) {
+            tuitions.add(entry.toTuition());
+        }
+    }
+
+    private boolean isInWindow(LocalDate date) {
+        return windowStart != null && !date.isBefore(windowStart) && !date.isAfter(windowEnd);
+    }
+
+    private void addEntry(Entry entry) {
+        if (entry.session instanceof RecurringSession) {
+            recurringEntries.add(entry);
+            addToWindow(entry);
+        } else {
+            singleEntriesByDate.computeIfAbsent(entry.session.getSessionDate().getDate(),
+                    unused -> new LinkedHashSet<>()).add(entry);
+        }
+    }
+
+    private void removeEntry(Entry entry) {
+        if (entry.session instanceof RecurringSession) {
+            if (recurringEntries.remove(entry)) {
+                removeFromWindow(entry);
+            }
+        } else {
+            LocalDate date = entry.session.getSessionDate().getDate();
+            Set<Entry> entries = singleEntriesByDate.get(date);
+            if (entries != null && entries.remove(entry) && entries.isEmpty()) {
+                singleEntriesByDate.remove(date);
+            }
+        }
+    }
+
+    private void addToWindow(Entry entry) {
+        forEachDateInWindow((RecurringSession) entry.session, date ->
+                recurringEntriesInWindowByDate.computeIfAbsent(date, unused -> new LinkedHashSet<>()).add(entry));
+    }
+
+    private void removeFromWindow(Entry entry) {
+        forEachDateInWindow((RecurringSession) entry.session, date -> {
+            Set<Entry> entries = recurringEntriesInWindowByDate.get(date);
+            if (entries != null && entries.remove(entry) && entries.isEmpty()) {
+                recurringEntriesInWindowByDate.remove(date);
+            }
+        });
+    }
+
+    /**
+     * Runs {@code action} on each date within the window that {@code session} takes place on.
+     */
+    private void forEachDateInWindow(RecurringSession session, Consumer<LocalDate> action) {
+        if (windowStart == null) {
+            return;
+        }
+
+        long interval = session.getInterval().getValue();
+        long firstDay = session.getSessionDate().getEpochDay();
+        long lastDay = Math.min(session.getLastSessionDate().getEpochDay(), windowEnd.toEpochDay());
+        long day = firstDay;
+        if (day < windowStart.toEpochDay()) {
+            day += (windowStart.toEpochDay() - day + interval - 1) / interval * interval;
+        }
+        for (; day <= lastDay; day += interval) {
+            action.accept(LocalDate.ofEpochDay(day));
+        }
+    }
+
+    /**
+     * The entries of the sessions of a student, which all refer to the latest version of the student through it.
+     */
+    private static class StudentEntries {
+        private final Map<Session, Entry> entriesBySession = new HashMap<>();
+        private Student student;
+
+        /**
+         * Sets the session index of each entry to the position of its session in the list of the student.
+         */
+        private void updateSessionIndexes() {
+            List<Session> sessions = student.getListOfSessions();
+            for (int i = 0; i < sessions.size(); i++) {
+                Entry entry = entriesBySession.get(sessions.get(i));
+                if (entry != null) {
+                    entry.sessionIndex = i;
+                }
+            }
+        }
+    }
+
+    /**
+     * A session paired with the student it belongs to. Entries are only equal to themselves.
+     */
+    private class Entry {
+        private final StudentEntries studentEntries;
+        private final Session session;
+        private int sessionIndex;
+
+        Entry(StudentEntries studentEntries, Session session) {
+            this.studentEntries = studentEntries;
+            this.session = session;
+        }
+
+        Tuition toTuition() {
+            Student student = studentEntries.student;
+            return new Tuition(student, session, studentIndexer.applyAsInt(student), sessionIndex);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.session.Duration;
+import seedu.address.model.session.Fee;
+import seedu.address.model.session.Interval;
+import seedu.address.model.session.RecurringSession;
+import seedu.address.model.session.Session;
+import seedu.address.model.session.SessionDate;
+import seedu.address.model.session.Subject;
+import seedu.address.model.student.Address;
+import seedu.address.model.student.Email;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Phone;
+import seedu.address.model.student.Student;
+
+/**
+ * Generates address books of any size with sessions that do not overlap, from a seed so that the same seed always
+ * generates the same students.
+ *
+ * Sessions take place in 2 hour slots of the week, from 08:00 to 22:00. Each session is put in a random slot,
+ * in the earliest weeks from the start date in which none of its dates are taken by another session in that slot,
+ * so that larger address books span more weeks. Intervals, durations, subjects and numbers of sessions are picked
+ * with the weights of a typical tutor's schedule, and fees from an hourly rate.
+ *
+ * Students and sessions generated by later calls to the same generator do not clash with earlier ones either.
+ */
+public class SyntheticDataGenerator {
+
+    public static final LocalDate DEFAULT_START_DATE = LocalDate.of(2021, 1, 4);
+    public static final String MESSAGE_START_NOT_MONDAY = "Start date must be a Monday.";
+
+    private static final int DAYS_PER_WEEK = DayOfWeek.values().length;
+    private static final int SLOTS_PER_DAY = 7;
+    private static final int FIRST_SLOT_HOUR = 8;
+    private static final int MINUTES_PER_SLOT = 120;
+
+    // Values are repeated in proportion to how often they are picked.
+    private static final int[] DURATIONS = {60, 60, 60, 90, 90, 90, 90, 120, 120, 120};
+    private static final int[] INTERVALS = {7, 7, 7, 7, 7, 7, 7, 14, 14, 28};
+    private static final String[] SUBJECTS = {"Math", "Math", "Math", "Math", "English", "English", "English",
+        "Science", "Science", "Physics", "Chemistry", "Biology", "Chinese", "Economics"};
+    private static final String[] STUDY_LEVELS = {"Primary 4", "Primary 5", "Primary 6", "Secondary 1",
+        "Secondary 2", "Secondary 3", "Secondary 4", "Junior College 1", "Junior College 2"};
+    private static final String[] RELATIONSHIPS = {"Father", "Father", "Mother", "Mother", "Mother", "Guardian"};
+    private static final String[] FIRST_NAMES = {"Aaron", "Alicia", "Benjamin", "Chloe", "Daniel", "Elena",
+        "Farhan", "Grace", "Hui Min", "Isaac", "Jia Hui", "Kumar", "Li Ting", "Marcus", "Nur", "Oliver", "Priya",
+        "Ryan", "Siti", "Wei Jie"};
+    private static final String[] LAST_NAMES = {"Tan", "Lim", "Lee", "Ng", "Ong", "Wong", "Goh", "Chua", "Koh",
+        "Teo", "Rahman", "Kumar", "Nair", "Smith", "Chen"};
+    private static final String[] STREETS = {"Ang Mo Kio Avenue", "Bedok North Street", "Clementi Avenue",
+        "Geylang Street", "Jurong West Street", "Pasir Ris Drive", "Serangoon Gardens Street", "Tampines Street",
+        "Woodlands Drive", "Yishun Ring Road"};
+
+    private static final double RECURRING_PROBABILITY = 0.7;
+    private static final int MIN_NUM_OF_RECURRING_SESSIONS = 4;
+    private static final int MAX_NUM_OF_RECURRING_SESSIONS = 12;
+    private static final int MIN_HOURLY_RATE = 25;
+    private static final int MAX_HOURLY_RATE = 80;
+
+    private final Random random;
+    private final long startEpochDay;
+    private final BitSet[] takenWeeksBySlot = new BitSet[DAYS_PER_WEEK * SLOTS_PER_DAY];
+    private int numOfStudentsGenerated;
+
+    /**
+     * Creates a generator of sessions from {@link #DEFAULT_START_DATE} onwards.
+     */
+    public SyntheticDataGenerator(long seed) {
+        this(seed, DEFAULT_START_DATE);
+    }
+
+    /**
+     * Creates a generator of sessions from {@code startDate}, which must be a Monday, onwards.
+     */
+    public SyntheticDataGenerator(long seed, LocalDate startDate) {
+        requireNonNull(startDate);
+        checkArgument(startDate.getDayOfWeek() == DayOfWeek.MONDAY, MESSAGE_START_NOT_MONDAY);
+        random = new Random(seed);
+        startEpochDay = startDate.toEpochDay();
+        for (int i = 0; i < takenWeeksBySlot.length; i++) {
+            takenWeeksBySlot[i] = new BitSet();
+        }
+    }
+
+    /**
+     * Returns an address book of {@code numOfStudents} new students with {@code numOfSessionsPerStudent} sessions
+     * each.
+     */
+    public AddressBook generateAddressBook(int numOfStudents, int numOfSessionsPerStudent) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addStudents(generateStudents(numOfStudents, numOfSessionsPerStudent));
+        return addressBook;
+    }
+
+    /**
+     * Returns {@code numOfStudents} new students with {@code numOfSessionsPerStudent} sessions each.
+     */
+    public List<Student> generateStudents(int numOfStudents, int numOfSessionsPerStudent) {
+        checkArgument(numOfStudents >= 0 && numOfSessionsPerStudent >= 0);
+        List<Student> students = new ArrayList<>(numOfStudents);
+        for (int i = 0; i < numOfStudents; i++) {
+            students.add(generateStudent(numOfStudentsGenerated++, numOfSessionsPerStudent));
+        }
+        return students;
+    }
+
+    private Student generateStudent(int index, int numOfSessions) {
+        String name = generateName(index);
+        List<Session> sessions = new ArrayList<>(numOfSessions);
+        for (int i = 0; i < numOfSessions; i++) {
+            sessions.add(generateSession());
+        }
+
+        return new Student(new Name(name), generatePhone(9),
+                new Email(name.replace(" ", "").toLowerCase() + "@example.com"),
+                new Address("Blk " + (1 + random.nextInt(999)) + " " + pick(STREETS) + " " + (1 + random.nextInt(99))
+                        + ", #" + (1 + random.nextInt(25)) + "-" + (1 + random.nextInt(150))),
+                pick(STUDY_LEVELS), generatePhone(8), pick(RELATIONSHIPS), sessions);
+    }
+
+    /**
+     * Returns a unique name for the student at {@code index}, numbered once every combination of names is used.
+     */
+    private static String generateName(int index) {
+        int numOfCombinations = FIRST_NAMES.length * LAST_NAMES.length;
+        String name = FIRST_NAMES[index % FIRST_NAMES.length] + " "
+                + LAST_NAMES[index / FIRST_NAMES.length % LAST_NAMES.length];
+        return index < numOfCombinations ? name : name + " " + (index / numOfCombinations + 1);
+    }
+
+    private Phone generatePhone(int firstDigit) {
+        return new Phone(String.valueOf(firstDigit * 10000000 + random.nextInt(10000000)));
+    }
+
+    /**
+     * Returns a single or recurring session in a random slot, in the earliest weeks that are free in that slot.
+     */
+    private Session generateSession() {
+        int duration = pick(DURATIONS);
+        Subject subject = new Subject(pick(SUBJECTS));
+        int hourlyRate = MIN_HOURLY_RATE + 5 * random.nextInt((MAX_HOURLY_RATE - MIN_HOURLY_RATE) / 5 + 1);
+        Fee fee = Fee.ofCents(hourlyRate * 100L * duration / 60);
+        boolean isRecurring = random.nextDouble() < RECURRING_PROBABILITY;
+        int interval = isRecurring ? pick(INTERVALS) : DAYS_PER_WEEK;
+        int numOfSessions = isRecurring ? MIN_NUM_OF_RECURRING_SESSIONS
+                + random.nextInt(MAX_NUM_OF_RECURRING_SESSIONS - MIN_NUM_OF_RECURRING_SESSIONS + 1) : 1;
+
+        int slot = random.nextInt(takenWeeksBySlot.length);
+        int week = takeWeeks(takenWeeksBySlot[slot], interval / DAYS_PER_WEEK, numOfSessions);
+        // Shorter sessions do not always start at the beginning of their slot.
+        int minuteOfDay = FIRST_SLOT_HOUR * 60 + slot % SLOTS_PER_DAY * MINUTES_PER_SLOT
+                + (duration <= MINUTES_PER_SLOT - 30 && random.nextBoolean() ? 30 : 0);
+        SessionDate start = SessionDate.of(startEpochDay + (long) week * DAYS_PER_WEEK + slot / SLOTS_PER_DAY,
+                minuteOfDay);
+
+        if (!isRecurring) {
+            return new Session(start, new Duration(duration), subject, fee);
+        }
+        return new RecurringSession(start, new Duration(duration), subject, fee, new Interval(interval),
+                start.addDays(interval * (numOfSessions - 1)));
+    }
+
+    /**
+     * Takes {@code numOfWeeks} weeks, {@code weeksBetween} weeks apart, from the earliest of them that are all free
+     * in {@code takenWeeks}, and returns the first week taken.
+     */
+    private static int takeWeeks(BitSet takenWeeks, int weeksBetween, int numOfWeeks) {
+        int week = takenWeeks.nextClearBit(0);
+        while (!areWeeksFree(takenWeeks, week, weeksBetween, numOfWeeks)) {
+            week = takenWeeks.nextClearBit(week + 1);
+        }
+        for (int i = 0; i < numOfWeeks; i++) {
+            takenWeeks.set(week + i * weeksBetween);
+        }
+        return week;
+    }
+
+    private static boolean areWeeksFree(BitSet takenWeeks, int week, int weeksBetween, int numOfWeeks) {
+        for (int i = 0; i < numOfWeeks; i++) {
+            if (takenWeeks.get(week + i * weeksBetween)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int pick(int[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
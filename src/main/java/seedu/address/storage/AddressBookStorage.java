@@ -2,10 +2,14 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.student.Student;
 
 /**
  * Represents a storage for {@link seedu.address.model.AddressBook}.
@@ -30,6 +34,22 @@ public interface AddressBookStorage {
      */
     Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException;
 
+    /**
+     * Reads the students of the AddressBook data in order, passing them to {@code chunkConsumer} in chunks as soon
+     * as each chunk has been read, so that the students read so far can be used before the rest are read.
+     * Chunks are passed on the calling thread.
+     *   Returns false if storage file is not found.
+     * @throws DataConversionException if the data in storage is not in the expected format, in which case
+     *     the chunks passed before are incomplete.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    default boolean readAddressBookInChunks(Consumer<List<Student>> chunkConsumer)
+            throws DataConversionException, IOException {
+        Optional<ReadOnlyAddressBook> addressBook = readAddressBook();
+        addressBook.ifPresent(data -> chunkConsumer.accept(new ArrayList<>(data.getStudentList())));
+        return addressBook.isPresent();
+    }
+
     /**
      * Saves the given {@link ReadOnlyAddressBook} to the storage.
      * @param addressBook cannot be null.
@@ -0,0 +1,305 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.session.Duration;
+import seedu.address.model.session.Fee;
+import seedu.address.model.session.Interval;
+import seedu.address.model.session.RecurringSession;
+import seedu.address.model.session.Session;
+import seedu.address.model.session.SessionDate;
+import seedu.address.model.session.Subject;
+import seedu.address.model.student.Address;
+import seedu.address.model.student.Email;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Phone;
+import seedu.address.model.student.Student;
+
+/**
+ * A class to access AddressBook data stored in a compact binary format on the hard disk.
+ *
+ * The file starts with {@link #MAGIC_NUMBER} and {@link #FORMAT_VERSION}, followed by the number of students and
+ * each student in order. All numbers are big-endian. Strings are written as their length in bytes followed by
+ * their UTF-8 bytes. The date and time of a session are written as its epoch day and minute of the day,
+ * its duration and interval as numbers of minutes and days, and its fee as a number of cents, so that reading
+ * a session does not parse any text.
+ *
+ * Files of at least {@link #MAPPED_READ_THRESHOLD} bytes are read through a memory-mapped buffer instead of
+ * being copied into memory first.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final int MAGIC_NUMBER = 0x54424142; // "TBAB"
+    public static final int FORMAT_VERSION = 1;
+    public static final long MAPPED_READ_THRESHOLD = 1 << 24;
+
+    public static final String MESSAGE_NOT_BINARY_ADDRESS_BOOK = "File is not a binary address book.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary address book version %d is not supported.";
+    public static final String MESSAGE_TRUNCATED = "Binary address book ends unexpectedly.";
+    public static final String MESSAGE_UNKNOWN_SESSION_KIND = "Binary address book has unknown session kind %d.";
+
+    private static final byte SINGLE_SESSION = 0;
+    private static final byte RECURRING_SESSION = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+        if (!FileUtil.isFileExists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            return Optional.of(readAddressBook(readFully(channel)));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        FileUtil.writeToFile(filePath, out -> writeAddressBook(addressBook,
+                new DataOutputStream(new BufferedOutputStream(out))));
+    }
+
+    /**
+     * Returns the content of the file opened as {@code channel}, memory-mapped if the file is large.
+     */
+    private static ByteBuffer readFully(FileChannel channel) throws IOException {
+        long size = channel.size();
+        if (size >= MAPPED_READ_THRESHOLD) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate((int) size);
+        while (buffer.hasRemaining() && channel.read(buffer) != -1) {
+            // Reads until the buffer is full.
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private static void writeAddressBook(ReadOnlyAddressBook addressBook, DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC_NUMBER);
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(addressBook.getStudentList().size());
+        for (Student student : addressBook.getStudentList()) {
+            writeStudent(student, out);
+        }
+        out.flush();
+    }
+
+    private static void writeStudent(Student student, DataOutputStream out) throws IOException {
+        writeString(student.getName().fullName, out);
+        writeString(student.getPhone().value, out);
+        writeString(student.getEmail().value, out);
+        writeString(student.getAddress().value, out);
+        writeString(student.getStudyLevel(), out);
+        writeString(student.getGuardianPhone().value, out);
+        writeString(student.getRelationship(), out);
+
+        List<Session> sessions = student.getListOfSessions();
+        out.writeInt(sessions.size());
+        for (Session session : sessions) {
+            writeSession(session, out);
+        }
+    }
+
+    private static void writeSession(Session session, DataOutputStream out) throws IOException {
+        boolean isRecurring = session instanceof RecurringSession;
+        out.writeByte(isRecurring ? RECURRING_SESSION : SINGLE_SESSION);
+        writeSessionDate(session.getSessionDate(), out);
+        out.writeInt(session.getDuration().getValue());
+        writeString(session.getSubject().getValue(), out);
+        out.writeLong(Math.round(session.getFee().getFee() * 100));
+        if (isRecurring) {
+            RecurringSession recurringSession = (RecurringSession) session;
+            out.writeInt(recurringSession.getInterval().getValue());
+            writeSessionDate(recurringSession.getLastSessionDate(), out);
+        }
+    }
+
+    private static void writeSessionDate(SessionDate sessionDate, DataOutputStream out) throws IOException {
+        out.writeInt(Math.toIntExact(sessionDate.getEpochDay()));
+        out.writeInt(sessionDate.getMinuteOfDay());
+    }
+
+    private static void writeString(String value, DataOutputStream out) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads an address book from {@code in}.
+     *
+     * @throws IllegalValueException if {@code in} does not hold a valid address book.
+     */
+    private static AddressBook readAddressBook(ByteBuffer in) throws IllegalValueException {
+        try {
+            if (in.remaining() < Integer.BYTES || in.getInt() != MAGIC_NUMBER) {
+                throw new IllegalValueException(MESSAGE_NOT_BINARY_ADDRESS_BOOK);
+            }
+            int version = in.getInt();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            AddressBook addressBook = new AddressBook();
+            int studentCount = in.getInt();
+            for (int i = 0; i < studentCount; i++) {
+                Student student = readStudent(in);
+                if (addressBook.hasStudent(student)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_STUDENT);
+                }
+                addressBook.addStudent(student);
+            }
+            return addressBook;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalValueException(MESSAGE_TRUNCATED, e);
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new IllegalValueException(e.getMessage(), e);
+        }
+    }
+
+    private static Student readStudent(ByteBuffer in) throws IllegalValueException {
+        Name name = new Name(readString(in));
+        Phone phone = new Phone(readString(in));
+        Email email = new Email(readString(in));
+        Address address = new Address(readString(in));
+        String studyLevel = readString(in);
+        Phone guardianPhone = new Phone(readString(in));
+        String relationship = readString(in);
+
+        int sessionCount = in.getInt();
+        List<Session> sessions = new ArrayList<>(Math.min(Math.max(sessionCount, 0), in.remaining()));
+        for (int i = 0; i < sessionCount; i++) {
+            sessions.add(readSession(in));
+        }
+        return new Student(name, phone, email, address, studyLevel, guardianPhone, relationship, sessions);
+    }
+
+    private static Session readSession(ByteBuffer in) throws IllegalValueException {
+        byte kind = in.get();
+        if (kind != SINGLE_SESSION && kind != RECURRING_SESSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_SESSION_KIND, kind));
+        }
+
+        SessionDate sessionDate = readSessionDate(in);
+        Duration duration = readDuration(in);
+        Subject subject = new Subject(readString(in));
+        Fee fee = Fee.ofCents(in.getLong());
+        if (!Session.isPossibleEndTime(sessionDate, duration)) {
+            throw new IllegalValueException(Session.MESSAGE_CONSTRAINTS);
+        }
+        if (kind == SINGLE_SESSION) {
+            return new Session(sessionDate, duration, subject, fee);
+        }
+
+        Interval interval = readInterval(in);
+        SessionDate lastSessionDate = readSessionDate(in);
+        if (!RecurringSession.isValidEnd(sessionDate, lastSessionDate, interval)) {
+            throw new IllegalValueException(RecurringSession.MESSAGE_CONSTRAINTS);
+        }
+        return new RecurringSession(sessionDate, duration, subject, fee, interval, lastSessionDate);
+    }
+
+    /**
+     * Reads a session date, which must satisfy the same constraints as one read from JSON or parsed from a command.
+     */
+    private static SessionDate readSessionDate(ByteBuffer in) throws IllegalValueException {
+        int epochDay = in.getInt();
+        int minuteOfDay = in.getInt();
+        if (!SessionDate.isValidEpochDay(epochDay) || minuteOfDay < 0 || minuteOfDay >= SessionDate.MINUTES_PER_DAY) {
+            throw new IllegalValueException(SessionDate.MESSAGE_CONSTRAINTS);
+        }
+        return SessionDate.of(epochDay, minuteOfDay);
+    }
+
+    private static Duration readDuration(ByteBuffer in) throws IllegalValueException {
+        int duration = in.getInt();
+        if (duration < 1) {
+            throw new IllegalValueException(Duration.MESSAGE_CONSTRAINTS);
+        }
+        return new Duration(duration);
+    }
+
+    private static Interval readInterval(ByteBuffer in) throws IllegalValueException {
+        int interval = in.getInt();
+        if (interval < 1) {
+            throw new IllegalValueException(Interval.MESSAGE_CONSTRAINTS);
+        }
+        return new Interval(interval);
+    }
+
+    private static String readString(ByteBuffer in) throws IllegalValueException {
+        int length = in.getInt();
+        if (length < 0 || length > in.remaining()) {
+            throw new IllegalValueException(MESSAGE_TRUNCATED);
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,351 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.session.Session;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Student;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot together with a journal of the changes made since.
+ *
+ * Each save appends a record for each student or session that changed since the previous save to the journal,
+ * instead of rewriting the whole address book. Once the journal holds more than a threshold of records, the
+ * address book is written as a new snapshot, in the same format as {@link JsonAddressBookStorage}, and the
+ * journal is started over. Reading loads the snapshot and replays the journal on top of it.
+ *
+ * The changes are found by comparing the students with those of the previous save. Students are immutable, so a
+ * student that did not change since is the same object as before and is skipped without comparing its sessions,
+ * making a save cost time in proportion to the number of students and the sessions of the students that changed.
+ *
+ * The journal starts with the checksum of the snapshot it applies to, so a journal left behind by a snapshot that
+ * was written but not followed by a new journal is ignored.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 500;
+
+    private static final int SKIP_BUFFER_SIZE = 8192;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private final Path filePath;
+    private final int compactionThreshold;
+
+    // The students as of the latest save to or read from filePath, or null if they are unknown.
+    private List<Student> savedStudents;
+    private int journalRecordCount;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} that writes a new snapshot once the journal holds more than
+     * {@code compactionThreshold} records.
+     */
+    public JournalAddressBookStorage(Path filePath, int compactionThreshold) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal of the snapshot at {@code snapshotPath}.
+     */
+    public static Path getJournalFilePath(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or journal is not in the correct format.
+     */
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath)
+            throws DataConversionException {
+        requireNonNull(filePath);
+        if (!FileUtil.isFileExists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            CRC32 snapshotChecksum = new CRC32();
+            List<Student> students;
+            try (CheckedInputStream in = new CheckedInputStream(
+                    new BufferedInputStream(Files.newInputStream(filePath)), snapshotChecksum)) {
+                students = JsonAddressBookStream.readStudentList(in);
+                skipToEnd(in);
+            }
+            int replayedRecordCount = replayJournal(getJournalFilePath(filePath), snapshotChecksum.getValue(),
+                    students);
+
+            AddressBook addressBook = new AddressBook();
+            for (Student student : students) {
+                if (addressBook.hasStudent(student)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_STUDENT);
+                }
+                addressBook.addStudent(student);
+            }
+
+            if (filePath.equals(this.filePath)) {
+                savedStudents = replayedRecordCount < 0 ? null : students;
+                journalRecordCount = Math.max(replayedRecordCount, 0);
+            }
+            return Optional.of(addressBook);
+        } catch (IOException | IllegalValueException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only saves to {@code filePath} of this storage are appended to the journal.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Student> students = List.copyOf(addressBook.getStudentList());
+
+        if (!filePath.equals(this.filePath)) {
+            writeSnapshot(addressBook, filePath);
+            return;
+        }
+
+        Optional<List<JsonAdaptedJournalRecord>> records = savedStudents == null
+                ? Optional.empty()
+                : getChanges(savedStudents, students);
+        savedStudents = null;
+        if (records.isPresent() && journalRecordCount + records.get().size() <= compactionThreshold) {
+            appendToJournal(records.get());
+            journalRecordCount += records.get().size();
+        } else {
+            writeSnapshot(addressBook, filePath);
+            journalRecordCount = 0;
+        }
+        savedStudents = students;
+    }
+
+    /**
+     * Writes {@code addressBook} as the snapshot at {@code filePath}, and starts its journal over.
+     */
+    private void writeSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        FileUtil.createIfMissing(filePath);
+        CRC32 snapshotChecksum = new CRC32();
+        FileUtil.writeToFile(filePath, out ->
+                JsonAddressBookStream.write(addressBook, new CheckedOutputStream(out, snapshotChecksum), false));
+        FileUtil.writeToFile(getJournalFilePath(filePath),
+                JsonUtil.toCompactJsonString(JsonAdaptedJournalRecord.base(snapshotChecksum.getValue())) + "\n");
+    }
+
+    /**
+     * Appends {@code records} to the journal, and forces them to the disk.
+     */
+    private void appendToJournal(List<JsonAdaptedJournalRecord> records) throws IOException {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalRecord record : records) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append('\n');
+        }
+        try (FileChannel channel = FileChannel.open(getJournalFilePath(filePath),
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Applies the records in the journal at {@code journalPath} to {@code students}, if the journal applies to
+     * the snapshot with {@code snapshotChecksum}.
+     *
+     * @return the number of records applied, or -1 if the journal ends with a partially written record,
+     *     in which case it must not be appended to.
+     */
+    private static int replayJournal(Path journalPath, long snapshotChecksum, List<Student> students)
+            throws IOException, IllegalValueException {
+        if (!FileUtil.isFileExists(journalPath)) {
+            return -1;
+        }
+
+        String[] lines = FileUtil.readFromFile(journalPath).split("\n", -1);
+        if (lines[0].isEmpty()) {
+            return -1;
+        }
+        if (JsonUtil.fromJsonString(lines[0], JsonAdaptedJournalRecord.class).getChecksum() != snapshotChecksum) {
+            logger.info("Ignoring " + journalPath + " as it does not apply to the current snapshot");
+            return -1;
+        }
+
+        int recordCount = 0;
+        for (int i = 1; i < lines.length; i++) {
+            if (lines[i].isEmpty()) {
+                continue;
+            }
+            if (i == lines.length - 1) {
+                // Every complete record ends with a new line, so this record was cut off while being written.
+                logger.warning("Ignoring partially written record at the end of " + journalPath);
+                return -1;
+            }
+            JsonUtil.fromJsonString(lines[i], JsonAdaptedJournalRecord.class).applyTo(students);
+            recordCount++;
+        }
+        return recordCount;
+    }
+
+    /**
+     * Returns the records that turn {@code before} into {@code after}, or an empty {@code Optional} if students
+     * were reordered in a way that the records cannot describe.
+     */
+    private static Optional<List<JsonAdaptedJournalRecord>> getChanges(List<Student> before, List<Student> after) {
+        Set<Name> namesBefore = namesOf(before);
+        Set<Name> namesAfter = namesOf(after);
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+
+        int i = 0;
+        int j = 0;
+        while (i < before.size() || j < after.size()) {
+            Student oldStudent = i < before.size() ? before.get(i) : null;
+            Student newStudent = j < after.size() ? after.get(j) : null;
+
+            if (oldStudent != null && !namesAfter.contains(oldStudent.getName())) {
+                if (newStudent != null && !namesBefore.contains(newStudent.getName())) {
+                    // Replaced in place, such as by renaming the student.
+                    records.add(JsonAdaptedJournalRecord.putStudent(oldStudent.getName(), newStudent));
+                    j++;
+                } else {
+                    records.add(JsonAdaptedJournalRecord.deleteStudent(oldStudent.getName()));
+                }
+                i++;
+            } else if (oldStudent != null && newStudent != null && oldStudent.isSameStudent(newStudent)) {
+                addStudentChanges(oldStudent, newStudent, records);
+                i++;
+                j++;
+            } else if (oldStudent == null && !namesBefore.contains(newStudent.getName())) {
+                records.add(JsonAdaptedJournalRecord.putStudent(null, newStudent));
+                j++;
+            } else {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(records);
+    }
+
+    /**
+     * Adds the records that turn {@code before} into {@code after}, which is the same student, to {@code records}.
+     */
+    private static void addStudentChanges(Student before, Student after, List<JsonAdaptedJournalRecord> records) {
+        if (before == after) {
+            // Students are immutable, so the same object has the same sessions.
+            return;
+        }
+        if (!before.equals(after)) {
+            records.add(JsonAdaptedJournalRecord.putStudent(before.getName(), after));
+            return;
+        }
+
+        List<Session> oldSessions = before.getListOfSessions();
+        List<Session> newSessions = after.getListOfSessions();
+        int commonPrefix = 0;
+        while (commonPrefix < oldSessions.size() && commonPrefix < newSessions.size()
+                && isSameSession(oldSessions.get(commonPrefix), newSessions.get(commonPrefix))) {
+            commonPrefix++;
+        }
+        int commonSuffix = 0;
+        while (commonSuffix < oldSessions.size() - commonPrefix && commonSuffix < newSessions.size() - commonPrefix
+                && isSameSession(oldSessions.get(oldSessions.size() - 1 - commonSuffix),
+                        newSessions.get(newSessions.size() - 1 - commonSuffix))) {
+            commonSuffix++;
+        }
+        int removedCount = oldSessions.size() - commonPrefix - commonSuffix;
+        int addedCount = newSessions.size() - commonPrefix - commonSuffix;
+
+        if (addedCount == 0) {
+            for (int k = 0; k < removedCount; k++) {
+                records.add(JsonAdaptedJournalRecord.deleteSession(after.getName(), commonPrefix));
+            }
+        } else if (removedCount == 0 && commonSuffix == 0) {
+            for (Session session : newSessions.subList(commonPrefix, newSessions.size())) {
+                records.add(JsonAdaptedJournalRecord.addSession(after.getName(), session));
+            }
+        } else {
+            records.add(JsonAdaptedJournalRecord.putStudent(before.getName(), after));
+        }
+    }
+
+    /**
+     * Returns true if both sessions are of the same kind and have the same fields.
+     */
+    private static boolean isSameSession(Session first, Session second) {
+        return first.getClass() == second.getClass() && first.equals(second);
+    }
+
+    private static Set<Name> namesOf(List<Student> students) {
+        Set<Name> names = new HashSet<>();
+        for (Student student : students) {
+            names.add(student.getName());
+        }
+        return names;
+    }
+
+    /**
+     * Reads the rest of {@code in}, so that its checksum covers the whole file.
+     */
+    private static void skipToEnd(InputStream in) throws IOException {
+        byte[] buffer = new byte[SKIP_BUFFER_SIZE];
+        while (in.read(buffer) != -1) {
+            // The bytes are only read for the checksum.
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.session.RecurringSession;
+import seedu.address.model.session.Session;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Student;
+
+/**
+ * Jackson-friendly record of a single change made to the students of an address book,
+ * as written to the journal of a {@link JournalAddressBookStorage}.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal record's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_STUDENT = "Journal record refers to unknown student %s!";
+    public static final String MESSAGE_INVALID_SESSION_INDEX = "Journal record refers to unknown session %d of %s!";
+
+    /**
+     * Kinds of journal records.
+     */
+    enum Operation {
+        /** Identifies the snapshot that the records after it apply to. Always the first record of a journal. */
+        BASE,
+        /** Replaces the target student with the given student, or adds the student to the end if there is no target. */
+        PUT_STUDENT,
+        DELETE_STUDENT,
+        /** Adds the given session to the end of the sessions of the target student. */
+        ADD_SESSION,
+        DELETE_SESSION
+    }
+
+    private final Operation operation;
+    private final String target;
+    private final JsonAdaptedStudent student;
+    private final JsonAdaptedSession session;
+    private final Integer index;
+    private final Long checksum;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("operation") Operation operation,
+                                    @JsonProperty("target") String target,
+                                    @JsonProperty("student") JsonAdaptedStudent student,
+                                    @JsonProperty("session") JsonAdaptedSession session,
+                                    @JsonProperty("index") Integer index,
+                                    @JsonProperty("checksum") Long checksum) {
+        this.operation = operation;
+        this.target = target;
+        this.student = student;
+        this.session = session;
+        this.index = index;
+        this.checksum = checksum;
+    }
+
+    /**
+     * Returns the record that starts a journal applying to the snapshot with {@code snapshotChecksum}.
+     */
+    public static JsonAdaptedJournalRecord base(long snapshotChecksum) {
+        return new JsonAdaptedJournalRecord(Operation.BASE, null, null, null, null, snapshotChecksum);
+    }
+
+    /**
+     * Returns the record of the student named {@code target} being replaced by {@code student},
+     * or of {@code student} being added if {@code target} is null.
+     */
+    public static JsonAdaptedJournalRecord putStudent(Name target, Student student) {
+        requireNonNull(student);
+        return new JsonAdaptedJournalRecord(Operation.PUT_STUDENT, target == null ? null : target.fullName,
+                new JsonAdaptedStudent(student), null, null, null);
+    }
+
+    /**
+     * Returns the record of the student named {@code target} being deleted.
+     */
+    public static JsonAdaptedJournalRecord deleteStudent(Name target) {
+        requireNonNull(target);
+        return new JsonAdaptedJournalRecord(Operation.DELETE_STUDENT, target.fullName, null, null, null, null);
+    }
+
+    /**
+     * Returns the record of {@code session} being added to the student named {@code target}.
+     */
+    public static JsonAdaptedJournalRecord addSession(Name target, Session session) {
+        requireNonNull(target);
+        requireNonNull(session);
+        JsonAdaptedSession adaptedSession = session instanceof RecurringSession
+                ? new JsonAdaptedRecurringSession((RecurringSession) session)
+                : new JsonAdaptedSession(session);
+        return new JsonAdaptedJournalRecord(Operation.ADD_SESSION, target.fullName, null, adaptedSession, null, null);
+    }
+
+    /**
+     * Returns the record of the session at zero-based {@code index} being deleted from the student named
+     * {@code target}.
+     */
+    public static JsonAdaptedJournalRecord deleteSession(Name target, int index) {
+        requireNonNull(target);
+        return new JsonAdaptedJournalRecord(Operation.DELETE_SESSION, target.fullName, null, null, index, null);
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    /**
+     * Returns the checksum of the snapshot that a {@code BASE} record identifies.
+     *
+     * @throws IllegalValueException if this is not a {@code BASE} record.
+     */
+    public long getChecksum() throws IllegalValueException {
+        if (operation != Operation.BASE || checksum == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "checksum"));
+        }
+        return checksum;
+    }
+
+    /**
+     * Applies the change recorded to {@code students}.
+     *
+     * @throws IllegalValueException if the record is incomplete or does not apply to {@code students}.
+     */
+    public void applyTo(List<Student> students) throws IllegalValueException {
+        if (operation == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "operation"));
+        }
+
+        switch (operation) {
+        case PUT_STUDENT:
+            if (student == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "student"));
+            }
+            if (target == null) {
+                students.add(student.toModelType());
+            } else {
+                students.set(indexOfTarget(students), student.toModelType());
+            }
+            break;
+        case DELETE_STUDENT:
+            students.remove(indexOfTarget(students));
+            break;
+        case ADD_SESSION:
+            if (session == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "session"));
+            }
+            int targetIndex = indexOfTarget(students);
+            students.set(targetIndex, students.get(targetIndex).withSession(session.toModelType()));
+            break;
+        case DELETE_SESSION:
+            int studentIndex = indexOfTarget(students);
+            List<Session> sessions = students.get(studentIndex).getListOfSessions();
+            if (index == null || index < 0 || index >= sessions.size()) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_SESSION_INDEX, index, target));
+            }
+            students.set(studentIndex, students.get(studentIndex).withoutSession(Index.fromZeroBased(index)));
+            break;
+        default:
+            throw new IllegalValueException("Journal record of " + operation + " cannot be applied!");
+        }
+    }
+
+    private int indexOfTarget(List<Student> students) throws IllegalValueException {
+        if (target == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "target"));
+        }
+        for (int i = 0; i < students.size(); i++) {
+            if (students.get(i).getName().fullName.equals(target)) {
+                return i;
+            }
+        }
+        throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_STUDENT, target));
+    }
+}
@@ -57,8 +57,21 @@ public class JsonAdaptedSession {
      * @throws IllegalValueException If the duration + start time is invalid.
      */
     public Session toModelType() throws IllegalValueException {
-        Session.checkPossibleEndTime(new SessionDate(sessionDate), new Duration(duration));
-        return new Session(new SessionDate(sessionDate), new Duration(duration), new Subject(subject), new Fee(fee));
+        SessionDate modelSessionDate = toModelSessionDate(sessionDate);
+        Session.checkPossibleEndTime(modelSessionDate, new Duration(duration));
+        return new Session(modelSessionDate, new Duration(duration), new Subject(subject), new Fee(fee));
+    }
+
+    /**
+     * Converts {@code dateTime} into a {@code SessionDate}, which must be in a year that a session can take place in.
+     * @throws IllegalValueException If the year is outside of the allowed range.
+     */
+    static SessionDate toModelSessionDate(String dateTime) throws IllegalValueException {
+        SessionDate modelSessionDate = new SessionDate(dateTime);
+        if (!SessionDate.isValidEpochDay(modelSessionDate.getEpochDay())) {
+            throw new IllegalValueException(SessionDate.MESSAGE_CONSTRAINTS);
+        }
+        return modelSessionDate;
     }
 
     public String getSessionDate() {
@@ -2,29 +2,48 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.student.Student;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The file is read and written one student at a time, without holding the whole file in memory.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    public static final int LOAD_CHUNK_SIZE = 200;
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean isCompact;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that writes the json file on a single line if {@code isCompact}
+     * is true, which makes the file smaller and faster to write, but harder to read and edit by hand.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
     }
 
     public Path getAddressBookFilePath() {
@@ -45,15 +64,47 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!FileUtil.isFileExists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath))) {
+            return Optional.of(JsonAddressBookStream.read(in));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * Students are converted on the common {@code ForkJoinPool} in chunks of {@link #LOAD_CHUNK_SIZE} students,
+     * while the file is still being read.
+     */
+    @Override
+    public boolean readAddressBookInChunks(Consumer<List<Student>> chunkConsumer) throws DataConversionException {
+        requireNonNull(chunkConsumer);
+        if (!FileUtil.isFileExists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return false;
+        }
+
+        ParallelStudentConverter converter = new ParallelStudentConverter(ForkJoinPool.commonPool(),
+                LOAD_CHUNK_SIZE, chunkConsumer);
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath))) {
+            JsonAddressBookStream.readStudents(in, converter::add);
+            converter.finish();
+            return true;
+        } catch (IOException e) {
+            converter.cancel();
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
         } catch (IllegalValueException ive) {
+            converter.cancel();
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
@@ -74,7 +125,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.writeToFile(filePath, out -> JsonAddressBookStream.write(addressBook, out, isCompact));
     }
 
 }
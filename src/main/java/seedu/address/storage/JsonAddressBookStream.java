@@ -0,0 +1,130 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Student;
+
+/**
+ * Reads and writes address books in the JSON format of {@link JsonSerializableAddressBook}, one student at a time.
+ *
+ * Each student is converted directly between its JSON object and the model's {@code Student}, so that the
+ * intermediate JSON objects of only one student are held in memory at any time, instead of those of the whole
+ * address book. The converted students themselves are all held, and {@link #read(InputStream)} also builds the
+ * indexes of the {@code AddressBook} it returns; use {@link #readStudentList(InputStream)} for the students alone,
+ * or {@link #readStudents(InputStream, StudentHandler)} to handle each student as it is read.
+ */
+class JsonAddressBookStream {
+
+    public static final String MESSAGE_NOT_ADDRESS_BOOK = "Address book data is not a JSON object.";
+    public static final String MESSAGE_STUDENTS_NOT_ARRAY = "Address book's students field is not a JSON array.";
+
+    private static final String STUDENTS_FIELD = "students";
+
+    private JsonAddressBookStream() {} // prevents instantiation
+
+    /**
+     * Reads an address book from {@code in}, which is not closed.
+     * Its indexes are built once, after all students have been read.
+     *
+     * @throws IOException if {@code in} cannot be read or does not hold valid JSON data.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(InputStream in) throws IOException, IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setStudents(readStudentList(in));
+        return addressBook;
+    }
+
+    /**
+     * Reads the students of the address book in {@code in}, which is not closed, without building the indexes
+     * of an {@code AddressBook}.
+     *
+     * @throws IOException if {@code in} cannot be read or does not hold valid JSON data.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static List<Student> readStudentList(InputStream in) throws IOException, IllegalValueException {
+        List<Student> students = new ArrayList<>();
+        Set<Name> names = new HashSet<>();
+        readStudents(in, jsonAdaptedStudent -> {
+            Student student = jsonAdaptedStudent.toModelType();
+            if (!names.add(student.getName())) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_STUDENT);
+            }
+            students.add(student);
+        });
+        return students;
+    }
+
+    /**
+     * Reads the students of the address book in {@code in}, which is not closed, passing each of them to
+     * {@code studentHandler} in order without converting them to the model's {@code Student}.
+     *
+     * @throws IOException if {@code in} cannot be read or does not hold valid JSON data.
+     * @throws IllegalValueException if the data is not an address book, or {@code studentHandler} throws it.
+     */
+    public static void readStudents(InputStream in, StudentHandler studentHandler)
+            throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalValueException(MESSAGE_NOT_ADDRESS_BOOK);
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (!STUDENTS_FIELD.equals(fieldName) || valueToken == JsonToken.VALUE_NULL) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (valueToken != JsonToken.START_ARRAY) {
+                    throw new IllegalValueException(MESSAGE_STUDENTS_NOT_ARRAY);
+                }
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    studentHandler.handle(parser.readValueAs(JsonAdaptedStudent.class));
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out}, which is not closed, on a single line if {@code isCompact} is true.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, OutputStream out, boolean isCompact)
+            throws IOException {
+        requireNonNull(addressBook);
+        try (JsonGenerator generator = JsonUtil.createGenerator(out, isCompact)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(STUDENTS_FIELD);
+            for (Student student : addressBook.getStudentList()) {
+                generator.writeObject(new JsonAdaptedStudent(student));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Handles the students read by {@link #readStudents(InputStream, StudentHandler)}.
+     */
+    @FunctionalInterface
+    interface StudentHandler {
+        void handle(JsonAdaptedStudent jsonAdaptedStudent) throws IllegalValueException;
+    }
+}
@@ -0,0 +1,146 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Student;
+
+/**
+ * Converts {@code JsonAdaptedStudent}s into the model's {@code Student}s on a {@code ForkJoinPool}, a chunk of
+ * students at a time.
+ *
+ * Converted chunks are passed to a consumer in the order that the students were added, on the thread that adds
+ * the students, as soon as every chunk before them has been passed on. Students are converted while later
+ * students are still being read, and several chunks are converted at the same time.
+ */
+class ParallelStudentConverter {
+
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+    private final Consumer<List<Student>> chunkConsumer;
+
+    private final Deque<ForkJoinTask<List<Student>>> pendingChunks = new ArrayDeque<>();
+    private final Set<Name> names = new HashSet<>();
+    private List<JsonAdaptedStudent> currentChunk;
+
+    /**
+     * Creates a {@code ParallelStudentConverter} that converts chunks of {@code chunkSize} students on {@code pool}
+     * and passes them to {@code chunkConsumer}.
+     */
+    public ParallelStudentConverter(ForkJoinPool pool, int chunkSize, Consumer<List<Student>> chunkConsumer) {
+        requireAllNonNull(pool, chunkConsumer);
+        assert chunkSize > 0;
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+        this.chunkConsumer = chunkConsumer;
+        this.currentChunk = new ArrayList<>(chunkSize);
+    }
+
+    /**
+     * Adds the next student to be converted, and passes on the chunks that have been converted so far.
+     *
+     * @throws IllegalValueException if a student converted so far violates any data constraints,
+     *     or has the same name as an earlier student.
+     */
+    public void add(JsonAdaptedStudent jsonAdaptedStudent) throws IllegalValueException {
+        currentChunk.add(jsonAdaptedStudent);
+        if (currentChunk.size() < chunkSize) {
+            return;
+        }
+
+        submitCurrentChunk();
+        while (!pendingChunks.isEmpty() && pendingChunks.peekFirst().isDone()) {
+            passOn(pendingChunks.pollFirst());
+        }
+    }
+
+    /**
+     * Waits for every student added to be converted, and passes on the remaining chunks.
+     *
+     * @throws IllegalValueException if a student violates any data constraints, or has the same name as an
+     *     earlier student.
+     */
+    public void finish() throws IllegalValueException {
+        if (!currentChunk.isEmpty()) {
+            submitCurrentChunk();
+        }
+        while (!pendingChunks.isEmpty()) {
+            passOn(pendingChunks.pollFirst());
+        }
+    }
+
+    /**
+     * Stops converting the students added, without passing on any more chunks.
+     */
+    public void cancel() {
+        for (ForkJoinTask<List<Student>> pendingChunk : pendingChunks) {
+            pendingChunk.cancel(false);
+        }
+        pendingChunks.clear();
+        currentChunk.clear();
+    }
+
+    private void submitCurrentChunk() {
+        List<JsonAdaptedStudent> chunk = currentChunk;
+        pendingChunks.addLast(pool.submit(() -> convert(chunk)));
+        currentChunk = new ArrayList<>(chunkSize);
+    }
+
+    private void passOn(ForkJoinTask<List<Student>> convertedChunk) throws IllegalValueException {
+        List<Student> students = join(convertedChunk);
+        for (Student student : students) {
+            if (!names.add(student.getName())) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_STUDENT);
+            }
+        }
+        chunkConsumer.accept(students);
+    }
+
+    private static List<Student> convert(List<JsonAdaptedStudent> chunk) throws IllegalValueException {
+        List<Student> students = new ArrayList<>(chunk.size());
+        for (JsonAdaptedStudent jsonAdaptedStudent : chunk) {
+            students.add(jsonAdaptedStudent.toModelType());
+        }
+        return students;
+    }
+
+    /**
+     * Returns the students converted by {@code convertedChunk}, waiting for them if needed.
+     */
+    private static List<Student> join(ForkJoinTask<List<Student>> convertedChunk) throws IllegalValueException {
+        boolean isInterrupted = false;
+        try {
+            while (true) {
+                try {
+                    return convertedChunk.get();
+                } catch (InterruptedException e) {
+                    isInterrupted = true;
+                }
+            }
+        } catch (ExecutionException e) {
+            // The pool may wrap the exception thrown by the conversion.
+            for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+                if (cause instanceof IllegalValueException) {
+                    throw (IllegalValueException) cause;
+                }
+            }
+            throw new IllegalValueException(e.getCause().getMessage(), e.getCause());
+        } finally {
+            if (isInterrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
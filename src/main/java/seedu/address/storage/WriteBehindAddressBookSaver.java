@@ -0,0 +1,156 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.student.Student;
+
+/**
+ * Saves address books through an {@code AddressBookStorage} on an {@code Executor}, so that the caller does not
+ * wait for the address book to be written.
+ *
+ * A snapshot of the address book is taken on the calling thread when a save is requested. Saves requested while
+ * an earlier save is still being written are coalesced, so that only the latest snapshot is written next.
+ * At most one save runs at any time and snapshots are written in the order they were requested,
+ * so the file never goes back to an older state.
+ */
+public class WriteBehindAddressBookSaver {
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindAddressBookSaver.class);
+
+    private final AddressBookStorage storage;
+    private final Executor executor;
+
+    // Guarded by this.
+    private ReadOnlyAddressBook pendingSnapshot;
+    private boolean isSaving;
+    private IOException failure;
+
+    /**
+     * Creates a {@code WriteBehindAddressBookSaver} that saves to {@code storage} on {@code executor}.
+     * Each save is run on {@code executor} as a separate task.
+     */
+    public WriteBehindAddressBookSaver(AddressBookStorage storage, Executor executor) {
+        requireNonNull(storage);
+        requireNonNull(executor);
+        this.storage = storage;
+        this.executor = executor;
+    }
+
+    /**
+     * Takes a snapshot of {@code addressBook} and schedules it to be saved.
+     * Must not be called concurrently with changes to {@code addressBook}.
+     */
+    public void requestSave(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        ReadOnlyAddressBook snapshot = snapshotOf(addressBook);
+
+        synchronized (this) {
+            pendingSnapshot = snapshot;
+            if (isSaving) {
+                return;
+            }
+            isSaving = true;
+        }
+        executor.execute(this::savePendingSnapshots);
+    }
+
+    /**
+     * Returns and clears the failure of the latest save that could not be written, if any.
+     */
+    public synchronized IOException takeFailure() {
+        IOException takenFailure = failure;
+        failure = null;
+        return takenFailure;
+    }
+
+    /**
+     * Waits until every requested save has been written.
+     *
+     * @throws IOException if the latest save could not be written.
+     */
+    public void flush() throws IOException {
+        synchronized (this) {
+            boolean isInterrupted = false;
+            while (isSaving) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    isInterrupted = true;
+                }
+            }
+            if (isInterrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        IOException takenFailure = takeFailure();
+        if (takenFailure != null) {
+            throw takenFailure;
+        }
+    }
+
+    /**
+     * Writes the pending snapshot until no newer snapshot has been requested.
+     * Unchecked exceptions from the storage are reported as failures too, so that later saves are still written.
+     */
+    private void savePendingSnapshots() {
+        boolean isFinished = false;
+        try {
+            while (true) {
+                ReadOnlyAddressBook snapshot;
+                synchronized (this) {
+                    snapshot = pendingSnapshot;
+                    pendingSnapshot = null;
+                    if (snapshot == null) {
+                        isSaving = false;
+                        isFinished = true;
+                        notifyAll();
+                        return;
+                    }
+                }
+
+                IOException saveFailure = null;
+                try {
+                    storage.saveAddressBook(snapshot);
+                } catch (IOException e) {
+                    logger.warning("Failed to save address book " + StringUtil.getDetails(e));
+                    saveFailure = e;
+                } catch (RuntimeException e) {
+                    logger.severe("Unexpected error while saving address book " + StringUtil.getDetails(e));
+                    saveFailure = new IOException(e.getMessage(), e);
+                }
+                synchronized (this) {
+                    failure = saveFailure;
+                }
+            }
+        } finally {
+            if (!isFinished) {
+                // Lets later requests schedule a save, and flush return, even if an error ended this task.
+                synchronized (this) {
+                    isSaving = false;
+                    notifyAll();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a copy of {@code addressBook} that is not affected by later changes to it. Students are immutable, so
+     * only the list of students is copied.
+     */
+    private static ReadOnlyAddressBook snapshotOf(ReadOnlyAddressBook addressBook) {
+        List<Student> students = List.copyOf(addressBook.getStudentList());
+        ObservableList<Student> studentList = FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(students));
+        return () -> studentList;
+    }
+}
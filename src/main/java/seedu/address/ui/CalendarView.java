@@ -1,22 +1,21 @@
 package seedu.address.ui;
 
 import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.List;
 
 import javafx.collections.FXCollections;
-import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
-import seedu.address.model.session.RecurringSession;
-import seedu.address.model.session.Session;
-import seedu.address.model.session.SessionDate;
-import seedu.address.model.student.Student;
+import seedu.address.logic.Logic;
+import seedu.address.model.ModelChange;
 import seedu.address.model.tuition.Tuition;
 
 /**
@@ -24,9 +23,13 @@ import seedu.address.model.tuition.Tuition;
  */
 public class CalendarView extends UiPart<Region> {
     private static final String FXML = "CalendarView.fxml";
+    private static final int DAYS_IN_WEEK = 7;
 
-    private ObservableList<Student> studentObservableList;
-    private ObservableList<Tuition> tuitionList;
+    private final Logic logic;
+    private final CoalescedUpdate tuitionsUpdate = new CoalescedUpdate(this::populateTuitions);
+
+    // Tuitions of each day of the displayed week (mon - sun).
+    private final List<ObservableList<Tuition>> dailyTuitionLists = new ArrayList<>();
 
     // Must be a monday, change through setStartDate() method.
     private LocalDateTime calendarStartDate;
@@ -54,17 +57,18 @@ public class CalendarView extends UiPart<Region> {
     /**
      * Creates a {@code CalendarView} with the given {@code Logic}.
      */
-    public CalendarView(ObservableList<Student> studentObservableList) {
+    public CalendarView(Logic logic) {
         super(FXML);
-        this.studentObservableList = studentObservableList;
+        this.logic = logic;
 
-        tuitionList = FXCollections.observableArrayList();
+        for (int i = 0; i < DAYS_IN_WEEK; i++) {
+            dailyTuitionLists.add(FXCollections.observableArrayList());
+        }
         LocalDateTime currentMonday = LocalDateTime.now().with(DayOfWeek.MONDAY);
 
         setStartDate(currentMonday);
-        populateTuitions();
-        setStudentListListener();
-        setListViews(tuitionList);
+        setModelChangeListener();
+        setListViews();
     }
 
     class CalendarViewCell extends ListCell<Tuition> {
@@ -138,95 +142,47 @@ public class CalendarView extends UiPart<Region> {
     }
 
     /**
-     * Helper method to populate list of {@code Tuition} onto the Calendar's tuition list.
+     * Helper method to populate the tuitions of each day of the displayed week from the model.
      */
     private void populateTuitions() {
-        tuitionList.clear();
-        for (int i = 0; i < studentObservableList.size(); i++) {
-            for (int j = 0; j < studentObservableList.get(i).getListOfSessions().size(); j++) {
-                Student currStudent = studentObservableList.get(i);
-                Session currSession = currStudent.getListOfSessions().get(j);
-                tuitionList.add(new Tuition(currStudent, currSession, i, j));
-            }
+        LocalDate weekStart = calendarStartDate.toLocalDate();
+        logic.setTuitionWindow(weekStart, weekStart.plusDays(DAYS_IN_WEEK - 1));
+        for (int i = 0; i < DAYS_IN_WEEK; i++) {
+            dailyTuitionLists.get(i).setAll(logic.getTuitionsOnDate(calendarStartDate.plusDays(i).toLocalDate()));
         }
     }
 
     /**
-     * Invokes listener method to update calendar's tuition list upon new updates.
+     * Invokes listener method to update calendar's tuition lists upon changes that affect the displayed week.
      */
-    private void setStudentListListener() {
-        studentObservableList.addListener((ListChangeListener<Student>) change -> {
-            while (change.next()) {
-                populateTuitions();
+    private void setModelChangeListener() {
+        logic.addModelChangeListener(change -> {
+            if (isAffectingDisplayedWeek(change)) {
+                tuitionsUpdate.request();
             }
         });
     }
 
     /**
-     * Helper method for checking if session (individual and recurring) takes place on a particular date.
+     * Returns true if {@code change} may alter the tuitions displayed, or the indexes shown with them.
      */
-    private boolean hasSessionOnDate(LocalDateTime date, Tuition tuition) {
-        Session tuitionSession = tuition.getSession();
-        LocalDateTime tuitionDateTime = tuitionSession.getSessionDate().getDateTime();
-        boolean isSessionOnDate = tuitionDateTime.toLocalDate().isEqual(date.toLocalDate());
-        boolean isRecurringSessionOnDate = false;
-
-        if (tuitionSession instanceof RecurringSession) {
-            RecurringSession recurringTuitionSession = (RecurringSession) tuitionSession;
-            isRecurringSessionOnDate = recurringTuitionSession.hasSessionOnDate(new SessionDate(date));
-        }
-
-        return isSessionOnDate || isRecurringSessionOnDate;
+    private boolean isAffectingDisplayedWeek(ModelChange change) {
+        LocalDate weekStart = calendarStartDate.toLocalDate();
+        LocalDate weekEnd = weekStart.plusDays(DAYS_IN_WEEK - 1);
+        return change.getType() == ModelChange.Type.RESET
+                || change.hasSessionBetween(weekStart, weekEnd)
+                || (change.isRemoval() && dailyTuitionLists.stream().anyMatch(tuitions -> !tuitions.isEmpty()));
     }
 
     /**
-     * Binds Monday - Sunday {@code ListView} to respective filtered and sorted tuition list.
+     * Binds Monday - Sunday {@code ListView} to the tuitions of the respective day.
      */
-    private void setListViews(ObservableList<Tuition> tuitionList) {
-
-        Comparator<Tuition> sessionDateComparator = Comparator.comparing
-                (tuition -> tuition.getSession().getSessionDate().getTime());
-
-        monListView.setItems(tuitionList
-                .filtered(tuitionItem -> hasSessionOnDate(calendarStartDate, tuitionItem))
-                .sorted(sessionDateComparator)
-        );
-        monListView.setCellFactory(listView -> new CalendarViewCell());
-
-        tueListView.setItems(tuitionList
-                .filtered(tuitionItem -> hasSessionOnDate(calendarStartDate.plusDays(1), tuitionItem))
-                .sorted(sessionDateComparator)
-        );
-        tueListView.setCellFactory(listView -> new CalendarViewCell());
-
-        wedListView.setItems(tuitionList
-                .filtered(tuitionItem -> hasSessionOnDate(calendarStartDate.plusDays(2), tuitionItem))
-                .sorted(sessionDateComparator)
-        );
-        wedListView.setCellFactory(listView -> new CalendarViewCell());
-
-        thurListView.setItems(tuitionList
-                .filtered(tuitionItem -> hasSessionOnDate(calendarStartDate.plusDays(3), tuitionItem))
-                .sorted(sessionDateComparator)
-        );
-        thurListView.setCellFactory(listView -> new CalendarViewCell());
-
-        friListView.setItems(tuitionList
-                .filtered(tuitionItem -> hasSessionOnDate(calendarStartDate.plusDays(4), tuitionItem))
-                .sorted(sessionDateComparator)
-        );
-        friListView.setCellFactory(listView -> new CalendarViewCell());
-
-        satListView.setItems(tuitionList
-                .filtered(tuitionItem -> hasSessionOnDate(calendarStartDate.plusDays(5), tuitionItem))
-                .sorted(sessionDateComparator)
-        );
-        satListView.setCellFactory(listView -> new CalendarViewCell());
-
-        sunListView.setItems(tuitionList
-                .filtered(tuitionItem -> hasSessionOnDate(calendarStartDate.plusDays(6), tuitionItem))
-                .sorted(sessionDateComparator)
-        );
-        sunListView.setCellFactory(listView -> new CalendarViewCell());
+    private void setListViews() {
+        List<ListView<Tuition>> listViews = List.of(monListView, tueListView, wedListView, thurListView,
+                friListView, satListView, sunListView);
+        for (int i = 0; i < DAYS_IN_WEEK; i++) {
+            listViews.get(i).setItems(dailyTuitionLists.get(i));
+            listViews.get(i).setCellFactory(listView -> new CalendarViewCell());
+        }
     }
 }
@@ -0,0 +1,35 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.application.Platform;
+
+/**
+ * An update to the UI that runs on the JavaFX application thread at most once per pulse,
+ * however many times it is requested before it gets to run.
+ * Requests must be made on the JavaFX application thread.
+ */
+class CoalescedUpdate {
+
+    private final Runnable update;
+    private boolean isPending;
+
+    CoalescedUpdate(Runnable update) {
+        requireNonNull(update);
+        this.update = update;
+    }
+
+    /**
+     * Schedules the update to run, unless it is already scheduled and has yet to run.
+     */
+    void request() {
+        if (isPending) {
+            return;
+        }
+        isPending = true;
+        Platform.runLater(() -> {
+            isPending = false;
+            update.run();
+        });
+    }
+}
@@ -148,6 +148,13 @@ public class HelpWindow extends UiPart<Stage> {
                 new CommandHelper(" Open help panel", "help"),
                 new CommandHelper(" List all", "list"),
                 new CommandHelper(" Clear all data", "clear"),
+                new CommandHelper(" Undo the last change", "undo"),
+                new CommandHelper(" Redo the last undone change", "redo"),
+                new CommandHelper(" Import data from JSON", "import_json FILE_PATH"),
+                new CommandHelper(" Import data from CSV", "import_csv FILE_PATH"),
+                new CommandHelper(" Export data to JSON", "export_json FILE_PATH"),
+                new CommandHelper(" Run commands from a file", "run_script FILE_PATH"),
+                new CommandHelper(" Show command statistics", "stats"),
                 new CommandHelper(" Exit", "exit")
         );
     }
@@ -157,6 +164,9 @@ public class HelpWindow extends UiPart<Stage> {
                 new CommandHelper("Add student", "add_student n/NAME p/STUDENT_PHONE_NUMBER "
                         + "e/EMAIL a/ADDRESS l/STUDY_LEVEL g/GUARDIAN_PHONE_NUMBER r/RELATIONSHIP_WITH_GUARDIAN"),
                 new CommandHelper("Find student", "find_student KEYWORD [MORE_KEYWORDS]"),
+                new CommandHelper("Find student allowing typos", "find_student fuzzy/KEYWORD [MORE_KEYWORDS]"),
+                new CommandHelper("Query students", "query_student [l/STUDY_LEVEL] [r/RELATIONSHIP_WITH_GUARDIAN] "
+                        + "[s/SUBJECT] [f/MIN_FEE-MAX_FEE] [d/START_DATE e/END_DATE]"),
                 new CommandHelper("Edit student", "edit_student STUDENT_INDEX [n/NAME] "
                         + "[p/STUDENT_PHONE_NUMBER] [e/EMAIL] [a/ADDRESS] [l/STUDY_LEVEL] [g/GUARDIAN_PHONE_NUMBER]"
                         + " [r/RELATIONSHIP_WITH_GUARDIAN]"),
@@ -179,7 +189,10 @@ public class HelpWindow extends UiPart<Stage> {
 
     private static ObservableList<CommandHelper> getFeeCommands() {
         return FXCollections.observableArrayList(
-                new CommandHelper("Get fee", "fee n/STUDENT_NAME m/MONTH y/YEAR")
+                new CommandHelper("Get fee", "fee n/STUDENT_NAME m/MONTH y/YEAR"),
+                new CommandHelper("Report fees", "report d/START_DATE e/END_DATE "
+                        + "[by/month|week|subject|student] [o/FILE_PATH]"),
+                new CommandHelper("Export schedule", "export_schedule d/START_DATE e/END_DATE o/FILE_PATH")
         );
     }
 
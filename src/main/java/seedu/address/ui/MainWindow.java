@@ -34,6 +34,8 @@ public class MainWindow extends UiPart<Stage> {
     private static final String FXML = "MainWindow.fxml";
     private static final double WINDOW_HEIGHT = 768;
     private static final double WINDOW_WIDTH = 1100;
+    private static final String MESSAGE_LOADING = "Loading students...";
+    private static final String MESSAGE_LOADED = "%1$d students loaded, started in %2$d ms";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
@@ -48,6 +50,7 @@ public class MainWindow extends UiPart<Stage> {
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
     private CalendarView calendarView;
+    private StatusBarFooter statusBarFooter;
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -145,10 +148,10 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        upcomingTuitionListPanel = new UpcomingTuitionListPanel(logic.getFullStudentList());
+        upcomingTuitionListPanel = new UpcomingTuitionListPanel(logic);
         upcomingTuitionListPanelPlaceholder.getChildren().add(upcomingTuitionListPanel.getRoot());
 
-        monthlyFeeListPanel = new MonthlyFeeListPanel(logic.getFullStudentList());
+        monthlyFeeListPanel = new MonthlyFeeListPanel(logic);
         monthlyFeePanelPlaceholder.getChildren().add(monthlyFeeListPanel.getRoot());
 
         studentListPanel = new StudentListPanel(logic.getFilteredStudentList());
@@ -160,13 +163,16 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        if (logic.isAddressBookLoading()) {
+            statusBarFooter.setLoadStatus(MESSAGE_LOADING);
+        }
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
-        calendarView = new CalendarView(logic.getFullStudentList());
+        calendarView = new CalendarView(logic);
         calendarViewPlaceholder.getChildren().add(calendarView.getRoot());
 
         displayDateAndTime();
@@ -200,6 +206,14 @@ public class MainWindow extends UiPart<Stage> {
         primaryStage.show();
     }
 
+    /**
+     * Shows in the status bar that the address book has been loaded, {@code startupMillis} after the app started.
+     */
+    void showAddressBookLoaded(long startupMillis) {
+        statusBarFooter.setLoadStatus(String.format(MESSAGE_LOADED, logic.getFullStudentList().size(),
+                startupMillis));
+    }
+
     /**
      * Closes the application.
      */
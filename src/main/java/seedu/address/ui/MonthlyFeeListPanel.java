@@ -1,59 +1,59 @@
 package seedu.address.ui;
 
-import java.time.LocalDateTime;
+import java.time.YearMonth;
 
 import javafx.collections.FXCollections;
-import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
-import seedu.address.commons.util.DateUtil;
-import seedu.address.commons.util.FeeUtil;
+import seedu.address.logic.Logic;
+import seedu.address.model.ModelChange;
 import seedu.address.model.fee.Month;
 import seedu.address.model.fee.MonthlyFee;
 import seedu.address.model.fee.Year;
-import seedu.address.model.student.Student;
 
 /**
  * Panel containing the list of monthly fees for this month and the previous 2 month.
  */
 public class MonthlyFeeListPanel extends UiPart<Region> {
     private static final String FXML = "MonthlyFeeListPanel.fxml";
-    private ObservableList<MonthlyFee> monthlyFeeList;
+    private static final int MONTHS_SHOWN = 3;
+
+    private final Logic logic;
+    private final ObservableList<MonthlyFee> monthlyFeeList = FXCollections.observableArrayList();
+    private final CoalescedUpdate monthlyFeeListUpdate = new CoalescedUpdate(this::populateMonthlyFeeList);
 
     @FXML
     private ListView<MonthlyFee> monthlyFeeListView;
 
     /**
-     * Creates a {@code MonthlyFeeListPanel} with the given {@code ObservableList}.
+     * Creates a {@code MonthlyFeeListPanel} with the given {@code Logic}.
      */
-    public MonthlyFeeListPanel(ObservableList<Student> studentList) {
+    public MonthlyFeeListPanel(Logic logic) {
         super(FXML);
-        monthlyFeeList = FXCollections.observableArrayList();
+        this.logic = logic;
 
-        populateMonthlyFeeList(studentList);
-        setStudentListListener(studentList);
+        populateMonthlyFeeList();
+        setModelChangeListener();
         populateMonthlyFeeListView();
     }
 
     /**
-     * Set the student list to list for changes and update the monthly fee list accordingly.
-     * @param studentList Student list to listen for change.
+     * Sets the model to be listened for changes to the sessions of students, which may change the monthly fees.
      */
-    private void setStudentListListener(ObservableList<Student> studentList) {
-        studentList.addListener((ListChangeListener<Student>) change -> {
-            while (change.next()) {
-                monthlyFeeList.clear();
-                populateMonthlyFeeList(studentList);
-                populateMonthlyFeeListView();
+    private void setModelChangeListener() {
+        logic.addModelChangeListener(change -> {
+            if (change.getType() != ModelChange.Type.STUDENT_ADDED
+                    && change.getType() != ModelChange.Type.STUDENT_REMOVED) {
+                monthlyFeeListUpdate.request();
             }
         });
     }
 
     /**
-     * Populates the MonthlyFeeListViewCell with the given {@code ObservableList}.
+     * Populates the MonthlyFeeListViewCell with the monthly fee list.
      */
     private void populateMonthlyFeeListView() {
         monthlyFeeListView.setItems(monthlyFeeList);
@@ -62,45 +62,16 @@ public class MonthlyFeeListPanel extends UiPart<Region> {
 
     /**
      * Populates the monthlyFeeList with {@code MonthlyFee} for the current month + previous 2 months.
-     * @param studentList Student list to listen for change.
-     */
-    private void populateMonthlyFeeList(ObservableList<Student> studentList) {
-        LocalDateTime currMonthYear;
-        LocalDateTime nextMonthYear;
-
-        LocalDateTime now = LocalDateTime.now();
-        Month month = new Month(now.getMonth().getValue());
-        Year year = new Year(now.getYear());
-        currMonthYear = DateUtil.getFirstDayOfMonth(month, year);
-        nextMonthYear = currMonthYear.plusMonths(1);
-
-        // Get fees for the current month + previous 2 months.
-        for (int i = 0; i < 3; i++) {
-            // Get current month value and add the result to the resulting string
-            double currMonthlyFee = getMonthFeeByPeriod(studentList, currMonthYear, nextMonthYear);
-            monthlyFeeList.add(new MonthlyFee(currMonthlyFee, new Month(currMonthYear.getMonth().getValue()),
-                new Year(currMonthYear.getYear())));
-            // Update to previous month
-            currMonthYear = currMonthYear.minusMonths(1);
-            nextMonthYear = currMonthYear.plusMonths(1);
-        }
-    }
-
-    /**
-     * Gets the current month fee based on the start period and end period.
-     *
-     * @param studentList List of students.
-     * @param startPeriod Start Period of the month.
-     * @param endPeriod End Period of the month.
-     * @return Monthly fee for the current month.
      */
-    private double getMonthFeeByPeriod(ObservableList<Student> studentList, LocalDateTime startPeriod,
-        LocalDateTime endPeriod) {
-        double fee = 0;
-        for (Student student : studentList) {
-            fee += FeeUtil.getFeePerStudent(student, startPeriod, endPeriod);
+    private void populateMonthlyFeeList() {
+        YearMonth currMonth = YearMonth.now();
+        ObservableList<MonthlyFee> monthlyFees = FXCollections.observableArrayList();
+        for (int i = 0; i < MONTHS_SHOWN; i++) {
+            YearMonth month = currMonth.minusMonths(i);
+            monthlyFees.add(new MonthlyFee(logic.getMonthlyFee(month),
+                    new Month(month.getMonthValue()), new Year(month.getYear())));
         }
-        return fee;
+        monthlyFeeList.setAll(monthlyFees);
     }
 
     /**
@@ -1,10 +1,7 @@
 package seedu.address.ui;
 
-import java.util.stream.Collectors;
-
-import javafx.collections.FXCollections;
-import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.control.ListCell;
@@ -29,35 +26,20 @@ public class TuitionListPanel extends UiPart<Region> {
      */
     public TuitionListPanel(ObservableList<Student> studentList) {
         super(FXML);
-        addListener(studentList);
         populateTuitionListView(studentList);
     }
 
-    private void addListener(ObservableList<Student> studentList) {
-        studentList.addListener((ListChangeListener<Student>) change -> {
-            while (change.next()) {
-                populateTuitionListView(studentList);
-            }
-        });
-    }
-
     /**
-     * Populates the tuitionListView with the given {@code ObservableList}
+     * Populates the tuitionListView with the students in the given {@code ObservableList} that have sessions.
+     * The filtered view only re-evaluates the students that change, instead of the whole list.
      */
     private void populateTuitionListView(ObservableList<Student> studentList) {
-        ObservableList<Student> studentWithSessionsList = filterStudentsWithSessions(studentList);
+        ObservableList<Student> studentWithSessionsList = new FilteredList<>(studentList, student ->
+                !student.getListOfSessions().isEmpty());
         tuitionListView.setItems(studentWithSessionsList);
         tuitionListView.setCellFactory(listView -> new TuitionListViewCell());
     }
 
-    /**
-     * Filters and keep only students with at least 1 session in the list
-     */
-    private ObservableList<Student> filterStudentsWithSessions(ObservableList<Student> studentList) {
-        return studentList.stream().filter(student -> student.getListOfSessions().size() != 0)
-                .collect(Collectors.toCollection(FXCollections::observableArrayList));
-    }
-
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Student} and {@code Session}
      * using a {@code TuitionCard}.
@@ -10,4 +10,7 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Shows that the address book has been loaded, {@code startupMillis} after the app started. */
+    void showAddressBookLoaded(long startupMillis);
+
 }
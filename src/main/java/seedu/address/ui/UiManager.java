@@ -51,6 +51,11 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showAddressBookLoaded(long startupMillis) {
+        mainWindow.showAddressBookLoaded(startupMillis);
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
@@ -1,20 +1,15 @@
 package seedu.address.ui;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.util.Comparator;
 
 import javafx.collections.FXCollections;
-import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
-import seedu.address.model.session.RecurringSession;
-import seedu.address.model.session.Session;
-import seedu.address.model.session.SessionDate;
-import seedu.address.model.student.Student;
+import seedu.address.logic.Logic;
+import seedu.address.model.ModelChange;
 import seedu.address.model.tuition.Tuition;
 
 /**
@@ -22,105 +17,67 @@ import seedu.address.model.tuition.Tuition;
  */
 public class UpcomingTuitionListPanel extends UiPart<Region> {
     private static final String FXML = "UpcomingTuitionListPanel.fxml";
+    private static final int DAYS_SHOWN = 3;
+
+    private final Logic logic;
+    private final ObservableList<Tuition> tuitionList = FXCollections.observableArrayList();
+    private final CoalescedUpdate tuitionListUpdate = new CoalescedUpdate(this::populateTuitionList);
 
     @FXML
     private ListView<Tuition> upcomingTuitionListView;
 
     /**
-     * Creates a {@code UpcomingTuitionListPanel} with the given {@code ObservableList}.
+     * Creates a {@code UpcomingTuitionListPanel} with the given {@code Logic}.
      */
-    public UpcomingTuitionListPanel(ObservableList<Student> studentList) {
+    public UpcomingTuitionListPanel(Logic logic) {
         super(FXML);
-        ObservableList<Tuition> tuitionList = FXCollections.observableArrayList();
-        populateTuitionList(studentList, tuitionList);
-        sortByDate(tuitionList);
-        addListener(studentList, tuitionList);
-        populateUpcomingTuitionListView(tuitionList);
+        this.logic = logic;
+        populateTuitionList();
+        addListener();
+        populateUpcomingTuitionListView();
     }
 
-    private void addListener(ObservableList<Student> studentList, ObservableList<Tuition> tuitionList) {
-        studentList.addListener((ListChangeListener<Student>) change -> {
-            while (change.next()) {
-                tuitionList.clear();
-                populateTuitionList(studentList, tuitionList);
-                sortByDate(tuitionList);
+    private void addListener() {
+        logic.addModelChangeListener(change -> {
+            if (isAffectingUpcomingTuitions(change)) {
+                tuitionListUpdate.request();
             }
         });
     }
 
     /**
-     * Populates the upcomingTuitionListView with the given {@code ObservableList}
-     * @param finalTuitionList
+     * Returns true if {@code change} may alter the tuitions shown, or the indexes shown with them.
      */
-    private void populateUpcomingTuitionListView(ObservableList<Tuition> finalTuitionList) {
-        upcomingTuitionListView.setItems(finalTuitionList);
-        upcomingTuitionListView.setCellFactory(listView -> new UpcomingTuitionListViewCell());
+    private boolean isAffectingUpcomingTuitions(ModelChange change) {
+        LocalDate today = LocalDate.now();
+        return change.getType() == ModelChange.Type.RESET
+                || change.hasSessionBetween(today, today.plusDays(DAYS_SHOWN - 1))
+                || (change.isRemoval() && !tuitionList.isEmpty());
     }
 
     /**
-     * Sorts tuition by ascending order of date.
+     * Populates the upcomingTuitionListView with the tuition list.
      */
-    private void sortByDate(ObservableList<Tuition> finalTuitionList) {
-        finalTuitionList.sort(new Comparator<Tuition>() {
-            @Override
-            public int compare(Tuition tuition1, Tuition tuition2) {
-                return tuition1.getSession().getSessionDate().getDateTime().compareTo(
-                        tuition2.getSession().getSessionDate().getDateTime()
-                );
-            }
-        });
+    private void populateUpcomingTuitionListView() {
+        upcomingTuitionListView.setItems(tuitionList);
+        upcomingTuitionListView.setCellFactory(listView -> new UpcomingTuitionListViewCell());
     }
 
     /**
-     * Populates the tuitionList with {@code Tuition} for all sessions in the studentList between today and
-     * the day after tomorrow.
+     * Populates the tuitionList with {@code Tuition} for all sessions between today and the day after tomorrow,
+     * in ascending order of date.
      */
-    private void populateTuitionList(ObservableList<Student> studentList, ObservableList<Tuition> tuitionList) {
-
-        SessionDate today = new SessionDate(LocalDateTime.now());
-        SessionDate tomorrow = new SessionDate(LocalDateTime.now().plusDays(1));
-        SessionDate dayAfterTomorrow = new SessionDate(LocalDateTime.now().plusDays(2));
-
-        for (int i = 0; i < studentList.size(); i++) {
-            Student currStudent = studentList.get(i);
-            for (int j = 0; j < studentList.get(i).getListOfSessions().size(); j++) {
-                Session currSession = currStudent.getListOfSessions().get(j);
-                if (currSession instanceof RecurringSession) {
-                    RecurringSession recurringSession = (RecurringSession) currSession;
-
-                    if (!recurringSession.endBefore(today)) {
-                        if (recurringSession.hasSessionOnDate(today)) {
-                            tuitionList.add(new Tuition(currStudent,
-                                    recurringSession.buildSessionOnDate(today.getDate()), i, j));
-                        }
-                        if (recurringSession.hasSessionOnDate(tomorrow)) {
-                            tuitionList.add(new Tuition(currStudent,
-                                    recurringSession.buildSessionOnDate(tomorrow.getDate()), i, j));
-                        }
-                        if (recurringSession.hasSessionOnDate(dayAfterTomorrow)) {
-                            tuitionList.add(new Tuition(currStudent,
-                                    recurringSession.buildSessionOnDate(dayAfterTomorrow.getDate()), i, j));
-                        }
-                    }
-                } else {
-                    LocalDate dateOfSingleSession = currSession.getSessionDate().getDate();
-                    if (isWithinThreeDaysRange(today, dayAfterTomorrow, dateOfSingleSession)) {
-                        tuitionList.add(new Tuition(currStudent, currSession, i, j));
-                    }
-                }
+    private void populateTuitionList() {
+        LocalDate today = LocalDate.now();
+        logic.setTuitionWindow(today, today.plusDays(DAYS_SHOWN - 1));
+        ObservableList<Tuition> upcomingTuitions = FXCollections.observableArrayList();
+        for (int i = 0; i < DAYS_SHOWN; i++) {
+            LocalDate date = today.plusDays(i);
+            for (Tuition tuition : logic.getTuitionsOnDate(date)) {
+                upcomingTuitions.add(tuition.onDate(date));
             }
         }
-    }
-
-    /**
-     * Returns true if dateOfSingleSession is between today and the day after tomorrow.
-     */
-    private boolean isWithinThreeDaysRange(SessionDate today, SessionDate dayAfterTomorrow,
-                                           LocalDate dateOfSingleSession) {
-        assert today.getDateTime().toLocalDate().plusDays(2).equals(dayAfterTomorrow.getDateTime().toLocalDate())
-                : "dayAfterTomorrow should be 2 days after today!";
-        return today.getDate().compareTo(dateOfSingleSession) <= 0
-                && dateOfSingleSession.compareTo(dayAfterTomorrow.getDate()) <= 0;
+        tuitionList.setAll(upcomingTuitions);
     }
 
     /**
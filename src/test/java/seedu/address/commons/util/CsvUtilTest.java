@@ -0,0 +1,69 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvUtilTest {
+
+    @Test
+    public void escape_plainValue_unchanged() {
+        assertEquals("Alex Yeoh", CsvUtil.escape("Alex Yeoh"));
+        assertEquals("", CsvUtil.escape(""));
+    }
+
+    @Test
+    public void escape_specialCharacters_quoted() {
+        assertEquals("\"Blk 30, #06-40\"", CsvUtil.escape("Blk 30, #06-40"));
+        assertEquals("\"say \"\"hi\"\"\"", CsvUtil.escape("say \"hi\""));
+        assertEquals("\"two\nlines\"", CsvUtil.escape("two\nlines"));
+    }
+
+    @Test
+    public void appendLine_values_separatedByCommas() throws Exception {
+        StringBuilder builder = new StringBuilder();
+        CsvUtil.appendLine(builder, "month", "a,b", "1.50");
+        assertEquals("month,\"a,b\",1.50\r\n", builder.toString());
+    }
+
+    @Test
+    public void appendLine_nullValue_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CsvUtil.appendLine(new StringBuilder(), "a", null));
+    }
+
+    @Test
+    public void readLine_lines_splitIntoValues() throws Exception {
+        StringReader reader = new StringReader("month,\"a,b\",1.50\r\n\nlast,\"say \"\"hi\"\"\"");
+        assertEquals(Arrays.asList("month", "a,b", "1.50"), CsvUtil.readLine(reader));
+        assertEquals(Collections.singletonList(""), CsvUtil.readLine(reader));
+        assertEquals(Arrays.asList("last", "say \"hi\""), CsvUtil.readLine(reader));
+        assertEquals(null, CsvUtil.readLine(reader));
+    }
+
+    @Test
+    public void readLine_quotedLineBreak_singleLine() throws Exception {
+        StringReader reader = new StringReader("\"two\nlines\",b\n");
+        assertEquals(Arrays.asList("two\nlines", "b"), CsvUtil.readLine(reader));
+        assertEquals(null, CsvUtil.readLine(reader));
+    }
+
+    @Test
+    public void readLine_escapedValues_sameAsWritten() throws Exception {
+        StringBuilder builder = new StringBuilder();
+        CsvUtil.appendLine(builder, "Blk 30, #06-40", "", "say \"hi\"", "two\r\nlines");
+        assertEquals(Arrays.asList("Blk 30, #06-40", "", "say \"hi\"", "two\r\nlines"),
+                CsvUtil.readLine(new StringReader(builder.toString())));
+    }
+
+    @Test
+    public void readLine_unclosedQuote_throwsIoException() {
+        assertThrows(IOException.class, CsvUtil.MESSAGE_UNCLOSED_QUOTE, () ->
+                CsvUtil.readLine(new StringReader("a,\"b")));
+    }
+}
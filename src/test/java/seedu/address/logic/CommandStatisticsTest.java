@@ -0,0 +1,77 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class CommandStatisticsTest {
+
+    @Test
+    public void getBucket() {
+        assertEquals(0, CommandStatistics.getBucket(0));
+        assertEquals(0, CommandStatistics.getBucket(999));
+        assertEquals(1, CommandStatistics.getBucket(TimeUnit.MICROSECONDS.toNanos(1)));
+        assertEquals(10, CommandStatistics.getBucket(TimeUnit.MILLISECONDS.toNanos(1)));
+        assertEquals(31, CommandStatistics.getBucket(TimeUnit.DAYS.toNanos(1)));
+
+        // Every latency is less than the bound of its bucket, and at least the bound of the bucket before.
+        long nanos = TimeUnit.MILLISECONDS.toNanos(3);
+        int bucket = CommandStatistics.getBucket(nanos);
+        assertTrue(nanos < CommandStatistics.getBucketBound(bucket));
+        assertTrue(nanos >= CommandStatistics.getBucketBound(bucket - 1));
+    }
+
+    @Test
+    public void getReport_noCommands_noCommandsMessage() {
+        assertEquals(CommandStatistics.MESSAGE_NO_COMMANDS, new CommandStatistics().getReport());
+    }
+
+    @Test
+    public void getReport_recordedCommands_rowPerCommandWord() {
+        CommandStatistics commandStatistics = new CommandStatistics();
+        for (int i = 0; i < 99; i++) {
+            commandStatistics.record("list", 1000, 2000, 0, 1024);
+        }
+        commandStatistics.record("list", 1000, TimeUnit.MILLISECONDS.toNanos(5), 0, 1024);
+        commandStatistics.record("add_student", TimeUnit.MILLISECONDS.toNanos(1), TimeUnit.MILLISECONDS.toNanos(2),
+                TimeUnit.MILLISECONDS.toNanos(3), 2048);
+        commandStatistics.recordWrite(() -> { });
+
+        String[] lines = commandStatistics.getReport().split("\n");
+        assertEquals(4, lines.length);
+        assertEquals(CommandStatistics.REPORT_HEADER, lines[0]);
+        // Command words are in alphabetical order, followed by the file writes.
+        assertTrue(lines[1].matches("add_student +1 +1\\.000 +2\\.000 +3\\.000 +8\\.192 +8\\.192 +2\\.0"));
+        assertTrue(lines[2].matches("list +100 +0\\.001 +0\\.052 +0\\.000 +0\\.004 +0\\.004 +1\\.0"));
+        assertTrue(lines[3].startsWith(CommandStatistics.WRITES_LABEL));
+        assertEquals(100, commandStatistics.getCount("list"));
+        assertEquals(1, commandStatistics.getWriteCount());
+    }
+
+    @Test
+    public void recordWrite_writeThrows_recorded() {
+        CommandStatistics commandStatistics = new CommandStatistics();
+        try {
+            commandStatistics.recordWrite(() -> {
+                throw new IllegalStateException();
+            });
+        } catch (IllegalStateException e) {
+            // The write is recorded before the exception is passed on.
+        }
+        assertEquals(1, commandStatistics.getWriteCount());
+    }
+
+    @Test
+    public void getSummary_singleLineAndNotDue() {
+        CommandStatistics commandStatistics = new CommandStatistics();
+        commandStatistics.record("list", 1000, 2000, 0, 1024);
+        String summary = commandStatistics.getSummary();
+        assertFalse(summary.contains("\n"));
+        assertTrue(summary.contains("list n=1 "));
+        assertFalse(commandStatistics.isSummaryDue());
+    }
+}
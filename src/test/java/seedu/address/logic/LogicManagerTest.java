@@ -24,6 +24,8 @@ import seedu.address.logic.commands.AddStudentCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.DeleteStudentCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -93,6 +95,70 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_commandWithoutChanges_doesNotSave() throws Exception {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void execute_addressBookLoading_throwsCommandException() throws Exception {
+        logic.setAddressBookLoading(true);
+        assertCommandException(ListCommand.COMMAND_WORD, LogicManager.MESSAGE_LOADING);
+
+        logic.setAddressBookLoading(false);
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void execute_undoAndRedo_revertsLastChangingCommand() throws Exception {
+        String addCommand = AddStudentCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + STUDY_LEVEL_DESC_AMY + GUARDIAN_PHONE_DESC_AMY + RELATIONSHIP_DESC_AMY;
+        logic.execute(addCommand);
+        logic.execute(ListCommand.COMMAND_WORD);
+
+        assertCommandSuccess(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_SUCCESS, new ModelManager());
+        assertCommandException(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_FAILURE);
+
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addStudent(new StudentBuilder(AMY).build());
+        assertCommandSuccess(RedoCommand.COMMAND_WORD, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
+    @Test
+    public void setAddressBookLoading_finished_loadedStudentsCannotBeUndone() throws Exception {
+        logic.setAddressBookLoading(true);
+        model.addStudent(new StudentBuilder(AMY).build());
+        logic.setAddressBookLoading(false);
+
+        assertCommandException(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_parsedCommands_recordedInCommandStatistics() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute("  " + ListCommand.COMMAND_WORD + " 3");
+        assertThrows(CommandException.class, () -> logic.execute(DeleteStudentCommand.COMMAND_WORD + " 9"));
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+
+        CommandStatistics commandStatistics = logic.getCommandStatistics();
+        assertEquals(2, commandStatistics.getCount(ListCommand.COMMAND_WORD));
+        assertEquals(1, commandStatistics.getCount(DeleteStudentCommand.COMMAND_WORD));
+        assertEquals(0, commandStatistics.getCount("uicfhmowqewca"));
+        assertEquals(0, commandStatistics.getWriteCount());
+
+        String addCommand = AddStudentCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + STUDY_LEVEL_DESC_AMY + GUARDIAN_PHONE_DESC_AMY + RELATIONSHIP_DESC_AMY;
+        logic.execute(addCommand);
+        assertEquals(1, commandStatistics.getCount(AddStudentCommand.COMMAND_WORD));
+        assertEquals(1, commandStatistics.getWriteCount());
+    }
+
     @Test
     public void getFilteredStudentList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredStudentList().remove(0));
@@ -133,8 +133,8 @@ public class AddRecurringSessionCommandTest {
 
         ModelStubWithRecurringSession(RecurringSession recurringSession) {
             requireNonNull(recurringSession);
-            this.student = new StudentBuilder().build();
-            student.addSessions(new RecurringSessionBuilder().build()); }
+            this.student = new StudentBuilder().addSessions(new RecurringSessionBuilder().build()).build();
+        }
 
         @Override
         public boolean hasStudent(Student student) {
@@ -210,7 +210,7 @@ public class AddRecurringSessionCommandTest {
         public void addSession(Name name, Session session) {
             requireNonNull(session);
             assert(name.equals(oneStudent.getName()));
-            oneStudent.addSession(session);
+            oneStudent = oneStudent.withSession(session);
         }
 
         @Override
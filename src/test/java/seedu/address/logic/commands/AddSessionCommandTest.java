@@ -39,10 +39,9 @@ public class AddSessionCommandTest {
     @Test
     public void execute_newSessionThatAlreadyExists_throwsCommandException() {
         Model model = new ModelManager(new AddressBook(), new UserPrefs());
-        Student validStudent = new StudentBuilder().build();
         Session validSession = new SessionBuilder().build();
+        Student validStudent = new StudentBuilder().addSessions(validSession).build();
 
-        validStudent.addSession(validSession);
         model.addStudent(validStudent);
 
         AddSessionCommand addSessionCommand = new AddSessionCommand(validSession, validStudent.getName());
@@ -8,6 +8,8 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_SESSION;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_STUDENT;
 import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
@@ -34,13 +36,13 @@ class DeleteRecurringSessionCommandTest {
     @Test
     void constructor_nullSession_throwsNullPointerException() {
 
-        Student student = model.getAddressBook().getStudentList().get(INDEX_FIRST_STUDENT.getZeroBased());
         RecurringSession recurringSession =
                 new RecurringSessionBuilder()
                         .withSessionDate(VALID_START_DATE_A, VALID_TIME)
                         .withLastSessionDate(VALID_END_DATE_A, VALID_TIME).build();
         SessionDate sessionDate = recurringSession.getSessionDate().addDays(recurringSession.getInterval().getValue());
-        student.addSession(recurringSession);
+        Student student = model.getAddressBook().getStudentList().get(INDEX_FIRST_STUDENT.getZeroBased())
+                .withSession(recurringSession);
         Index sessionIndex = Index.fromOneBased(student.getListOfSessions().size());
 
         // all null -> returns false
@@ -74,8 +76,6 @@ class DeleteRecurringSessionCommandTest {
                 .withPhone("94351253").withStudyLevel("Sec 2").withGuardianPhone("82813844")
                 .withRelationship("Mother")
                 .build();
-        alice.getListOfSessions().clear();
-        expectedAlice.getListOfSessions().clear();
         Session sessionToDelete = new SessionBuilder().withSessionDate("2021-04-15", VALID_TIME).build();
         RecurringSession recurringSession =
                 new RecurringSessionBuilder()
@@ -85,10 +85,8 @@ class DeleteRecurringSessionCommandTest {
                 new RecurringSessionBuilder()
                         .withSessionDate(VALID_START_DATE_A, VALID_TIME)
                         .withLastSessionDate(VALID_END_DATE_A, VALID_TIME).build();
-        alice.addSession(recurringSession);
-        expectedAlice.addSession(expectedRecurringSession);
-        addressBook.addStudent(alice);
-        expectedAddressBook.addStudent(expectedAlice);
+        addressBook.addStudent(alice.withSession(recurringSession));
+        expectedAddressBook.addStudent(expectedAlice.withSession(expectedRecurringSession));
         Model testingModel = new ModelManager(addressBook, new UserPrefs());
         Model expectedModel = new ModelManager(expectedAddressBook, new UserPrefs());
         String expectedMessage =
@@ -120,9 +118,13 @@ class DeleteRecurringSessionCommandTest {
                 new RecurringSessionBuilder()
                         .withSessionDate(VALID_START_DATE_B, VALID_TIME)
                         .withLastSessionDate(VALID_END_DATE_B, VALID_TIME).build();
-        Student exampleStudent1 = new StudentBuilder().withName("Father John").build();
-        Student copyExampleStudent1 = new StudentBuilder().withName("Father John").build();
-        Student exampleStudent2 = new StudentBuilder().withName("Mother Mary").build();
+        // exampleStudent1 with session -> Start: 2021-04-01 12:00 End: 2021-05-06 12:00
+        Student exampleStudent1 = new StudentBuilder().withName("Father John").addSessions(recurringSessionA).build();
+        // exampleStudent2 with session -> Start: 2021-04-01 12:00 End: 2021-05-06 12:00
+        Student exampleStudent2 = new StudentBuilder().withName("Mother Mary").addSessions(recurringSessionA).build();
+        // copyExampleStudent1 with sessions -> Start: 2021-04-01 12:00 End: 2021-05-06 12:00, twice
+        Student copyExampleStudent1 = new StudentBuilder().withName("Father John")
+                .addSessions(copyRecurringSessionA, recurringSessionA).build();
         // testingModel add student -> Name: Father John
         testingModel.addStudent(exampleStudent1);
         // testingModel add student -> Name: Mother Mary
@@ -130,15 +132,6 @@ class DeleteRecurringSessionCommandTest {
         // testingModel add student -> Name: Father John (same name but different object)
         comparedModel.addStudent(copyExampleStudent1);
 
-        // testingModel -> exampleStudent1 add session -> Start: 2021-04-01 12:00 End: 2021-05-06 12:00
-        exampleStudent1.addSession(recurringSessionA);
-        // testingModel -> exampleStudent2 add session -> Start: 2021-04-01 12:00 End: 2021-05-06 12:00
-        exampleStudent2.addSession(recurringSessionA);
-        // comparedModel -> copyExampleStudent1 add session -> Start: 2021-04-01 12:00 End: 2021-05-06 12:00
-        copyExampleStudent1.addSession(copyRecurringSessionA);
-        // comparedModel -> copyExampleStudent1 add session -> Start: 2021-04-01 12:00 End: 2021-05-06 12:00
-        copyExampleStudent1.addSession(recurringSessionA);
-
         DeleteRecurringSessionCommand deleteRecurringSessionCommand =
                 new DeleteRecurringSessionCommand(exampleStudent1.getName(),
                         Index.fromOneBased(exampleStudent1.getListOfSessions().size()),
@@ -172,9 +165,9 @@ class DeleteRecurringSessionCommandTest {
         // different object, same student name, different index, same session date -> returns false
         assertFalse(deleteRecurringSessionCommand.equals(differentIndexDeleteRecurringSessionCommand));
 
-        copyExampleStudent1.getListOfSessions().clear();
-        // comparedModel -> copyExampleStudent1 add session -> Start: 2021-04-02 12:00 End: 2021-05-07 12:00
-        copyExampleStudent1.addSession(recurringSessionB);
+        // copyExampleStudent1 with only session -> Start: 2021-04-02 12:00 End: 2021-05-07 12:00
+        copyExampleStudent1 = new StudentBuilder(copyExampleStudent1).withNewListOfSessions(List.of(recurringSessionB))
+                .build();
 
         DeleteRecurringSessionCommand differentSessionDateDeleteRecurringSessionCommand =
                 new DeleteRecurringSessionCommand(copyExampleStudent1.getName(),
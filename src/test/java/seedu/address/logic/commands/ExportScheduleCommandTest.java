@@ -0,0 +1,73 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.session.ScheduleExport;
+
+public class ExportScheduleCommandTest {
+
+    private static final LocalDate START_DATE = LocalDate.of(2021, 1, 1);
+    private static final LocalDate END_DATE = LocalDate.of(2021, 12, 31);
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_csvFile_writesCsv() throws Exception {
+        Path filePath = testFolder.resolve("exports").resolve("schedule.csv");
+        StringBuilder expectedCsv = new StringBuilder();
+        long numOfSessions = new ScheduleExport(model.getAddressBook().getStudentList(), START_DATE, END_DATE)
+                .writeCsv(expectedCsv);
+
+        CommandResult result = new ExportScheduleCommand(START_DATE, END_DATE, filePath).execute(model);
+
+        assertEquals(String.format(ExportScheduleCommand.MESSAGE_SUCCESS, numOfSessions, START_DATE, END_DATE,
+                filePath), result.getFeedbackToUser());
+        assertEquals(expectedCsv.toString(), Files.readString(filePath));
+    }
+
+    @Test
+    public void execute_icsFile_writesIcs() throws Exception {
+        Path filePath = testFolder.resolve("schedule.ics");
+
+        new ExportScheduleCommand(START_DATE, END_DATE, filePath).execute(model);
+
+        String ics = Files.readString(filePath);
+        assertTrue(ics.startsWith("BEGIN:VCALENDAR\r\n"));
+        assertTrue(ics.endsWith("END:VCALENDAR\r\n"));
+    }
+
+    @Test
+    public void execute_unknownFileType_throwsCommandException() {
+        Path filePath = testFolder.resolve("schedule.txt");
+        assertCommandFailure(new ExportScheduleCommand(START_DATE, END_DATE, filePath), model,
+                ScheduleExport.Format.MESSAGE_CONSTRAINTS);
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void equals() {
+        ExportScheduleCommand command = new ExportScheduleCommand(START_DATE, END_DATE, Paths.get("a.csv"));
+        assertEquals(command, new ExportScheduleCommand(START_DATE, END_DATE, Paths.get("a.csv")));
+        assertFalse(command.equals(new ExportScheduleCommand(START_DATE, END_DATE, Paths.get("a.ics"))));
+        assertFalse(command.equals(new ExportScheduleCommand(START_DATE, START_DATE, Paths.get("a.csv"))));
+        assertFalse(command.equals(new ExportJsonCommand(Paths.get("a.csv"))));
+    }
+}
@@ -5,13 +5,19 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_STUDENT;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
 import static seedu.address.testutil.TypicalStudents.CARL;
+import static seedu.address.testutil.TypicalStudents.DANIEL;
 import static seedu.address.testutil.TypicalStudents.ELLE;
 import static seedu.address.testutil.TypicalStudents.FIONA;
 import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -19,6 +25,9 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.student.NameContainsKeywordsPredicate;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.EditStudentDescriptorBuilder;
+import seedu.address.testutil.StudentBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindStudentCommand}.
@@ -52,6 +61,9 @@ public class FindStudentCommandTest {
 
         // different student -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // different mode -> returns false
+        assertFalse(findFirstCommand.equals(new FindStudentCommand(firstPredicate, true)));
     }
 
     @Test
@@ -74,6 +86,71 @@ public class FindStudentCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredStudentList());
     }
 
+    @Test
+    public void execute_prefixKeywords_studentsWithMatchingWordsFound() {
+        String expectedMessage = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, 4);
+        NameContainsKeywordsPredicate predicate = preparePredicate("mei ku");
+        FindStudentCommand command = new FindStudentCommand(predicate);
+        expectedModel.updateFilteredStudentList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, CARL, DANIEL, FIONA), model.getFilteredStudentList());
+    }
+
+    @Test
+    public void execute_fuzzyKeywords_similarStudentsFoundMostSimilarFirst() {
+        String expectedMessage = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, 3);
+        FindStudentCommand command = new FindStudentCommand(preparePredicate("Meyer"), true);
+        List<Student> expectedStudents = Arrays.asList(ELLE, BENSON, DANIEL);
+        expectedModel.updateFilteredStudentList(expectedStudents::contains,
+                Comparator.comparing(expectedStudents::indexOf));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(expectedStudents, model.getFilteredStudentList());
+    }
+
+    @Test
+    public void execute_fuzzyKeywordsWithTypos_studentsFoundByAnyDetail() {
+        // Typos in the name of Carl Kurz, the email of Fiona Kunz and the address of Alice Pauline
+        String expectedMessage = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, 3);
+        FindStudentCommand command = new FindStudentCommand(preparePredicate("carll lyida jurnog"), true);
+        List<Student> expectedStudents = Arrays.asList(ALICE, CARL, FIONA);
+        expectedModel.updateFilteredStudentList(expectedStudents::contains,
+                Comparator.comparing(expectedStudents::indexOf));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(expectedStudents, model.getFilteredStudentList());
+    }
+
+    @Test
+    public void execute_thenEditFoundStudent_editedStudentCheckedAgain() throws Exception {
+        new FindStudentCommand(preparePredicate("alice")).execute(model);
+
+        // still matches -> still listed
+        new EditStudentCommand(INDEX_FIRST_STUDENT,
+                new EditStudentDescriptorBuilder().withName("Alice Tan").build()).execute(model);
+        Student editedAlice = new StudentBuilder(ALICE).withName("Alice Tan").build();
+        assertEquals(Collections.singletonList(editedAlice), model.getFilteredStudentList());
+
+        // no longer matches -> no longer listed
+        new EditStudentCommand(INDEX_FIRST_STUDENT,
+                new EditStudentDescriptorBuilder().withName("Amy Tan").build()).execute(model);
+        assertEquals(Collections.emptyList(), model.getFilteredStudentList());
+    }
+
+    @Test
+    public void execute_fuzzyThenEditFoundStudent_editedStudentCheckedAgain() throws Exception {
+        new FindStudentCommand(preparePredicate("alcie"), true).execute(model);
+
+        // still similar -> still listed
+        new EditStudentCommand(INDEX_FIRST_STUDENT,
+                new EditStudentDescriptorBuilder().withName("Alice Tan").build()).execute(model);
+        Student editedAlice = new StudentBuilder(ALICE).withName("Alice Tan").build();
+        assertEquals(Collections.singletonList(editedAlice), model.getFilteredStudentList());
+
+        // name and email no longer similar -> no longer listed
+        new EditStudentCommand(INDEX_FIRST_STUDENT, new EditStudentDescriptorBuilder().withName("Amy Tan")
+                .withEmail("amy@example.com").build()).execute(model);
+        assertEquals(Collections.emptyList(), model.getFilteredStudentList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
      */
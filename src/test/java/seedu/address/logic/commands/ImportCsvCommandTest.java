@@ -0,0 +1,136 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.AMY;
+import static seedu.address.testutil.TypicalStudents.BOB;
+import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.logic.parser.StudentCsvRowParser;
+import seedu.address.model.Model;
+import seedu.address.model.ModelChange;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.session.Session;
+import seedu.address.model.student.Phone;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.RecurringSessionBuilder;
+import seedu.address.testutil.SessionBuilder;
+
+public class ImportCsvCommandTest {
+
+    private static final String[] NO_SESSION = {"", "", "", "", "", "", ""};
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_validFile_studentsAddedWithSingleChange() throws Exception {
+        Path filePath = writeCsv(
+                row(AMY, "2031-07-13", "09:30", "60", "Math", "40", "", ""),
+                row(AMY, "2031-07-14", "09:30", "60", "Math", "40", "2031-07-28", "7"),
+                "",
+                row(BOB, NO_SESSION));
+        List<ModelChange> changes = new ArrayList<>();
+        model.addModelChangeListener(changes::add);
+        int numOfStudents = model.getAddressBook().getStudentList().size();
+
+        CommandResult result = new ImportCsvCommand(filePath).execute(model);
+
+        assertEquals(String.format(ImportCsvCommand.MESSAGE_SUCCESS, 2, 2, filePath), result.getFeedbackToUser());
+        assertEquals(numOfStudents + 2, model.getAddressBook().getStudentList().size());
+        Session singleSession = new SessionBuilder().withSessionDate("2031-07-13", "09:30").withDuration("60")
+                .withSubject("Math").withFee("40").build();
+        Session recurringSession = new RecurringSessionBuilder().withSessionDate("2031-07-14", "09:30")
+                .withDuration("60").withSubject("Math").withFee("40").withLastSessionDate("2031-07-28", "09:30")
+                .withInterval("7").build();
+        assertEquals(Arrays.asList(singleSession, recurringSession),
+                model.getStudentWithName(AMY.getName()).getListOfSessions());
+        assertEquals(0, model.getStudentWithName(BOB.getName()).getListOfSessions().size());
+        assertEquals(1, changes.size());
+        assertEquals(ModelChange.Type.RESET, changes.get(0).getType());
+    }
+
+    @Test
+    public void execute_failingRows_addressBookUnchanged() throws Exception {
+        Student amyWithOtherPhone = new Student(AMY.getName(), new Phone("91234567"), AMY.getEmail(),
+                AMY.getAddress(), AMY.getStudyLevel(), AMY.getGuardianPhone(), AMY.getRelationship());
+        String invalidPhoneRow = row(BOB, NO_SESSION).replace(BOB.getPhone().value, "12");
+        Path filePath = writeCsv(
+                row(ALICE, NO_SESSION),
+                row(AMY, "2031-07-14", "09:30", "60", "Math", "40", "2031-07-28", "7"),
+                row(AMY, "2031-07-21", "10:00", "60", "Math", "40", "", ""),
+                row(amyWithOtherPhone, NO_SESSION),
+                invalidPhoneRow);
+
+        String expectedMessage = String.format(ImportCsvCommand.MESSAGE_ROWS_FAILED, 4, filePath)
+                + "\n" + String.format(ImportCsvCommand.MESSAGE_ROW_FAILED, 2,
+                        ImportCsvCommand.MESSAGE_STUDENT_EXISTS)
+                + "\n" + String.format(ImportCsvCommand.MESSAGE_ROW_FAILED, 4,
+                        ImportCsvCommand.MESSAGE_SESSION_CLASH)
+                + "\n" + String.format(ImportCsvCommand.MESSAGE_ROW_FAILED, 5,
+                        String.format(ImportCsvCommand.MESSAGE_DIFFERENT_DETAILS, 3))
+                + "\n" + String.format(ImportCsvCommand.MESSAGE_ROW_FAILED, 6, Phone.MESSAGE_CONSTRAINTS);
+        assertCommandFailure(new ImportCsvCommand(filePath), model, expectedMessage);
+        assertFalse(model.hasName(AMY.getName()));
+    }
+
+    @Test
+    public void execute_invalidHeader_throwsCommandException() throws Exception {
+        Path filePath = testFolder.resolve("students.csv");
+        Files.writeString(filePath, "name,phone\r\n");
+        assertCommandFailure(new ImportCsvCommand(filePath), model,
+                String.format(ImportCsvCommand.MESSAGE_INVALID_HEADER, filePath,
+                        String.join(",", StudentCsvRowParser.HEADER)));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path filePath = testFolder.resolve("missing.csv");
+        assertCommandFailure(new ImportCsvCommand(filePath), model,
+                String.format(ImportCsvCommand.MESSAGE_FILE_NOT_FOUND, filePath));
+    }
+
+    @Test
+    public void equals() {
+        ImportCsvCommand importCommand = new ImportCsvCommand(Paths.get("a.csv"));
+        assertEquals(importCommand, new ImportCsvCommand(Paths.get("a.csv")));
+        assertFalse(importCommand.equals(new ImportCsvCommand(Paths.get("b.csv"))));
+        assertFalse(importCommand.equals(new ImportJsonCommand(Paths.get("a.csv"))));
+    }
+
+    private Path writeCsv(String... rows) throws Exception {
+        StringBuilder builder = new StringBuilder();
+        CsvUtil.appendLine(builder, StudentCsvRowParser.HEADER.toArray(new String[0]));
+        for (String row : rows) {
+            builder.append(row).append(CsvUtil.LINE_SEPARATOR);
+        }
+        Path filePath = testFolder.resolve("students.csv");
+        Files.writeString(filePath, builder.toString());
+        return filePath;
+    }
+
+    private static String row(Student student, String... sessionValues) {
+        List<String> values = new ArrayList<>(Arrays.asList(student.getName().fullName, student.getPhone().value,
+                student.getEmail().value, student.getAddress().value, student.getStudyLevel(),
+                student.getGuardianPhone().value, student.getRelationship()));
+        values.addAll(Arrays.asList(sessionValues));
+        return values.stream().map(CsvUtil::escape).collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class ImportJsonCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void execute_exportedFile_replacesAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("export.json");
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        new ExportJsonCommand(filePath).execute(model);
+        assertTrue(Files.exists(filePath));
+
+        Model importingModel = new ModelManager();
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        String expectedMessage = String.format(ImportJsonCommand.MESSAGE_SUCCESS,
+                expectedModel.getAddressBook().getStudentList().size(), filePath);
+        assertCommandSuccess(new ImportJsonCommand(filePath), importingModel, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path filePath = testFolder.resolve("missing.json");
+        assertCommandFailure(new ImportJsonCommand(filePath), new ModelManager(),
+                String.format(ImportJsonCommand.MESSAGE_FILE_NOT_FOUND, filePath));
+    }
+
+    @Test
+    public void execute_invalidFile_throwsCommandException() throws Exception {
+        Path filePath = testFolder.resolve("invalid.json");
+        Files.writeString(filePath, "not json");
+        assertCommandFailure(new ImportJsonCommand(filePath), new ModelManager(),
+                String.format(ImportJsonCommand.MESSAGE_IMPORT_FAILED, filePath));
+    }
+
+    @Test
+    public void equals() {
+        ImportJsonCommand importCommand = new ImportJsonCommand(Paths.get("a.json"));
+        assertEquals(importCommand, new ImportJsonCommand(Paths.get("a.json")));
+        assertFalse(importCommand.equals(new ImportJsonCommand(Paths.get("b.json"))));
+        assertFalse(importCommand.equals(new ExportJsonCommand(Paths.get("a.json"))));
+    }
+}
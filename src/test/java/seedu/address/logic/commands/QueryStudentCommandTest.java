@@ -0,0 +1,99 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.CARL;
+import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.session.Fee;
+import seedu.address.model.session.Session;
+import seedu.address.model.student.StudentQuery;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code QueryStudentCommand}.
+ */
+public class QueryStudentCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        StudentQuery firstQuery = new StudentQuery();
+        firstQuery.setStudyLevel("Sec 2");
+        StudentQuery secondQuery = new StudentQuery();
+        secondQuery.setRelationship("Mother");
+
+        QueryStudentCommand firstCommand = new QueryStudentCommand(firstQuery);
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        StudentQuery firstQueryCopy = new StudentQuery();
+        firstQueryCopy.setStudyLevel("Sec 2");
+        assertTrue(firstCommand.equals(new QueryStudentCommand(firstQueryCopy)));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different query -> returns false
+        assertFalse(firstCommand.equals(new QueryStudentCommand(secondQuery)));
+    }
+
+    @Test
+    public void execute_noMatchingStudents_noStudentFound() {
+        StudentQuery query = new StudentQuery();
+        query.setStudyLevel("Sec 2");
+        query.setRelationship("Father");
+        String expectedMessage = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, 0);
+        expectedModel.updateFilteredStudentList(query);
+        assertCommandSuccess(new QueryStudentCommand(query), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(), model.getFilteredStudentList());
+    }
+
+    @Test
+    public void execute_severalFields_matchingStudentsFound() {
+        StudentQuery query = new StudentQuery();
+        query.setRelationship("mother");
+        query.setFeeRange(new Fee("25"), new Fee("30"));
+        query.setDateRange(LocalDate.of(2021, 3, 1), LocalDate.of(2021, 3, 31));
+        String expectedMessage = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, 2);
+        expectedModel.updateFilteredStudentList(query);
+        assertCommandSuccess(new QueryStudentCommand(query), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, CARL), model.getFilteredStudentList());
+    }
+
+    @Test
+    public void execute_thenDeleteMatchingSession_studentCheckedAgain() throws Exception {
+        StudentQuery query = new StudentQuery();
+        query.setDateRange(LocalDate.of(2021, 3, 1), LocalDate.of(2021, 3, 1));
+        new QueryStudentCommand(query).execute(model);
+        assertTrue(model.getFilteredStudentList().contains(ALICE));
+
+        // Alice's only session on the date
+        List<Session> sessions = model.getStudentWithName(ALICE.getName()).getListOfSessions();
+        int sessionIndex = 0;
+        while (!sessions.get(sessionIndex).getSessionDate().getDate().equals(LocalDate.of(2021, 3, 1))) {
+            sessionIndex++;
+        }
+        model.deleteSession(ALICE.getName(), Index.fromZeroBased(sessionIndex));
+        assertFalse(model.getFilteredStudentList().contains(ALICE));
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FeeUtil;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.fee.ReportGrouping;
+import seedu.address.model.fee.RevenueReport;
+
+public class ReportCommandTest {
+
+    private static final LocalDate START_DATE = LocalDate.of(2021, 1, 1);
+    private static final LocalDate END_DATE = LocalDate.of(2021, 12, 31);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void execute_withoutFile_showsEveryRow() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        RevenueReport report = RevenueReport.of(model.getAddressBook().getStudentList(), START_DATE, END_DATE,
+                ReportGrouping.MONTH);
+
+        String feedback = new ReportCommand(START_DATE, END_DATE, ReportGrouping.MONTH, Optional.empty())
+                .execute(model).getFeedbackToUser();
+
+        String[] lines = feedback.split("\n");
+        assertEquals(String.format(ReportCommand.MESSAGE_SUCCESS, START_DATE, END_DATE, "month",
+                FeeUtil.formatCents(report.getTotalFeeInCents()), report.getTotalNumOfSessions()), lines[0]);
+        assertEquals(12 + 1, lines.length);
+        assertEquals(report.getRows().get(0).toString(), lines[1]);
+    }
+
+    @Test
+    public void execute_withFile_writesCsv() throws Exception {
+        Path filePath = testFolder.resolve("reports").resolve("report.csv");
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        RevenueReport report = RevenueReport.of(model.getAddressBook().getStudentList(), START_DATE, END_DATE,
+                ReportGrouping.SUBJECT);
+
+        String feedback = new ReportCommand(START_DATE, END_DATE, ReportGrouping.SUBJECT, Optional.of(filePath))
+                .execute(model).getFeedbackToUser();
+
+        StringBuilder expectedCsv = new StringBuilder();
+        report.writeCsv(expectedCsv);
+        assertEquals(expectedCsv.toString(), Files.readString(filePath));
+        assertFalse(feedback.contains(ReportGrouping.SUBJECT.getName() + ","));
+    }
+
+    @Test
+    public void equals() {
+        ReportCommand reportCommand = new ReportCommand(START_DATE, END_DATE, ReportGrouping.WEEK, Optional.empty());
+        assertEquals(reportCommand, new ReportCommand(START_DATE, END_DATE, ReportGrouping.WEEK, Optional.empty()));
+        assertFalse(reportCommand.equals(
+                new ReportCommand(START_DATE, END_DATE, ReportGrouping.MONTH, Optional.empty())));
+        assertFalse(reportCommand.equals(null));
+    }
+}
@@ -0,0 +1,119 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.AMY;
+import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelChange;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.session.Session;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.SessionBuilder;
+import seedu.address.testutil.SessionUtil;
+import seedu.address.testutil.StudentBuilder;
+import seedu.address.testutil.StudentUtil;
+
+public class RunScriptCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final AddressBookParser parser = new AddressBookParser();
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_validScript_appliedWithSingleChange() throws Exception {
+        Student amy = new StudentBuilder(AMY).build();
+        Session session = new SessionBuilder().withSessionDate("2031-07-13", "09:30").build();
+        Path filePath = writeScript("# New students", "", StudentUtil.getAddStudentCommand(amy),
+                SessionUtil.getAddSessionCommand(amy, session));
+        List<ModelChange> changes = new ArrayList<>();
+        model.addModelChangeListener(changes::add);
+
+        CommandResult result = new RunScriptCommand(filePath, parser).execute(model);
+
+        assertEquals(String.format(RunScriptCommand.MESSAGE_SUCCESS, 2, filePath), result.getFeedbackToUser());
+        assertEquals(Arrays.asList(session), model.getStudentWithName(amy.getName()).getListOfSessions());
+        assertEquals(1, changes.size());
+        assertEquals(ModelChange.Type.RESET, changes.get(0).getType());
+    }
+
+    @Test
+    public void execute_failingLines_addressBookUnchanged() throws Exception {
+        Session session = new SessionBuilder().withSessionDate("2031-07-13", "09:30").build();
+        Path filePath = writeScript(SessionUtil.getAddSessionCommand(ALICE, session), "clear", "add_student",
+                SessionUtil.getAddSessionCommand(ALICE, session));
+        int numOfSessions = model.getStudentWithName(ALICE.getName()).getListOfSessions().size();
+
+        String expectedMessage = String.format(RunScriptCommand.MESSAGE_LINES_FAILED, 3, filePath)
+                + "\n" + String.format(RunScriptCommand.MESSAGE_LINE_FAILED, 2,
+                        String.format(RunScriptCommand.MESSAGE_COMMAND_NOT_ALLOWED, "clear"))
+                + "\n" + String.format(RunScriptCommand.MESSAGE_LINE_FAILED, 3,
+                        assertThrows(ParseException.class, () -> parser.parseCommand("add_student")).getMessage())
+                + "\n" + String.format(RunScriptCommand.MESSAGE_LINE_FAILED, 4,
+                        AddSessionCommand.SESSION_ALREADY_EXIST_ERROR);
+        assertCommandFailure(new RunScriptCommand(filePath, parser), model, expectedMessage);
+        // The session added by the first line was only added to a copy of ALICE.
+        assertEquals(numOfSessions, model.getStudentWithName(ALICE.getName()).getListOfSessions().size());
+    }
+
+    @Test
+    public void execute_manyFailingLines_onlyFirstFailuresShown() throws Exception {
+        String[] lines = new String[RunScriptCommand.MAX_LINE_FAILURES_SHOWN + 2];
+        Arrays.fill(lines, "list");
+        Path filePath = writeScript(lines);
+
+        String message = assertThrows(CommandException.class, () ->
+                new RunScriptCommand(filePath, parser).execute(model)).getMessage();
+        assertTrue(message.endsWith(String.format(RunScriptCommand.MESSAGE_MORE_LINES_FAILED, 2)));
+        assertEquals(RunScriptCommand.MAX_LINE_FAILURES_SHOWN + 2, message.split("\n").length);
+    }
+
+    @Test
+    public void execute_noCommands_throwsCommandException() throws Exception {
+        Path filePath = writeScript("# Nothing to run", " ");
+        assertCommandFailure(new RunScriptCommand(filePath, parser), model,
+                String.format(RunScriptCommand.MESSAGE_NO_COMMANDS, filePath));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path filePath = testFolder.resolve("missing.txt");
+        assertCommandFailure(new RunScriptCommand(filePath, parser), model,
+                String.format(RunScriptCommand.MESSAGE_FILE_NOT_FOUND, filePath));
+    }
+
+    @Test
+    public void equals() {
+        RunScriptCommand runScriptCommand = new RunScriptCommand(Paths.get("a.txt"), parser);
+        assertEquals(runScriptCommand, new RunScriptCommand(Paths.get("a.txt"), new AddressBookParser()));
+        assertFalse(runScriptCommand.equals(new RunScriptCommand(Paths.get("b.txt"), parser)));
+        assertFalse(runScriptCommand.equals(new ImportJsonCommand(Paths.get("a.txt"))));
+    }
+
+    private Path writeScript(String... lines) throws Exception {
+        Path filePath = testFolder.resolve("script.txt");
+        Files.write(filePath, Arrays.asList(lines));
+        return filePath;
+    }
+}
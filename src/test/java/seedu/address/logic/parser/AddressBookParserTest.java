@@ -8,12 +8,16 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_STUDENT;
 import static seedu.address.testutil.TypicalStudents.ALICE;
 
+import java.nio.file.Paths;
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.CommandStatistics;
 import seedu.address.logic.commands.AddSessionCommand;
 import seedu.address.logic.commands.AddStudentCommand;
 import seedu.address.logic.commands.ClearCommand;
@@ -21,14 +25,26 @@ import seedu.address.logic.commands.DeleteStudentCommand;
 import seedu.address.logic.commands.EditStudentCommand;
 import seedu.address.logic.commands.EmailCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportJsonCommand;
+import seedu.address.logic.commands.ExportScheduleCommand;
 import seedu.address.logic.commands.FindStudentCommand;
 import seedu.address.logic.commands.GetMonthlyFeeCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCsvCommand;
+import seedu.address.logic.commands.ImportJsonCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.QueryStudentCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.ReportCommand;
+import seedu.address.logic.commands.RunScriptCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.fee.ReportGrouping;
 import seedu.address.model.session.Session;
 import seedu.address.model.student.NameContainsKeywordsPredicate;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentQuery;
 import seedu.address.testutil.EditStudentDescriptorBuilder;
 import seedu.address.testutil.SessionBuilder;
 import seedu.address.testutil.SessionUtil;
@@ -46,12 +62,71 @@ public class AddressBookParserTest {
         assertEquals(new AddStudentCommand(student), command);
     }
 
+    @Test
+    public void parseCommand_importAndExport() throws Exception {
+        assertEquals(new ImportJsonCommand(Paths.get("data", "a.json")),
+                parser.parseCommand(ImportJsonCommand.COMMAND_WORD + " data/a.json"));
+        assertEquals(new ImportCsvCommand(Paths.get("data", "a.csv")),
+                parser.parseCommand(ImportCsvCommand.COMMAND_WORD + " data/a.csv"));
+        assertEquals(new ExportJsonCommand(Paths.get("data", "a.json")),
+                parser.parseCommand(ExportJsonCommand.COMMAND_WORD + "  data/a.json "));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ExportJsonCommand.MESSAGE_USAGE), () -> parser.parseCommand(ExportJsonCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void parseCommand_runScript() throws Exception {
+        assertEquals(new RunScriptCommand(Paths.get("data", "a.txt"), parser),
+                parser.parseCommand(RunScriptCommand.COMMAND_WORD + " data/a.txt"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                RunScriptCommand.MESSAGE_USAGE), () -> parser.parseCommand(RunScriptCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void parseCommand_report() throws Exception {
+        ReportCommand expectedCommand = new ReportCommand(LocalDate.of(2021, 1, 1), LocalDate.of(2021, 3, 31),
+                ReportGrouping.STUDENT, Optional.empty());
+        assertEquals(expectedCommand,
+                parser.parseCommand(ReportCommand.COMMAND_WORD + " d/2021-01-01 e/2021-03-31 by/student"));
+    }
+
+    @Test
+    public void parseCommand_exportSchedule() throws Exception {
+        ExportScheduleCommand expectedCommand = new ExportScheduleCommand(LocalDate.of(2021, 1, 1),
+                LocalDate.of(2021, 3, 31), Paths.get("data", "schedule.ics"));
+        assertEquals(expectedCommand, parser.parseCommand(ExportScheduleCommand.COMMAND_WORD
+                + " d/2021-01-01 e/2021-03-31 o/data/schedule.ics"));
+    }
+
+    @Test
+    public void parseCommand_queryStudent() throws Exception {
+        StudentQuery query = new StudentQuery();
+        query.setStudyLevel("Sec 2");
+        query.setRelationship("Mother");
+        QueryStudentCommand command = (QueryStudentCommand) parser.parseCommand(
+                QueryStudentCommand.COMMAND_WORD + " l/Sec 2 r/Mother");
+        assertEquals(new QueryStudentCommand(query), command);
+    }
+
+    @Test
+    public void parseCommand_stats() throws Exception {
+        CommandStatistics commandStatistics = new CommandStatistics();
+        assertEquals(new StatsCommand(commandStatistics),
+                new AddressBookParser(commandStatistics).parseCommand(StatsCommand.COMMAND_WORD + " 3"));
+    }
+
     @Test
     public void parseCommand_clear() throws Exception {
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD) instanceof ClearCommand);
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD + " 3") instanceof ClearCommand);
     }
 
+    @Test
+    public void parseCommand_undoAndRedo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
     @Test
     public void parseStudentCommand_delete() throws Exception {
         DeleteStudentCommand command = (DeleteStudentCommand) parser.parseCommand(
@@ -0,0 +1,45 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ExportScheduleCommand;
+import seedu.address.model.session.ScheduleExport;
+import seedu.address.model.session.SessionDate;
+
+public class ExportScheduleCommandParserTest {
+
+    private static final LocalDate START_DATE = LocalDate.of(2021, 1, 1);
+    private static final LocalDate END_DATE = LocalDate.of(2021, 12, 31);
+
+    private ExportScheduleCommandParser parser = new ExportScheduleCommandParser();
+
+    @Test
+    public void parse_missingArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportScheduleCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "     ", expectedMessage);
+        assertParseFailure(parser, " d/2021-01-01 e/2021-12-31", expectedMessage);
+        assertParseFailure(parser, " 2021 d/2021-01-01 e/2021-12-31 o/a.csv", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidValues_throwsParseException() {
+        assertParseFailure(parser, " d/2021-13-01 e/2021-12-31 o/a.csv", SessionDate.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " d/2021-12-31 e/2021-01-01 o/a.csv", ScheduleExport.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " d/2021-01-01 e/2021-12-31 o/a.json", ScheduleExport.Format.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validArgs_returnsExportScheduleCommand() {
+        assertParseSuccess(parser, " d/2021-01-01 e/2021-12-31 o/data/schedule.ics",
+                new ExportScheduleCommand(START_DATE, END_DATE, Paths.get("data", "schedule.ics")));
+        assertParseSuccess(parser, "  o/schedule.CSV e/2021-12-31  d/2021-01-01 ",
+                new ExportScheduleCommand(START_DATE, END_DATE, Paths.get("schedule.CSV")));
+    }
+}
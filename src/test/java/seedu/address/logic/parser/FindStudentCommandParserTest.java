@@ -32,4 +32,23 @@ public class FindStudentCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindStudentCommand);
     }
 
+    @Test
+    public void parse_fuzzyArgs_returnsFuzzyFindCommand() {
+        FindStudentCommand expectedFindStudentCommand =
+                new FindStudentCommand(new NameContainsKeywordsPredicate(Arrays.asList("Alcie", "Bbo")), true);
+        assertParseSuccess(parser, " fuzzy/Alcie Bbo", expectedFindStudentCommand);
+        assertParseSuccess(parser, " fuzzy/ \n Alcie \t Bbo ", expectedFindStudentCommand);
+    }
+
+    @Test
+    public void parse_invalidFuzzyArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindStudentCommand.MESSAGE_USAGE);
+
+        // no keywords
+        assertParseFailure(parser, " fuzzy/  ", expectedMessage);
+
+        // keywords before the prefix
+        assertParseFailure(parser, " Alice fuzzy/Bob", expectedMessage);
+    }
+
 }
@@ -0,0 +1,74 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.QueryStudentCommand;
+import seedu.address.model.session.Fee;
+import seedu.address.model.session.SessionDate;
+import seedu.address.model.session.Subject;
+import seedu.address.model.student.StudentQuery;
+
+public class QueryStudentCommandParserTest {
+
+    private QueryStudentCommandParser parser = new QueryStudentCommandParser();
+
+    @Test
+    public void parse_invalidFormat_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryStudentCommand.MESSAGE_USAGE);
+
+        // preamble
+        assertParseFailure(parser, " Alice l/Sec 2", expectedMessage);
+
+        // start date without end date
+        assertParseFailure(parser, " d/2021-01-01", expectedMessage);
+
+        // end date without start date
+        assertParseFailure(parser, " l/Sec 2 e/2021-01-01", expectedMessage);
+    }
+
+    @Test
+    public void parse_noFields_throwsParseException() {
+        assertParseFailure(parser, "     ", QueryStudentCommand.MESSAGE_NO_FIELDS);
+    }
+
+    @Test
+    public void parse_invalidValues_throwsParseException() {
+        assertParseFailure(parser, " s/ ", Subject.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " f/30", QueryStudentCommandParser.MESSAGE_INVALID_FEE_RANGE);
+        assertParseFailure(parser, " f/30-40-50", QueryStudentCommandParser.MESSAGE_INVALID_FEE_RANGE);
+        assertParseFailure(parser, " f/30-4a", Fee.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " f/50-40", StudentQuery.MESSAGE_MIN_FEE_ABOVE_MAX_FEE);
+        assertParseFailure(parser, " d/2021-13-01 e/2021-12-31", SessionDate.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " d/2021-12-31 e/2021-01-01", StudentQuery.MESSAGE_END_DATE_BEFORE_START_DATE);
+    }
+
+    @Test
+    public void parse_someFields_success() {
+        StudentQuery query = new StudentQuery();
+        query.setStudyLevel("Sec 2");
+        assertParseSuccess(parser, " l/Sec 2", new QueryStudentCommand(query));
+
+        query = new StudentQuery();
+        query.setSubject(new Subject("Math"));
+        query.setFeeRange(new Fee("30"), new Fee("50.5"));
+        assertParseSuccess(parser, " s/Math f/ 30 - 50.5 ", new QueryStudentCommand(query));
+    }
+
+    @Test
+    public void parse_allFields_success() {
+        StudentQuery query = new StudentQuery();
+        query.setStudyLevel("Sec 2");
+        query.setRelationship("Mother");
+        query.setSubject(new Subject("Math"));
+        query.setFeeRange(new Fee("30"), new Fee("50"));
+        query.setDateRange(LocalDate.of(2021, 3, 1), LocalDate.of(2021, 3, 31));
+        assertParseSuccess(parser, " l/Sec 2 r/Mother s/Math f/30-50 d/2021-03-01 e/2021-03-31",
+                new QueryStudentCommand(query));
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ReportCommand;
+import seedu.address.model.fee.ReportGrouping;
+import seedu.address.model.fee.RevenueReport;
+import seedu.address.model.session.SessionDate;
+
+public class ReportCommandParserTest {
+
+    private static final LocalDate START_DATE = LocalDate.of(2021, 1, 1);
+    private static final LocalDate END_DATE = LocalDate.of(2021, 12, 31);
+
+    private ReportCommandParser parser = new ReportCommandParser();
+
+    @Test
+    public void parse_missingDates_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ReportCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "     ", expectedMessage);
+        assertParseFailure(parser, " d/2021-01-01", expectedMessage);
+        assertParseFailure(parser, " 2021 d/2021-01-01 e/2021-12-31", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidValues_throwsParseException() {
+        assertParseFailure(parser, " d/2021-13-01 e/2021-12-31",
+                SessionDate.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " d/2021-12-31 e/2021-01-01", RevenueReport.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " d/2021-01-01 e/2021-12-31 by/year", ReportGrouping.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validArgs_returnsReportCommand() {
+        assertParseSuccess(parser, " d/2021-01-01 e/2021-12-31",
+                new ReportCommand(START_DATE, END_DATE, ReportGrouping.MONTH, Optional.empty()));
+        assertParseSuccess(parser, "  e/2021-12-31  d/2021-01-01 by/Subject ",
+                new ReportCommand(START_DATE, END_DATE, ReportGrouping.SUBJECT, Optional.empty()));
+        assertParseSuccess(parser, " d/2021-01-01 e/2021-12-31 by/week o/data/report.csv",
+                new ReportCommand(START_DATE, END_DATE, ReportGrouping.WEEK,
+                        Optional.of(Paths.get("data", "report.csv"))));
+    }
+}
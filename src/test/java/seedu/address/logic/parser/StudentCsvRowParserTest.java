@@ -0,0 +1,94 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.StudentCsvRowParser.StudentRow;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.session.Interval;
+import seedu.address.model.session.RecurringSession;
+import seedu.address.model.student.Phone;
+import seedu.address.testutil.RecurringSessionBuilder;
+import seedu.address.testutil.SessionBuilder;
+import seedu.address.testutil.StudentBuilder;
+
+public class StudentCsvRowParserTest {
+
+    private static final List<String> STUDENT_VALUES = Arrays.asList(StudentBuilder.DEFAULT_NAME,
+            StudentBuilder.DEFAULT_PHONE, StudentBuilder.DEFAULT_EMAIL, StudentBuilder.DEFAULT_ADDRESS,
+            StudentBuilder.DEFAULT_STUDY_LEVEL, StudentBuilder.DEFAULT_GUARDIAN_PHONE,
+            StudentBuilder.DEFAULT_RELATIONSHIP);
+    private static final List<String> SESSION_VALUES = Arrays.asList(SessionBuilder.DEFAULT_DATE,
+            SessionBuilder.DEFAULT_TIME, SessionBuilder.DEFAULT_DURATION, SessionBuilder.DEFAULT_SUBJECT,
+            SessionBuilder.DEFAULT_FEE);
+
+    @Test
+    public void parse_studentOnly_noSession() throws Exception {
+        StudentRow row = StudentCsvRowParser.parse(row(STUDENT_VALUES, blanks(5), blanks(2)));
+        assertEquals(new StudentBuilder().build(), row.getStudent());
+        assertFalse(row.getSession().isPresent());
+    }
+
+    @Test
+    public void parse_singleSession_session() throws Exception {
+        StudentRow row = StudentCsvRowParser.parse(row(STUDENT_VALUES, SESSION_VALUES, blanks(2)));
+        assertEquals(new StudentBuilder().build(), row.getStudent());
+        assertEquals(new SessionBuilder().build(), row.getSession().get());
+    }
+
+    @Test
+    public void parse_recurringSession_recurringSession() throws Exception {
+        StudentRow row = StudentCsvRowParser.parse(row(STUDENT_VALUES, SESSION_VALUES,
+                Arrays.asList(RecurringSessionBuilder.DEFAULT_END_DATE, RecurringSessionBuilder.DEFAULT_INTERVAL)));
+        RecurringSession session = (RecurringSession) row.getSession().get();
+        assertEquals(new RecurringSessionBuilder().build(), session);
+    }
+
+    @Test
+    public void parse_invalidRow_throwsParseException() {
+        assertThrows(ParseException.class, String.format(StudentCsvRowParser.MESSAGE_WRONG_NUMBER_OF_VALUES,
+                StudentCsvRowParser.HEADER.size(), STUDENT_VALUES.size()), () ->
+                StudentCsvRowParser.parse(STUDENT_VALUES));
+
+        List<String> values = row(STUDENT_VALUES, blanks(5), blanks(2));
+        values.set(1, "12");
+        assertThrows(ParseException.class, Phone.MESSAGE_CONSTRAINTS, () -> StudentCsvRowParser.parse(values));
+
+        List<String> sessionValues = new ArrayList<>(SESSION_VALUES);
+        sessionValues.set(4, " ");
+        assertThrows(ParseException.class, StudentCsvRowParser.MESSAGE_INCOMPLETE_SESSION, () ->
+                StudentCsvRowParser.parse(row(STUDENT_VALUES, sessionValues, blanks(2))));
+
+        assertThrows(ParseException.class, StudentCsvRowParser.MESSAGE_INCOMPLETE_RECURRENCE, () ->
+                StudentCsvRowParser.parse(row(STUDENT_VALUES, SESSION_VALUES, Arrays.asList("2021-01-15", ""))));
+
+        assertThrows(ParseException.class, Interval.MESSAGE_CONSTRAINTS, () ->
+                StudentCsvRowParser.parse(row(STUDENT_VALUES, SESSION_VALUES, Arrays.asList("2021-01-15", "0"))));
+
+        assertThrows(ParseException.class, RecurringSession.MESSAGE_CONSTRAINTS, () ->
+                StudentCsvRowParser.parse(row(STUDENT_VALUES, SESSION_VALUES, Arrays.asList("2021-01-16", "7"))));
+    }
+
+    private static List<String> row(List<String> studentValues, List<String> sessionValues,
+            List<String> recurrenceValues) {
+        List<String> values = new ArrayList<>(studentValues);
+        values.addAll(sessionValues);
+        values.addAll(recurrenceValues);
+        return values;
+    }
+
+    private static List<String> blanks(int count) {
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            values.add("");
+        }
+        return values;
+    }
+}
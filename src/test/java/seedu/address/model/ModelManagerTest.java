@@ -12,14 +12,17 @@ import static seedu.address.testutil.TypicalStudents.BOB;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Comparator;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.session.Session;
 import seedu.address.model.student.NameContainsKeywordsPredicate;
+import seedu.address.model.student.Student;
 import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.SessionBuilder;
+import seedu.address.testutil.StudentBuilder;
 
 public class ModelManagerTest {
 
@@ -96,6 +99,19 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredStudentList().remove(0));
     }
 
+    @Test
+    public void updateFilteredStudentList_withComparator_sortsUntilNextUpdate() {
+        modelManager.addStudent(ALICE);
+        modelManager.addStudent(BENSON);
+
+        modelManager.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS,
+                Comparator.comparing((Student student) -> student.getName().fullName).reversed());
+        assertEquals(Arrays.asList(BENSON, ALICE), modelManager.getFilteredStudentList());
+
+        modelManager.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredStudentList());
+    }
+
     @Test
     public void hasName_nameExists_returnsTrue() {
         modelManager.addStudent(ALICE);
@@ -171,6 +187,74 @@ public class ModelManagerTest {
         assertFalse(modelManager.hasOverlappingSession(newSession));
     }
 
+    @Test
+    public void undoAndRedo_studentAndSessionChanges_restoresEachVersion() {
+        Student amy = new StudentBuilder().withName("Amy Undo").build();
+        Student ben = new StudentBuilder().withName("Ben Undo").build();
+        Session session = new SessionBuilder().withSessionDate("2031-07-13", "09:30").build();
+        modelManager.addStudent(amy);
+        modelManager.addStudent(ben);
+        modelManager.commitAddressBook();
+        modelManager.addSession(amy.getName(), session);
+        modelManager.commitAddressBook();
+        modelManager.deleteStudent(amy);
+        modelManager.commitAddressBook();
+
+        modelManager.undoAddressBook();
+        assertEquals(Arrays.asList(amy, ben), modelManager.getAddressBook().getStudentList());
+        assertEquals(Arrays.asList(session), modelManager.getStudentWithName(amy.getName()).getListOfSessions());
+        assertTrue(modelManager.hasSession(session));
+
+        modelManager.undoAddressBook();
+        assertEquals(Arrays.asList(), modelManager.getStudentWithName(amy.getName()).getListOfSessions());
+        assertFalse(modelManager.hasSession(session));
+
+        modelManager.undoAddressBook();
+        assertEquals(Arrays.asList(), modelManager.getAddressBook().getStudentList());
+        assertFalse(modelManager.canUndoAddressBook());
+
+        modelManager.redoAddressBook();
+        modelManager.redoAddressBook();
+        assertEquals(Arrays.asList(session), modelManager.getStudentWithName(amy.getName()).getListOfSessions());
+        modelManager.redoAddressBook();
+        assertEquals(Arrays.asList(ben), modelManager.getAddressBook().getStudentList());
+        assertFalse(modelManager.canRedoAddressBook());
+    }
+
+    @Test
+    public void undoAddressBook_setStudents_restoresAllStudents() {
+        modelManager.addStudent(ALICE);
+        modelManager.commitAddressBook();
+        modelManager.setStudents(Arrays.asList(BENSON, BOB));
+        modelManager.commitAddressBook();
+
+        modelManager.undoAddressBook();
+        assertEquals(Arrays.asList(ALICE), modelManager.getAddressBook().getStudentList());
+        modelManager.redoAddressBook();
+        assertEquals(Arrays.asList(BENSON, BOB), modelManager.getAddressBook().getStudentList());
+    }
+
+    @Test
+    public void commitAddressBook_withAndWithoutChanges() {
+        modelManager.addStudent(ALICE);
+        modelManager.commitAddressBook();
+        modelManager.undoAddressBook();
+
+        // no changes -> undone version can still be redone
+        modelManager.commitAddressBook();
+        assertTrue(modelManager.canRedoAddressBook());
+
+        // new changes -> undone version is discarded
+        modelManager.addStudent(BENSON);
+        modelManager.commitAddressBook();
+        assertFalse(modelManager.canRedoAddressBook());
+        assertTrue(modelManager.canUndoAddressBook());
+
+        modelManager.clearAddressBookHistory();
+        assertFalse(modelManager.canUndoAddressBook());
+        assertThrows(IllegalStateException.class, () -> modelManager.undoAddressBook());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withStudent(ALICE).withStudent(BENSON).build();
@@ -0,0 +1,112 @@
+package seedu.address.model.fee;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.FeeUtil;
+import seedu.address.model.session.Session;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.RecurringSessionBuilder;
+import seedu.address.testutil.SessionBuilder;
+import seedu.address.testutil.StudentBuilder;
+
+public class FeeAggregatorTest {
+
+    private static final Session SESSION = new SessionBuilder().withSessionDate("2021-02-10", "10:00")
+            .withFee("40.5").build();
+    // Sessions on 28 Jan, 4 Feb, 11 Feb, 18 Feb, 25 Feb and 4 Mar.
+    private static final Session RECURRING_SESSION = new RecurringSessionBuilder()
+            .withSessionDate("2021-01-28", "12:00").withFee("10.1").withInterval("7")
+            .withLastSessionDate("2021-03-04", "12:00").build();
+
+    @Test
+    public void getFees_overlappingPeriods_returnsFeeOfEachPeriod() {
+        Student student = new StudentBuilder().addSessions(SESSION, RECURRING_SESSION).build();
+        List<FeePeriod> periods = List.of(FeePeriod.of(YearMonth.of(2021, 2)),
+                new FeePeriod(LocalDateTime.of(2021, 1, 1, 0, 0), LocalDateTime.of(2021, 4, 1, 0, 0)),
+                new FeePeriod(LocalDateTime.of(2021, 2, 10, 10, 0), LocalDateTime.of(2021, 2, 11, 0, 0)),
+                new FeePeriod(LocalDateTime.of(2021, 6, 1, 0, 0), LocalDateTime.of(2021, 6, 1, 0, 0)));
+
+        assertTrue(Arrays.equals(new double[] {80.9, 101.1, 40.5, 0},
+                new FeeAggregator().getFees(List.of(student), periods)));
+    }
+
+    @Test
+    public void getTotals_overlappingPeriods_returnsSessionsAndFeeOfEachPeriod() {
+        Student student = new StudentBuilder().addSessions(SESSION, RECURRING_SESSION).build();
+        List<FeePeriod> periods = List.of(FeePeriod.of(YearMonth.of(2021, 2)),
+                new FeePeriod(LocalDateTime.of(2021, 6, 1, 0, 0), LocalDateTime.of(2021, 6, 1, 0, 0)));
+
+        FeeTotals totals = new FeeAggregator().getTotals(List.of(student), periods);
+        assertEquals(2, totals.getNumOfPeriods());
+        assertEquals(5, totals.getNumOfSessions(0));
+        assertEquals(8090, totals.getFeeInCents(0));
+        assertEquals(0, totals.getNumOfSessions(1));
+        assertEquals(0, totals.getFeeInCents(1));
+    }
+
+    @Test
+    public void getFeesInCents_manyStudents_sameAsSequentialSum() {
+        Random random = new Random(12);
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            StudentBuilder studentBuilder = new StudentBuilder().withName("Student " + i);
+            for (int j = random.nextInt(5); j > 0; j--) {
+                studentBuilder.addSessions(randomSession(random));
+            }
+            students.add(studentBuilder.build());
+        }
+        List<FeePeriod> periods = new ArrayList<>();
+        for (YearMonth month = YearMonth.of(2021, 1); month.isBefore(YearMonth.of(2022, 1));
+                month = month.plusMonths(1)) {
+            periods.add(FeePeriod.of(month));
+        }
+        periods.add(new FeePeriod(LocalDateTime.of(2021, 3, 15, 12, 0), LocalDateTime.of(2021, 8, 2, 9, 30)));
+
+        long[] expectedFeesInCents = new long[periods.size()];
+        for (Student student : students) {
+            for (Session session : student.getListOfSessions()) {
+                for (int i = 0; i < periods.size(); i++) {
+                    expectedFeesInCents[i] += FeeUtil.getSessionFeeInCents(session, periods.get(i).getStart(),
+                            periods.get(i).getEnd());
+                }
+            }
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertTrue(Arrays.equals(expectedFeesInCents,
+                    new FeeAggregator(pool, 16).getFeesInCents(students, periods)));
+            assertTrue(Arrays.equals(expectedFeesInCents,
+                    new FeeAggregator(pool, 1).getFeesInCents(students, periods)));
+            assertEquals(new FeeAggregator(pool, 16).getTotals(students, periods),
+                    new FeeAggregator(pool, students.size()).getTotals(students, periods));
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(expectedFeesInCents[0] / 100.0, new FeeAggregator().getFees(students, periods)[0]);
+    }
+
+    private static Session randomSession(Random random) {
+        LocalDate date = LocalDate.of(2021, 1, 1).plusDays(random.nextInt(300));
+        String fee = String.format("%d.%02d", random.nextInt(100), random.nextInt(100));
+        if (random.nextBoolean()) {
+            return new SessionBuilder().withSessionDate(date.toString(), "10:00").withFee(fee).build();
+        }
+        int interval = 1 + random.nextInt(14);
+        LocalDate lastDate = date.plusDays((long) interval * random.nextInt(20));
+        return new RecurringSessionBuilder().withSessionDate(date.toString(), "10:00").withFee(fee)
+                .withInterval(String.valueOf(interval)).withLastSessionDate(lastDate.toString(), "10:00").build();
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.model.fee;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.FeeUtil;
+import seedu.address.model.session.RecurringSession;
+import seedu.address.model.session.Session;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.RecurringSessionBuilder;
+import seedu.address.testutil.SessionBuilder;
+import seedu.address.testutil.StudentBuilder;
+
+public class FeeLedgerTest {
+
+    private static final Session SESSION = new SessionBuilder().withSessionDate("2021-02-10", "10:00")
+            .withFee("40.5").build();
+    // Sessions on 28 Jan, 4 Feb, 11 Feb, 18 Feb, 25 Feb and 4 Mar.
+    private static final RecurringSession RECURRING_SESSION = new RecurringSessionBuilder()
+            .withSessionDate("2021-01-28", "12:00").withFee("10.1").withInterval("7")
+            .withLastSessionDate("2021-03-04", "12:00").build();
+
+    private final Student student = new StudentBuilder().withName("Ledger Student").build();
+    private final FeeLedger ledger = new FeeLedger();
+
+    @Test
+    public void getMonthlyFee_nullMonth_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ledger.getMonthlyFee(null));
+    }
+
+    @Test
+    public void getMonthlyFee_sessionsAdded_returnsFeesOfEachMonth() {
+        ledger.add(student, SESSION);
+        ledger.add(student, RECURRING_SESSION);
+
+        assertEquals(10.1, ledger.getMonthlyFee(YearMonth.of(2021, 1)));
+        assertEquals(80.9, ledger.getMonthlyFee(YearMonth.of(2021, 2)));
+        assertEquals(10.1, ledger.getMonthlyFee(student.getName(), YearMonth.of(2021, 3)));
+        assertEquals(0, ledger.getMonthlyFee(new Name("Other Student"), YearMonth.of(2021, 2)));
+        assertEquals(101.1, ledger.getFee(YearMonth.of(2021, 1), YearMonth.of(2021, 4)));
+    }
+
+    @Test
+    public void getMonthlyFee_sessionRemoved_returnsRemainingFees() {
+        ledger.add(student, SESSION);
+        ledger.add(student, RECURRING_SESSION);
+        ledger.remove(student, RECURRING_SESSION);
+
+        assertEquals(0, ledger.getMonthlyFee(YearMonth.of(2021, 1)));
+        assertEquals(40.5, ledger.getMonthlyFee(YearMonth.of(2021, 2)));
+    }
+
+    @Test
+    public void getFee_endNotAfterStart_returnsZero() {
+        ledger.add(student, SESSION);
+        assertEquals(0, ledger.getFee(YearMonth.of(2021, 3), YearMonth.of(2021, 2)));
+    }
+
+    @Test
+    public void getMonthlyFee_randomSessions_sameAsFeeUtil() {
+        Random random = new Random(7);
+        StudentBuilder studentBuilder = new StudentBuilder().withName("Random Student");
+        for (int i = 0; i < 100; i++) {
+            studentBuilder.addSessions(randomSession(random));
+        }
+        Student randomStudent = studentBuilder.build();
+        ledger.addAll(randomStudent);
+
+        for (YearMonth month = YearMonth.of(2021, 1); month.isBefore(YearMonth.of(2022, 1));
+                month = month.plusMonths(1)) {
+            LocalDateTime monthStart = month.atDay(1).atStartOfDay();
+            double expectedFee = FeeUtil.getFeePerStudent(randomStudent, monthStart, monthStart.plusMonths(1));
+            assertEquals(expectedFee, ledger.getMonthlyFee(randomStudent.getName(), month), 1e-6, month.toString());
+        }
+
+        ledger.removeAll(randomStudent);
+        assertEquals(0, ledger.getFee(YearMonth.of(2021, 1), YearMonth.of(2022, 1)));
+    }
+
+    private static Session randomSession(Random random) {
+        LocalDate date = LocalDate.of(2021, 1, 1).plusDays(random.nextInt(300));
+        String fee = String.format("%d.%02d", random.nextInt(100), random.nextInt(100));
+        if (random.nextBoolean()) {
+            return new SessionBuilder().withSessionDate(date.toString(), "10:00").withFee(fee).build();
+        }
+        int interval = 1 + random.nextInt(14);
+        LocalDate lastDate = date.plusDays((long) interval * random.nextInt(20));
+        return new RecurringSessionBuilder().withSessionDate(date.toString(), "10:00").withFee(fee)
+                .withInterval(String.valueOf(interval)).withLastSessionDate(lastDate.toString(), "10:00").build();
+    }
+}
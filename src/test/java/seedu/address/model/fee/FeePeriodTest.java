@@ -0,0 +1,68 @@
+package seedu.address.model.fee;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+import org.junit.jupiter.api.Test;
+
+public class FeePeriodTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2021, 2, 1, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2021, 3, 1, 0, 0);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new FeePeriod(null, END));
+        assertThrows(NullPointerException.class, () -> new FeePeriod(START, null));
+    }
+
+    @Test
+    public void constructor_endBeforeStart_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new FeePeriod(START, START.minusMinutes(1)));
+    }
+
+    @Test
+    public void constructor_endEqualsStart_emptyPeriod() {
+        FeePeriod period = new FeePeriod(START, START);
+        assertEquals(START, period.getStart());
+        assertEquals(START, period.getEnd());
+    }
+
+    @Test
+    public void of_month_wholeMonth() {
+        assertEquals(new FeePeriod(START, END), FeePeriod.of(YearMonth.of(2021, 2)));
+
+        // end of year -> ends at the start of the next year
+        assertEquals(new FeePeriod(LocalDateTime.of(2021, 12, 1, 0, 0), LocalDateTime.of(2022, 1, 1, 0, 0)),
+                FeePeriod.of(YearMonth.of(2021, 12)));
+    }
+
+    @Test
+    public void equals() {
+        FeePeriod period = new FeePeriod(START, END);
+
+        // same values -> returns true
+        assertTrue(period.equals(new FeePeriod(START, END)));
+        assertEquals(period.hashCode(), new FeePeriod(START, END).hashCode());
+
+        // same object -> returns true
+        assertTrue(period.equals(period));
+
+        // null -> returns false
+        assertFalse(period.equals(null));
+
+        // different type -> returns false
+        assertFalse(period.equals(5));
+
+        // different start -> returns false
+        assertFalse(period.equals(new FeePeriod(START.plusDays(1), END)));
+
+        // different end -> returns false
+        assertFalse(period.equals(new FeePeriod(START, END.plusDays(1))));
+    }
+}
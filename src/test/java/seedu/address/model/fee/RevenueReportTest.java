@@ -0,0 +1,135 @@
+package seedu.address.model.fee;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.FeeUtil;
+import seedu.address.model.fee.RevenueReport.Row;
+import seedu.address.model.session.Session;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.RecurringSessionBuilder;
+import seedu.address.testutil.SessionBuilder;
+import seedu.address.testutil.StudentBuilder;
+
+public class RevenueReportTest {
+
+    private static final Session SESSION = new SessionBuilder().withSessionDate("2021-02-10", "10:00")
+            .withSubject("Math").withFee("40.5").build();
+    // Sessions on 28 Jan, 4 Feb, 11 Feb, 18 Feb, 25 Feb and 4 Mar.
+    private static final Session RECURRING_SESSION = new RecurringSessionBuilder()
+            .withSessionDate("2021-01-28", "12:00").withSubject("Biology").withFee("10.1").withInterval("7")
+            .withLastSessionDate("2021-03-04", "12:00").build();
+
+    private static final Student ALICE = new StudentBuilder().withName("Alice").addSessions(SESSION).build();
+    private static final Student BOB = new StudentBuilder().withName("Bob").addSessions(RECURRING_SESSION).build();
+    private static final List<Student> STUDENTS = List.of(BOB, ALICE);
+
+    @Test
+    public void of_endBeforeStart_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> RevenueReport.of(STUDENTS, LocalDate.of(2021, 2, 1),
+                LocalDate.of(2021, 1, 31), ReportGrouping.MONTH));
+    }
+
+    @Test
+    public void of_byMonth_includesMonthsWithoutSessions() {
+        RevenueReport report = RevenueReport.of(STUDENTS, LocalDate.of(2021, 1, 29), LocalDate.of(2021, 4, 30),
+                ReportGrouping.MONTH);
+        assertEquals(List.of(new Row("2021-01", 0, 0), new Row("2021-02", 5, 8090),
+                new Row("2021-03", 1, 1010), new Row("2021-04", 0, 0)), report.getRows());
+        assertEquals(6, report.getTotalNumOfSessions());
+        assertEquals(9100, report.getTotalFeeInCents());
+    }
+
+    @Test
+    public void of_byWeek_weeksStartOnMonday() {
+        RevenueReport report = RevenueReport.of(STUDENTS, LocalDate.of(2021, 2, 3), LocalDate.of(2021, 2, 16),
+                ReportGrouping.WEEK);
+        assertEquals(List.of(new Row("2021-02-01", 1, 1010), new Row("2021-02-08", 2, 5060),
+                new Row("2021-02-15", 0, 0)), report.getRows());
+    }
+
+    @Test
+    public void of_bySubjectAndStudent_onlyGroupsWithSessions() {
+        LocalDate startDate = LocalDate.of(2021, 1, 1);
+        LocalDate endDate = LocalDate.of(2021, 2, 28);
+        assertEquals(List.of(new Row("Biology", 5, 5050), new Row("Math", 1, 4050)),
+                RevenueReport.of(STUDENTS, startDate, endDate, ReportGrouping.SUBJECT).getRows());
+        assertEquals(List.of(new Row("Bob", 5, 5050), new Row("Alice", 1, 4050)),
+                RevenueReport.of(STUDENTS, startDate, endDate, ReportGrouping.STUDENT).getRows());
+        assertEquals(List.of(), RevenueReport.of(STUDENTS, LocalDate.of(2022, 1, 1), LocalDate.of(2022, 1, 1),
+                ReportGrouping.STUDENT).getRows());
+    }
+
+    @Test
+    public void of_randomSessions_sameAsFeeUtil() {
+        Random random = new Random(13);
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            StudentBuilder studentBuilder = new StudentBuilder().withName("Student " + i);
+            for (int j = 0; j < 5; j++) {
+                studentBuilder.addSessions(randomSession(random));
+            }
+            students.add(studentBuilder.build());
+        }
+        LocalDate startDate = LocalDate.of(2021, 1, 1);
+        LocalDate endDate = LocalDate.of(2022, 12, 31);
+
+        RevenueReport report = RevenueReport.of(students, startDate, endDate, ReportGrouping.MONTH);
+        long[] expectedFeesInCents = new FeeAggregator().getFeesInCents(students, getMonths(startDate, endDate));
+        for (int i = 0; i < expectedFeesInCents.length; i++) {
+            assertEquals(expectedFeesInCents[i], report.getRows().get(i).getFeeInCents());
+        }
+
+        long expectedTotal = 0;
+        for (Student student : students) {
+            for (Session session : student.getListOfSessions()) {
+                expectedTotal += FeeUtil.getSessionFeeInCents(session, startDate.atStartOfDay(),
+                        endDate.plusDays(1).atStartOfDay());
+            }
+        }
+        for (ReportGrouping grouping : ReportGrouping.values()) {
+            assertEquals(expectedTotal, RevenueReport.of(students, startDate, endDate, grouping)
+                    .getTotalFeeInCents(), grouping.getName());
+        }
+    }
+
+    @Test
+    public void writeCsv_report_headerAndOneLinePerRow() throws Exception {
+        StringBuilder csv = new StringBuilder();
+        RevenueReport.of(STUDENTS, LocalDate.of(2021, 1, 1), LocalDate.of(2021, 2, 28), ReportGrouping.SUBJECT)
+                .writeCsv(csv);
+        assertEquals("subject,sessions,fee\r\nBiology,5,50.50\r\nMath,1,40.50\r\n", csv.toString());
+    }
+
+    private static List<FeePeriod> getMonths(LocalDate startDate, LocalDate endDate) {
+        List<FeePeriod> months = new ArrayList<>();
+        for (YearMonth month = YearMonth.from(startDate); !month.isAfter(YearMonth.from(endDate));
+                month = month.plusMonths(1)) {
+            months.add(FeePeriod.of(month));
+        }
+        return months;
+    }
+
+    private static Session randomSession(Random random) {
+        LocalDate date = LocalDate.of(2020, 6, 1).plusDays(random.nextInt(900));
+        String fee = String.format("%d.%02d", random.nextInt(100), random.nextInt(100));
+        String subject = random.nextBoolean() ? "Math" : "Physics";
+        if (random.nextBoolean()) {
+            return new SessionBuilder().withSessionDate(date.toString(), "10:00").withSubject(subject)
+                    .withFee(fee).build();
+        }
+        int interval = 1 + random.nextInt(14);
+        LocalDate lastDate = date.plusDays((long) interval * random.nextInt(60));
+        return new RecurringSessionBuilder().withSessionDate(date.toString(), "10:00").withSubject(subject)
+                .withFee(fee).withInterval(String.valueOf(interval))
+                .withLastSessionDate(lastDate.toString(), "10:00").build();
+    }
+}
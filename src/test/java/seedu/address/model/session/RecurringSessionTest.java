@@ -201,6 +201,27 @@ class RecurringSessionTest extends SessionTest {
 
     }
 
+    @Test
+    void isRecurringOverlappingRecurring_longRecurrences() {
+        // coprime intervals meeting only on the last possible day
+        RecurringSession everyFiveDays = new RecurringSession(new SessionDate("2021-02-05", "10:00"),
+                DURATION, SUBJECT, FEE, new Interval("5"), new SessionDate("2021-03-07", "10:00"));
+        RecurringSession everySevenDays = new RecurringSession(new SessionDate("2021-01-03", "10:00"),
+                DURATION, SUBJECT, FEE, new Interval("7"), new SessionDate("2021-03-07", "10:00"));
+        assertTrue(everyFiveDays.isOverlapping(everySevenDays));
+        assertTrue(everySevenDays.isOverlapping(everyFiveDays));
+        assertFalse(everyFiveDays.withLastSessionDate(new SessionDate("2021-03-02", "10:00"))
+                .isOverlapping(everySevenDays));
+
+        // remainders that can never agree
+        RecurringSession evenDays = new RecurringSession(new SessionDate("2021-01-01", "10:00"),
+                DURATION, SUBJECT, FEE, new Interval("4"), new SessionDate("2025-12-30", "10:00"));
+        RecurringSession oddDays = new RecurringSession(new SessionDate("2021-01-02", "10:00"),
+                DURATION, SUBJECT, FEE, new Interval("6"), new SessionDate("2025-12-31", "10:00"));
+        assertFalse(evenDays.isOverlapping(oddDays));
+        assertFalse(oddDays.isOverlapping(evenDays));
+    }
+
     @Test
     void lastSessionOnOrBeforeTest() {
         RecurringSession recurringSession = new RecurringSession(new SessionDate("2020-12-11", "10:00"),
@@ -378,6 +399,16 @@ class RecurringSessionTest extends SessionTest {
         assertEquals(0, recurringSession.numOfSessionBetween(SESSION_DATE, SESSION_DATE.minusDays(1)));
     }
 
+    @Test
+    void hasSessionBetweenTest() {
+        RecurringSession recurringSession = new RecurringSessionBuilder().withSessionDate("2021-01-01", "10:00")
+                .withInterval("7").withLastSessionDate("2021-01-29", "10:00").build();
+        assertTrue(recurringSession.hasSessionBetween(LocalDate.of(2021, 1, 6), LocalDate.of(2021, 1, 8)));
+        assertTrue(recurringSession.hasSessionBetween(LocalDate.of(2020, 12, 1), LocalDate.of(2021, 1, 1)));
+        assertFalse(recurringSession.hasSessionBetween(LocalDate.of(2021, 1, 9), LocalDate.of(2021, 1, 14)));
+        assertFalse(recurringSession.hasSessionBetween(LocalDate.of(2021, 1, 30), LocalDate.of(2021, 2, 28)));
+    }
+
     @Test
     void equalsTest() {
         RecurringSession recurringSession = new RecurringSessionBuilder().build();
@@ -0,0 +1,148 @@
+package seedu.address.model.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.student.Student;
+import seedu.address.testutil.RecurringSessionBuilder;
+import seedu.address.testutil.SessionBuilder;
+import seedu.address.testutil.StudentBuilder;
+
+public class ScheduleExportTest {
+
+    private static final Session SESSION = new SessionBuilder().withSessionDate("2021-02-10", "10:00")
+            .withSubject("Math").withFee("40.5").build();
+    // Sessions on 28 Jan, 4 Feb, 11 Feb, 18 Feb, 25 Feb and 4 Mar.
+    private static final Session WEEKLY_SESSION = new RecurringSessionBuilder()
+            .withSessionDate("2021-01-28", "12:00").withSubject("Biology").withFee("10.1").withInterval("7")
+            .withLastSessionDate("2021-03-04", "12:00").build();
+    // Sessions on 1, 4, 7, 10 and 13 Feb.
+    private static final Session RECURRING_SESSION = new RecurringSessionBuilder()
+            .withSessionDate("2021-02-01", "09:00").withDuration("60").withSubject("Art, Craft").withFee("20")
+            .withInterval("3").withLastSessionDate("2021-02-13", "09:00").build();
+
+    private static final Student ALICE = new StudentBuilder().withName("Alice").addSessions(SESSION).build();
+    private static final Student BOB = new StudentBuilder().withName("Bob").addSessions(WEEKLY_SESSION).build();
+    private static final Student CAROL = new StudentBuilder().withName("Carol").addSessions(RECURRING_SESSION)
+            .build();
+    private static final List<Student> STUDENTS = List.of(BOB, ALICE, CAROL);
+
+    private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2021, 1, 2, 3, 4, 5);
+
+    @Test
+    public void constructor_endBeforeStart_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ScheduleExport(STUDENTS, LocalDate.of(2021, 2, 1),
+                LocalDate.of(2021, 1, 31)));
+    }
+
+    @Test
+    public void writeCsv_sessionsInOrderOfTime() throws Exception {
+        StringBuilder csv = new StringBuilder();
+        long numOfSessions = new ScheduleExport(STUDENTS, LocalDate.of(2021, 2, 3), LocalDate.of(2021, 2, 11))
+                .writeCsv(csv);
+
+        assertEquals(6, numOfSessions);
+        assertEquals("date,time,duration,name,subject,fee\r\n"
+                + "2021-02-04,09:00,60,Carol,\"Art, Craft\",20.00\r\n"
+                + "2021-02-04,12:00,100,Bob,Biology,10.10\r\n"
+                + "2021-02-07,09:00,60,Carol,\"Art, Craft\",20.00\r\n"
+                + "2021-02-10,09:00,60,Carol,\"Art, Craft\",20.00\r\n"
+                + "2021-02-10,10:00,100,Alice,Math,40.50\r\n"
+                + "2021-02-11,12:00,100,Bob,Biology,10.10\r\n", csv.toString());
+    }
+
+    @Test
+    public void writeCsv_noSessionsInRange_onlyHeader() throws Exception {
+        StringBuilder csv = new StringBuilder();
+        assertEquals(0, new ScheduleExport(STUDENTS, LocalDate.of(2022, 1, 1), LocalDate.of(2022, 12, 31))
+                .writeCsv(csv));
+        assertEquals("date,time,duration,name,subject,fee\r\n", csv.toString());
+    }
+
+    @Test
+    public void writeIcs_recurringSessionsAsRecurrenceRules() throws Exception {
+        StringBuilder ics = new StringBuilder();
+        long numOfSessions = new ScheduleExport(STUDENTS, LocalDate.of(2021, 2, 3), LocalDate.of(2021, 2, 11))
+                .writeIcs(ics, TIMESTAMP);
+
+        assertEquals(6, numOfSessions);
+        assertEquals("BEGIN:VCALENDAR\r\n"
+                + "VERSION:2.0\r\n"
+                + "PRODID:-//TutorBuddy//Schedule Export//EN\r\n"
+                + "CALSCALE:GREGORIAN\r\n"
+                + "BEGIN:VEVENT\r\n"
+                + "UID:20210128T120000@tutorbuddy\r\n"
+                + "DTSTAMP:20210102T030405Z\r\n"
+                + "DTSTART:20210204T120000\r\n"
+                + "DTEND:20210204T134000\r\n"
+                + "RRULE:FREQ=WEEKLY;INTERVAL=1;COUNT=2\r\n"
+                + "SUMMARY:Biology - Bob\r\n"
+                + "DESCRIPTION:Fee: $10.10 per session\\, $20.20 in total\r\n"
+                + "END:VEVENT\r\n"
+                + "BEGIN:VEVENT\r\n"
+                + "UID:20210210T100000@tutorbuddy\r\n"
+                + "DTSTAMP:20210102T030405Z\r\n"
+                + "DTSTART:20210210T100000\r\n"
+                + "DTEND:20210210T114000\r\n"
+                + "SUMMARY:Math - Alice\r\n"
+                + "DESCRIPTION:Fee: $40.50 per session\\, $40.50 in total\r\n"
+                + "END:VEVENT\r\n"
+                + "BEGIN:VEVENT\r\n"
+                + "UID:20210201T090000@tutorbuddy\r\n"
+                + "DTSTAMP:20210102T030405Z\r\n"
+                + "DTSTART:20210204T090000\r\n"
+                + "DTEND:20210204T100000\r\n"
+                + "RRULE:FREQ=DAILY;INTERVAL=3;COUNT=3\r\n"
+                + "SUMMARY:Art\\, Craft - Carol\r\n"
+                + "DESCRIPTION:Fee: $20.00 per session\\, $60.00 in total\r\n"
+                + "END:VEVENT\r\n"
+                + "END:VCALENDAR\r\n", ics.toString());
+    }
+
+    @Test
+    public void writeIcs_singleSessionInRange_noRecurrenceRule() throws Exception {
+        StringBuilder ics = new StringBuilder();
+        long numOfSessions = new ScheduleExport(List.of(BOB), LocalDate.of(2021, 2, 12), LocalDate.of(2021, 2, 20))
+                .writeIcs(ics, TIMESTAMP);
+
+        assertEquals(1, numOfSessions);
+        assertFalse(ics.toString().contains("RRULE"));
+        assertTrue(ics.toString().contains("DTSTART:20210218T120000\r\n"));
+    }
+
+    @Test
+    public void escapeIcsText() {
+        assertEquals("a\\\\b\\;c\\,d\\ne\\nf", ScheduleExport.escapeIcsText("a\\b;c,d\r\ne\nf"));
+    }
+
+    @Test
+    public void appendIcsLine_longLine_folded() throws Exception {
+        StringBuilder out = new StringBuilder();
+        ScheduleExport.appendIcsLine(out, "x".repeat(80));
+        assertEquals("x".repeat(75) + "\r\n " + "x".repeat(5) + "\r\n", out.toString());
+
+        // Each of these characters is 3 octets in UTF-8, and a character is never split across lines.
+        out = new StringBuilder();
+        ScheduleExport.appendIcsLine(out, "\u4e2d".repeat(30));
+        assertEquals("\u4e2d".repeat(25) + "\r\n " + "\u4e2d".repeat(5) + "\r\n", out.toString());
+    }
+
+    @Test
+    public void format_ofFilePath() {
+        assertEquals(Optional.of(ScheduleExport.Format.CSV), ScheduleExport.Format.ofFilePath(Paths.get("a.csv")));
+        assertEquals(Optional.of(ScheduleExport.Format.ICS),
+                ScheduleExport.Format.ofFilePath(Paths.get("data", "A.ICS")));
+        assertEquals(Optional.empty(), ScheduleExport.Format.ofFilePath(Paths.get("a.json")));
+        assertEquals(Optional.empty(), ScheduleExport.Format.ofFilePath(Paths.get("ics")));
+    }
+}
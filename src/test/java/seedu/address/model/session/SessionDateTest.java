@@ -1,9 +1,13 @@
 package seedu.address.model.session;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
 import org.junit.jupiter.api.Test;
 
 public class SessionDateTest {
@@ -84,4 +88,38 @@ public class SessionDateTest {
         assertFalse(new SessionDate("2020-01-01", "10:30").equals(
                 new SessionDate("2020-01-01", "10:00")));
     }
+
+    @Test
+    public void of_epochDayAndMinuteOfDay_sameAsLocalDateTime() {
+        SessionDate sessionDate = new SessionDate("2021-03-14", "23:59");
+        assertEquals(sessionDate, SessionDate.of(LocalDate.of(2021, 3, 14).toEpochDay(), 23 * 60 + 59));
+        assertEquals(LocalDateTime.of(2021, 3, 14, 23, 59), sessionDate.getDateTime());
+        assertEquals("2021-03-14T23:59", sessionDate.toString());
+        assertEquals(sessionDate.getEpochMinute(),
+                SessionDate.toEpochMinute(LocalDateTime.of(2021, 3, 14, 23, 59, 30)));
+
+        assertThrows(IllegalArgumentException.class, () -> SessionDate.of(0, -1));
+        assertThrows(IllegalArgumentException.class, () -> SessionDate.of(0, SessionDate.MINUTES_PER_DAY));
+    }
+
+    @Test
+    public void addDaysAndEndSessionDate_acrossMonthsAndYears() {
+        SessionDate sessionDate = new SessionDate("2020-12-31", "22:30");
+        assertEquals(new SessionDate("2021-03-01", "22:30"), sessionDate.addDays(60));
+        assertEquals(new SessionDate("2020-02-29", "22:30"), sessionDate.minusDays(306));
+        assertEquals(new SessionDate("2021-01-01", "00:10"), sessionDate.getEndSessionDate(new Duration("100")));
+        assertEquals(60, sessionDate.numOfDayTo(sessionDate.addDays(60)));
+        assertTrue(sessionDate.isSameTime(new SessionDate("2021-05-01", "22:30")));
+        assertTrue(sessionDate.isBefore(sessionDate.getEndSessionDate(new Duration("1"))));
+        assertFalse(sessionDate.isAfter(sessionDate));
+    }
+
+    @Test
+    public void isValidEpochDay() {
+        assertTrue(SessionDate.isValidEpochDay(0));
+        assertTrue(SessionDate.isValidEpochDay(LocalDate.of(2037, 12, 31).toEpochDay()));
+        assertFalse(SessionDate.isValidEpochDay(-1));
+        assertFalse(SessionDate.isValidEpochDay(LocalDate.of(2038, 1, 1).toEpochDay()));
+        assertFalse(SessionDate.isValidEpochDay(Long.MAX_VALUE));
+    }
 }
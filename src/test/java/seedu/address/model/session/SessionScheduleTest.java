@@ -0,0 +1,162 @@
+package seedu.address.model.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.RecurringSessionBuilder;
+import seedu.address.testutil.SessionBuilder;
+
+public class SessionScheduleTest {
+
+    private static final Session SESSION = new SessionBuilder().withSessionDate("2021-01-08", "10:00")
+            .withDuration("60").build();
+    private static final RecurringSession RECURRING_SESSION = new RecurringSessionBuilder()
+            .withSessionDate("2021-01-01", "10:00").withDuration("60").withInterval("7")
+            .withLastSessionDate("2021-01-29", "10:00").build();
+
+    private final SessionSchedule schedule = new SessionSchedule();
+
+    @Test
+    public void hasSession_nullSession_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> schedule.hasSession(null));
+    }
+
+    @Test
+    public void hasSession_sessionWithSameStartInSchedule_returnsTrue() {
+        schedule.add(SESSION);
+        Session sameStart = new SessionBuilder(SESSION).withDuration("30").build();
+        assertTrue(schedule.hasSession(sameStart));
+    }
+
+    @Test
+    public void hasSession_sessionRemoved_returnsFalse() {
+        schedule.add(SESSION);
+        schedule.remove(SESSION);
+        assertFalse(schedule.hasSession(SESSION));
+    }
+
+    @Test
+    public void hasOverlappingSession_sessionOnSameDay_returnsTrue() {
+        schedule.add(SESSION);
+        Session overlapping = new SessionBuilder().withSessionDate("2021-01-08", "10:30").build();
+        assertTrue(schedule.hasOverlappingSession(overlapping));
+    }
+
+    @Test
+    public void hasOverlappingSession_sessionOnAnotherDay_returnsFalse() {
+        schedule.add(SESSION);
+        Session otherDay = new SessionBuilder().withSessionDate("2021-01-09", "10:30").build();
+        assertFalse(schedule.hasOverlappingSession(otherDay));
+    }
+
+    @Test
+    public void hasOverlappingSession_sessionOnRecurringDay_returnsTrue() {
+        schedule.add(RECURRING_SESSION);
+        Session overlapping = new SessionBuilder().withSessionDate("2021-01-22", "10:30").build();
+        assertTrue(schedule.hasOverlappingSession(overlapping));
+    }
+
+    @Test
+    public void hasOverlappingSession_sessionBetweenRecurringDays_returnsFalse() {
+        schedule.add(RECURRING_SESSION);
+        Session between = new SessionBuilder().withSessionDate("2021-01-23", "10:30").build();
+        Session afterEnd = new SessionBuilder().withSessionDate("2021-02-05", "10:30").build();
+        assertFalse(schedule.hasOverlappingSession(between));
+        assertFalse(schedule.hasOverlappingSession(afterEnd));
+    }
+
+    @Test
+    public void hasOverlappingSession_recurringSessionWithCommonDay_returnsTrue() {
+        schedule.add(RECURRING_SESSION);
+        RecurringSession overlapping = new RecurringSessionBuilder().withSessionDate("2021-01-08", "10:30")
+                .withInterval("14").withLastSessionDate("2021-02-05", "10:30").build();
+        assertTrue(schedule.hasOverlappingSession(overlapping));
+    }
+
+    @Test
+    public void hasOverlappingSession_recurringSessionWithoutCommonDay_returnsFalse() {
+        schedule.add(RECURRING_SESSION);
+        RecurringSession offset = new RecurringSessionBuilder().withSessionDate("2021-01-02", "10:30")
+                .withInterval("14").withLastSessionDate("2021-02-13", "10:30").build();
+        assertFalse(schedule.hasOverlappingSession(offset));
+    }
+
+    @Test
+    public void hasOverlappingSession_recurringSessionWithHugeInterval_checkedQuickly() {
+        schedule.add(new RecurringSessionBuilder().withSessionDate("2021-01-05", "10:00").withInterval("2000000000")
+                .withLastSessionDate("2021-01-05", "10:00").build());
+        RecurringSession overlappingDaily = new RecurringSessionBuilder().withSessionDate("2021-01-01", "10:30")
+                .withInterval("1").withLastSessionDate("2021-01-31", "10:30").build();
+        RecurringSession otherTimeDaily = new RecurringSessionBuilder().withSessionDate("2021-01-01", "12:00")
+                .withInterval("1").withLastSessionDate("2021-01-31", "12:00").build();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () -> {
+            assertTrue(schedule.hasOverlappingSession(overlappingDaily));
+            assertFalse(schedule.hasOverlappingSession(otherTimeDaily));
+        });
+    }
+
+    @Test
+    public void hasOverlappingSession_recurringSessionOverSingleSession_returnsTrue() {
+        schedule.add(SESSION);
+        assertTrue(schedule.hasOverlappingSession(RECURRING_SESSION));
+    }
+
+    @Test
+    public void hasOverlappingSession_clearedSchedule_returnsFalse() {
+        schedule.add(SESSION);
+        schedule.add(RECURRING_SESSION);
+        schedule.clear();
+        assertFalse(schedule.hasOverlappingSession(SESSION));
+        assertFalse(schedule.hasOverlappingSession(RECURRING_SESSION));
+    }
+
+    @Test
+    public void hasOverlappingSession_randomSessions_sameAsPairwiseComparison() {
+        Random random = new Random(42);
+        List<Session> sessions = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            Session session = randomSession(random);
+            sessions.add(session);
+            schedule.add(session);
+        }
+
+        for (int i = 0; i < 200; i++) {
+            Session target = randomSession(random);
+            boolean expected = false;
+            for (Session session : sessions) {
+                expected |= target instanceof RecurringSession
+                        ? session.isOverlapping((RecurringSession) target)
+                        : session.isOverlapping(target);
+            }
+            boolean actual = target instanceof RecurringSession
+                    ? schedule.hasOverlappingSession((RecurringSession) target)
+                    : schedule.hasOverlappingSession(target);
+            assertEquals(expected, actual, target.toString());
+        }
+    }
+
+    private static Session randomSession(Random random) {
+        LocalDate date = LocalDate.of(2021, 1, 1).plusDays(random.nextInt(120));
+        String time = String.format("%02d:%02d", 8 + random.nextInt(12), 15 * random.nextInt(4));
+        String duration = String.valueOf(30 + 15 * random.nextInt(6));
+        if (random.nextBoolean()) {
+            return new SessionBuilder().withSessionDate(date.toString(), time).withDuration(duration).build();
+        }
+        int interval = 1 + random.nextInt(14);
+        LocalDate lastDate = date.plusDays((long) interval * (1 + random.nextInt(10)));
+        return new RecurringSessionBuilder().withSessionDate(date.toString(), time).withDuration(duration)
+                .withInterval(String.valueOf(interval)).withLastSessionDate(lastDate.toString(), time).build();
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class NameIndexTest {
+
+    private static final Name ALEX_YEOH = new Name("Alex Yeoh");
+    private static final Name ALEXANDRA_TAN = new Name("Alexandra  Tan");
+    private static final Name BERNICE_YU = new Name("Bernice Yu");
+
+    private final NameIndex nameIndex = new NameIndex();
+
+    @BeforeEach
+    public void setUp() {
+        nameIndex.add(ALEX_YEOH);
+        nameIndex.add(ALEXANDRA_TAN);
+        nameIndex.add(BERNICE_YU);
+    }
+
+    @Test
+    public void getNamesWithPrefixes_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> nameIndex.getNamesWithPrefixes(null));
+    }
+
+    @Test
+    public void getNamesWithPrefixes_prefixOfWords_namesWithThoseWords() {
+        assertEquals(setOf(ALEX_YEOH, ALEXANDRA_TAN), getNamesWithPrefixes("Ale"));
+        assertEquals(setOf(ALEX_YEOH, ALEXANDRA_TAN), getNamesWithPrefixes("alex"));
+        assertEquals(setOf(ALEXANDRA_TAN), getNamesWithPrefixes("ALEXA"));
+        assertEquals(setOf(ALEX_YEOH, BERNICE_YU), getNamesWithPrefixes("y"));
+        assertEquals(setOf(ALEXANDRA_TAN), getNamesWithPrefixes(" tan "));
+    }
+
+    @Test
+    public void getNamesWithPrefixes_severalPrefixes_namesMatchingAnyPrefix() {
+        assertEquals(setOf(ALEXANDRA_TAN, BERNICE_YU), getNamesWithPrefixes("Tan", "Bern", "Zed"));
+    }
+
+    @Test
+    public void getNamesWithPrefixes_noMatchingWords_noNames() {
+        // Middle of a word
+        assertEquals(Collections.emptySet(), getNamesWithPrefixes("lex"));
+        // Longer than the word
+        assertEquals(Collections.emptySet(), getNamesWithPrefixes("Yuan"));
+        // Across words
+        assertEquals(Collections.emptySet(), getNamesWithPrefixes("Alex Yeoh"));
+        // Blank
+        assertEquals(Collections.emptySet(), getNamesWithPrefixes("", "  "));
+    }
+
+    @Test
+    public void remove_nameInIndex_noLongerFound() {
+        nameIndex.remove(ALEX_YEOH);
+        assertEquals(setOf(ALEXANDRA_TAN), getNamesWithPrefixes("alex"));
+        assertEquals(setOf(BERNICE_YU), getNamesWithPrefixes("y"));
+
+        // Removing a name that is not in the index changes nothing
+        nameIndex.remove(ALEX_YEOH);
+        assertEquals(setOf(BERNICE_YU), getNamesWithPrefixes("y"));
+
+        nameIndex.clear();
+        assertEquals(Collections.emptySet(), getNamesWithPrefixes("a", "b"));
+    }
+
+    @Test
+    public void hasWordWithPrefix() {
+        assertTrue(NameIndex.hasWordWithPrefix("Alex Yeoh", "ale"));
+        assertTrue(NameIndex.hasWordWithPrefix("Alex  Yeoh", "YEOH"));
+        assertFalse(NameIndex.hasWordWithPrefix("Alex Yeoh", "eoh"));
+        assertFalse(NameIndex.hasWordWithPrefix("Alex Yeoh", " "));
+    }
+
+    private Set<Name> getNamesWithPrefixes(String... prefixes) {
+        return nameIndex.getNamesWithPrefixes(Arrays.asList(prefixes));
+    }
+
+    private static Set<Name> setOf(Name... names) {
+        return new HashSet<>(Arrays.asList(names));
+    }
+}
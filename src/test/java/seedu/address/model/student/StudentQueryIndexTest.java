@@ -0,0 +1,132 @@
+package seedu.address.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.CARL;
+import static seedu.address.testutil.TypicalStudents.FIONA;
+import static seedu.address.testutil.TypicalStudents.getTypicalStudents;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.session.Fee;
+import seedu.address.model.session.Session;
+import seedu.address.model.session.Subject;
+import seedu.address.testutil.SessionBuilder;
+
+public class StudentQueryIndexTest {
+
+    private final StudentQueryIndex queryIndex = new StudentQueryIndex();
+
+    @BeforeEach
+    public void setUp() {
+        getTypicalStudents().forEach(queryIndex::add);
+    }
+
+    @Test
+    public void getNames_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> queryIndex.getNames(null));
+    }
+
+    @Test
+    public void getNames_singleField_matchingStudents() {
+        StudentQuery query = new StudentQuery();
+        query.setStudyLevel(" sec  2");
+        assertNames(query, ALICE, FIONA);
+
+        query = new StudentQuery();
+        query.setSubject(new Subject("computing"));
+        assertNames(query, ALICE, BENSON, CARL);
+
+        query = new StudentQuery();
+        query.setFeeRange(new Fee("30"), new Fee("39.4"));
+        assertNames(query, ALICE, CARL);
+
+        // Only the second of a weekly recurring session from 2021-01-01
+        query = new StudentQuery();
+        query.setDateRange(LocalDate.of(2021, 1, 8), LocalDate.of(2021, 1, 8));
+        assertNames(query, CARL);
+
+        // Between the sessions of the weekly recurring session
+        query = new StudentQuery();
+        query.setDateRange(LocalDate.of(2021, 1, 2), LocalDate.of(2021, 1, 7));
+        assertNames(query);
+    }
+
+    @Test
+    public void getNames_severalFields_studentsMatchingEveryField() {
+        StudentQuery query = new StudentQuery();
+        query.setStudyLevel("Primary 2");
+        query.setRelationship("FATHER");
+        assertNames(query, BENSON);
+
+        query = new StudentQuery();
+        query.setRelationship("Mother");
+        query.setSubject(new Subject("Computing"));
+        query.setDateRange(LocalDate.of(2021, 3, 1), LocalDate.of(2021, 3, 3));
+        assertNames(query, ALICE, CARL);
+
+        query.setFeeRange(new Fee("29"), new Fee("29.5"));
+        assertNames(query, ALICE);
+
+        query.setStudyLevel("Sec 3");
+        assertNames(query);
+    }
+
+    @Test
+    public void getNames_anyQuery_sameAsTestingEveryStudent() {
+        StudentQuery query = new StudentQuery();
+        query.setRelationship("mother");
+        assertSameAsTest(query);
+        query.setFeeRange(new Fee("25.30"), new Fee("40"));
+        assertSameAsTest(query);
+        query.setDateRange(LocalDate.of(2020, 1, 1), LocalDate.of(2021, 2, 28));
+        assertSameAsTest(query);
+
+        query = new StudentQuery();
+        query.setDateRange(LocalDate.of(2021, 3, 4), LocalDate.of(2021, 12, 31));
+        assertSameAsTest(query);
+    }
+
+    @Test
+    public void remove_studentsAndSessions_noLongerFound() {
+        queryIndex.clear();
+        queryIndex.add(BENSON);
+        queryIndex.add(CARL);
+        StudentQuery query = new StudentQuery();
+        query.setFeeRange(new Fee("40"), new Fee("40"));
+        assertNames(query, BENSON, CARL);
+
+        queryIndex.remove(CARL);
+        assertNames(query, BENSON);
+
+        Session session = BENSON.getListOfSessions().get(0);
+        queryIndex.remove(BENSON, session);
+        assertNames(query);
+
+        queryIndex.add(BENSON, new SessionBuilder(session).withFee("40").build());
+        assertNames(query, BENSON);
+
+        queryIndex.clear();
+        assertNames(query);
+    }
+
+    private void assertNames(StudentQuery query, Student... expectedStudents) {
+        Set<Name> expectedNames = Arrays.stream(expectedStudents).map(Student::getName).collect(Collectors.toSet());
+        assertEquals(expectedNames, queryIndex.getNames(query));
+    }
+
+    private void assertSameAsTest(StudentQuery query) {
+        Set<Name> expectedNames = getTypicalStudents().stream().filter(query).map(Student::getName)
+                .collect(Collectors.toCollection(HashSet::new));
+        assertEquals(expectedNames, queryIndex.getNames(query));
+    }
+}
@@ -1,21 +1,29 @@
 package seedu.address.model.student;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_SESSION;
 import static seedu.address.testutil.TypicalStudents.ALICE;
 import static seedu.address.testutil.TypicalStudents.BOB;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.session.Duration;
 import seedu.address.model.session.Fee;
+import seedu.address.model.session.RecurringSession;
 import seedu.address.model.session.Session;
 import seedu.address.model.session.SessionDate;
 import seedu.address.model.session.Subject;
+import seedu.address.testutil.RecurringSessionBuilder;
+import seedu.address.testutil.SessionBuilder;
 import seedu.address.testutil.StudentBuilder;
 
 public class StudentTest {
@@ -88,4 +96,44 @@ public class StudentTest {
                 new Duration("10"), new Subject("Math"), new Fee("10"))).build();
         assertTrue(ALICE.equals(editedAlice));
     }
+
+    @Test
+    public void getListOfSessions_modifyList_throwsUnsupportedOperationException() {
+        Session session = new SessionBuilder().build();
+        Student student = new StudentBuilder().addSessions(session).build();
+        assertThrows(UnsupportedOperationException.class, () -> student.getListOfSessions().add(session));
+        assertThrows(UnsupportedOperationException.class, () -> student.getListOfSessions().clear());
+    }
+
+    @Test
+    public void withSessionAndWithoutSession_returnCopies() {
+        Session session = new SessionBuilder().build();
+        Session otherSession = new SessionBuilder().withSessionDate("2031-07-13", "09:30").build();
+        Student student = new StudentBuilder().addSessions(session).build();
+
+        Student studentWithSession = student.withSession(otherSession);
+        assertEquals(List.of(session), student.getListOfSessions());
+        assertEquals(List.of(session, otherSession), studentWithSession.getListOfSessions());
+        assertEquals(student, studentWithSession);
+
+        Student studentWithoutSession = studentWithSession.withoutSession(INDEX_FIRST_SESSION);
+        assertEquals(List.of(session, otherSession), studentWithSession.getListOfSessions());
+        assertEquals(List.of(otherSession), studentWithoutSession.getListOfSessions());
+    }
+
+    @Test
+    public void withoutSessionInRecurringSession_splitsCopy() {
+        // Sessions on 1, 8 and 15 Apr.
+        RecurringSession recurringSession = new RecurringSessionBuilder().withSessionDate("2021-04-01", "12:00")
+                .withInterval("7").withLastSessionDate("2021-04-15", "12:00").build();
+        Student student = new StudentBuilder().addSessions(recurringSession).build();
+
+        Student editedStudent = student.withoutSessionInRecurringSession(INDEX_FIRST_SESSION,
+                new SessionDate("2021-04-08", "12:00"));
+
+        assertEquals(List.of(recurringSession), student.getListOfSessions());
+        assertEquals(List.of(new SessionBuilder(recurringSession).withSessionDate("2021-04-01", "12:00").build(),
+                new SessionBuilder(recurringSession).withSessionDate("2021-04-15", "12:00").build()),
+                editedStudent.getListOfSessions());
+    }
 }
@@ -0,0 +1,134 @@
+package seedu.address.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.DANIEL;
+import static seedu.address.testutil.TypicalStudents.ELLE;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.StudentBuilder;
+
+public class TrigramIndexTest {
+
+    private final TrigramIndex trigramIndex = new TrigramIndex();
+
+    @BeforeEach
+    public void setUp() {
+        trigramIndex.add(ALICE);
+        trigramIndex.add(BENSON);
+        trigramIndex.add(DANIEL);
+        trigramIndex.add(ELLE);
+    }
+
+    @Test
+    public void getSimilarities_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> trigramIndex.getSimilarities(null));
+    }
+
+    @Test
+    public void getSimilarities_exactAndMisspeltWords_similarStudents() {
+        // Exact word in name, ignoring case
+        assertEquals(Collections.singletonMap(ELLE.getName(), 1.0), getSimilarities("ELLE"));
+
+        // Swapped characters in name
+        assertEquals(Collections.singletonMap(ALICE.getName(), 0.8), getSimilarities("alcie"));
+
+        // Missing character in email
+        assertEquals(Collections.singletonMap(ELLE.getName(), 1 - 1.0 / 6), getSimilarities("wener"));
+
+        // Wrong digit in phone
+        assertEquals(Collections.singletonMap(BENSON.getName(), 1 - 1.0 / 8), getSimilarities("98765431"));
+
+        // Swapped characters in address
+        assertEquals(Collections.singletonMap(ALICE.getName(), 1 - 1.0 / 6), getSimilarities("jurnog"));
+    }
+
+    @Test
+    public void getSimilarities_severalKeywords_meanOfBestSimilarities() {
+        Map<Name, Double> similarities = getSimilarities("Daneil Meier");
+        assertEquals(3, similarities.size());
+        assertEquals((1 - 1.0 / 6 + 1) / 2, (double) similarities.get(DANIEL.getName()));
+        assertEquals(0.5, (double) similarities.get(BENSON.getName()));
+        assertEquals(0.8 / 2, (double) similarities.get(ELLE.getName()));
+    }
+
+    @Test
+    public void getSimilarities_tooManyEdits_noStudents() {
+        // Short words must match exactly
+        assertEquals(Collections.emptyMap(), getSimilarities("ab"));
+        // Two edits in a word of at most 5 characters
+        assertEquals(Collections.emptyMap(), getSimilarities("mayar"));
+        // Domain of email
+        assertEquals(Collections.emptyMap(), getSimilarities("example"));
+        // No letters or digits
+        assertEquals(Collections.emptyMap(), getSimilarities("@#$"));
+    }
+
+    @Test
+    public void getSimilarity_student_sameAsIndex() {
+        for (String keywords : Arrays.asList("ELLE", "alcie", "wener", "98765431", "Daneil Meier", "mayar", "@#$")) {
+            Map<Name, Double> similarities = getSimilarities(keywords);
+            for (Student student : Arrays.asList(ALICE, BENSON, DANIEL, ELLE)) {
+                assertEquals(similarities.getOrDefault(student.getName(), 0.0),
+                        TrigramIndex.getSimilarity(student, Arrays.asList(keywords.split(" "))), keywords);
+            }
+        }
+    }
+
+    @Test
+    public void remove_studentInIndex_noLongerFound() {
+        Student editedElle = new StudentBuilder(ELLE).withEmail("elle@example.com").build();
+        trigramIndex.remove(ELLE);
+        trigramIndex.add(editedElle);
+        assertEquals(Collections.emptyMap(), getSimilarities("werner"));
+        assertEquals(Collections.singletonMap(ELLE.getName(), 1.0), getSimilarities("elle"));
+
+        // Words shared with other students are still found for them
+        trigramIndex.remove(BENSON);
+        assertEquals(new HashSet<>(Arrays.asList(DANIEL.getName(), ELLE.getName())),
+                getSimilarities("meier").keySet());
+
+        trigramIndex.clear();
+        assertEquals(Collections.emptyMap(), getSimilarities("meier example"));
+    }
+
+    @Test
+    public void getEditDistance() {
+        assertEquals(0, TrigramIndex.getEditDistance("john", "john"));
+        assertEquals(1, TrigramIndex.getEditDistance("jhon", "john"));
+        assertEquals(1, TrigramIndex.getEditDistance("jon", "john"));
+        assertEquals(1, TrigramIndex.getEditDistance("johnn", "john"));
+        assertEquals(1, TrigramIndex.getEditDistance("joan", "john"));
+        assertEquals(4, TrigramIndex.getEditDistance("", "john"));
+    }
+
+    @Test
+    public void getTrigrams() {
+        assertEquals(new LinkedHashSet<>(Arrays.asList("  a", " ab", "ab ")), TrigramIndex.getTrigrams("ab"));
+        assertEquals(new LinkedHashSet<>(Arrays.asList("  a", " aa", "aaa", "aa ")), TrigramIndex.getTrigrams("aaaa"));
+    }
+
+    @Test
+    public void getWords() {
+        assertEquals(Arrays.asList("johnd", "example", "com"), TrigramIndex.getWords("JohnD@example.com"));
+        assertEquals(Arrays.asList("123", "jurong", "08", "111"), TrigramIndex.getWords("123, Jurong #08-111"));
+        assertTrue(TrigramIndex.getWords(" -- ").isEmpty());
+        assertFalse(TrigramIndex.getWords("a").isEmpty());
+    }
+
+    private Map<Name, Double> getSimilarities(String... keywords) {
+        return trigramIndex.getSimilarities(Arrays.asList(keywords));
+    }
+}
@@ -5,15 +5,23 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_SESSION;
 import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
 import static seedu.address.testutil.TypicalStudents.BOB;
+import static seedu.address.testutil.TypicalStudents.CARL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import seedu.address.model.ModelChange;
 import seedu.address.model.session.Session;
 import seedu.address.model.student.exceptions.DuplicateStudentException;
 import seedu.address.model.student.exceptions.StudentNotFoundException;
@@ -59,6 +67,19 @@ public class UniqueStudentListTest {
         assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.add(ALICE));
     }
 
+    @Test
+    public void add_atPosition_laterStudentsMovedBack() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(CARL);
+        uniqueStudentList.add(1, BOB);
+
+        assertEquals(Arrays.asList(ALICE, BOB, CARL), uniqueStudentList.asUnmodifiableObservableList());
+        assertEquals(CARL, uniqueStudentList.getStudentWithName(CARL.getName()));
+        assertEquals(2, uniqueStudentList.indexOf(CARL));
+        assertThrows(IndexOutOfBoundsException.class, () -> uniqueStudentList.add(4, BENSON));
+        assertFalse(uniqueStudentList.contains(BENSON));
+    }
+
     @Test
     public void setStudent_nullTargetStudent_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueStudentList.setStudent(null, ALICE));
@@ -163,6 +184,25 @@ public class UniqueStudentListTest {
         assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.setStudents(listWithDuplicateStudents));
     }
 
+    @Test
+    public void addAll_newStudents_appendsInOrder() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.addAll(Arrays.asList(BOB, new StudentBuilder().withName("Carl Kurz").build()));
+
+        assertEquals(3, uniqueStudentList.asUnmodifiableObservableList().size());
+        assertEquals(BOB, uniqueStudentList.asUnmodifiableObservableList().get(1));
+        assertEquals(BOB, uniqueStudentList.getStudentWithName(BOB.getName()));
+        assertTrue(uniqueStudentList.hasName(new Name("Carl Kurz")));
+    }
+
+    @Test
+    public void addAll_duplicateStudents_throwsDuplicateStudentException() {
+        uniqueStudentList.add(ALICE);
+        assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.addAll(Arrays.asList(BOB, ALICE)));
+        assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.addAll(Arrays.asList(BOB, BOB)));
+        assertFalse(uniqueStudentList.hasName(BOB.getName()));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -181,12 +221,48 @@ public class UniqueStudentListTest {
         assertTrue(uniqueStudentList.hasName(ALICE.getName()));
     }
 
+    @Test
+    public void hasName_studentRenamed_returnsTrueForNewNameOnly() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.setStudent(ALICE, BOB);
+        assertFalse(uniqueStudentList.hasName(ALICE.getName()));
+        assertTrue(uniqueStudentList.hasName(BOB.getName()));
+    }
+
+    @Test
+    public void getNamesWithPrefixes_studentsAddedEditedAndRemoved_matchesCurrentNames() {
+        uniqueStudentList.addAll(Arrays.asList(ALICE, BOB));
+        assertEquals(Collections.singleton(ALICE.getName()),
+                uniqueStudentList.getNamesWithPrefixes(Collections.singletonList("paul")));
+
+        uniqueStudentList.setStudent(ALICE, new StudentBuilder(ALICE).withName("Alice Tan").build());
+        assertEquals(Collections.emptySet(), uniqueStudentList.getNamesWithPrefixes(Collections.singletonList("paul")));
+        assertEquals(new HashSet<>(Arrays.asList(new Name("Alice Tan"), BOB.getName())),
+                uniqueStudentList.getNamesWithPrefixes(Arrays.asList("ta", "cho")));
+
+        uniqueStudentList.remove(BOB);
+        assertEquals(Collections.emptySet(), uniqueStudentList.getNamesWithPrefixes(Collections.singletonList("bob")));
+
+        uniqueStudentList.setStudents(Collections.singletonList(BOB));
+        assertEquals(Collections.singleton(BOB.getName()),
+                uniqueStudentList.getNamesWithPrefixes(Arrays.asList("alice", "bob")));
+    }
+
+    @Test
+    public void getStudentWithName_afterEarlierStudentRemoved_returnsStudent() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BOB);
+        uniqueStudentList.remove(ALICE);
+        assertEquals(null, uniqueStudentList.getStudentWithName(ALICE.getName()));
+        assertEquals(BOB, uniqueStudentList.getStudentWithName(BOB.getName()));
+        uniqueStudentList.setStudent(BOB, ALICE);
+        assertEquals(ALICE, uniqueStudentList.getStudentWithName(ALICE.getName()));
+    }
+
     @Test
     public void hasSession_sessionExists_returnsTrue() {
         Session session = new SessionBuilder().build();
-        Student student = ALICE;
-        student.addSession(session);
-        uniqueStudentList.add(student);
+        uniqueStudentList.add(ALICE.withSession(session));
         assertTrue(uniqueStudentList.hasSession(session));
     }
 
@@ -194,8 +270,85 @@ public class UniqueStudentListTest {
     public void hasSession_sessionDoesNotExist_returnsFalse() {
         Session session = new SessionBuilder().build();
         Session newSession = new SessionBuilder().withSessionDate("2022-01-01", "00:00").build();
-        ALICE.addSession(session);
-        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(ALICE.withSession(session));
         assertFalse(uniqueStudentList.hasSession(newSession));
     }
+
+    @Test
+    public void addSession_studentReplacedByCopyWithSession() {
+        Session session = new SessionBuilder().withSessionDate("2031-07-13", "09:30").build();
+        Student student = new StudentBuilder().withName("Copied Student").build();
+        uniqueStudentList.add(student);
+
+        uniqueStudentList.addSession(student, session);
+
+        assertTrue(student.getListOfSessions().isEmpty());
+        assertEquals(List.of(session), uniqueStudentList.getStudentWithName(student.getName()).getListOfSessions());
+        assertTrue(uniqueStudentList.hasSession(session));
+
+        uniqueStudentList.deleteSession(uniqueStudentList.getStudentWithName(student.getName()), INDEX_FIRST_SESSION);
+        assertTrue(uniqueStudentList.getStudentWithName(student.getName()).getListOfSessions().isEmpty());
+        assertFalse(uniqueStudentList.hasSession(session));
+    }
+
+    @Test
+    public void addSessionAndDeleteSession_earlierVersionOfStudent_latestSessionsKept() {
+        Session firstSession = new SessionBuilder().withSessionDate("2031-07-13", "09:30").build();
+        Session secondSession = new SessionBuilder().withSessionDate("2031-07-14", "09:30").build();
+        Student student = new StudentBuilder().withName("Stale Student").build();
+        uniqueStudentList.add(student);
+
+        // student no longer has the sessions of the student in the list after the first session is added
+        uniqueStudentList.addSession(student, firstSession);
+        uniqueStudentList.addSession(student, secondSession);
+        assertEquals(List.of(firstSession, secondSession),
+                uniqueStudentList.getStudentWithName(student.getName()).getListOfSessions());
+        assertTrue(uniqueStudentList.hasSession(firstSession));
+
+        uniqueStudentList.deleteSession(student, INDEX_FIRST_SESSION);
+        assertEquals(List.of(secondSession),
+                uniqueStudentList.getStudentWithName(student.getName()).getListOfSessions());
+        assertFalse(uniqueStudentList.hasSession(firstSession));
+        assertTrue(uniqueStudentList.hasSession(secondSession));
+    }
+
+    @Test
+    public void getVersion_changeMadeVisible_versionAlreadyChanged() {
+        List<Long> versionsSeen = new ArrayList<>();
+        uniqueStudentList.asUnmodifiableObservableList().addListener((ListChangeListener<Student>) change ->
+                versionsSeen.add(uniqueStudentList.getVersion()));
+        long version = uniqueStudentList.getVersion();
+
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.addSession(ALICE, new SessionBuilder().withSessionDate("2031-07-13", "09:30").build());
+        uniqueStudentList.setStudent(ALICE, BOB);
+        uniqueStudentList.remove(BOB);
+
+        assertEquals(List.of(version + 1, version + 2, version + 3, version + 4), versionsSeen);
+    }
+
+    @Test
+    public void addChangeListener_studentAddedAndRemoved_notifiesChanges() {
+        List<ModelChange> changes = new ArrayList<>();
+        uniqueStudentList.addChangeListener(changes::add);
+        Session session = new SessionBuilder().build();
+        Student student = new StudentBuilder().withName("Listened Student").addSessions(session).build();
+
+        uniqueStudentList.add(student);
+        uniqueStudentList.remove(student);
+
+        assertEquals(List.of(ModelChange.Type.STUDENT_ADDED, ModelChange.Type.SESSION_ADDED,
+                ModelChange.Type.STUDENT_REMOVED, ModelChange.Type.SESSION_REMOVED),
+                changes.stream().map(ModelChange::getType).collect(Collectors.toList()));
+        assertEquals(session, changes.get(3).getSession().get());
+    }
+
+    @Test
+    public void addChangeListener_studentsReplaced_notifiesReset() {
+        List<ModelChange> changes = new ArrayList<>();
+        uniqueStudentList.addChangeListener(changes::add);
+        uniqueStudentList.setStudents(Collections.singletonList(BOB));
+        assertEquals(1, changes.size());
+        assertEquals(ModelChange.Type.RESET, changes.get(0).getType());
+    }
 }
@@ -0,0 +1,131 @@
+package seedu.address.model.tuition;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.session.RecurringSession;
+import seedu.address.model.session.Session;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.RecurringSessionBuilder;
+import seedu.address.testutil.SessionBuilder;
+import seedu.address.testutil.StudentBuilder;
+
+class TuitionCalendarTest {
+
+    private static final Session MORNING_SESSION = new SessionBuilder().withSessionDate("2021-01-08", "09:00")
+            .withDuration("60").build();
+    private static final RecurringSession WEEKLY_SESSION = new RecurringSessionBuilder()
+            .withSessionDate("2021-01-01", "12:00").withDuration("60").withInterval("7")
+            .withLastSessionDate("2021-12-31", "12:00").build();
+
+    private final Student student = new StudentBuilder().withName("Calendar Student")
+            .addSessions(WEEKLY_SESSION, MORNING_SESSION).build();
+    private final TuitionCalendar calendar = new TuitionCalendar(unused -> 2);
+
+    @Test
+    public void getTuitionsOnDate_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> calendar.getTuitionsOnDate(null));
+    }
+
+    @Test
+    public void getTuitionsOnDate_singleAndRecurringSessions_returnsTuitionsOrderedByTime() {
+        calendar.addAll(student);
+        List<Tuition> tuitions = calendar.getTuitionsOnDate(LocalDate.of(2021, 1, 8));
+
+        assertEquals(List.of(new Tuition(student, MORNING_SESSION, 2, 1), new Tuition(student, WEEKLY_SESSION, 2, 0)),
+                tuitions);
+        assertEquals(3, tuitions.get(0).getStudentIndex());
+        assertEquals(2, tuitions.get(0).getSessionIndex());
+        assertTrue(calendar.getTuitionsOnDate(LocalDate.of(2021, 1, 9)).isEmpty());
+    }
+
+    @Test
+    public void getTuitionsOnDate_dateOutsideWindow_returnsRecurringTuition() {
+        calendar.addAll(student);
+        calendar.getTuitionsOnDate(LocalDate.of(2021, 1, 8));
+
+        LocalDate farDate = LocalDate.of(2021, 12, 31);
+        assertEquals(List.of(new Tuition(student, WEEKLY_SESSION, 2, 0)), calendar.getTuitionsOnDate(farDate));
+        assertTrue(calendar.getTuitionsOnDate(LocalDate.of(2022, 1, 7)).isEmpty());
+    }
+
+    @Test
+    public void getTuitionsOnDate_sessionsAddedAndRemovedWithinWindow_updatesTuitions() {
+        LocalDate date = LocalDate.of(2021, 1, 15);
+        calendar.setWindow(date, date);
+        assertTrue(calendar.getTuitionsOnDate(date).isEmpty());
+
+        calendar.add(student, WEEKLY_SESSION);
+        assertEquals(1, calendar.getTuitionsOnDate(date).size());
+
+        calendar.remove(student, WEEKLY_SESSION);
+        assertTrue(calendar.getTuitionsOnDate(date).isEmpty());
+    }
+
+    @Test
+    public void setWindow_endBeforeStart_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> calendar.setWindow(LocalDate.of(2021, 1, 8),
+                LocalDate.of(2021, 1, 7)));
+    }
+
+    @Test
+    public void getTuitionsOnDate_insideAndOutsideWindow_sameTuitions() {
+        calendar.addAll(student);
+        calendar.setWindow(LocalDate.of(2021, 1, 4), LocalDate.of(2021, 1, 10));
+        for (LocalDate date = LocalDate.of(2020, 12, 1); date.isBefore(LocalDate.of(2021, 3, 1));
+                date = date.plusDays(1)) {
+            List<Tuition> tuitions = calendar.getTuitionsOnDate(date);
+            calendar.setWindow(date, date);
+            assertEquals(calendar.getTuitionsOnDate(date), tuitions, date.toString());
+        }
+    }
+
+    @Test
+    public void update_sessionAdded_otherTuitionsMovedToEditedStudent() {
+        LocalDate date = LocalDate.of(2021, 1, 8);
+        calendar.addAll(student);
+        calendar.setWindow(date, date);
+
+        Session earlySession = new SessionBuilder().withSessionDate("2021-01-08", "07:00").withDuration("60")
+                .build();
+        Student editedStudent = student.withSession(earlySession);
+        calendar.update(editedStudent, List.of(), List.of(earlySession));
+
+        List<Tuition> tuitions = calendar.getTuitionsOnDate(date);
+        assertEquals(List.of(earlySession, MORNING_SESSION, WEEKLY_SESSION),
+                tuitions.stream().map(Tuition::getSession).collect(Collectors.toList()));
+        for (Tuition tuition : tuitions) {
+            assertSame(editedStudent, tuition.getStudent());
+            assertEquals(editedStudent.getListOfSessions().indexOf(tuition.getSession()) + 1,
+                    tuition.getSessionIndex());
+        }
+
+        calendar.update(student, List.of(earlySession), List.of());
+        assertEquals(2, calendar.getTuitionsOnDate(date).size());
+        assertSame(student, calendar.getTuitionsOnDate(date).get(0).getStudent());
+    }
+
+    @Test
+    public void removeAll_earlierVersionOfStudent_removesAllTuitions() {
+        LocalDate date = LocalDate.of(2021, 1, 8);
+        calendar.setWindow(date, date);
+        calendar.addAll(student);
+        calendar.removeAll(new StudentBuilder().withName("Calendar Student").build());
+        assertTrue(calendar.getTuitionsOnDate(date).isEmpty());
+    }
+
+    @Test
+    public void clear_removesAllTuitions() {
+        calendar.addAll(student);
+        calendar.clear();
+        assertTrue(calendar.getTuitionsOnDate(LocalDate.of(2021, 1, 8)).isEmpty());
+    }
+}
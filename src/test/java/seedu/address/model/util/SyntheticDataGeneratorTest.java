@@ -0,0 +1,79 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.session.RecurringSession;
+import seedu.address.model.session.Session;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.StudentBuilder;
+
+public class SyntheticDataGeneratorTest {
+
+    @Test
+    public void constructor_startNotMonday_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, SyntheticDataGenerator.MESSAGE_START_NOT_MONDAY, () ->
+                new SyntheticDataGenerator(1, LocalDate.of(2021, 1, 5)));
+    }
+
+    @Test
+    public void generateStudents_negativeNumber_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticDataGenerator(1).generateStudents(-1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticDataGenerator(1).generateStudents(1, -1));
+    }
+
+    @Test
+    public void generateStudents_sameSeed_sameStudents() {
+        assertEquals(new SyntheticDataGenerator(7).generateStudents(50, 3),
+                new SyntheticDataGenerator(7).generateStudents(50, 3));
+        assertNotEquals(new SyntheticDataGenerator(7).generateStudents(50, 3),
+                new SyntheticDataGenerator(8).generateStudents(50, 3));
+    }
+
+    @Test
+    public void generateStudents_numOfSessionsPerStudent_sessionsFromStartDate() {
+        LocalDate startDate = LocalDate.of(2000, 1, 3);
+        for (Student student : new SyntheticDataGenerator(1, startDate).generateStudents(100, 4)) {
+            assertEquals(4, student.getListOfSessions().size());
+            for (Session session : student.getListOfSessions()) {
+                assertFalse(session.getSessionDate().getDate().isBefore(startDate));
+            }
+        }
+    }
+
+    @Test
+    public void generateStudents_severalCalls_uniqueStudentsWithoutOverlappingSessions() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(1);
+        List<Student> students = new ArrayList<>(generator.generateStudents(400, 3));
+        students.addAll(generator.generateStudents(200, 2));
+
+        // Adds every session one at a time, so that sessions of the same student are checked against each other.
+        AddressBook addressBook = new AddressBook();
+        for (Student student : students) {
+            addressBook.addStudent(new StudentBuilder(student).withNewListOfSessions(new ArrayList<>()).build());
+            for (Session session : student.getListOfSessions()) {
+                assertFalse(session instanceof RecurringSession
+                        ? addressBook.hasOverlappingSession((RecurringSession) session)
+                        : addressBook.hasOverlappingSession(session));
+                addressBook.addSession(student.getName(), session);
+            }
+        }
+        assertEquals(600, addressBook.getStudentList().size());
+    }
+
+    @Test
+    public void generateAddressBook_sameStudentsAsGenerateStudents() {
+        AddressBook expectedAddressBook = new AddressBook();
+        expectedAddressBook.addStudents(new SyntheticDataGenerator(3).generateStudents(20, 2));
+        assertEquals(expectedAddressBook, new SyntheticDataGenerator(3).generateAddressBook(20, 2));
+    }
+}
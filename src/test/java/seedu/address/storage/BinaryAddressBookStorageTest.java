@@ -0,0 +1,101 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.session.RecurringSession;
+import seedu.address.testutil.RecurringSessionBuilder;
+import seedu.address.testutil.SessionBuilder;
+import seedu.address.testutil.StudentBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private BinaryAddressBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("tutorbuddy.bin");
+        storage = new BinaryAddressBookStorage(filePath);
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_sessionsOfBothKinds_success() throws Exception {
+        AddressBook original = new AddressBook();
+        original.addStudent(new StudentBuilder().withName("Alice Pauline").withAddress("Blk 30 Geylang Street 29, 明")
+                .addSessions(new SessionBuilder().withSessionDate("2021-03-01", "23:00").withDuration("59")
+                        .withFee("12.34").build(),
+                        new RecurringSessionBuilder().withSessionDate("2021-04-01", "00:00").withInterval("7")
+                        .withLastSessionDate("2021-04-29", "00:00").build())
+                .build());
+        original.addStudent(new StudentBuilder().withName("Benson Meier").build());
+
+        storage.saveAddressBook(original);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, readBack);
+        assertTrue(readBack.getStudentList().get(0).getListOfSessions().get(1) instanceof RecurringSession);
+    }
+
+    @Test
+    public void readAddressBook_typicalAddressBook_smallerThanJson() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        Path jsonFilePath = testFolder.resolve("tutorbuddy.json");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+        storage.saveAddressBook(original);
+
+        assertTrue(Files.size(filePath) < Files.size(jsonFilePath));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_throwsDataConversionException() throws Exception {
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertThrows(DataConversionException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataConversionException() throws Exception {
+        Files.write(filePath, ByteBuffer.allocate(12).putInt(BinaryAddressBookStorage.MAGIC_NUMBER)
+                .putInt(BinaryAddressBookStorage.FORMAT_VERSION + 1).putInt(0).array());
+        assertThrows(DataConversionException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataConversionException() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] content = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(content, content.length - 3));
+        assertThrows(DataConversionException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_sessionDateOutOfRange_throwsDataConversionException() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addStudent(new StudentBuilder().addSessions(new SessionBuilder()
+                .withSessionDate("2038-01-01", "10:00").build()).build());
+        storage.saveAddressBook(addressBook);
+        assertThrows(DataConversionException.class, () -> storage.readAddressBook());
+    }
+}
@@ -0,0 +1,140 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_SESSION;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.session.Session;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.RecurringSessionBuilder;
+import seedu.address.testutil.SessionBuilder;
+import seedu.address.testutil.StudentBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    private static final Session SESSION = new SessionBuilder().withSessionDate("2021-03-01", "10:00").build();
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private AddressBook addressBook;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("tutorbuddy.json");
+        addressBook = new AddressBook();
+        addressBook.addStudent(new StudentBuilder().withName("Alice Pauline").addSessions(SESSION).build());
+        addressBook.addStudent(new StudentBuilder().withName("Benson Meier").build());
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournalAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterFirstSave_appendedToJournal() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        String snapshot = Files.readString(filePath);
+
+        Name alice = new Name("Alice Pauline");
+        addressBook.addSession(alice, new RecurringSessionBuilder().withSessionDate("2021-04-01", "10:00")
+                .withInterval("7").withLastSessionDate("2021-04-29", "10:00").build());
+        storage.saveAddressBook(addressBook);
+        addressBook.removeSession(alice, INDEX_FIRST_SESSION);
+        storage.saveAddressBook(addressBook);
+        Student renamed = new StudentBuilder(addressBook.getStudentWithName(new Name("Benson Meier")))
+                .withName("Benson Tan").build();
+        addressBook.setStudent(addressBook.getStudentWithName(new Name("Benson Meier")), renamed);
+        addressBook.addStudent(new StudentBuilder().withName("Carl Kurz").build());
+        addressBook.removeStudent(addressBook.getStudentWithName(alice));
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(5, Files.readAllLines(JournalAddressBookStorage.getJournalFilePath(filePath)).size());
+        assertEquals(addressBook, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_unchangedStudents_nothingAppended() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        storage.saveAddressBook(addressBook);
+        addressBook.addSession(new Name("Benson Meier"), new SessionBuilder().withSessionDate("2021-03-02", "10:00")
+                .build());
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(2, Files.readAllLines(JournalAddressBookStorage.getJournalFilePath(filePath)).size());
+        assertEquals(addressBook, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_journalOverThreshold_writesSnapshot() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, 1);
+        storage.saveAddressBook(addressBook);
+        String snapshot = Files.readString(filePath);
+
+        addressBook.addStudent(new StudentBuilder().withName("Carl Kurz").build());
+        storage.saveAddressBook(addressBook);
+        addressBook.addStudent(new StudentBuilder().withName("Daniel Meier").build());
+        storage.saveAddressBook(addressBook);
+
+        assertFalse(snapshot.equals(Files.readString(filePath)));
+        assertEquals(1, Files.readAllLines(JournalAddressBookStorage.getJournalFilePath(filePath)).size());
+        assertEquals(addressBook, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalOfOlderSnapshot_ignoresJournal() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        addressBook.addStudent(new StudentBuilder().withName("Carl Kurz").build());
+        storage.saveAddressBook(addressBook);
+
+        // A snapshot written without the journal being started over, as if stopped in between.
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        assertEquals(addressBook, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_partiallyWrittenRecord_ignoresRecord() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        Path journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        Files.writeString(journalPath, Files.readString(journalPath) + "{\"operation\":\"DELETE_STU");
+
+        JournalAddressBookStorage reopenedStorage = new JournalAddressBookStorage(filePath);
+        assertEquals(addressBook, new AddressBook(reopenedStorage.readAddressBook().get()));
+
+        // The journal is started over on the next save instead of being appended to.
+        addressBook.addStudent(new StudentBuilder().withName("Carl Kurz").build());
+        reopenedStorage.saveAddressBook(addressBook);
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(addressBook, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_recordOfUnknownStudent_throwsDataConversionException() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        Path journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        Files.writeString(journalPath, Files.readString(journalPath)
+                + "{\"operation\":\"DELETE_STUDENT\",\"target\":\"Carl Kurz\"}\n");
+
+        assertThrows(DataConversionException.class, () -> new JournalAddressBookStorage(filePath).readAddressBook());
+    }
+}
@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.session.RecurringSession;
+import seedu.address.model.session.SessionDate;
 import seedu.address.model.student.Address;
 import seedu.address.model.student.Email;
 import seedu.address.model.student.Name;
@@ -113,4 +114,12 @@ public class JsonAdaptedStudentTest {
         assertThrows(IllegalValueException.class, expectedMessage, student::toModelType);
     }
 
+    @Test
+    public void toModelType_sessionDateOutOfRange_throwsIllegalValueException() {
+        List<JsonAdaptedSession> sessions = List.of(new JsonAdaptedSession("2038-01-01T10:00", "60", "Math", "40"));
+        JsonAdaptedStudent student = new JsonAdaptedStudent(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+            VALID_STUDY_LEVEL, VALID_GUARDIAN_PHONE, VALID_RELATIONSHIP, sessions);
+        assertThrows(IllegalValueException.class, SessionDate.MESSAGE_CONSTRAINTS, student::toModelType);
+    }
+
 }
@@ -0,0 +1,103 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.TypicalStudents;
+
+public class JsonAddressBookStreamTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_STUDENTS_FILE = TEST_DATA_FOLDER.resolve("typicalStudentsAddressBook.json");
+    private static final Path INVALID_STUDENT_FILE = TEST_DATA_FOLDER.resolve("invalidStudentAddressBook.json");
+    private static final Path DUPLICATE_STUDENT_FILE = TEST_DATA_FOLDER.resolve("duplicateStudentAddressBook.json");
+
+    @Test
+    public void read_typicalStudentsFile_success() throws Exception {
+        try (InputStream in = Files.newInputStream(TYPICAL_STUDENTS_FILE)) {
+            assertEquals(JsonAddressBookStream.read(in), TypicalStudents.getTypicalAddressBook());
+        }
+    }
+
+    @Test
+    public void read_invalidStudentFile_throwsIllegalValueException() throws Exception {
+        try (InputStream in = Files.newInputStream(INVALID_STUDENT_FILE)) {
+            assertThrows(IllegalValueException.class, () -> JsonAddressBookStream.read(in));
+        }
+    }
+
+    @Test
+    public void read_duplicateStudents_throwsIllegalValueException() throws Exception {
+        try (InputStream in = Files.newInputStream(DUPLICATE_STUDENT_FILE)) {
+            assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_STUDENT, () ->
+                    JsonAddressBookStream.read(in));
+        }
+    }
+
+    @Test
+    public void readStudentList_typicalStudentsFile_studentsInOrder() throws Exception {
+        try (InputStream in = Files.newInputStream(TYPICAL_STUDENTS_FILE)) {
+            assertEquals(TypicalStudents.getTypicalStudents(), JsonAddressBookStream.readStudentList(in));
+        }
+    }
+
+    @Test
+    public void readStudentList_duplicateStudents_throwsIllegalValueException() throws Exception {
+        try (InputStream in = Files.newInputStream(DUPLICATE_STUDENT_FILE)) {
+            assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_STUDENT, () ->
+                    JsonAddressBookStream.readStudentList(in));
+        }
+    }
+
+    @Test
+    public void read_notObject_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonAddressBookStream.MESSAGE_NOT_ADDRESS_BOOK, () ->
+                JsonAddressBookStream.read(toInputStream("[]")));
+    }
+
+    @Test
+    public void read_unknownFieldsAndNoStudents_emptyAddressBook() throws Exception {
+        assertEquals(new AddressBook(), JsonAddressBookStream.read(toInputStream("{\"version\":{\"major\":1}}")));
+    }
+
+    @Test
+    public void write_sameAsJsonSerializableAddressBook() throws Exception {
+        AddressBook addressBook = TypicalStudents.getTypicalAddressBook();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonAddressBookStream.write(addressBook, out, false);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)),
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void write_compact_singleLineReadBack() throws Exception {
+        AddressBook addressBook = TypicalStudents.getTypicalAddressBook();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonAddressBookStream.write(addressBook, out, true);
+
+        String json = out.toString(StandardCharsets.UTF_8);
+        assertFalse(json.contains("\n"));
+        assertTrue(json.length() < JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)).length());
+        assertEquals(addressBook, JsonAddressBookStream.read(new ByteArrayInputStream(out.toByteArray())));
+    }
+
+    private static InputStream toInputStream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
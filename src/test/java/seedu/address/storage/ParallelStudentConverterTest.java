@@ -0,0 +1,62 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.StudentBuilder;
+
+public class ParallelStudentConverterTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final List<List<Student>> chunks = new ArrayList<>();
+    private final ParallelStudentConverter converter = new ParallelStudentConverter(pool, 2, chunks::add);
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void finish_studentsAdded_passesChunksInOrder() throws Exception {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Student student = new StudentBuilder().withName("Student " + (char) ('A' + i)).build();
+            students.add(student);
+            converter.add(new JsonAdaptedStudent(student));
+        }
+        converter.finish();
+
+        assertEquals(3, chunks.size());
+        assertEquals(1, chunks.get(2).size());
+        List<Student> converted = new ArrayList<>();
+        chunks.forEach(converted::addAll);
+        assertEquals(students, converted);
+    }
+
+    @Test
+    public void finish_duplicateStudentsInDifferentChunks_throwsIllegalValueException() throws Exception {
+        converter.add(new JsonAdaptedStudent(new StudentBuilder().withName("Alice Pauline").build()));
+        converter.add(new JsonAdaptedStudent(new StudentBuilder().withName("Benson Meier").build()));
+        converter.add(new JsonAdaptedStudent(new StudentBuilder().withName("Alice Pauline").build()));
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_STUDENT,
+                converter::finish);
+    }
+
+    @Test
+    public void finish_invalidStudent_throwsIllegalValueException() throws Exception {
+        converter.add(new JsonAdaptedStudent(null, "98765432", "alice@example.com", "Blk 1", "Sec 1", "98765431",
+                "Mother", new ArrayList<>()));
+
+        assertThrows(IllegalValueException.class, converter::finish);
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.SessionBuilder;
+import seedu.address.testutil.StudentBuilder;
+
+public class WriteBehindAddressBookSaverTest {
+
+    private final List<Runnable> scheduledTasks = new ArrayList<>();
+    private final SavedAddressBooksStub storage = new SavedAddressBooksStub();
+    private final WriteBehindAddressBookSaver saver = new WriteBehindAddressBookSaver(storage, scheduledTasks::add);
+
+    @Test
+    public void requestSave_whileSaveScheduled_savesLatestAddressBookOnce() {
+        AddressBook addressBook = new AddressBook();
+        saver.requestSave(addressBook);
+        addressBook.addStudent(new StudentBuilder(ALICE).build());
+        saver.requestSave(addressBook);
+
+        assertEquals(1, scheduledTasks.size());
+        scheduledTasks.get(0).run();
+
+        assertEquals(1, storage.savedAddressBooks.size());
+        assertEquals(addressBook.getStudentList(), storage.savedAddressBooks.get(0).getStudentList());
+    }
+
+    @Test
+    public void requestSave_sessionsChangedAfterRequest_savesSessionsAtRequest() {
+        AddressBook addressBook = getTypicalAddressBook();
+        int sessionCount = addressBook.getStudentList().get(0).getListOfSessions().size();
+        saver.requestSave(addressBook);
+        addressBook.addSession(addressBook.getStudentList().get(0).getName(),
+                new SessionBuilder().withSessionDate("2030-01-01", "10:00").build());
+
+        scheduledTasks.get(0).run();
+
+        assertEquals(sessionCount, storage.savedAddressBooks.get(0).getStudentList().get(0).getListOfSessions().size());
+    }
+
+    @Test
+    public void flush_saveFailed_throwsIoException() {
+        storage.failure = new IOException("dummy exception");
+        WriteBehindAddressBookSaver synchronousSaver = new WriteBehindAddressBookSaver(storage, Runnable::run);
+        synchronousSaver.requestSave(new AddressBook());
+
+        assertThrows(IOException.class, "dummy exception", synchronousSaver::flush);
+        assertNull(synchronousSaver.takeFailure());
+    }
+
+    @Test
+    public void flush_saveThrewUncheckedException_throwsIoExceptionAndLaterSavesWritten() {
+        storage.uncheckedFailure = new ArithmeticException("dummy exception");
+        WriteBehindAddressBookSaver synchronousSaver = new WriteBehindAddressBookSaver(storage, Runnable::run);
+        synchronousSaver.requestSave(new AddressBook());
+
+        assertThrows(IOException.class, "dummy exception", synchronousSaver::flush);
+
+        storage.uncheckedFailure = null;
+        AddressBook addressBook = getTypicalAddressBook();
+        synchronousSaver.requestSave(addressBook);
+        assertDoesNotThrow(synchronousSaver::flush);
+        assertEquals(addressBook.getStudentList(), storage.savedAddressBooks.get(0).getStudentList());
+    }
+
+    /**
+     * A stub that records the address books it is asked to save.
+     */
+    private static class SavedAddressBooksStub extends JsonAddressBookStorage {
+        private final List<ReadOnlyAddressBook> savedAddressBooks = new ArrayList<>();
+        private IOException failure;
+        private RuntimeException uncheckedFailure;
+
+        private SavedAddressBooksStub() {
+            super(Path.of("unused.json"));
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            if (failure != null) {
+                throw failure;
+            }
+            if (uncheckedFailure != null) {
+                throw uncheckedFailure;
+            }
+            savedAddressBooks.add(addressBook);
+        }
+    }
+}
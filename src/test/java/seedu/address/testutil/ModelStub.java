@@ -1,20 +1,31 @@
 package seedu.address.testutil;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.index.Index;
 import seedu.address.model.Model;
+import seedu.address.model.ModelChangeListener;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.fee.FeePeriod;
 import seedu.address.model.session.RecurringSession;
 import seedu.address.model.session.Session;
 import seedu.address.model.session.SessionDate;
 import seedu.address.model.student.Name;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentQuery;
+import seedu.address.model.tuition.Tuition;
 
 /**
  * A default model stub that have all of the methods failing.
@@ -55,6 +66,16 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void addStudents(List<Student> students) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setStudents(List<Student> students) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void setAddressBook(ReadOnlyAddressBook newData) {
         throw new AssertionError("This method should not be called.");
@@ -100,11 +121,61 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void commitAddressBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void undoAddressBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void redoAddressBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void clearAddressBookHistory() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean hasName(Name name) {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Set<Name> getNamesWithPrefixes(Collection<String> prefixes) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Map<Name, Double> getSimilarities(Collection<String> keywords) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Set<Name> getNamesMatching(StudentQuery query) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean hasSession(Session session) {
         throw new AssertionError("This method should not be called.");
@@ -120,6 +191,21 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public List<Tuition> getTuitionsOnDate(LocalDate date) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setTuitionWindow(LocalDate startDate, LocalDate endDate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void addModelChangeListener(ModelChangeListener listener) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public ObservableList<Student> getFilteredStudentList() {
         throw new AssertionError("This method should not be called.");
@@ -130,6 +216,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void updateFilteredStudentList(Predicate<Student> predicate, Comparator<Student> comparator) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public Predicate<Student> getFilteredStudentListPredicate() {
         throw new AssertionError("This method should not be called.");
@@ -139,4 +230,19 @@ public class ModelStub implements Model {
     public double getFee(LocalDateTime startPeriod, LocalDateTime endPeriod) {
         throw new AssertionError("This method should not be called.");
     }
+
+    @Override
+    public double[] getFees(List<FeePeriod> periods) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public double getMonthlyFee(YearMonth month) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public double getMonthlyFee(Name name, YearMonth month) {
+        throw new AssertionError("This method should not be called.");
+    }
 }
@@ -59,7 +59,7 @@ public class StudentBuilder {
         studyLevel = studentToCopy.getStudyLevel();
         guardianPhone = studentToCopy.getGuardianPhone();
         relationship = studentToCopy.getRelationship();
-        sessions = studentToCopy.getListOfSessions();
+        sessions = new ArrayList<>(studentToCopy.getListOfSessions());
     }
 
     /**
@@ -134,7 +134,7 @@ public class StudentBuilder {
      */
     public StudentBuilder withNewListOfSessions(List<Session> sessionList) {
         requireAllNonNull(sessionList);
-        this.sessions = sessionList;
+        this.sessions = new ArrayList<>(sessionList);
         return this;
     }
 